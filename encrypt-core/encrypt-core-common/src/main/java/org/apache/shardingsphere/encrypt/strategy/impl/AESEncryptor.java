@@ -19,7 +19,6 @@ package org.apache.shardingsphere.encrypt.strategy.impl;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.StringUtils;
@@ -27,63 +26,144 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * AES encryptor.
+ * 
+ * <p>
+ * Secret key is derived once, and cipher is initialized once per thread and reused by later encrypt and decrypt.
+ * </p>
  */
 @Getter
-@Setter
 public final class AESEncryptor implements Encryptor {
     
     private static final String AES_KEY = "aes.key.value";
     
     private Properties properties = new Properties();
     
+    private volatile CipherContext cipherContext;
+    
     @Override
     public String getType() {
         return "AES";
     }
     
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        cipherContext = null;
+    }
+    
     @Override
     public void init() {
+        if (null != properties.get(AES_KEY)) {
+            cipherContext = new CipherContext(createSecretKey());
+        }
     }
     
     @Override
-    @SneakyThrows
     public String encrypt(final Object plaintext) {
         if (null == plaintext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
-        return Base64.encodeBase64String(result);
+        return encryptValue(getCipherContext().getEncryptCipher(), plaintext);
+    }
+    
+    @Override
+    public List<String> bulkEncrypt(final List<Object> plaintexts) {
+        List<String> result = new ArrayList<>(plaintexts.size());
+        ThreadLocal<Cipher> cipher = getCipherContext().getEncryptCipher();
+        for (Object each : plaintexts) {
+            result.add(null == each ? null : encryptValue(cipher, each));
+        }
+        return result;
     }
     
     @Override
-    @SneakyThrows
     public Object decrypt(final String ciphertext) {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(ciphertext));
-        return new String(result, StandardCharsets.UTF_8);
+        return decryptValue(getCipherContext().getDecryptCipher(), ciphertext);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
-        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESEncryptor.class.getName());
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(createSecretKey(), getType()));
+    @Override
+    public List<Object> bulkDecrypt(final List<String> ciphertexts) {
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        ThreadLocal<Cipher> cipher = getCipherContext().getDecryptCipher();
+        for (String each : ciphertexts) {
+            result.add(null == each ? null : decryptValue(cipher, each));
+        }
+        return result;
+    }
+    
+    private String encryptValue(final ThreadLocal<Cipher> cipher, final Object plaintext) {
+        return Base64.encodeBase64String(doFinal(cipher, getPlaintextBytes(plaintext)));
+    }
+    
+    private Object decryptValue(final ThreadLocal<Cipher> cipher, final String ciphertext) {
+        return new String(doFinal(cipher, Base64.decodeBase64(ciphertext)), StandardCharsets.UTF_8);
+    }
+    
+    private byte[] getPlaintextBytes(final Object plaintext) {
+        if (plaintext instanceof byte[]) {
+            return (byte[]) plaintext;
+        }
+        return StringUtils.getBytesUtf8(plaintext instanceof String ? (String) plaintext : String.valueOf(plaintext));
+    }
+    
+    @SneakyThrows
+    private byte[] doFinal(final ThreadLocal<Cipher> cipher, final byte[] input) {
+        try {
+            return cipher.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cipher.remove();
+            throw ex;
+        }
+    }
+    
+    private CipherContext getCipherContext() {
+        CipherContext result = cipherContext;
+        if (null == result) {
+            result = new CipherContext(createSecretKey());
+            cipherContext = result;
+        }
         return result;
     }
     
     private byte[] createSecretKey() {
+        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESEncryptor.class.getName());
         Preconditions.checkArgument(null != properties.get(AES_KEY), String.format("%s can not be null.", AES_KEY));
         return Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16);
     }
+    
+    @Getter
+    private final class CipherContext {
+        
+        private final SecretKeySpec secretKey;
+        
+        private final ThreadLocal<Cipher> encryptCipher;
+        
+        private final ThreadLocal<Cipher> decryptCipher;
+        
+        private CipherContext(final byte[] secretKey) {
+            this.secretKey = new SecretKeySpec(secretKey, getType());
+            encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+            decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+        }
+        
+        @SneakyThrows
+        private Cipher createCipher(final int mode) {
+            Cipher result = Cipher.getInstance(getType());
+            result.init(mode, secretKey);
+            return result;
+        }
+    }
 }
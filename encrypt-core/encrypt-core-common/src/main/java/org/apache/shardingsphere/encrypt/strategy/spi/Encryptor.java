@@ -19,6 +19,9 @@ package org.apache.shardingsphere.encrypt.strategy.spi;
 
 import org.apache.shardingsphere.spi.type.TypedSPI;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encryptor.
  */
@@ -37,6 +40,22 @@ public interface Encryptor extends TypedSPI {
      */
     String encrypt(Object plaintext);
     
+    /**
+     * Encode in bulk.
+     * 
+     * <p>Null plaintext is kept as null.</p>
+     * 
+     * @param plaintexts plaintexts
+     * @return ciphertexts
+     */
+    default List<String> bulkEncrypt(final List<Object> plaintexts) {
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(null == each ? null : encrypt(each));
+        }
+        return result;
+    }
+    
     /**
      * Decode.
      * 
@@ -44,4 +63,20 @@ public interface Encryptor extends TypedSPI {
      * @return plaintext
      */
     Object decrypt(String ciphertext);
+    
+    /**
+     * Decode in bulk.
+     * 
+     * <p>Null ciphertext is kept as null.</p>
+     * 
+     * @param ciphertexts ciphertexts
+     * @return plaintexts
+     */
+    default List<Object> bulkDecrypt(final List<String> ciphertexts) {
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        for (String each : ciphertexts) {
+            result.add(null == each ? null : decrypt(each));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.strategy.spi;
+
+/**
+ * Order preserving encryptor.
+ * 
+ * <p>
+ * Query assisted ciphertexts keep order of plaintexts, so range comparisons of logic column can be rewritten to assisted query column, BETWEEN is not supported.
+ * Ciphertext of smaller plaintext must be smaller in lexicographic order, and different plaintexts must have different ciphertexts.
+ * Plaintext which can not be ordered by encryptor, such as decimal bound for integral only encryptor, should be rejected with ShardingSphereException.
+ * </p>
+ */
+public interface OrderPreservingEncryptor extends QueryAssistedEncryptor {
+}
@@ -20,9 +20,12 @@ package org.apache.shardingsphere.encrypt.strategy.impl;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -54,11 +57,39 @@ public final class AESEncryptorTest {
         assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
     }
     
+    @Test
+    public void assertEncodeWithBytes() {
+        assertThat(encryptor.encrypt("test".getBytes(StandardCharsets.UTF_8)), is("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
+    @Test
+    public void assertEncodeInBulk() {
+        encryptor.init();
+        assertThat(encryptor.bulkEncrypt(Arrays.asList("test", null, "test")), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    public void assertEncodeAfterKeyChanged() {
+        encryptor.init();
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "another");
+        encryptor.setProperties(properties);
+        assertThat(encryptor.decrypt(encryptor.encrypt("test")).toString(), is("test"));
+        assertThat(encryptor.encrypt("test"), not("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
     @Test
     public void assertDecode() {
         assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
     }
     
+    @Test
+    public void assertDecodeInBulk() {
+        encryptor.init();
+        assertThat(encryptor.bulkDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null)), is(Arrays.<Object>asList("test", null)));
+    }
+    
     @Test
     public void assertDecodeWithNull() {
         assertNull(encryptor.decrypt(null));
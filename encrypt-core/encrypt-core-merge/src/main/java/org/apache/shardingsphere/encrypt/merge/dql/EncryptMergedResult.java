@@ -17,26 +17,30 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
-import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ * 
+ * <p>
+ * Encryptors of columns are resolved once when merged result created, so decrypting a cell only needs an array lookup.
+ * </p>
  */
-@RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
-    private final EncryptorMetaData metaData;
-    
     private final MergedResult mergedResult;
     
-    private final boolean queryWithCipherColumn;
+    private final Encryptor[] encryptors;
+    
+    public EncryptMergedResult(final EncryptorMetaData metaData, final MergedResult mergedResult, final boolean queryWithCipherColumn) {
+        this.mergedResult = mergedResult;
+        encryptors = queryWithCipherColumn ? metaData.findEncryptors() : new Encryptor[0];
+    }
     
     @Override
     public boolean next() throws SQLException {
@@ -45,15 +49,12 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        if (!queryWithCipherColumn) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Optional<Encryptor> encryptor = metaData.findEncryptor(columnIndex);
-        if (!encryptor.isPresent()) {
+        Encryptor encryptor = columnIndex <= encryptors.length ? encryptors[columnIndex - 1] : null;
+        if (null == encryptor) {
             return mergedResult.getValue(columnIndex, type);
         }
         String ciphertext = (String) mergedResult.getValue(columnIndex, String.class);
-        return null == ciphertext ? null : encryptor.get().decrypt(ciphertext);
+        return null == ciphertext ? null : encryptor.decrypt(ciphertext);
     }
     
     @Override
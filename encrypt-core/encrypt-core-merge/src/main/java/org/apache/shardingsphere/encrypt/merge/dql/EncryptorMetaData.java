@@ -39,6 +39,19 @@ public final class EncryptorMetaData {
     
     private final SelectStatementContext selectStatementContext;
     
+    /**
+     * Find encryptors of all columns.
+     *
+     * @return encryptors indexed by column index minus one, element is null if column is not encrypted
+     */
+    public Encryptor[] findEncryptors() {
+        Encryptor[] result = new Encryptor[selectStatementContext.getProjectionsContext().getExpandProjections().size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = findEncryptor(i + 1).orElse(null);
+        }
+        return result;
+    }
+    
     /**
      * Find encryptor.
      *
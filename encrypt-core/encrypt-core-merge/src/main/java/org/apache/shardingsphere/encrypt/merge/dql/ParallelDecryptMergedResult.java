@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Merged result for decrypting rows in parallel.
+ * 
+ * <p>
+ * Rows are fetched from merged result in batches on the consumer thread. 
+ * Cipher columns of a batch are decrypted on fork-join pool while next batch is fetched, and rows are returned in original order.
+ * </p>
+ * 
+ * <p>
+ * Values are buffered as objects, so it is only for consumers reading every column by {@code getValue(columnIndex, Object.class)} such as proxy,
+ * and the fork-join pool is owned by the consumer.
+ * </p>
+ */
+public final class ParallelDecryptMergedResult implements MergedResult {
+    
+    private final MergedResult mergedResult;
+    
+    private final Encryptor[] encryptors;
+    
+    private final int batchSize;
+    
+    private final ForkJoinPool pool;
+    
+    private CompletableFuture<List<Object[]>> nextBatch;
+    
+    private List<Object[]> currentBatch = Collections.emptyList();
+    
+    private int currentRowIndex;
+    
+    private Object[] currentRow;
+    
+    private boolean fetchedAll;
+    
+    private boolean wasNull;
+    
+    public ParallelDecryptMergedResult(final MergedResult mergedResult, final Encryptor[] encryptors, final int batchSize, final ForkJoinPool pool) {
+        this.mergedResult = mergedResult;
+        this.encryptors = encryptors;
+        this.batchSize = batchSize;
+        this.pool = pool;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        currentRowIndex++;
+        if (currentRowIndex >= currentBatch.size()) {
+            currentBatch = takeBatch();
+            currentRowIndex = 0;
+        }
+        currentRow = currentRowIndex < currentBatch.size() ? currentBatch.get(currentRowIndex) : null;
+        return null != currentRow;
+    }
+    
+    private List<Object[]> takeBatch() throws SQLException {
+        CompletableFuture<List<Object[]>> result = null == nextBatch ? decryptAsync(fetchBatch()) : nextBatch;
+        nextBatch = fetchedAll ? null : decryptAsync(fetchBatch());
+        try {
+            return null == result ? Collections.emptyList() : result.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause());
+        }
+    }
+    
+    private List<Object[]> fetchBatch() throws SQLException {
+        List<Object[]> result = new ArrayList<>(batchSize);
+        while (!fetchedAll && result.size() < batchSize) {
+            if (mergedResult.next()) {
+                result.add(fetchRow());
+            } else {
+                fetchedAll = true;
+            }
+        }
+        return result;
+    }
+    
+    private Object[] fetchRow() throws SQLException {
+        Object[] result = new Object[encryptors.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = mergedResult.getValue(i + 1, null == encryptors[i] ? Object.class : String.class);
+        }
+        return result;
+    }
+    
+    private CompletableFuture<List<Object[]>> decryptAsync(final List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            int chunkSize = (rows.size() + pool.getParallelism() - 1) / pool.getParallelism();
+            IntStream.range(0, (rows.size() + chunkSize - 1) / chunkSize).parallel().forEach(each -> decrypt(rows.subList(each * chunkSize, Math.min(rows.size(), (each + 1) * chunkSize))));
+            return rows;
+        }, pool);
+    }
+    
+    private void decrypt(final List<Object[]> rows) {
+        for (int columnIndex = 0; columnIndex < encryptors.length; columnIndex++) {
+            if (null == encryptors[columnIndex]) {
+                continue;
+            }
+            List<String> ciphertexts = new ArrayList<>(rows.size());
+            for (Object[] each : rows) {
+                ciphertexts.add((String) each[columnIndex]);
+            }
+            List<Object> plaintexts = encryptors[columnIndex].bulkDecrypt(ciphertexts);
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i)[columnIndex] = plaintexts.get(i);
+            }
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (columnIndex < 1 || columnIndex > currentRow.length) {
+            throw new SQLException(String.format("Column index out of range: %s.", columnIndex));
+        }
+        if (Object.class != type) {
+            throw new SQLFeatureNotSupportedException(String.format("getValue with type %s with parallel decryption", type.getName()));
+        }
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getCalendarValue with parallel decryption");
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException("getInputStream with parallel decryption");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.api.EncryptColumnRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.EncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.EncryptorRuleConfiguration;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableFactorSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableReferenceSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class EncryptMergedResultTest {
+    
+    private static final String TABLE_NAME = "t_user";
+    
+    @Mock
+    private MergedResult mergedResult;
+    
+    private EncryptRule encryptRule;
+    
+    private EncryptorMetaData metaData;
+    
+    @Before
+    public void setUp() {
+        encryptRule = new EncryptRule(createEncryptRuleConfiguration());
+        metaData = new EncryptorMetaData(new SchemaMetaData(Collections.emptyMap()), encryptRule, createSelectStatementContext());
+    }
+    
+    private EncryptRuleConfiguration createEncryptRuleConfiguration() {
+        Properties props = new Properties();
+        props.setProperty("aes.key.value", "123456abc");
+        Map<String, EncryptColumnRuleConfiguration> columns = new HashMap<>(2, 1);
+        columns.put("pwd", new EncryptColumnRuleConfiguration("", "cipher_pwd", "", "aes"));
+        columns.put("phone", new EncryptColumnRuleConfiguration("", "cipher_phone", "", "md5"));
+        EncryptRuleConfiguration result = new EncryptRuleConfiguration();
+        result.getEncryptors().put("aes", new EncryptorRuleConfiguration("AES", props));
+        result.getEncryptors().put("md5", new EncryptorRuleConfiguration("MD5", new Properties()));
+        result.getTables().put(TABLE_NAME, new EncryptTableRuleConfiguration(columns));
+        return result;
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new SelectStatement();
+        TableFactorSegment tableFactorSegment = new TableFactorSegment();
+        tableFactorSegment.setTable(new SimpleTableSegment(0, 0, new IdentifierValue(TABLE_NAME)));
+        TableReferenceSegment tableReferenceSegment = new TableReferenceSegment();
+        tableReferenceSegment.setTableFactor(tableFactorSegment);
+        selectStatement.getTableReferences().add(tableReferenceSegment);
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Arrays.asList(
+                new ColumnProjection(null, "id", null), new ColumnProjection(null, "pwd", null), new ColumnProjection(null, "name", null), new ColumnProjection(null, "phone", "mobile")));
+        return new SelectStatementContext(selectStatement, new GroupByContext(Collections.emptyList(), 0), new OrderByContext(Collections.emptyList(), false),
+                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertFindEncryptorsWithMixedColumns() {
+        Encryptor[] actual = metaData.findEncryptors();
+        assertThat(actual.length, is(4));
+        assertThat(actual[0], nullValue());
+        assertThat(actual[1], sameInstance(encryptRule.findEncryptor(TABLE_NAME, "pwd").get()));
+        assertThat(actual[2], nullValue());
+        assertThat(actual[3], sameInstance(encryptRule.findEncryptor(TABLE_NAME, "phone").get()));
+    }
+    
+    @Test
+    public void assertGetValueWithMixedColumns() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1);
+        when(mergedResult.getValue(2, String.class)).thenReturn(encryptRule.findEncryptor(TABLE_NAME, "pwd").get().encrypt("plain_pwd"));
+        when(mergedResult.getValue(3, Object.class)).thenReturn("tom");
+        when(mergedResult.getValue(4, String.class)).thenReturn(null);
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult, true);
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertThat(actual.getValue(2, Object.class), is((Object) "plain_pwd"));
+        assertThat(actual.getValue(3, Object.class), is((Object) "tom"));
+        assertThat(actual.getValue(4, Object.class), nullValue());
+    }
+    
+    @Test
+    public void assertGetValueWithoutQueryWithCipherColumn() throws SQLException {
+        when(mergedResult.getValue(2, Object.class)).thenReturn("cipher_value");
+        assertThat(new EncryptMergedResult(metaData, mergedResult, false).getValue(2, Object.class), is((Object) "cipher_value"));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ParallelDecryptMergedResultTest {
+    
+    @Mock
+    private MergedResult mergedResult;
+    
+    @Mock
+    private Encryptor encryptor;
+    
+    private ForkJoinPool pool;
+    
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(2);
+    }
+    
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+    
+    @Test
+    public void assertNextAndGetValueInOrder() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, true, true, true, true, false);
+        when(mergedResult.getValue(1, String.class)).thenReturn("c1", "c2", null, "c4", "c5");
+        when(mergedResult.getValue(2, Object.class)).thenReturn(1, 2, 3, 4, 5);
+        when(encryptor.bulkDecrypt(anyList())).thenAnswer(invocation -> {
+            List<Object> result = new ArrayList<>();
+            for (Object each : (List<?>) invocation.getArgument(0)) {
+                result.add(null == each ? null : "p" + each.toString().substring(1));
+            }
+            return result;
+        });
+        ParallelDecryptMergedResult actual = new ParallelDecryptMergedResult(mergedResult, new Encryptor[]{encryptor, null}, 2, pool);
+        for (int i = 1; i <= 5; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(3 == i ? null : (Object) ("p" + i)));
+            assertThat(actual.wasNull(), is(3 == i));
+            assertThat(actual.getValue(2, Object.class), is((Object) i));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithEmptyResult() throws SQLException {
+        when(mergedResult.next()).thenReturn(false);
+        assertFalse(new ParallelDecryptMergedResult(mergedResult, new Encryptor[]{encryptor}, 2, pool).next());
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetValueWithTypeNotObject() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(new byte[]{1});
+        ParallelDecryptMergedResult actual = new ParallelDecryptMergedResult(mergedResult, new Encryptor[]{null}, 2, pool);
+        assertTrue(actual.next());
+        actual.getValue(1, byte[].class);
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetValueWithColumnIndexOutOfRange() throws SQLException {
+        when(mergedResult.next()).thenReturn(true, false);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(1);
+        ParallelDecryptMergedResult actual = new ParallelDecryptMergedResult(mergedResult, new Encryptor[]{null}, 2, pool);
+        assertTrue(actual.next());
+        actual.getValue(2, Object.class);
+    }
+}
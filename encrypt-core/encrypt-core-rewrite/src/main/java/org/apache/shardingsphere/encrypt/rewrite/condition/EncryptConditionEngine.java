@@ -21,6 +21,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rewrite.condition.impl.EncryptEqualCondition;
 import org.apache.shardingsphere.encrypt.rewrite.condition.impl.EncryptInCondition;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
+import org.apache.shardingsphere.encrypt.strategy.spi.OrderPreservingEncryptor;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.type.WhereAvailable;
@@ -43,6 +45,10 @@ import java.util.Optional;
 
 /**
  * Encrypt condition engine.
+ * 
+ * <p>
+ * Range comparisons are supported only if encryptor of column is order preserving and assisted query column is configured.
+ * </p>
  */
 @RequiredArgsConstructor
 public final class EncryptConditionEngine {
@@ -91,14 +97,18 @@ public final class EncryptConditionEngine {
     
     private Optional<EncryptCondition> createEncryptCondition(final SQLStatementContext sqlStatementContext, final PredicateSegment predicateSegment) {
         Optional<String> tableName = sqlStatementContext.getTablesContext().findTableName(predicateSegment.getColumn(), schemaMetaData);
-        return tableName.isPresent() && encryptRule.findEncryptor(tableName.get(), predicateSegment.getColumn().getIdentifier().getValue()).isPresent()
-                ? createEncryptCondition(predicateSegment, tableName.get()) : Optional.empty();
+        if (!tableName.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<Encryptor> encryptor = encryptRule.findEncryptor(tableName.get(), predicateSegment.getColumn().getIdentifier().getValue());
+        return encryptor.isPresent() ? createEncryptCondition(predicateSegment, tableName.get(), isRangeSupported(tableName.get(), predicateSegment, encryptor.get())) : Optional.empty();
     }
     
-    private Optional<EncryptCondition> createEncryptCondition(final PredicateSegment predicateSegment, final String tableName) {
+    private Optional<EncryptCondition> createEncryptCondition(final PredicateSegment predicateSegment, final String tableName, final boolean isRangeSupported) {
         if (predicateSegment.getRightValue() instanceof PredicateCompareRightValue) {
             PredicateCompareRightValue compareRightValue = (PredicateCompareRightValue) predicateSegment.getRightValue();
-            return isSupportedOperator(compareRightValue.getOperator()) ? createCompareEncryptCondition(tableName, predicateSegment, compareRightValue) : Optional.empty();
+            return isSupportedOperator(compareRightValue.getOperator()) || (isRangeSupported && isRangeOperator(compareRightValue.getOperator()))
+                    ? createCompareEncryptCondition(tableName, predicateSegment, compareRightValue) : Optional.empty();
         }
         if (predicateSegment.getRightValue() instanceof PredicateInRightValue) {
             return createInEncryptCondition(tableName, predicateSegment, (PredicateInRightValue) predicateSegment.getRightValue());
@@ -109,6 +119,10 @@ public final class EncryptConditionEngine {
         return Optional.empty();
     }
     
+    private boolean isRangeSupported(final String tableName, final PredicateSegment predicateSegment, final Encryptor encryptor) {
+        return encryptor instanceof OrderPreservingEncryptor && encryptRule.findAssistedQueryColumn(tableName, predicateSegment.getColumn().getIdentifier().getValue()).isPresent();
+    }
+    
     private static Optional<EncryptCondition> createCompareEncryptCondition(final String tableName, final PredicateSegment predicateSegment, final PredicateCompareRightValue compareRightValue) {
         return compareRightValue.getExpression() instanceof SimpleExpressionSegment
                 ? Optional.of(new EncryptEqualCondition(predicateSegment.getColumn().getIdentifier().getValue(), tableName, compareRightValue.getExpression().getStartIndex(), 
@@ -131,4 +145,8 @@ public final class EncryptConditionEngine {
     private boolean isSupportedOperator(final String operator) {
         return "=".equals(operator) || "<>".equals(operator) || "!=".equals(operator);
     }
+    
+    private boolean isRangeOperator(final String operator) {
+        return ">".equals(operator) || "<".equals(operator) || ">=".equals(operator) || "<=".equals(operator);
+    }
 }
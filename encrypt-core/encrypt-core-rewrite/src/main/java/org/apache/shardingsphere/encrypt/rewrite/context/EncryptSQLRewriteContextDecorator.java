@@ -41,7 +41,7 @@ public final class EncryptSQLRewriteContextDecorator implements SQLRewriteContex
                 each.rewrite(sqlRewriteContext.getParameterBuilder(), sqlRewriteContext.getSqlStatementContext(), sqlRewriteContext.getParameters());
             }
         }
-        sqlRewriteContext.addSQLTokenGenerators(new EncryptTokenGenerateBuilder(encryptRule, isQueryWithCipherColumn).getSQLTokenGenerators());
+        sqlRewriteContext.addSQLTokenGeneratorBuilder(new EncryptTokenGenerateBuilder(encryptRule, isQueryWithCipherColumn));
     }
     
     @Override
@@ -20,10 +20,13 @@ package org.apache.shardingsphere.masterslave.route.engine.impl;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.apache.shardingsphere.core.strategy.masterslave.EWMAMasterSlaveLoadBalanceAlgorithm;
+import org.apache.shardingsphere.masterslave.route.hook.DataSourceStatisticsSQLExecutionHook;
+import org.apache.shardingsphere.spi.masterslave.MasterSlaveLoadBalanceAlgorithm;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 
-import java.util.ArrayList;
+import java.util.Collections;
 
 /**
  * Data source router for master-slave.
@@ -44,8 +47,13 @@ public final class MasterSlaveDataSourceRouter {
             MasterVisitedManager.setMasterVisited();
             return masterSlaveRule.getMasterDataSourceName();
         }
-        return masterSlaveRule.getLoadBalanceAlgorithm().getDataSource(
-                masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), new ArrayList<>(masterSlaveRule.getSlaveDataSourceNames()));
+        MasterSlaveLoadBalanceAlgorithm loadBalanceAlgorithm = masterSlaveRule.getLoadBalanceAlgorithm();
+        String result = loadBalanceAlgorithm.getDataSource(
+                masterSlaveRule.getName(), masterSlaveRule.getMasterDataSourceName(), Collections.unmodifiableList(masterSlaveRule.getSlaveDataSourceNames()));
+        if (loadBalanceAlgorithm instanceof EWMAMasterSlaveLoadBalanceAlgorithm) {
+            DataSourceStatisticsSQLExecutionHook.bind(result, ((EWMAMasterSlaveLoadBalanceAlgorithm) loadBalanceAlgorithm).getStatisticsRegistry().get(result));
+        }
+        return result;
     }
     
     private boolean isMasterRoute(final SQLStatement sqlStatement) {
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.masterslave.route.hook;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.apache.shardingsphere.underlying.route.hook.RoutingHook;
+
+/**
+ * Routing hook to clear data source statistics bound by last routing.
+ */
+public final class DataSourceStatisticsRoutingHook implements RoutingHook {
+    
+    @Override
+    public void start(final String sql) {
+        DataSourceStatisticsSQLExecutionHook.clear();
+    }
+    
+    @Override
+    public void finishSuccess(final RouteContext routeContext, final SchemaMetaData schemaMetaData) {
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.masterslave.route.hook;
+
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceStatistics;
+import org.apache.shardingsphere.underlying.common.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.underlying.executor.hook.SQLExecutionHook;
+import org.apache.shardingsphere.underlying.executor.kernel.ExecutorDataMap;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL execution hook to report response time, in-flight count and failure of data source for load-balance algorithm.
+ * 
+ * <p>
+ * Statistics of routed data sources are bound to executor data map while routing, only data sources bound are reported.
+ * </p>
+ */
+public final class DataSourceStatisticsSQLExecutionHook implements SQLExecutionHook {
+    
+    private static final String CONNECTION_EXCEPTION_SQL_STATE_CLASS = "08";
+    
+    private static final String DATA_SOURCE_STATISTICS_KEY = "MASTER_SLAVE_DATA_SOURCE_STATISTICS";
+    
+    private DataSourceStatistics statistics;
+    
+    private long startTimeNanos;
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> parameters,
+                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        Object boundStatistics = shardingExecuteDataMap.get(DATA_SOURCE_STATISTICS_KEY);
+        statistics = null == boundStatistics ? null : ((Map<String, DataSourceStatistics>) boundStatistics).get(dataSourceName);
+        if (null != statistics) {
+            statistics.start();
+            startTimeNanos = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        if (null != statistics) {
+            statistics.finishSuccess(System.nanoTime() - startTimeNanos);
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        if (null != statistics) {
+            statistics.finishFailure(isUnavailable(cause));
+        }
+    }
+    
+    /**
+     * Bind statistics of routed data source to executor data map of current thread.
+     *
+     * @param dataSourceName routed data source name
+     * @param statistics statistics of routed data source
+     */
+    @SuppressWarnings("unchecked")
+    public static void bind(final String dataSourceName, final DataSourceStatistics statistics) {
+        ((Map<String, DataSourceStatistics>) ExecutorDataMap.getValue().computeIfAbsent(DATA_SOURCE_STATISTICS_KEY, key -> new HashMap<>())).put(dataSourceName, statistics);
+    }
+    
+    /**
+     * Clear statistics bound to executor data map of current thread.
+     */
+    public static void clear() {
+        ExecutorDataMap.getValue().remove(DATA_SOURCE_STATISTICS_KEY);
+    }
+    
+    private boolean isUnavailable(final Exception cause) {
+        if (cause instanceof SQLTransientConnectionException || cause instanceof SQLNonTransientConnectionException
+                || cause instanceof SQLRecoverableException || cause instanceof SQLTimeoutException) {
+            return true;
+        }
+        return cause instanceof SQLException && null != ((SQLException) cause).getSQLState() && ((SQLException) cause).getSQLState().startsWith(CONNECTION_EXCEPTION_SQL_STATE_CLASS);
+    }
+}
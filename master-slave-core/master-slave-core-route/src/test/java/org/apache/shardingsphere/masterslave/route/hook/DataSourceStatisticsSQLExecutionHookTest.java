@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.masterslave.route.hook;
+
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceStatistics;
+import org.apache.shardingsphere.underlying.executor.kernel.ExecutorDataMap;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataSourceStatisticsSQLExecutionHookTest {
+    
+    private final DataSourceStatisticsSQLExecutionHook hook = new DataSourceStatisticsSQLExecutionHook();
+    
+    @After
+    public void tearDown() {
+        DataSourceStatisticsSQLExecutionHook.clear();
+    }
+    
+    @Test
+    public void assertFinishSuccessWithBoundStatistics() {
+        DataSourceStatistics statistics = new DataSourceStatistics();
+        DataSourceStatisticsSQLExecutionHook.bind("ds_slave_0", statistics);
+        hook.start("ds_slave_0", "SELECT 1", Collections.emptyList(), null, true, ExecutorDataMap.getValue());
+        assertThat(statistics.getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertTrue(statistics.getEwmaResponseTimeNanos() > 0);
+    }
+    
+    @Test
+    public void assertFinishFailureWithBoundStatistics() {
+        DataSourceStatistics statistics = new DataSourceStatistics();
+        DataSourceStatisticsSQLExecutionHook.bind("ds_slave_0", statistics);
+        hook.start("ds_slave_0", "SELECT 1", Collections.emptyList(), null, true, ExecutorDataMap.getValue());
+        hook.finishFailure(new SQLTransientConnectionException());
+        assertTrue(statistics.isUnavailableWithin(30000L, System.currentTimeMillis()));
+    }
+    
+    @Test
+    public void assertStartWithClearedStatistics() {
+        DataSourceStatistics statistics = new DataSourceStatistics();
+        DataSourceStatisticsSQLExecutionHook.bind("ds_slave_0", statistics);
+        new DataSourceStatisticsRoutingHook().start("SELECT 1");
+        hook.start("ds_slave_0", "SELECT 1", Collections.emptyList(), null, true, ExecutorDataMap.getValue());
+        hook.finishFailure(new SQLTransientConnectionException());
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertFalse(statistics.isUnavailableWithin(30000L, System.currentTimeMillis()));
+    }
+}
@@ -31,7 +31,10 @@ import org.apache.shardingsphere.sql.parser.binder.type.WhereAvailable;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -42,6 +45,27 @@ public final class ShadowConditionEngine {
     
     private final ShadowRule shadowRule;
     
+    /**
+     * Create shadow conditions for each and predicate.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return shadow conditions
+     */
+    public List<ShadowCondition> createShadowConditions(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof WhereAvailable)) {
+            return Collections.emptyList();
+        }
+        Optional<WhereSegment> whereSegment = ((WhereAvailable) sqlStatementContext).getWhere();
+        if (!whereSegment.isPresent()) {
+            return Collections.emptyList();
+        }
+        List<ShadowCondition> result = new LinkedList<>();
+        for (AndPredicate each : whereSegment.get().getAndPredicates()) {
+            createShadowCondition(each).ifPresent(result::add);
+        }
+        return result;
+    }
+    
     /**
      * Create shadow conditions.
      *
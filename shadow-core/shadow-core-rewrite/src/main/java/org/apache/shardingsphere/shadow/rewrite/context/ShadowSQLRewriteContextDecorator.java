@@ -39,7 +39,7 @@ public final class ShadowSQLRewriteContextDecorator implements SQLRewriteContext
                 each.rewrite(sqlRewriteContext.getParameterBuilder(), sqlRewriteContext.getSqlStatementContext(), sqlRewriteContext.getParameters());
             }
         }
-        sqlRewriteContext.addSQLTokenGenerators(new ShadowTokenGenerateBuilder(shadowRule).getSQLTokenGenerators());
+        sqlRewriteContext.addSQLTokenGeneratorBuilder(new ShadowTokenGenerateBuilder(shadowRule));
     }
     
     @Override
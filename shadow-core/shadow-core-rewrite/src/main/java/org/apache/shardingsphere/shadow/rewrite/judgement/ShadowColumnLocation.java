@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.rewrite.judgement;
+
+import lombok.Getter;
+import org.apache.shardingsphere.core.rule.ShadowRule;
+import org.apache.shardingsphere.shadow.rewrite.condition.ShadowCondition;
+import org.apache.shardingsphere.shadow.rewrite.condition.ShadowConditionEngine;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Location of shadow column in SQL statement.
+ * 
+ * <p>
+ * Location depends on SQL statement and shadow column only, so judgement with location is an index lookup of values or parameters.
+ * </p>
+ */
+@Getter
+public final class ShadowColumnLocation {
+    
+    private final String shadowColumn;
+    
+    private final int insertColumnIndex;
+    
+    private final boolean insertWithColumns;
+    
+    private final List<ShadowCondition> shadowConditions;
+    
+    public ShadowColumnLocation(final ShadowRule shadowRule, final SQLStatementContext sqlStatementContext) {
+        shadowColumn = shadowRule.getColumn();
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+            insertColumnIndex = insertStatementContext.getColumnNames().indexOf(shadowColumn);
+            insertWithColumns = !insertStatementContext.getSqlStatement().getColumns().isEmpty();
+            shadowConditions = Collections.emptyList();
+        } else {
+            insertColumnIndex = -1;
+            insertWithColumns = false;
+            shadowConditions = new ShadowConditionEngine(shadowRule).createShadowConditions(sqlStatementContext);
+        }
+    }
+}
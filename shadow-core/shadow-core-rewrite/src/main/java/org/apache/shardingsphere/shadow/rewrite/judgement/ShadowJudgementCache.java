@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.rewrite.judgement;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shardingsphere.core.rule.ShadowRule;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+
+/**
+ * Shadow judgement cache.
+ * 
+ * <p>
+ * Shadow column location is cached for parsed SQL statement, entry is released with SQL statement from parse cache.
+ * Insert statement without columns is not cached because its columns depend on schema meta data.
+ * </p>
+ */
+public final class ShadowJudgementCache {
+    
+    private final Cache<SQLStatement, ShadowColumnLocation> cache = CacheBuilder.newBuilder().weakKeys().initialCapacity(2000).maximumSize(65535).build();
+    
+    /**
+     * Get shadow column location.
+     *
+     * @param shadowRule shadow rule
+     * @param sqlStatementContext SQL statement context
+     * @return shadow column location
+     */
+    public ShadowColumnLocation getShadowColumnLocation(final ShadowRule shadowRule, final SQLStatementContext sqlStatementContext) {
+        if (sqlStatementContext instanceof InsertStatementContext && ((InsertStatementContext) sqlStatementContext).getSqlStatement().useDefaultColumns()) {
+            return new ShadowColumnLocation(shadowRule, sqlStatementContext);
+        }
+        SQLStatement sqlStatement = sqlStatementContext.getSqlStatement();
+        ShadowColumnLocation result = cache.getIfPresent(sqlStatement);
+        if (null == result || !result.getShadowColumn().equals(shadowRule.getColumn())) {
+            result = new ShadowColumnLocation(shadowRule, sqlStatementContext);
+            cache.put(sqlStatement, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
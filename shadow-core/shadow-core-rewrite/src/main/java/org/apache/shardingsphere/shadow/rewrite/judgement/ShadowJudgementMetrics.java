@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.rewrite.judgement;
+
+import org.apache.shardingsphere.underlying.common.metrics.SlidingWindowCounter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of shadow judgement, which counts shadow and production decisions in total and decisions in per second buckets of recent seconds.
+ * 
+ * <p>
+ * Metrics are held by runtime context of shadow data source or by shadow schema of proxy, so decisions of different data sources are not mixed.
+ * </p>
+ */
+public final class ShadowJudgementMetrics {
+    
+    private static final int WINDOW_SECONDS = 10;
+    
+    private final LongAdder shadowCount = new LongAdder();
+    
+    private final LongAdder productionCount = new LongAdder();
+    
+    private final SlidingWindowCounter recentDecisions = new SlidingWindowCounter(WINDOW_SECONDS);
+    
+    /**
+     * Record judgement decision.
+     *
+     * @param isShadow is shadow SQL or not
+     */
+    public void record(final boolean isShadow) {
+        if (isShadow) {
+            shadowCount.increment();
+        } else {
+            productionCount.increment();
+        }
+        recentDecisions.add(1L);
+    }
+    
+    /**
+     * Get total count of shadow decisions.
+     *
+     * @return total count of shadow decisions
+     */
+    public long getShadowCount() {
+        return shadowCount.sum();
+    }
+    
+    /**
+     * Get total count of production decisions.
+     *
+     * @return total count of production decisions
+     */
+    public long getProductionCount() {
+        return productionCount.sum();
+    }
+    
+    /**
+     * Get decisions per second of recent complete seconds.
+     *
+     * @return decisions per second
+     */
+    public double getDecisionsPerSecond() {
+        return recentDecisions.getRatePerSecond();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("shadow: %d, production: %d, decisions per second: %.1f", getShadowCount(), getProductionCount(), getDecisionsPerSecond());
+    }
+}
@@ -17,28 +17,20 @@
 
 package org.apache.shardingsphere.shadow.rewrite.judgement.impl;
 
-import com.google.common.base.Preconditions;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.rule.ShadowRule;
+import org.apache.shardingsphere.shadow.rewrite.condition.ShadowCondition;
+import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowColumnLocation;
+import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowJudgementCache;
 import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowJudgementEngine;
+import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowJudgementMetrics;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
-import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
-import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
-import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
-import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
-import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
-import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
-import org.apache.shardingsphere.sql.parser.binder.type.WhereAvailable;
 
-import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Shadow judgement engine for prepared.
  */
-@RequiredArgsConstructor
 public final class PreparedJudgementEngine implements ShadowJudgementEngine {
     
     private final ShadowRule shadowRule;
@@ -47,43 +39,43 @@ public final class PreparedJudgementEngine implements ShadowJudgementEngine {
     
     private final List<Object> parameters;
     
+    private final ShadowJudgementCache shadowJudgementCache;
+    
+    private final ShadowJudgementMetrics shadowJudgementMetrics;
+    
+    public PreparedJudgementEngine(final ShadowRule shadowRule, final SQLStatementContext sqlStatementContext, final List<Object> parameters) {
+        this(shadowRule, sqlStatementContext, parameters, null, null);
+    }
+    
+    public PreparedJudgementEngine(final ShadowRule shadowRule, final SQLStatementContext sqlStatementContext, final List<Object> parameters, 
+                                   final ShadowJudgementCache shadowJudgementCache, final ShadowJudgementMetrics shadowJudgementMetrics) {
+        this.shadowRule = shadowRule;
+        this.sqlStatementContext = sqlStatementContext;
+        this.parameters = parameters;
+        this.shadowJudgementCache = shadowJudgementCache;
+        this.shadowJudgementMetrics = shadowJudgementMetrics;
+    }
+    
     @Override
     public boolean isShadowSQL() {
-        if (sqlStatementContext instanceof InsertStatementContext) {
-            Collection<ColumnSegment> columnSegments = (((InsertStatementContext) sqlStatementContext).getSqlStatement()).getColumns();
-            int count = 0;
-            for (ColumnSegment each : columnSegments) {
-                if (each.getIdentifier().getValue().equals(shadowRule.getColumn())) {
-                    Object value = parameters.get(count);
-                    return isShadowField(value);
-                }
-                count++;
-            }
-            return false;
+        ShadowColumnLocation shadowColumnLocation = null == shadowJudgementCache
+                ? new ShadowColumnLocation(shadowRule, sqlStatementContext) : shadowJudgementCache.getShadowColumnLocation(shadowRule, sqlStatementContext);
+        boolean result = sqlStatementContext instanceof InsertStatementContext ? judgeShadowSQLForInsert(shadowColumnLocation) : judgeShadowSQLForWhere(shadowColumnLocation);
+        if (null != shadowJudgementMetrics) {
+            shadowJudgementMetrics.record(result);
         }
-        if (sqlStatementContext instanceof WhereAvailable) {
-            Optional<WhereSegment> whereSegment = ((WhereAvailable) sqlStatementContext).getWhere();
-            if (!whereSegment.isPresent()) {
-                return false;
-            }
-            Collection<AndPredicate> andPredicates = whereSegment.get().getAndPredicates();
-            for (AndPredicate andPredicate : andPredicates) {
-                if (judgePredicateSegments(andPredicate.getPredicates())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return result;
+    }
+    
+    private boolean judgeShadowSQLForInsert(final ShadowColumnLocation shadowColumnLocation) {
+        return shadowColumnLocation.isInsertWithColumns() && shadowColumnLocation.getInsertColumnIndex() >= 0 && isShadowField(parameters.get(shadowColumnLocation.getInsertColumnIndex()));
     }
     
-    private boolean judgePredicateSegments(final Collection<PredicateSegment> predicates) {
-        for (PredicateSegment each : predicates) {
-            if (each.getColumn().getIdentifier().getValue().equals(shadowRule.getColumn())) {
-                Preconditions.checkArgument(each.getRightValue() instanceof PredicateCompareRightValue, "must be PredicateCompareRightValue");
-                PredicateCompareRightValue rightValue = (PredicateCompareRightValue) each.getRightValue();
-                int parameterMarkerIndex = ((ParameterMarkerExpressionSegment) rightValue.getExpression()).getParameterMarkerIndex();
-                final Object value = parameters.get(parameterMarkerIndex);
-                return isShadowField(value);
+    private boolean judgeShadowSQLForWhere(final ShadowColumnLocation shadowColumnLocation) {
+        for (ShadowCondition each : shadowColumnLocation.getShadowConditions()) {
+            List<Object> values = each.getValues(parameters);
+            if (!values.isEmpty() && isShadowField(values.get(0))) {
+                return true;
             }
         }
         return false;
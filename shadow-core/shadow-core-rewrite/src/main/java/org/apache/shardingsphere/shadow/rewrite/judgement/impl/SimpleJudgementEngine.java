@@ -17,62 +17,71 @@
 
 package org.apache.shardingsphere.shadow.rewrite.judgement.impl;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.rule.ShadowRule;
-import org.apache.shardingsphere.shadow.rewrite.condition.ShadowCondition;
-import org.apache.shardingsphere.shadow.rewrite.condition.ShadowConditionEngine;
+import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowColumnLocation;
+import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowJudgementCache;
 import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowJudgementEngine;
+import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowJudgementMetrics;
 import org.apache.shardingsphere.sql.parser.binder.segment.insert.values.InsertValueContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
-import org.apache.shardingsphere.sql.parser.binder.type.WhereAvailable;
 
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Simple shadow judgement engine.
  */
-@RequiredArgsConstructor
 public final class SimpleJudgementEngine implements ShadowJudgementEngine {
     
     private final ShadowRule shadowRule;
     
     private final SQLStatementContext sqlStatementContext;
     
+    private final ShadowJudgementCache shadowJudgementCache;
+    
+    private final ShadowJudgementMetrics shadowJudgementMetrics;
+    
+    public SimpleJudgementEngine(final ShadowRule shadowRule, final SQLStatementContext sqlStatementContext) {
+        this(shadowRule, sqlStatementContext, null, null);
+    }
+    
+    public SimpleJudgementEngine(final ShadowRule shadowRule, final SQLStatementContext sqlStatementContext, 
+                                 final ShadowJudgementCache shadowJudgementCache, final ShadowJudgementMetrics shadowJudgementMetrics) {
+        this.shadowRule = shadowRule;
+        this.sqlStatementContext = sqlStatementContext;
+        this.shadowJudgementCache = shadowJudgementCache;
+        this.shadowJudgementMetrics = shadowJudgementMetrics;
+    }
+    
     @Override
     public boolean isShadowSQL() {
-        if (sqlStatementContext instanceof InsertStatementContext) {
-            for (InsertValueContext each : ((InsertStatementContext) sqlStatementContext).getInsertValueContexts()) {
-                if (judgeShadowSqlForInsert(each, (InsertStatementContext) sqlStatementContext)) {
-                    return true;
-                }
-            }
+        ShadowColumnLocation shadowColumnLocation = null == shadowJudgementCache
+                ? new ShadowColumnLocation(shadowRule, sqlStatementContext) : shadowJudgementCache.getShadowColumnLocation(shadowRule, sqlStatementContext);
+        boolean result = sqlStatementContext instanceof InsertStatementContext ? judgeShadowSQLForInsert(shadowColumnLocation) : judgeShadowSQLForWhere(shadowColumnLocation);
+        if (null != shadowJudgementMetrics) {
+            shadowJudgementMetrics.record(result);
+        }
+        return result;
+    }
+    
+    private boolean judgeShadowSQLForInsert(final ShadowColumnLocation shadowColumnLocation) {
+        if (shadowColumnLocation.getInsertColumnIndex() < 0) {
             return false;
         }
-        if (sqlStatementContext instanceof WhereAvailable) {
-            Optional<ShadowCondition> shadowCondition = new ShadowConditionEngine(shadowRule).createShadowCondition(sqlStatementContext);
-            if (!shadowCondition.isPresent()) {
-                return false;
+        for (InsertValueContext each : ((InsertStatementContext) sqlStatementContext).getInsertValueContexts()) {
+            if (isShadowField(each.getValue(shadowColumnLocation.getInsertColumnIndex()))) {
+                return true;
             }
-            List<Object> values = shadowCondition.get().getValues(Collections.emptyList());
-            return values.size() != 0 && isShadowField(values.get(0));
         }
         return false;
     }
     
-    private boolean judgeShadowSqlForInsert(final InsertValueContext insertValueContext, final InsertStatementContext insertStatementContext) {
-        Iterator<String> descendingColumnNames = insertStatementContext.getDescendingColumnNames();
-        while (descendingColumnNames.hasNext()) {
-            String columnName = descendingColumnNames.next();
-            if (shadowRule.getColumn().equals(columnName)) {
-                int columnIndex = insertStatementContext.getColumnNames().indexOf(columnName);
-                Object value = insertValueContext.getValue(columnIndex);
-                return isShadowField(value);
-            }
+    private boolean judgeShadowSQLForWhere(final ShadowColumnLocation shadowColumnLocation) {
+        if (shadowColumnLocation.getShadowConditions().isEmpty()) {
+            return false;
         }
-        return false;
+        List<Object> values = shadowColumnLocation.getShadowConditions().get(0).getValues(Collections.emptyList());
+        return !values.isEmpty() && isShadowField(values.get(0));
     }
 }
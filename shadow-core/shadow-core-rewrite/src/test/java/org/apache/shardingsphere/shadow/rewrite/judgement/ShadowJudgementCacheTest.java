@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.rewrite.judgement;
+
+import org.apache.shardingsphere.api.config.shadow.ShadowRuleConfiguration;
+import org.apache.shardingsphere.core.rule.ShadowRule;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class ShadowJudgementCacheTest {
+    
+    private final ShadowJudgementCache shadowJudgementCache = new ShadowJudgementCache();
+    
+    private InsertStatementContext insertStatementContext;
+    
+    @Before
+    public void setUp() {
+        InsertStatement insertStatement = new InsertStatement();
+        insertStatement.setTable(new SimpleTableSegment(0, 0, new IdentifierValue("tbl")));
+        insertStatement.setInsertColumns(new InsertColumnsSegment(0, 0, Arrays.asList(new ColumnSegment(0, 0, new IdentifierValue("id")), new ColumnSegment(0, 0, new IdentifierValue("shadow")))));
+        insertStatementContext = new InsertStatementContext(mock(SchemaMetaData.class), Collections.emptyList(), insertStatement);
+    }
+    
+    @Test
+    public void assertGetShadowColumnLocation() {
+        ShadowColumnLocation actual = shadowJudgementCache.getShadowColumnLocation(createShadowRule("shadow"), insertStatementContext);
+        assertThat(actual.getInsertColumnIndex(), is(1));
+        assertThat(shadowJudgementCache.getShadowColumnLocation(createShadowRule("shadow"), insertStatementContext), sameInstance(actual));
+    }
+    
+    @Test
+    public void assertGetShadowColumnLocationWithChangedShadowColumn() {
+        ShadowColumnLocation expected = shadowJudgementCache.getShadowColumnLocation(createShadowRule("shadow"), insertStatementContext);
+        ShadowColumnLocation actual = shadowJudgementCache.getShadowColumnLocation(createShadowRule("id"), insertStatementContext);
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(actual.getInsertColumnIndex(), is(0));
+    }
+    
+    private ShadowRule createShadowRule(final String shadowColumn) {
+        ShadowRuleConfiguration shadowRuleConfiguration = new ShadowRuleConfiguration();
+        shadowRuleConfiguration.setColumn(shadowColumn);
+        return new ShadowRule(shadowRuleConfiguration);
+    }
+}
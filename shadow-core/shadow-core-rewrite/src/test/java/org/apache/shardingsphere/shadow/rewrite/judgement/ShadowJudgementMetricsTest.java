@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shadow.rewrite.judgement;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShadowJudgementMetricsTest {
+    
+    @Test
+    public void assertRecord() {
+        ShadowJudgementMetrics metrics = new ShadowJudgementMetrics();
+        metrics.record(true);
+        metrics.record(false);
+        metrics.record(false);
+        assertThat(metrics.getShadowCount(), is(1L));
+        assertThat(metrics.getProductionCount(), is(2L));
+    }
+    
+    @Test
+    public void assertGetDecisionsPerSecondWithConcurrentRecords() throws InterruptedException {
+        ShadowJudgementMetrics metrics = new ShadowJudgementMetrics();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    metrics.record(0 == j % 2);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5L, TimeUnit.SECONDS));
+        TimeUnit.MILLISECONDS.sleep(1100L);
+        assertThat(metrics.getShadowCount(), is(20000L));
+        assertThat(metrics.getDecisionsPerSecond(), is(4000D));
+    }
+}
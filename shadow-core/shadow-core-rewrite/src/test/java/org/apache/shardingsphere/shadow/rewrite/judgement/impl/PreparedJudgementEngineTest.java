@@ -20,16 +20,28 @@ package org.apache.shardingsphere.shadow.rewrite.judgement.impl;
 import org.apache.shardingsphere.api.config.shadow.ShadowRuleConfiguration;
 import org.apache.shardingsphere.core.rule.ShadowRule;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowJudgementCache;
+import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowJudgementMetrics;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
 import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -52,4 +64,28 @@ public final class PreparedJudgementEngineTest {
         PreparedJudgementEngine preparedJudgementEngine = new PreparedJudgementEngine(shadowRule, insertStatementContext, Arrays.asList(1, "Tom", true));
         Assert.assertTrue("should be shadow", preparedJudgementEngine.isShadowSQL());
     }
+    
+    @Test
+    public void isShadowSQLForWhereSegmentWithCache() {
+        SelectStatement selectStatement = new SelectStatement();
+        WhereSegment whereSegment = new WhereSegment(0, 0);
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(
+                new PredicateSegment(0, 0, new ColumnSegment(0, 0, new IdentifierValue("shadow")), new PredicateCompareRightValue("=", new ParameterMarkerExpressionSegment(0, 0, 0))));
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(mock(SchemaMetaData.class), "", Collections.singletonList(true), selectStatement);
+        ShadowRuleConfiguration shadowRuleConfiguration = new ShadowRuleConfiguration();
+        shadowRuleConfiguration.setColumn("shadow");
+        ShadowRule shadowRule = new ShadowRule(shadowRuleConfiguration);
+        ShadowJudgementCache shadowJudgementCache = new ShadowJudgementCache();
+        ShadowJudgementMetrics shadowJudgementMetrics = new ShadowJudgementMetrics();
+        Assert.assertTrue("should be shadow",
+                new PreparedJudgementEngine(shadowRule, selectStatementContext, Collections.singletonList(true), shadowJudgementCache, shadowJudgementMetrics).isShadowSQL());
+        Assert.assertFalse("should not be shadow",
+                new PreparedJudgementEngine(shadowRule, selectStatementContext, Collections.singletonList(false), shadowJudgementCache, shadowJudgementMetrics).isShadowSQL());
+        Assert.assertThat(shadowJudgementMetrics.getShadowCount(), CoreMatchers.is(1L));
+        Assert.assertThat(shadowJudgementMetrics.getProductionCount(), CoreMatchers.is(1L));
+    }
 }
@@ -42,6 +42,8 @@ public final class HintManager implements AutoCloseable {
     
     private boolean masterRouteOnly;
     
+    private boolean approximateDistinctCount;
+    
     /**
      * Get a new instance for {@code HintManager}.
      *
@@ -154,6 +156,22 @@ public final class HintManager implements AutoCloseable {
         return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().masterRouteOnly;
     }
     
+    /**
+     * Set count distinct to be estimated by HyperLogLog when merging results of data nodes.
+     */
+    public void setApproximateDistinctCount() {
+        approximateDistinctCount = true;
+    }
+    
+    /**
+     * Judge whether estimate count distinct by HyperLogLog or not.
+     *
+     * @return estimate count distinct or not
+     */
+    public static boolean isApproximateDistinctCount() {
+        return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().approximateDistinctCount;
+    }
+    
     /**
      * Clear threadlocal for hint manager.
      */
@@ -134,6 +134,16 @@ public final class HintManagerTest {
         assertFalse(HintManager.isMasterRouteOnly());
     }
     
+    @Test
+    public void assertIsApproximateDistinctCount() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            assertFalse(HintManager.isApproximateDistinctCount());
+            hintManager.setApproximateDistinctCount();
+            assertTrue(HintManager.isApproximateDistinctCount());
+        }
+        assertFalse(HintManager.isApproximateDistinctCount());
+    }
+    
     @Test
     public void assertClose() {
         HintManager hintManager = HintManager.getInstance();
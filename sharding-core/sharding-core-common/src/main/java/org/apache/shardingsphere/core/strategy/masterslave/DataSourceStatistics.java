@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Statistics of data source, which is reported by SQL execution and used by load-balance algorithm.
+ * 
+ * <p>
+ * Response time is kept as exponentially weighted moving average, updates may race and the statistics are approximate.
+ * </p>
+ */
+public final class DataSourceStatistics {
+    
+    private static final double EWMA_WEIGHT = 0.2;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private volatile double ewmaResponseTimeNanos;
+    
+    private volatile int consecutiveFailureCount;
+    
+    private volatile long lastFailureTimeMillis;
+    
+    /**
+     * Start execution.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Finish execution successfully.
+     * 
+     * @param responseTimeNanos response time nanoseconds
+     */
+    public void finishSuccess(final long responseTimeNanos) {
+        inFlightCount.decrementAndGet();
+        double ewma = ewmaResponseTimeNanos;
+        ewmaResponseTimeNanos = 0 == ewma ? responseTimeNanos : ewma + EWMA_WEIGHT * (responseTimeNanos - ewma);
+        consecutiveFailureCount = 0;
+    }
+    
+    /**
+     * Finish execution with failure.
+     * 
+     * @param isUnavailable whether failure is caused by data source unavailable
+     */
+    public void finishFailure(final boolean isUnavailable) {
+        inFlightCount.decrementAndGet();
+        if (isUnavailable) {
+            consecutiveFailureCount++;
+            lastFailureTimeMillis = System.currentTimeMillis();
+        }
+    }
+    
+    /**
+     * Get in-flight count.
+     * 
+     * @return in-flight count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get EWMA of response time.
+     * 
+     * @return EWMA of response time nanoseconds, 0 if no execution finished
+     */
+    public double getEwmaResponseTimeNanos() {
+        return ewmaResponseTimeNanos;
+    }
+    
+    /**
+     * Get load, which is EWMA of response time weighted by in-flight count.
+     * 
+     * @return load
+     */
+    public double getLoad() {
+        return (ewmaResponseTimeNanos + 1) * (Math.max(inFlightCount.get(), 0) + 1);
+    }
+    
+    /**
+     * Judge whether data source is unavailable within duration.
+     * 
+     * @param durationMillis duration milliseconds
+     * @param currentTimeMillis current time milliseconds
+     * @return data source is unavailable within duration or not
+     */
+    public boolean isUnavailableWithin(final long durationMillis, final long currentTimeMillis) {
+        return consecutiveFailureCount > 0 && currentTimeMillis - lastFailureTimeMillis < durationMillis;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Data source statistics registry.
+ * 
+ * <p>
+ * Registry is owned by load-balance algorithm of a master-slave rule, so statistics of data sources with same name in different schemas are not mixed up.
+ * </p>
+ */
+public final class DataSourceStatisticsRegistry {
+    
+    private final ConcurrentMap<String, DataSourceStatistics> statistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get statistics of data source, statistics is created if absent.
+     *
+     * @param dataSourceName data source name
+     * @return statistics of data source
+     */
+    public DataSourceStatistics get(final String dataSourceName) {
+        DataSourceStatistics result = statistics.get(dataSourceName);
+        return null == result ? statistics.computeIfAbsent(dataSourceName, key -> new DataSourceStatistics()) : result;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import lombok.Getter;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.spi.masterslave.MasterSlaveLoadBalanceAlgorithm;
+import org.apache.shardingsphere.spi.masterslave.MasterSlaveReplicationLagProbe;
+import org.apache.shardingsphere.spi.type.TypedSPIRegistry;
+import org.apache.shardingsphere.underlying.common.config.exception.ShardingSphereConfigurationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * EWMA slave database load-balance algorithm.
+ * 
+ * <p>
+ * Two available slaves are picked randomly, and the one with lower EWMA of response time weighted by in-flight count is selected.
+ * Slave is unavailable if it failed within ejection duration, or its replication lag reported by replication lag probe exceeds max replication lag.
+ * Master is selected if all slaves are unavailable.
+ * </p>
+ */
+public final class EWMAMasterSlaveLoadBalanceAlgorithm implements MasterSlaveLoadBalanceAlgorithm {
+    
+    private static final long DEFAULT_EJECTION_DURATION_MILLISECONDS = 30000L;
+    
+    private static final long DEFAULT_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS = 1000L;
+    
+    static {
+        ShardingSphereServiceLoader.register(MasterSlaveReplicationLagProbe.class);
+    }
+    
+    @Getter
+    private final DataSourceStatisticsRegistry statisticsRegistry = new DataSourceStatisticsRegistry();
+    
+    private final ConcurrentMap<String, ReplicationLag> replicationLags = new ConcurrentHashMap<>();
+    
+    @Getter
+    private Properties properties = new Properties();
+    
+    private long ejectionDurationMilliseconds = DEFAULT_EJECTION_DURATION_MILLISECONDS;
+    
+    private long maxReplicationLagMilliseconds;
+    
+    private long replicationLagProbeIntervalMilliseconds = DEFAULT_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS;
+    
+    private MasterSlaveReplicationLagProbe replicationLagProbe;
+    
+    @Override
+    public String getType() {
+        return "EWMA";
+    }
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        ejectionDurationMilliseconds = getLongValue(properties, "ejection.duration.milliseconds", DEFAULT_EJECTION_DURATION_MILLISECONDS);
+        maxReplicationLagMilliseconds = getLongValue(properties, "max.replication.lag.milliseconds", 0L);
+        replicationLagProbeIntervalMilliseconds = getLongValue(properties, "replication.lag.probe.interval.milliseconds", DEFAULT_REPLICATION_LAG_PROBE_INTERVAL_MILLISECONDS);
+        String replicationLagProbeType = properties.getProperty("replication.lag.probe.type");
+        replicationLagProbe = null == replicationLagProbeType ? null : TypedSPIRegistry.getRegisteredService(MasterSlaveReplicationLagProbe.class, replicationLagProbeType, properties);
+        replicationLags.clear();
+    }
+    
+    private long getLongValue(final Properties properties, final String key, final long defaultValue) {
+        String value = properties.getProperty(key);
+        if (null == value) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (final NumberFormatException ex) {
+            throw new ShardingSphereConfigurationException("Value of `%s` must be a number, but is `%s`", key, value);
+        }
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        List<String> availableSlaveDataSourceNames = getAvailableSlaveDataSourceNames(slaveDataSourceNames, System.currentTimeMillis());
+        int availableCount = availableSlaveDataSourceNames.size();
+        if (0 == availableCount) {
+            return masterDataSourceName;
+        }
+        if (1 == availableCount) {
+            return availableSlaveDataSourceNames.get(0);
+        }
+        int first = ThreadLocalRandom.current().nextInt(availableCount);
+        int second = ThreadLocalRandom.current().nextInt(availableCount - 1);
+        if (second >= first) {
+            second++;
+        }
+        String firstDataSourceName = availableSlaveDataSourceNames.get(first);
+        String secondDataSourceName = availableSlaveDataSourceNames.get(second);
+        return statisticsRegistry.get(firstDataSourceName).getLoad() <= statisticsRegistry.get(secondDataSourceName).getLoad() ? firstDataSourceName : secondDataSourceName;
+    }
+    
+    private List<String> getAvailableSlaveDataSourceNames(final List<String> slaveDataSourceNames, final long currentTimeMillis) {
+        List<String> result = null;
+        for (int i = 0; i < slaveDataSourceNames.size(); i++) {
+            String each = slaveDataSourceNames.get(i);
+            boolean isAvailable = isAvailable(each, currentTimeMillis);
+            if (null == result && !isAvailable) {
+                result = new ArrayList<>(slaveDataSourceNames.subList(0, i));
+            } else if (null != result && isAvailable) {
+                result.add(each);
+            }
+        }
+        return null == result ? slaveDataSourceNames : result;
+    }
+    
+    private boolean isAvailable(final String slaveDataSourceName, final long currentTimeMillis) {
+        if (statisticsRegistry.get(slaveDataSourceName).isUnavailableWithin(ejectionDurationMilliseconds, currentTimeMillis)) {
+            return false;
+        }
+        if (null == replicationLagProbe || maxReplicationLagMilliseconds <= 0) {
+            return true;
+        }
+        ReplicationLag replicationLag = replicationLags.computeIfAbsent(slaveDataSourceName, key -> new ReplicationLag());
+        return replicationLag.get(slaveDataSourceName, currentTimeMillis) <= maxReplicationLagMilliseconds;
+    }
+    
+    /**
+     * Replication lag of slave, which is probed at most once per probe interval.
+     */
+    private final class ReplicationLag {
+        
+        private final AtomicLong nextProbeTimeMillis = new AtomicLong();
+        
+        private volatile long lagMilliseconds;
+        
+        private long get(final String slaveDataSourceName, final long currentTimeMillis) {
+            long nextProbeTime = nextProbeTimeMillis.get();
+            if (currentTimeMillis >= nextProbeTime && nextProbeTimeMillis.compareAndSet(nextProbeTime, currentTimeMillis + replicationLagProbeIntervalMilliseconds)) {
+                lagMilliseconds = replicationLagProbe.getReplicationLagMilliseconds(slaveDataSourceName);
+            }
+            return lagMilliseconds;
+        }
+    }
+}
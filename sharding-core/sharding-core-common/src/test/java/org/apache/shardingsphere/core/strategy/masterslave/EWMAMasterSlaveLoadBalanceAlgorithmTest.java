@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class EWMAMasterSlaveLoadBalanceAlgorithmTest {
+    
+    private final EWMAMasterSlaveLoadBalanceAlgorithm ewmaMasterSlaveLoadBalanceAlgorithm = new EWMAMasterSlaveLoadBalanceAlgorithm();
+    
+    @Test
+    public void assertGetDataSource() {
+        List<String> slaveDataSourceNames = Arrays.asList("ewma_ds_slave_0", "ewma_ds_slave_1", "ewma_ds_slave_2");
+        assertTrue(slaveDataSourceNames.contains(ewmaMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "ewma_ds_master", slaveDataSourceNames)));
+        assertTrue(slaveDataSourceNames.contains(ewmaMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "ewma_ds_master", slaveDataSourceNames)));
+        assertTrue(slaveDataSourceNames.contains(ewmaMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "ewma_ds_master", slaveDataSourceNames)));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLowerLoad() {
+        DataSourceStatistics statistics = ewmaMasterSlaveLoadBalanceAlgorithm.getStatisticsRegistry().get("ewma_load_ds_slave_0");
+        statistics.start();
+        statistics.finishSuccess(1000000000L);
+        List<String> slaveDataSourceNames = Arrays.asList("ewma_load_ds_slave_0", "ewma_load_ds_slave_1");
+        for (int i = 0; i < 10; i++) {
+            assertThat(ewmaMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "ewma_load_ds_master", slaveDataSourceNames), is("ewma_load_ds_slave_1"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithEjectedSlave() {
+        DataSourceStatistics statistics = ewmaMasterSlaveLoadBalanceAlgorithm.getStatisticsRegistry().get("ewma_eject_ds_slave_0");
+        statistics.start();
+        statistics.finishFailure(true);
+        List<String> slaveDataSourceNames = Arrays.asList("ewma_eject_ds_slave_0", "ewma_eject_ds_slave_1");
+        assertThat(ewmaMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "ewma_eject_ds_master", slaveDataSourceNames), is("ewma_eject_ds_slave_1"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithNonConnectionFailure() {
+        DataSourceStatistics statistics = ewmaMasterSlaveLoadBalanceAlgorithm.getStatisticsRegistry().get("ewma_failure_ds_slave_0");
+        statistics.start();
+        statistics.finishFailure(false);
+        List<String> slaveDataSourceNames = Arrays.asList("ewma_failure_ds_slave_0");
+        assertThat(ewmaMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "ewma_failure_ds_master", slaveDataSourceNames), is("ewma_failure_ds_slave_0"));
+    }
+    
+    @Test
+    public void assertGetMasterDataSourceWhenAllSlavesEjected() {
+        for (String each : Arrays.asList("ewma_all_ds_slave_0", "ewma_all_ds_slave_1")) {
+            DataSourceStatistics statistics = ewmaMasterSlaveLoadBalanceAlgorithm.getStatisticsRegistry().get(each);
+            statistics.start();
+            statistics.finishFailure(true);
+        }
+        List<String> slaveDataSourceNames = Arrays.asList("ewma_all_ds_slave_0", "ewma_all_ds_slave_1");
+        assertThat(ewmaMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "ewma_all_ds_master", slaveDataSourceNames), is("ewma_all_ds_master"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithStatisticsOfOtherAlgorithm() {
+        DataSourceStatistics statistics = new EWMAMasterSlaveLoadBalanceAlgorithm().getStatisticsRegistry().get("ewma_other_ds_slave_0");
+        statistics.start();
+        statistics.finishFailure(true);
+        List<String> slaveDataSourceNames = Collections.singletonList("ewma_other_ds_slave_0");
+        assertThat(ewmaMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "ewma_other_ds_master", slaveDataSourceNames), is("ewma_other_ds_slave_0"));
+    }
+    
+    @Test
+    public void assertGetDataSourceAfterEjectionDuration() {
+        Properties props = new Properties();
+        props.setProperty("ejection.duration.milliseconds", "0");
+        ewmaMasterSlaveLoadBalanceAlgorithm.setProperties(props);
+        DataSourceStatistics statistics = ewmaMasterSlaveLoadBalanceAlgorithm.getStatisticsRegistry().get("ewma_recover_ds_slave_0");
+        statistics.start();
+        statistics.finishFailure(true);
+        List<String> slaveDataSourceNames = Arrays.asList("ewma_recover_ds_slave_0");
+        assertThat(ewmaMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "ewma_recover_ds_master", slaveDataSourceNames), is("ewma_recover_ds_slave_0"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithReplicationLag() {
+        Properties props = new Properties();
+        props.setProperty("replication.lag.probe.type", "FIXTURE");
+        props.setProperty("max.replication.lag.milliseconds", "1000");
+        ewmaMasterSlaveLoadBalanceAlgorithm.setProperties(props);
+        List<String> slaveDataSourceNames = Arrays.asList("ewma_lag_ds_slave_0_lagged", "ewma_lag_ds_slave_1");
+        assertThat(ewmaMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "ewma_lag_ds_master", slaveDataSourceNames), is("ewma_lag_ds_slave_1"));
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.sharding.merge.dql;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
@@ -47,11 +46,21 @@ import java.util.TreeMap;
 /**
  * DQL result merger for Sharding.
  */
-@RequiredArgsConstructor
 public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType databaseType;
     
+    private final boolean isApproximateDistinctCount;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, false);
+    }
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType, final boolean isApproximateDistinctCount) {
+        this.databaseType = databaseType;
+        this.isApproximateDistinctCount = isApproximateDistinctCount;
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext, final SchemaMetaData schemaMetaData) throws SQLException {
         if (1 == queryResults.size()) {
@@ -106,8 +115,8 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final SchemaMetaData schemaMetaData) throws SQLException {
         return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schemaMetaData)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schemaMetaData);
+                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schemaMetaData, isApproximateDistinctCount)
+                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schemaMetaData, isApproximateDistinctCount);
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
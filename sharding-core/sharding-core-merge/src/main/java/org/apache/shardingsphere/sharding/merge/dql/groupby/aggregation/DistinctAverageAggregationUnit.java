@@ -20,8 +20,6 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
-import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -34,16 +32,14 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
     
     private BigDecimal sum;
     
-    private Collection<Comparable<?>> countValues = new LinkedHashSet<>();
-    
-    private Collection<Comparable<?>> sumValues = new LinkedHashSet<>();
+    private final DistinctValues values = new DistinctValues();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (this.countValues.add(values.get(0)) && this.sumValues.add(values.get(0))) {
+        if (this.values.add(values.get(0))) {
             if (null == count) {
                 count = new BigDecimal("0");
             }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HyperLogLog sketch to estimate count of distinct values.
+ * 
+ * <p>
+ * The standard error is {@code 1.04 / sqrt(2 ^ precision)}.
+ * </p>
+ */
+final class HyperLogLog {
+    
+    private static final int DEFAULT_PRECISION = 12;
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private final int precision;
+    
+    private final byte[] registers;
+    
+    HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+    
+    HyperLogLog(final int precision) {
+        Preconditions.checkArgument(precision >= 4 && precision <= 16, "Precision of HyperLogLog must between 4 and 16.");
+        this.precision = precision;
+        registers = new byte[1 << precision];
+    }
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        long hash = DistinctValues.isIntegral(value)
+                ? HASH_FUNCTION.hashLong(((Number) value).longValue()).asLong() : HASH_FUNCTION.hashString(value.toString(), StandardCharsets.UTF_8).asLong();
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    /**
+     * Estimate count of distinct values.
+     * 
+     * @return estimated cardinality
+     */
+    long cardinality() {
+        int registerCount = registers.length;
+        double sum = 0;
+        int zeroRegisterCount = 0;
+        for (byte each : registers) {
+            sum += 1.0 / (1L << each);
+            if (0 == each) {
+                zeroRegisterCount++;
+            }
+        }
+        double estimate = getAlpha(registerCount) * registerCount * registerCount / sum;
+        if (estimate <= 2.5 * registerCount && zeroRegisterCount > 0) {
+            estimate = registerCount * Math.log((double) registerCount / zeroRegisterCount);
+        }
+        return Math.round(estimate);
+    }
+    
+    private double getAlpha(final int registerCount) {
+        switch (registerCount) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / registerCount);
+        }
+    }
+}
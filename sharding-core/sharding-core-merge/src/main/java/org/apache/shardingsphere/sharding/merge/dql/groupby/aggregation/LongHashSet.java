@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+/**
+ * Hash set of primitive long values with open addressing.
+ */
+final class LongHashSet {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private long[] table = new long[INITIAL_CAPACITY];
+    
+    private boolean containsZero;
+    
+    private int size;
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     * @return true if value is absent in set
+     */
+    boolean add(final long value) {
+        if (0L == value) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        while (0L != table[index]) {
+            if (value == table[index]) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        size++;
+        if (size > table.length >> 1) {
+            resize();
+        }
+        return true;
+    }
+    
+    private void resize() {
+        long[] oldTable = table;
+        table = new long[oldTable.length << 1];
+        int mask = table.length - 1;
+        for (long each : oldTable) {
+            if (0L != each) {
+                int index = hash(each) & mask;
+                while (0L != table[index]) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = each;
+            }
+        }
+    }
+    
+    private int hash(final long value) {
+        long result = value * 0x9E3779B97F4A7C15L;
+        return (int) (result ^ result >>> 32);
+    }
+    
+    /**
+     * Get size.
+     * 
+     * @return size
+     */
+    int size() {
+        return size;
+    }
+}
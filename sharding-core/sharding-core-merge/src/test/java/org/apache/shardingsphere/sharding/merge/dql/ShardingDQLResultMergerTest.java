@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.sharding.merge.dql;
 
 import com.google.common.collect.ImmutableMap;
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.sharding.merge.ShardingResultMergerEngine;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
@@ -35,6 +37,7 @@ import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderB
 import org.apache.shardingsphere.sql.parser.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.sql.parser.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.sql.parser.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.TableFactorSegment;
@@ -46,6 +49,8 @@ import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.rownum.Nu
 import org.apache.shardingsphere.sql.parser.sql.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
 import org.apache.shardingsphere.underlying.executor.sql.jdbc.queryresult.QueryResult;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
@@ -56,9 +61,16 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -316,6 +328,68 @@ public final class ShardingDQLResultMergerTest {
         assertThat(((TopAndRowNumberDecoratorMergedResult) actual).getMergedResult(), instanceOf(GroupByMemoryMergedResult.class));
     }
     
+    @Test
+    public void assertMergeApproximateDistinctCountWithGroupByStreamMergedResult() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.APPROXIMATE_DISTINCT_COUNT_ENABLED.getKey(), Boolean.TRUE.toString());
+        SelectStatementContext selectStatementContext = createDistinctCountSelectStatementContext(
+                new OrderByContext(Collections.singletonList(new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))), false));
+        MergedResult actual = new ShardingResultMergerEngine().newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), null, new ConfigurationProperties(props), selectStatementContext)
+                .merge(createDistinctCountQueryResults(), selectStatementContext, createSchemaMetaData());
+        assertThat(actual, instanceOf(GroupByStreamMergedResult.class));
+        assertApproximateDistinctCount(actual);
+    }
+    
+    @Test
+    public void assertMergeApproximateDistinctCountWithGroupByMemoryMergedResult() throws SQLException {
+        SelectStatementContext selectStatementContext = createDistinctCountSelectStatementContext(new OrderByContext(Collections.emptyList(), false));
+        MergedResult actual;
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setApproximateDistinctCount();
+            actual = new ShardingResultMergerEngine().newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), null, new ConfigurationProperties(new Properties()), selectStatementContext)
+                    .merge(createDistinctCountQueryResults(), selectStatementContext, createSchemaMetaData());
+        }
+        assertThat(actual, instanceOf(GroupByMemoryMergedResult.class));
+        assertApproximateDistinctCount(actual);
+    }
+    
+    private SelectStatementContext createDistinctCountSelectStatementContext(final OrderByContext orderByContext) {
+        ProjectionsContext projectionsContext = new ProjectionsContext(
+                0, 0, false, Collections.singletonList(new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "(DISTINCT order_id)", "order_count", "order_id")));
+        return new SelectStatementContext(createSelectStatement(),
+                new GroupByContext(Collections.singletonList(new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                orderByContext, projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private List<QueryResult> createDistinctCountQueryResults() throws SQLException {
+        QueryResult queryResult1 = createDistinctCountQueryResult(new Object[]{1, 10}, new Object[]{1, 11}, new Object[]{2, 20});
+        QueryResult queryResult2 = createDistinctCountQueryResult(new Object[]{1, 11}, new Object[]{1, 12}, new Object[]{2, 21});
+        return Arrays.asList(queryResult1, queryResult2);
+    }
+    
+    private QueryResult createDistinctCountQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(2);
+        when(result.getColumnLabel(1)).thenReturn("user_id");
+        when(result.getColumnLabel(2)).thenReturn("order_count");
+        when(result.getColumnName(1)).thenReturn("user_id");
+        when(result.getColumnName(2)).thenReturn("order_id");
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[rowIndex.get()][(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+    
+    private void assertApproximateDistinctCount(final MergedResult actual) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 1));
+        assertThat(actual.getValue(2, Object.class), is((Object) 3L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) 2));
+        assertThat(actual.getValue(2, Object.class), is((Object) 2L));
+        assertFalse(actual.next());
+    }
+    
     private List<QueryResult> createQueryResults() throws SQLException {
         List<QueryResult> result = new LinkedList<>();
         QueryResult queryResult = createQueryResult();
@@ -50,6 +50,14 @@ public final class AggregationUnitFactoryTest {
     @Test
     public void assertCreateDistinctCountAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true), instanceOf(DistinctCountAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, false), instanceOf(DistinctCountAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateApproximateDistinctCountAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, true), instanceOf(ApproximateDistinctCountAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, true), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, true), instanceOf(DistinctSumAggregationUnit.class));
     }
     
     @Test
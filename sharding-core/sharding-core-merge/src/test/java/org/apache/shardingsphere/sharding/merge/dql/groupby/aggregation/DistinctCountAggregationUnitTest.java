@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class DistinctCountAggregationUnitTest {
+    
+    @Test
+    public void assertDistinctCountWithIntegralValues() {
+        DistinctCountAggregationUnit distinctCountAggregationUnit = new DistinctCountAggregationUnit();
+        for (long i = -1000; i < 1000; i++) {
+            distinctCountAggregationUnit.merge(Collections.singletonList(i));
+            distinctCountAggregationUnit.merge(Collections.singletonList(i));
+        }
+        distinctCountAggregationUnit.merge(null);
+        distinctCountAggregationUnit.merge(Collections.singletonList(null));
+        assertThat(distinctCountAggregationUnit.getResult(), is((Comparable) 2000));
+    }
+    
+    @Test
+    public void assertDistinctCountWithOtherValues() {
+        DistinctCountAggregationUnit distinctCountAggregationUnit = new DistinctCountAggregationUnit();
+        for (String each : Arrays.asList("a", "b", "a", "0")) {
+            distinctCountAggregationUnit.merge(Collections.singletonList(each));
+        }
+        distinctCountAggregationUnit.merge(Collections.singletonList(0));
+        assertThat(distinctCountAggregationUnit.getResult(), is((Comparable) 4));
+    }
+}
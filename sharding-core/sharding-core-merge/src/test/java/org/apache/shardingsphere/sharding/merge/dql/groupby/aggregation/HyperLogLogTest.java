@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogTest {
+    
+    @Test
+    public void assertCardinalityWithSmallRange() {
+        HyperLogLog hyperLogLog = new HyperLogLog();
+        for (int i = 0; i < 10; i++) {
+            hyperLogLog.add(i);
+            hyperLogLog.add("value_" + i);
+        }
+        assertThat(hyperLogLog.cardinality(), is(20L));
+    }
+    
+    @Test
+    public void assertCardinalityWithLargeRange() {
+        HyperLogLog hyperLogLog = new HyperLogLog();
+        for (long i = 0; i < 100000; i++) {
+            hyperLogLog.add(i);
+            hyperLogLog.add(i);
+        }
+        assertTrue(Math.abs(hyperLogLog.cardinality() - 100000) < 100000 * 0.05);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithInvalidPrecision() {
+        new HyperLogLog(17);
+    }
+}
@@ -41,7 +41,7 @@ public final class ShardingSQLRewriteContextDecorator implements SQLRewriteConte
                 each.rewrite(sqlRewriteContext.getParameterBuilder(), sqlRewriteContext.getSqlStatementContext(), sqlRewriteContext.getParameters());
             }
         }
-        sqlRewriteContext.addSQLTokenGenerators(new ShardingTokenGenerateBuilder(shardingRule, routeContext).getSQLTokenGenerators());
+        sqlRewriteContext.addSQLTokenGeneratorBuilder(new ShardingTokenGenerateBuilder(shardingRule, routeContext));
     }
     
     @Override
@@ -18,15 +18,18 @@
 package org.apache.shardingsphere.sharding.rewrite.token.pojo;
 
 import org.apache.shardingsphere.underlying.common.rule.DataNode;
-import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SplittableInsertValues;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.generic.InsertValue;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.generic.InsertValuesToken;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Insert values token for sharding.
  */
-public final class ShardingInsertValuesToken extends InsertValuesToken implements RouteUnitAware {
+public final class ShardingInsertValuesToken extends InsertValuesToken implements SplittableInsertValues {
     
     public ShardingInsertValuesToken(final int startIndex, final int stopIndex) {
         super(startIndex, stopIndex);
@@ -40,6 +43,15 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
         return result.toString();
     }
     
+    @Override
+    public List<String> getInsertValueTexts() {
+        List<String> result = new ArrayList<>(getInsertValues().size());
+        for (InsertValue each : getInsertValues()) {
+            result.add(each.toString());
+        }
+        return result;
+    }
+    
     private void appendInsertValue(final RouteUnit routeUnit, final StringBuilder stringBuilder) {
         for (InsertValue each : getInsertValues()) {
             if (isAppend(routeUnit, (ShardingInsertValue) each)) {
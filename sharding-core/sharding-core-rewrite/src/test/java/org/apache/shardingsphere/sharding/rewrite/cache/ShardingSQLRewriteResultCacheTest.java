@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.cache;
+
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.yaml.config.sharding.YamlRootShardingConfiguration;
+import org.apache.shardingsphere.core.yaml.constructor.YamlRootShardingConfigurationConstructor;
+import org.apache.shardingsphere.core.yaml.swapper.ShardingRuleConfigurationYamlSwapper;
+import org.apache.shardingsphere.sharding.route.engine.ShardingRouteDecorator;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
+import org.apache.shardingsphere.underlying.common.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.underlying.rewrite.cache.SQLRewriteResultCache;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.underlying.route.DataNodeRouter;
+import org.apache.shardingsphere.underlying.route.context.RouteContext;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShardingSQLRewriteResultCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_account WHERE account_id IN (?, ?) ORDER BY amount LIMIT 5, 10";
+    
+    private ShardingRule shardingRule;
+    
+    private ConfigurationProperties properties;
+    
+    private ShardingSphereMetaData metaData;
+    
+    @Before
+    public void setUp() throws IOException {
+        YamlRootShardingConfiguration ruleConfiguration = YamlEngine.unmarshal(
+                new File(getClass().getClassLoader().getResource("yaml/sharding/sharding-rule.yaml").getFile()), YamlRootShardingConfiguration.class, new YamlRootShardingConfigurationConstructor());
+        shardingRule = new ShardingRule(new ShardingRuleConfigurationYamlSwapper().swap(ruleConfiguration.getShardingRule()), ruleConfiguration.getDataSources().keySet());
+        properties = new ConfigurationProperties(ruleConfiguration.getProps());
+        SchemaMetaData schemaMetaData = mock(SchemaMetaData.class);
+        when(schemaMetaData.getAllTableNames()).thenReturn(Arrays.asList("t_account", "t_account_detail"));
+        when(schemaMetaData.containsTable("t_account")).thenReturn(true);
+        when(schemaMetaData.get("t_account")).thenReturn(mock(TableMetaData.class));
+        RuleSchemaMetaData ruleSchemaMetaData = mock(RuleSchemaMetaData.class);
+        when(ruleSchemaMetaData.getConfiguredSchemaMetaData()).thenReturn(schemaMetaData);
+        metaData = new ShardingSphereMetaData(mock(DataSourceMetas.class), ruleSchemaMetaData);
+    }
+    
+    @Test
+    public void assertRewriteWithSingleRoutingAfterMultipleRouting() {
+        SQLRewriteResultCache cache = new SQLRewriteResultCache();
+        assertThat(rewrite(false, cache), is(Arrays.asList(
+                "SELECT * FROM t_account_0 WHERE account_id IN (?, ?) ORDER BY amount LIMIT 0, 15", "SELECT * FROM t_account_1 WHERE account_id IN (?, ?) ORDER BY amount LIMIT 0, 15")));
+        assertThat(rewrite(true, cache), is(Collections.singletonList("SELECT * FROM t_account_0 WHERE account_id IN (?, ?) ORDER BY amount LIMIT 5, 10")));
+    }
+    
+    @Test
+    public void assertRewriteWithMultipleRoutingAfterSingleRouting() {
+        SQLRewriteResultCache cache = new SQLRewriteResultCache();
+        assertThat(rewrite(true, cache), is(Collections.singletonList("SELECT * FROM t_account_0 WHERE account_id IN (?, ?) ORDER BY amount LIMIT 5, 10")));
+        assertThat(rewrite(false, cache), is(Arrays.asList(
+                "SELECT * FROM t_account_0 WHERE account_id IN (?, ?) ORDER BY amount LIMIT 0, 15", "SELECT * FROM t_account_1 WHERE account_id IN (?, ?) ORDER BY amount LIMIT 0, 15")));
+    }
+    
+    private List<String> rewrite(final boolean singleRouting, final SQLRewriteResultCache cache) {
+        List<Object> parameters = Arrays.asList(100, 101);
+        SQLParserEngine sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine("MySQL");
+        RouteContext routeContext = new DataNodeRouter(metaData, properties, shardingRule.toRules()).route(sqlParserEngine.parse(SQL, false), SQL, parameters);
+        routeContext = new ShardingRouteDecorator().decorate(routeContext, metaData, shardingRule, properties);
+        if (singleRouting) {
+            routeContext.getRouteResult().getRouteUnits().removeIf(each -> "t_account_1".equals(each.getTableMappers().iterator().next().getActualName()));
+        }
+        RouteSQLRewriteResult sqlRewriteResult = (RouteSQLRewriteResult) new SQLRewriteEntry(
+                metaData.getSchema().getConfiguredSchemaMetaData(), properties, shardingRule.toRules()).rewrite(SQL, parameters, routeContext, cache);
+        return sqlRewriteResult.getSqlRewriteUnits().values().stream().flatMap(Collection::stream).map(SQLRewriteUnit::getSql).sorted().collect(Collectors.toList());
+    }
+}
@@ -55,6 +55,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -89,7 +90,7 @@ public final class MixSQLRewriterParameterizedTest extends AbstractSQLRewriterPa
         shardingSQLRewriteContextDecorator.decorate(shardingRule, properties, sqlRewriteContext, routeContext);
         new EncryptSQLRewriteContextDecorator().decorate(shardingRule.getEncryptRule(), properties, sqlRewriteContext, routeContext);
         sqlRewriteContext.generateSQLTokens();
-        return new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext.getRouteResult()).getSqlRewriteUnits().values();
+        return new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext.getRouteResult()).getSqlRewriteUnits().values().stream().flatMap(Collection::stream).collect(Collectors.toList());
     }
     
     private YamlRootShardingConfiguration createRuleConfiguration() throws IOException {
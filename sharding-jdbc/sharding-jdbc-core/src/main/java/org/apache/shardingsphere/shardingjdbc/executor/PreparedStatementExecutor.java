@@ -153,6 +153,7 @@ public final class PreparedStatementExecutor {
             RuleSchemaMetaDataLoader metaDataLoader = new RuleSchemaMetaDataLoader(runtimeContext.getRule().toRules());
             refreshStrategy.get().refreshMetaData(runtimeContext.getMetaData(), sqlStatementContext,
                 tableName -> metaDataLoader.load(runtimeContext.getDatabaseType(), dataSourceMap, tableName, runtimeContext.getProperties()));
+            runtimeContext.getSqlRewriteResultCache().clear();
         }
     }
 }
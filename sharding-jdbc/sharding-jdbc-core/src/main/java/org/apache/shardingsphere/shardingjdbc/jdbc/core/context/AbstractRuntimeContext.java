@@ -19,7 +19,6 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
 import com.google.common.collect.ImmutableMap;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.log.ConfigurationLogger;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
@@ -35,6 +34,7 @@ import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMet
 import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaDataLoader;
 import org.apache.shardingsphere.underlying.common.rule.BaseRule;
 import org.apache.shardingsphere.underlying.executor.kernel.ExecutorKernel;
+import org.apache.shardingsphere.underlying.rewrite.cache.SQLRewriteResultCache;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -65,7 +65,8 @@ public abstract class AbstractRuntimeContext<T extends BaseRule> implements Runt
     
     private final SQLParserEngine sqlParserEngine;
     
-    @Setter
+    private final SQLRewriteResultCache sqlRewriteResultCache = new SQLRewriteResultCache();
+    
     private ShardingSphereMetaData metaData;
     
     public AbstractRuntimeContext(final Map<String, DataSource> dataSourceMap, final T rule, final Properties props, final DatabaseType databaseType) throws SQLException {
@@ -85,6 +86,16 @@ public abstract class AbstractRuntimeContext<T extends BaseRule> implements Runt
     
     protected abstract Collection<BaseRule> getRules();
     
+    /**
+     * Set meta data.
+     * 
+     * @param metaData meta data
+     */
+    public void setMetaData(final ShardingSphereMetaData metaData) {
+        this.metaData = metaData;
+        sqlRewriteResultCache.clear();
+    }
+    
     private ShardingSphereMetaData createMetaData(final Map<String, DataSource> dataSourceMap, final DatabaseType databaseType) throws SQLException {
         long start = System.currentTimeMillis();
         DataSourceMetas dataSourceMetas = new DataSourceMetas(databaseType, getDatabaseAccessConfigurationMap(dataSourceMap));
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.context.impl;
 
 import lombok.Getter;
 import org.apache.shardingsphere.core.rule.ShadowRule;
+import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowJudgementCache;
+import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowJudgementMetrics;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.AbstractRuntimeContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.EncryptDataSource;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.MasterSlaveDataSource;
@@ -44,6 +46,10 @@ public final class ShadowRuntimeContext extends AbstractRuntimeContext<ShadowRul
     
     private final ShadowType shadowType;
     
+    private final ShadowJudgementCache shadowJudgementCache = new ShadowJudgementCache();
+    
+    private final ShadowJudgementMetrics shadowJudgementMetrics = new ShadowJudgementMetrics();
+    
     public ShadowRuntimeContext(final DataSource actualDataSource, final DataSource shadowDataSource, 
                                 final ShadowRule shadowRule, final Properties props, final DatabaseType databaseType) throws SQLException {
         super(actualDataSource, shadowRule, props, databaseType);
@@ -177,8 +177,8 @@ public final class EncryptPreparedStatement extends AbstractShardingPreparedStat
         Collection<BaseRule> rules = Collections.singletonList(runtimeContext.getRule());
         RouteContext routeContext = new DataNodeRouter(runtimeContext.getMetaData(), runtimeContext.getProperties(), rules).route(sqlStatement, sql, getParameters());
         sqlStatementContext = routeContext.getSqlStatementContext();
-        SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(
-                runtimeContext.getMetaData().getSchema().getConfiguredSchemaMetaData(), runtimeContext.getProperties(), rules).rewrite(sql, new ArrayList<>(getParameters()), routeContext);
+        SQLRewriteResult sqlRewriteResult = new SQLRewriteEntry(runtimeContext.getMetaData().getSchema().getConfiguredSchemaMetaData(), runtimeContext.getProperties(), rules)
+                .rewrite(sql, new ArrayList<>(getParameters()), routeContext, runtimeContext.getSqlRewriteResultCache());
         ExecutionContext executionContext = new ExecutionContext(sqlStatementContext, ExecutionContextBuilder.build(runtimeContext.getMetaData(), sqlRewriteResult));
         Preconditions.checkArgument(1 == executionContext.getExecutionUnits().size());
         if (runtimeContext.getProperties().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)) {
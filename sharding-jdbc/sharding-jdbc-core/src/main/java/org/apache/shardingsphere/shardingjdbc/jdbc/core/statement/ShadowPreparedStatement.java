@@ -197,7 +197,9 @@ public final class ShadowPreparedStatement extends AbstractShardingPreparedState
     private SQLUnit getSQLUnit(final String sql) {
         SchemaMetaData schemaMetaData = connection.getRuntimeContext().getMetaData().getSchema().getConfiguredSchemaMetaData();
         SQLStatementContext sqlStatementContext = SQLStatementContextFactory.newInstance(schemaMetaData, sql, getParameters(), sqlStatement);
-        ShadowJudgementEngine shadowJudgementEngine = new PreparedJudgementEngine(connection.getRuntimeContext().getRule(), sqlStatementContext, getParameters());
+        ShadowJudgementEngine shadowJudgementEngine = new PreparedJudgementEngine(
+                connection.getRuntimeContext().getRule(), sqlStatementContext, getParameters(), 
+                connection.getRuntimeContext().getShadowJudgementCache(), connection.getRuntimeContext().getShadowJudgementMetrics());
         isShadowSQL = shadowJudgementEngine.isShadowSQL();
         SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(schemaMetaData, connection.getRuntimeContext().getProperties(), Collections.singletonList(connection.getRuntimeContext().getRule()));
         SQLRewriteUnit sqlRewriteResult = ((GenericSQLRewriteResult) sqlRewriteEntry.rewrite(
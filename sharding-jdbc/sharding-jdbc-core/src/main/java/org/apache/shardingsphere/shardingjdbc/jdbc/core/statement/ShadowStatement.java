@@ -211,7 +211,9 @@ public final class ShadowStatement extends AbstractStatementAdapter {
         sqlStatementContext = SQLStatementContextFactory.newInstance(
                 connection.getRuntimeContext().getMetaData().getSchema().getConfiguredSchemaMetaData(), sql, Collections.emptyList(), sqlStatement);
         if (sqlStatement instanceof DMLStatement) {
-            ShadowJudgementEngine shadowJudgementEngine = new SimpleJudgementEngine(connection.getRuntimeContext().getRule(), sqlStatementContext);
+            ShadowJudgementEngine shadowJudgementEngine = new SimpleJudgementEngine(
+                    connection.getRuntimeContext().getRule(), sqlStatementContext, 
+                    connection.getRuntimeContext().getShadowJudgementCache(), connection.getRuntimeContext().getShadowJudgementMetrics());
             isShadowSQL = shadowJudgementEngine.isShadowSQL();
             result.add(shadowStatementGenerator.createStatement(isShadowSQL));
         } else {
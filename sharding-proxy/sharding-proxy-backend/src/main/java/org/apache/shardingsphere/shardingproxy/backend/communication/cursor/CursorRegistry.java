@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.cursor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Connection scope cursor registry.
+ * 
+ * <p>
+ * JDBC resources held by cursor are closed when cursor is unregistered, replaced or evicted.
+ * Cursor opened in transaction uses shared connections of backend connection, and it is unregistered when those connections are released.
+ * </p>
+ */
+@Slf4j
+public final class CursorRegistry {
+    
+    private final Map<String, RegisteredCursor> cursors = new HashMap<>();
+    
+    /**
+     * Register cursor without resources, cursor with same name will be replaced.
+     *
+     * @param name cursor name
+     * @param cursor cursor
+     */
+    public void register(final String name, final Cursor cursor) {
+        register(name, cursor, Collections.emptyList(), false);
+    }
+    
+    /**
+     * Register cursor, cursor with same name will be replaced.
+     *
+     * @param name cursor name
+     * @param cursor cursor
+     * @param resources JDBC resources held by cursor
+     * @param transactional cursor is opened in transaction or not
+     */
+    public synchronized void register(final String name, final Cursor cursor, final Collection<AutoCloseable> resources, final boolean transactional) {
+        RegisteredCursor replaced = cursors.put(name, new RegisteredCursor(cursor, resources, transactional));
+        if (null != replaced) {
+            replaced.close();
+        }
+    }
+    
+    /**
+     * Get cursor and refresh its last access time.
+     *
+     * @param name cursor name
+     * @param <T> type of cursor
+     * @return cursor
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T extends Cursor> Optional<T> get(final String name) {
+        RegisteredCursor result = cursors.get(name);
+        if (null == result) {
+            return Optional.empty();
+        }
+        result.lastAccessTime = System.currentTimeMillis();
+        return Optional.of((T) result.getCursor());
+    }
+    
+    /**
+     * Unregister cursor.
+     *
+     * @param name cursor name
+     */
+    public synchronized void unregister(final String name) {
+        RegisteredCursor removed = cursors.remove(name);
+        if (null != removed) {
+            removed.close();
+        }
+    }
+    
+    /**
+     * Unregister all cursors.
+     */
+    public synchronized void unregisterAll() {
+        for (RegisteredCursor each : cursors.values()) {
+            each.close();
+        }
+        cursors.clear();
+    }
+    
+    /**
+     * Unregister cursors which are opened in transaction.
+     *
+     * @return count of unregistered cursors
+     */
+    public synchronized int unregisterTransactionalCursors() {
+        int result = 0;
+        Iterator<RegisteredCursor> iterator = cursors.values().iterator();
+        while (iterator.hasNext()) {
+            RegisteredCursor each = iterator.next();
+            if (each.isTransactional()) {
+                each.close();
+                iterator.remove();
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Unregister cursors which are not accessed within idle timeout.
+     *
+     * @param idleTimeoutMilliseconds idle timeout milliseconds
+     * @return count of unregistered cursors
+     */
+    public synchronized int unregisterIdleCursors(final long idleTimeoutMilliseconds) {
+        long expiredTime = System.currentTimeMillis() - idleTimeoutMilliseconds;
+        int result = 0;
+        Iterator<Entry<String, RegisteredCursor>> iterator = cursors.entrySet().iterator();
+        while (iterator.hasNext()) {
+            RegisteredCursor each = iterator.next().getValue();
+            if (each.lastAccessTime <= expiredTime) {
+                each.close();
+                iterator.remove();
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether registry is empty or not.
+     *
+     * @return registry is empty or not
+     */
+    public synchronized boolean isEmpty() {
+        return cursors.isEmpty();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RegisteredCursor {
+        
+        private final Cursor cursor;
+        
+        private final Collection<AutoCloseable> resources;
+        
+        private final boolean transactional;
+        
+        private long lastAccessTime = System.currentTimeMillis();
+        
+        private void close() {
+            for (AutoCloseable each : resources) {
+                try {
+                    each.close();
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.warn("Close resource of cursor failed: ", ex);
+                }
+            }
+        }
+    }
+}
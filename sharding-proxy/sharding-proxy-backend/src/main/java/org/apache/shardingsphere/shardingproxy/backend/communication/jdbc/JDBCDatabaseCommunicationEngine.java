@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.merge.dql.ParallelDecryptMergedResult;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
@@ -25,6 +26,7 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connec
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStatus;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
 import org.apache.shardingsphere.shardingproxy.backend.exception.TableModifyInTransactionException;
+import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
@@ -50,7 +52,9 @@ import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -69,6 +73,8 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private MergedResult mergedResult;
     
+    private Encryptor[] encryptors;
+    
     @Override
     public BackendResponse execute() {
         try {
@@ -119,6 +125,12 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             return response;
         }
         mergedResult = mergeQuery(sqlStatementContext, ((QueryResponse) response).getQueryResults());
+        encryptors = findEncryptors(((QueryResponse) response).getQueryHeaders());
+        int decryptBatchSize = ShardingProxyContext.getInstance().getProperties().<Integer>getValue(ConfigurationPropertyKey.DECRYPT_BATCH_SIZE);
+        if (decryptBatchSize > 0 && Arrays.stream(encryptors).anyMatch(Objects::nonNull)) {
+            mergedResult = new ParallelDecryptMergedResult(mergedResult, encryptors, decryptBatchSize, BackendExecutorContext.getInstance().getDecryptPool());
+            encryptors = new Encryptor[encryptors.length];
+        }
         return response;
     }
     
@@ -132,6 +144,18 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         return logicSchema instanceof ShardingSchema && logicSchema.getShardingRule().isAllBroadcastTables(sqlStatementContext.getTablesContext().getTableNames());
     }
     
+    private Encryptor[] findEncryptors(final List<QueryHeader> queryHeaders) {
+        Encryptor[] result = new Encryptor[queryHeaders.size()];
+        Optional<EncryptRule> encryptRule = findEncryptRule();
+        if (!encryptRule.isPresent() || !ShardingProxyContext.getInstance().getProperties().<Boolean>getValue(ConfigurationPropertyKey.QUERY_WITH_CIPHER_COLUMN)) {
+            return result;
+        }
+        for (int i = 0; i < result.length; i++) {
+            result[i] = encryptRule.get().findEncryptor(queryHeaders.get(i).getTable(), queryHeaders.get(i).getColumnName()).orElse(null);
+        }
+        return result;
+    }
+    
     private MergedResult mergeQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         MergeEngine mergeEngine = new MergeEngine(LogicSchemas.getInstance().getDatabaseType(), 
                 logicSchema.getMetaData().getSchema().getConfiguredSchemaMetaData(), ShardingProxyContext.getInstance().getProperties(), logicSchema.getShardingRule().toRules());
@@ -145,20 +169,12 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     @Override
     public QueryData getQueryData() throws SQLException {
-        Optional<EncryptRule> encryptRule = findEncryptRule();
-        boolean isQueryWithCipherColumn = ShardingProxyContext.getInstance().getProperties().getValue(ConfigurationPropertyKey.QUERY_WITH_CIPHER_COLUMN);
         List<QueryHeader> queryHeaders = ((QueryResponse) response).getQueryHeaders();
         List<Object> row = new ArrayList<>(queryHeaders.size());
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
             Object value = mergedResult.getValue(columnIndex, Object.class);
-            if (isQueryWithCipherColumn && encryptRule.isPresent()) {
-                QueryHeader queryHeader = ((QueryResponse) response).getQueryHeaders().get(columnIndex - 1);
-                Optional<Encryptor> encryptor = encryptRule.get().findEncryptor(queryHeader.getTable(), queryHeader.getColumnName());
-                if (encryptor.isPresent()) {
-                    value = encryptor.get().decrypt(getCiphertext(value));
-                }
-            }
-            row.add(value);
+            Encryptor encryptor = encryptors[columnIndex - 1];
+            row.add(null == encryptor ? value : encryptor.decrypt(getCiphertext(value)));
         }
         return new QueryData(getColumnTypes(queryHeaders), row);
     }
@@ -25,6 +25,8 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.masterslave.route.engine.impl.MasterVisitedManager;
+import org.apache.shardingsphere.shardingproxy.backend.communication.cursor.Cursor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.cursor.CursorRegistry;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -73,6 +75,9 @@ public final class BackendConnection implements ExecutionConnection, AutoCloseab
     @Setter
     private String userName;
     
+    @Setter
+    private boolean multiStatementsEnabled;
+    
     private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
     
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
@@ -86,6 +91,8 @@ public final class BackendConnection implements ExecutionConnection, AutoCloseab
     
     private final ConnectionStateHandler stateHandler = new ConnectionStateHandler(resourceSynchronizer);
     
+    private final CursorRegistry cursorRegistry = new CursorRegistry();
+    
     public BackendConnection(final TransactionType transactionType) {
         this.transactionType = transactionType;
         this.supportHint = false;
@@ -259,6 +266,32 @@ public final class BackendConnection implements ExecutionConnection, AutoCloseab
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Register cursor.
+     * 
+     * <p>
+     * Cached result sets and statements are moved to cursor, so are cached connections if they are released after command.
+     * Otherwise cursor uses connections of current transaction, and it is unregistered when they are released.
+     * </p>
+     *
+     * @param name cursor name
+     * @param cursor cursor
+     */
+    public synchronized void registerCursor(final String name, final Cursor cursor) {
+        Collection<AutoCloseable> resources = new LinkedList<>(cachedResultSets);
+        resources.addAll(cachedStatements);
+        cachedResultSets.clear();
+        cachedStatements.clear();
+        boolean transactional = stateHandler.isInTransaction() && TransactionType.BASE != transactionType;
+        if (!transactional) {
+            synchronized (cachedConnections) {
+                resources.addAll(cachedConnections.values());
+                cachedConnections.clear();
+            }
+        }
+        cursorRegistry.register(name, cursor, resources, transactional);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -266,6 +299,10 @@ public final class BackendConnection implements ExecutionConnection, AutoCloseab
     
     /**
      * Close cached connection.
+     * 
+     * <p>
+     * Resources held by cursors are not closed, unless force close.
+     * </p>
      *
      * @param forceClose force close flag
      * @throws SQLException SQL exception
@@ -273,9 +310,13 @@ public final class BackendConnection implements ExecutionConnection, AutoCloseab
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
+        if (forceClose) {
+            cursorRegistry.unregisterAll();
+        }
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
         if (!stateHandler.isInTransaction() || forceClose || TransactionType.BASE == transactionType) {
+            cursorRegistry.unregisterTransactionalCursors();
             exceptions.addAll(releaseConnections(forceClose));
         }
         stateHandler.doNotifyIfNecessary();
@@ -61,6 +61,15 @@ public final class ConnectionStateHandler {
         }
     }
     
+    /**
+     * Change connection status to running if connection is released.
+     *
+     * @return status changed or not
+     */
+    public boolean setRunningStatusIfReleased() {
+        return status.compareAndSet(ConnectionStatus.RELEASE, ConnectionStatus.RUNNING);
+    }
+    
     /**
      * Judge whether connection is in transaction or not.
      *
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteResponse;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteUpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.BatchUpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSchema;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionContext;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.executor.context.SQLUnit;
+import org.apache.shardingsphere.underlying.executor.kernel.InputGroup;
+import org.apache.shardingsphere.underlying.executor.sql.jdbc.StatementExecuteUnit;
+import org.apache.shardingsphere.underlying.executor.sql.jdbc.connection.ConnectionMode;
+import org.apache.shardingsphere.underlying.executor.sql.jdbc.executor.ExecutorExceptionHandler;
+import org.apache.shardingsphere.underlying.executor.sql.jdbc.executor.SQLExecutor;
+import org.apache.shardingsphere.underlying.executor.sql.jdbc.executor.SQLExecutorCallback;
+import org.apache.shardingsphere.underlying.executor.sql.jdbc.group.StatementOption;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Batch execute engine for JDBC.
+ * 
+ * <p>
+ * Execution units of all SQLs which route to same data source are executed by one statement batch through SQL executor,
+ * so each data source is accessed only once for all SQLs.
+ * </p>
+ * 
+ * <p>
+ * Results are returned for SQLs in order until the first failed SQL, as MySQL does for multiple statements.
+ * Batches of other data sources are executed anyway, so SQLs after the failed one may have been applied on them.
+ * </p>
+ * 
+ * <p>
+ * Statements of batches which contain inserts are created to return generated keys.
+ * Last insert IDs are 0 if the driver can not return generated keys of batch, because the batch has been executed already.
+ * </p>
+ */
+public final class JDBCBatchExecuteEngine {
+    
+    private final BackendConnection backendConnection;
+    
+    private final SQLExecutor sqlExecutor;
+    
+    public JDBCBatchExecuteEngine(final BackendConnection backendConnection) {
+        this.backendConnection = backendConnection;
+        sqlExecutor = new SQLExecutor(BackendExecutorContext.getInstance().getExecutorKernel(), backendConnection.isSerialExecute());
+    }
+    
+    /**
+     * Execute update SQLs in batch.
+     *
+     * @param executionContexts execution contexts of update SQLs
+     * @return batch update response with update responses in order of execution contexts until the first failed one
+     * @throws SQLException SQL exception
+     */
+    public BatchUpdateResponse execute(final List<ExecutionContext> executionContexts) throws SQLException {
+        Map<Statement, DataSourceBatch> batches = createBatches(executionContexts);
+        boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        try {
+            sqlExecutor.execute(createInputGroups(batches), new SQLExecutorCallback<Void>(LogicSchemas.getInstance().getDatabaseType(), false) {
+                
+                @Override
+                protected Void executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                    batches.get(statement).execute(statement);
+                    return null;
+                }
+            });
+        } finally {
+            ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
+        }
+        return createBatchUpdateResponse(executionContexts, batches.values());
+    }
+    
+    private Map<Statement, DataSourceBatch> createBatches(final List<ExecutionContext> executionContexts) throws SQLException {
+        Map<String, DataSourceBatch> batches = new LinkedHashMap<>();
+        for (int i = 0; i < executionContexts.size(); i++) {
+            boolean isInsert = executionContexts.get(i).getSqlStatementContext().getSqlStatement() instanceof InsertStatement;
+            for (ExecutionUnit each : executionContexts.get(i).getExecutionUnits()) {
+                batches.computeIfAbsent(each.getDataSourceName(), DataSourceBatch::new).add(i, each.getSqlUnit().getSql(), isInsert);
+            }
+        }
+        Map<Statement, DataSourceBatch> result = new LinkedHashMap<>(batches.size(), 1);
+        for (DataSourceBatch each : batches.values()) {
+            result.put(createStatement(each), each);
+        }
+        return result;
+    }
+    
+    private Statement createStatement(final DataSourceBatch batch) throws SQLException {
+        Connection connection = backendConnection.getConnections(batch.getDataSourceName(), 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+        Statement result = backendConnection.createStatement(connection, ConnectionMode.CONNECTION_STRICTLY, new StatementOption(batch.getInserts().contains(true)));
+        backendConnection.add(result);
+        for (String each : batch.getSqls()) {
+            result.addBatch(each);
+        }
+        return result;
+    }
+    
+    private Collection<InputGroup<StatementExecuteUnit>> createInputGroups(final Map<Statement, DataSourceBatch> batches) {
+        Collection<InputGroup<StatementExecuteUnit>> result = new LinkedList<>();
+        for (Entry<Statement, DataSourceBatch> entry : batches.entrySet()) {
+            ExecutionUnit executionUnit = new ExecutionUnit(entry.getValue().getDataSourceName(), new SQLUnit(String.join("; ", entry.getValue().getSqls()), Collections.emptyList()));
+            result.add(new InputGroup<>(Collections.singletonList(new StatementExecuteUnit(executionUnit, entry.getKey(), ConnectionMode.CONNECTION_STRICTLY))));
+        }
+        return result;
+    }
+    
+    private BatchUpdateResponse createBatchUpdateResponse(final List<ExecutionContext> executionContexts, final Collection<DataSourceBatch> batches) {
+        List<Collection<ExecuteResponse>> executeResponses = new ArrayList<>(executionContexts.size());
+        for (int i = 0; i < executionContexts.size(); i++) {
+            executeResponses.add(new LinkedList<>());
+        }
+        int failedIndex = executionContexts.size();
+        SQLException cause = null;
+        for (DataSourceBatch each : batches) {
+            for (int i = 0; i < each.getSqlIndexes().size(); i++) {
+                int sqlIndex = each.getSqlIndexes().get(i);
+                Optional<ExecuteUpdateResponse> executeResponse = each.findExecuteResponse(i);
+                if (executeResponse.isPresent()) {
+                    executeResponses.get(sqlIndex).add(executeResponse.get());
+                } else if (sqlIndex < failedIndex) {
+                    failedIndex = sqlIndex;
+                    cause = null == each.getCause() ? new SQLException(String.format("Batch of data source `%s` is not executed.", each.getDataSourceName())) : each.getCause();
+                }
+            }
+        }
+        List<UpdateResponse> updateResponses = new ArrayList<>(failedIndex);
+        for (int i = 0; i < failedIndex; i++) {
+            updateResponses.add(createUpdateResponse(executionContexts.get(i).getSqlStatementContext(), executeResponses.get(i)));
+        }
+        return new BatchUpdateResponse(updateResponses, cause);
+    }
+    
+    private UpdateResponse createUpdateResponse(final SQLStatementContext sqlStatementContext, final Collection<ExecuteResponse> executeResponses) {
+        UpdateResponse result = new UpdateResponse(executeResponses);
+        if (sqlStatementContext.getSqlStatement() instanceof InsertStatement) {
+            result.setType("INSERT");
+        } else if (sqlStatementContext.getSqlStatement() instanceof DeleteStatement) {
+            result.setType("DELETE");
+        } else if (sqlStatementContext.getSqlStatement() instanceof UpdateStatement) {
+            result.setType("UPDATE");
+        }
+        if (!isAllBroadcastTables(sqlStatementContext)) {
+            result.mergeUpdateCount();
+        }
+        return result;
+    }
+    
+    private boolean isAllBroadcastTables(final SQLStatementContext sqlStatementContext) {
+        LogicSchema logicSchema = backendConnection.getLogicSchema();
+        return logicSchema instanceof ShardingSchema && logicSchema.getShardingRule().isAllBroadcastTables(sqlStatementContext.getTablesContext().getTableNames());
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class DataSourceBatch {
+        
+        private final String dataSourceName;
+        
+        private final List<Integer> sqlIndexes = new ArrayList<>();
+        
+        private final List<String> sqls = new ArrayList<>();
+        
+        private final List<Boolean> inserts = new ArrayList<>();
+        
+        private int[] updateCounts;
+        
+        private long[] lastInsertIds;
+        
+        private SQLException cause;
+        
+        void add(final int sqlIndex, final String sql, final boolean isInsert) {
+            sqlIndexes.add(sqlIndex);
+            sqls.add(sql);
+            inserts.add(isInsert);
+        }
+        
+        void execute(final Statement statement) throws SQLException {
+            try {
+                updateCounts = statement.executeBatch();
+            } catch (final SQLException ex) {
+                updateCounts = ex instanceof BatchUpdateException ? ((BatchUpdateException) ex).getUpdateCounts() : null;
+                cause = ex;
+                throw ex;
+            }
+            lastInsertIds = inserts.contains(true) ? getLastInsertIds(statement) : new long[updateCounts.length];
+        }
+        
+        private long[] getLastInsertIds(final Statement statement) throws SQLException {
+            long[] result = new long[updateCounts.length];
+            List<Long> generatedKeys = getGeneratedKeys(statement);
+            if (generatedKeys.size() != getInsertedRowCount()) {
+                return result;
+            }
+            int keyIndex = 0;
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (inserts.get(i) && updateCounts[i] > 0) {
+                    result[i] = generatedKeys.get(keyIndex);
+                    keyIndex += updateCounts[i];
+                }
+            }
+            return result;
+        }
+        
+        private List<Long> getGeneratedKeys(final Statement statement) throws SQLException {
+            List<Long> result = new ArrayList<>();
+            try (ResultSet resultSet = statement.getGeneratedKeys()) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getLong(1));
+                }
+            } catch (final SQLException ignored) {
+                return Collections.emptyList();
+            }
+            return result;
+        }
+        
+        private int getInsertedRowCount() {
+            int result = 0;
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (inserts.get(i)) {
+                    result += Math.max(updateCounts[i], 0);
+                }
+            }
+            return result;
+        }
+        
+        Optional<ExecuteUpdateResponse> findExecuteResponse(final int index) {
+            if (null == updateCounts || index >= updateCounts.length || Statement.EXECUTE_FAILED == updateCounts[index]) {
+                return Optional.empty();
+            }
+            return Optional.of(new ExecuteUpdateResponse(Math.max(updateCounts[index], 0), null == lastInsertIds ? 0L : lastInsertIds[index]));
+        }
+    }
+}
@@ -118,7 +118,8 @@ public final class StatementExecutorWrapper implements JDBCExecutorWrapper {
         SQLStatementContext sqlStatementContext = SQLStatementContextFactory.newInstance(ruleSchemaMetaData.getConfiguredSchemaMetaData(), sql, new LinkedList<>(), sqlStatement);
         Collection<ExecutionUnit> executionUnits = new ArrayList<>();
         if (sqlStatement instanceof DMLStatement) {
-            ShadowJudgementEngine shadowJudgementEngine = new SimpleJudgementEngine(shadowSchema.getShadowRule(), sqlStatementContext);
+            ShadowJudgementEngine shadowJudgementEngine = new SimpleJudgementEngine(
+                    shadowSchema.getShadowRule(), sqlStatementContext, shadowSchema.getShadowJudgementCache(), shadowSchema.getShadowJudgementMetrics());
             String dataSourceName = shadowJudgementEngine.isShadowSQL()
                     ? shadowSchema.getShadowRule().getRuleConfiguration().getShadowMappings().get(logicSchema.getDataSources().keySet().iterator().next())
                     : logicSchema.getDataSources().keySet().iterator().next();
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.underlying.common.config.properties.Configurati
 import org.apache.shardingsphere.underlying.executor.kernel.ExecutorKernel;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Backend executor context.
  */
@@ -35,6 +37,8 @@ public final class BackendExecutorContext {
     
     private final ExecutorKernel executorKernel = new ExecutorKernel(ShardingProxyContext.getInstance().getProperties().<Integer>getValue(ConfigurationPropertyKey.EXECUTOR_SIZE));
     
+    private final ForkJoinPool decryptPool = new ForkJoinPool(ShardingProxyContext.getInstance().getProperties().<Integer>getValue(ConfigurationPropertyKey.DECRYPT_PARALLELISM));
+    
     /**
      * Get executor context instance.
      * 
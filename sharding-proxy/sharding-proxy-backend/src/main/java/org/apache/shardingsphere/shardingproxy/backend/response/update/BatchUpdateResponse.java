@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.response.update;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Batch update response.
+ * 
+ * <p>
+ * Update responses are in order of SQLs until the first failed SQL, and cause is present if any SQL failed.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class BatchUpdateResponse implements BackendResponse {
+    
+    @Getter
+    private final List<UpdateResponse> updateResponses;
+    
+    private final SQLException cause;
+    
+    public BatchUpdateResponse(final List<UpdateResponse> updateResponses) {
+        this(updateResponses, null);
+    }
+    
+    /**
+     * Find cause of failed SQL.
+     *
+     * @return cause of failed SQL
+     */
+    public Optional<SQLException> findCause() {
+        return Optional.ofNullable(cause);
+    }
+}
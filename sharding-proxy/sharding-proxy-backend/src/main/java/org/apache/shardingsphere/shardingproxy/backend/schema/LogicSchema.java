@@ -21,6 +21,7 @@ import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.orchestration.core.common.event.DataSourceChangedEvent;
+import org.apache.shardingsphere.orchestration.core.common.event.PropertiesChangedEvent;
 import org.apache.shardingsphere.orchestration.core.common.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.orchestration.core.facade.ShardingOrchestrationFacade;
 import org.apache.shardingsphere.orchestration.core.metadatacenter.event.MetaDataChangedEvent;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourc
 import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
 import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaDataLoader;
 import org.apache.shardingsphere.underlying.common.rule.BaseRule;
+import org.apache.shardingsphere.underlying.rewrite.cache.SQLRewriteResultCache;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -55,6 +57,8 @@ public abstract class LogicSchema {
     
     private final SQLParserEngine sqlParserEngine;
     
+    private final SQLRewriteResultCache sqlRewriteResultCache = new SQLRewriteResultCache();
+    
     private JDBCBackendDataSource backendDataSource;
     
     private ShardingSphereMetaData metaData;
@@ -109,6 +113,7 @@ public abstract class LogicSchema {
         for (String each : event.getSchemaNames()) {
             if (name.equals(each)) {
                 metaData = new ShardingSphereMetaData(metaData.getDataSources(), event.getRuleSchemaMetaData());
+                sqlRewriteResultCache.clear();
             }
         }
     }
@@ -126,6 +131,16 @@ public abstract class LogicSchema {
         }
     }
     
+    /**
+     * Renew properties, which clears rewritten SQL cached with the previous properties.
+     *
+     * @param event properties changed event
+     */
+    @Subscribe
+    public final synchronized void renew(final PropertiesChangedEvent event) {
+        sqlRewriteResultCache.clear();
+    }
+    
     /**
      * Refresh table meta data.
      * 
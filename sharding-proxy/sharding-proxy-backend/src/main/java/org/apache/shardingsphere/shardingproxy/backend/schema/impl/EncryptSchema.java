@@ -59,5 +59,6 @@ public final class EncryptSchema extends LogicSchema {
     public synchronized void renew(final EncryptRuleChangedEvent encryptRuleChangedEvent) {
         ConfigurationLogger.log(encryptRuleChangedEvent.getEncryptRuleConfiguration());
         encryptRule = new EncryptRule(encryptRuleChangedEvent.getEncryptRuleConfiguration());
+        getSqlRewriteResultCache().clear();
     }
 }
@@ -26,6 +26,8 @@ import org.apache.shardingsphere.core.log.ConfigurationLogger;
 import org.apache.shardingsphere.core.rule.ShadowRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.orchestration.core.common.event.ShadowRuleChangedEvent;
+import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowJudgementCache;
+import org.apache.shardingsphere.shadow.rewrite.judgement.ShadowJudgementMetrics;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
 
@@ -43,6 +45,10 @@ public final class ShadowSchema extends LogicSchema {
     
     private ShadowRule shadowRule;
     
+    private final ShadowJudgementCache shadowJudgementCache = new ShadowJudgementCache();
+    
+    private final ShadowJudgementMetrics shadowJudgementMetrics = new ShadowJudgementMetrics();
+    
     public ShadowSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources, final ShadowRuleConfiguration shadowRuleConfiguration) throws SQLException {
         super(name, dataSources, Collections.singletonList(new ShadowRule(shadowRuleConfiguration)));
         shadowRule = new ShadowRule(shadowRuleConfiguration);
@@ -59,5 +65,6 @@ public final class ShadowSchema extends LogicSchema {
     public synchronized void renew(final ShadowRuleChangedEvent shadowRuleChangedEvent) {
         ConfigurationLogger.log(shadowRuleChangedEvent.getShadowRuleConfiguration());
         shadowRule = new ShadowRule(shadowRuleChangedEvent.getShadowRuleConfiguration());
+        shadowJudgementCache.clear();
     }
 }
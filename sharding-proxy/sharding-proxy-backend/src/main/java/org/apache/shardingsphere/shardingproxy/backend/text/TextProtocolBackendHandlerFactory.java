@@ -25,6 +25,7 @@ import org.apache.shardingsphere.shardingproxy.backend.text.admin.BroadcastBacke
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.ShowDatabasesBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.UnicastBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.UseDatabaseBackendHandler;
+import org.apache.shardingsphere.shardingproxy.backend.text.query.BatchUpdateBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.query.QueryBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.ShardingCTLBackendHandlerFactory;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.utils.SCTLUtils;
@@ -37,6 +38,9 @@ import org.apache.shardingsphere.sql.parser.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dal.SetStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dal.dialect.mysql.ShowDatabasesStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dal.dialect.mysql.UseStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.tcl.BeginTransactionStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.tcl.CommitStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.tcl.RollbackStatement;
@@ -44,6 +48,10 @@ import org.apache.shardingsphere.sql.parser.sql.statement.tcl.SetAutoCommitState
 import org.apache.shardingsphere.sql.parser.sql.statement.tcl.TCLStatement;
 import org.apache.shardingsphere.transaction.core.TransactionOperationType;
 
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
 /**
  * Text protocol backend handler factory.
  */
@@ -66,7 +74,53 @@ public final class TextProtocolBackendHandlerFactory {
         if (trimSql.toUpperCase().startsWith(ShardingCTLBackendHandlerFactory.SCTL)) {
             return ShardingCTLBackendHandlerFactory.newInstance(trimSql, backendConnection);
         }
-        SQLStatement sqlStatement = new SQLParserEngine(databaseType.getName()).parse(sql, false);
+        return createBackendHandler(sql, new SQLParserEngine(databaseType.getName()).parse(sql, false), backendConnection);
+    }
+    
+    /**
+     * Create new instances of text protocol backend handler for multiple statements.
+     * 
+     * <p>
+     * Consecutive insert, update and delete statements are coalesced into one batch update backend handler.
+     * </p>
+     *
+     * @param databaseType database type
+     * @param sqls SQLs to be executed in order
+     * @param backendConnection backend connection
+     * @return instances of text protocol backend handler in order of SQLs
+     */
+    public static List<TextProtocolBackendHandler> newInstances(final DatabaseType databaseType, final List<String> sqls, final BackendConnection backendConnection) {
+        List<TextProtocolBackendHandler> result = new LinkedList<>();
+        SQLParserEngine sqlParserEngine = new SQLParserEngine(databaseType.getName());
+        List<String> batchUpdateSQLs = new LinkedList<>();
+        for (String each : sqls) {
+            if (Strings.isNullOrEmpty(each) || SCTLUtils.trimComment(each).toUpperCase().startsWith(ShardingCTLBackendHandlerFactory.SCTL)) {
+                addBatchUpdateBackendHandler(result, batchUpdateSQLs, backendConnection);
+                result.add(newInstance(databaseType, each, backendConnection));
+                continue;
+            }
+            SQLStatement sqlStatement = sqlParserEngine.parse(each, false);
+            if (sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement) {
+                batchUpdateSQLs.add(each);
+                continue;
+            }
+            addBatchUpdateBackendHandler(result, batchUpdateSQLs, backendConnection);
+            result.add(createBackendHandler(each, sqlStatement, backendConnection));
+        }
+        addBatchUpdateBackendHandler(result, batchUpdateSQLs, backendConnection);
+        return result;
+    }
+    
+    private static void addBatchUpdateBackendHandler(final List<TextProtocolBackendHandler> backendHandlers, final List<String> batchUpdateSQLs, final BackendConnection backendConnection) {
+        if (1 == batchUpdateSQLs.size()) {
+            backendHandlers.add(new QueryBackendHandler(batchUpdateSQLs.get(0), backendConnection));
+        } else if (batchUpdateSQLs.size() > 1) {
+            backendHandlers.add(new BatchUpdateBackendHandler(new ArrayList<>(batchUpdateSQLs), backendConnection));
+        }
+        batchUpdateSQLs.clear();
+    }
+    
+    private static TextProtocolBackendHandler createBackendHandler(final String sql, final SQLStatement sqlStatement, final BackendConnection backendConnection) {
         if (sqlStatement instanceof TCLStatement) {
             return createTCLBackendHandler(sql, (TCLStatement) sqlStatement, backendConnection);
         }
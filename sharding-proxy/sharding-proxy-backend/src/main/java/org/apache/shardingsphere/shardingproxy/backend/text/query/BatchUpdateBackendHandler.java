@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.text.query;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCBatchExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.StatementExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.exception.NoDatabaseSelectedException;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.BatchUpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionContext;
+import org.apache.shardingsphere.underlying.executor.log.SQLLogger;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Backend handler with batch update.
+ */
+@RequiredArgsConstructor
+public final class BatchUpdateBackendHandler implements TextProtocolBackendHandler {
+    
+    private final List<String> sqls;
+    
+    private final BackendConnection backendConnection;
+    
+    @Override
+    public BackendResponse execute() {
+        if (null == backendConnection.getLogicSchema()) {
+            return new ErrorResponse(new NoDatabaseSelectedException());
+        }
+        List<ExecutionContext> executionContexts = new ArrayList<>(sqls.size());
+        SQLException routeException = null;
+        try {
+            route(executionContexts);
+        } catch (final SQLException ex) {
+            routeException = ex;
+        }
+        try {
+            BatchUpdateResponse result = new JDBCBatchExecuteEngine(backendConnection).execute(executionContexts);
+            return null == routeException || result.findCause().isPresent() ? result : new BatchUpdateResponse(result.getUpdateResponses(), routeException);
+        } catch (final SQLException ex) {
+            return new ErrorResponse(ex);
+        }
+    }
+    
+    private void route(final List<ExecutionContext> executionContexts) throws SQLException {
+        JDBCExecutorWrapper jdbcExecutorWrapper = new StatementExecutorWrapper(backendConnection.getLogicSchema());
+        boolean isShowSQL = ShardingProxyContext.getInstance().getProperties().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW);
+        for (String each : sqls) {
+            ExecutionContext executionContext = jdbcExecutorWrapper.route(each);
+            if (isShowSQL) {
+                SQLLogger.logSQL(each, ShardingProxyContext.getInstance().getProperties().<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
+            }
+            executionContexts.add(executionContext);
+        }
+    }
+    
+    @Override
+    public boolean next() {
+        return false;
+    }
+    
+    @Override
+    public QueryData getQueryData() {
+        return null;
+    }
+}
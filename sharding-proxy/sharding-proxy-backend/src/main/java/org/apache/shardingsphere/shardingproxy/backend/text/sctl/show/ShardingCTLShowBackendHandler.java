@@ -24,6 +24,7 @@ import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorRespo
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShadowSchema;
 import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.exception.InvalidShardingCTLFormatException;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.exception.UnsupportedShardingCTLTypeException;
@@ -62,6 +63,11 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
                 return createResponsePackets("TRANSACTION_TYPE", backendConnection.getTransactionType().name());
             case "CACHED_CONNECTIONS":
                 return createResponsePackets("CACHED_CONNECTIONS", backendConnection.getConnectionSize());
+            case "SHADOW_JUDGEMENT":
+                if (!(backendConnection.getLogicSchema() instanceof ShadowSchema)) {
+                    return new ErrorResponse(new UnsupportedShardingCTLTypeException(sql));
+                }
+                return createResponsePackets("SHADOW_JUDGEMENT", ((ShadowSchema) backendConnection.getLogicSchema()).getShadowJudgementMetrics().toString());
             default:
                 return new ErrorResponse(new UnsupportedShardingCTLTypeException(sql));
         }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.shardingproxy.backend.text.admin.BroadcastBacke
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.ShowDatabasesBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.UnicastBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.UseDatabaseBackendHandler;
+import org.apache.shardingsphere.shardingproxy.backend.text.query.BatchUpdateBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.query.QueryBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.set.ShardingCTLSetBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.show.ShardingCTLShowBackendHandler;
@@ -43,7 +44,11 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -190,4 +195,15 @@ public final class TextProtocolBackendHandlerFactoryTest {
         TextProtocolBackendHandler actual = TextProtocolBackendHandlerFactory.newInstance(databaseType, sql, backendConnection);
         assertThat(actual, instanceOf(SkipBackendHandler.class));
     }
+    
+    @Test
+    public void assertNewInstancesWithBatchUpdate() {
+        List<String> sqls = Arrays.asList("BEGIN", "INSERT INTO t_order VALUES (1)", "UPDATE t_order SET status = 'OK'", "SELECT * FROM t_order", "DELETE FROM t_order");
+        List<TextProtocolBackendHandler> actual = TextProtocolBackendHandlerFactory.newInstances(databaseType, sqls, backendConnection);
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(0), instanceOf(TransactionBackendHandler.class));
+        assertThat(actual.get(1), instanceOf(BatchUpdateBackendHandler.class));
+        assertThat(actual.get(2), instanceOf(QueryBackendHandler.class));
+        assertThat(actual.get(3), instanceOf(QueryBackendHandler.class));
+    }
 }
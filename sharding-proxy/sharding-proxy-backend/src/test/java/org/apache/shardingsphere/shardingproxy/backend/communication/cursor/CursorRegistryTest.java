@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.cursor;
+
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class CursorRegistryTest {
+    
+    private final CursorRegistry cursorRegistry = new CursorRegistry();
+    
+    @Test
+    public void assertRegister() {
+        Cursor cursor = mock(Cursor.class);
+        cursorRegistry.register("foo", cursor);
+        assertFalse(cursorRegistry.isEmpty());
+        assertTrue(cursorRegistry.get("foo").isPresent());
+        assertThat(cursorRegistry.get("foo").get(), is(cursor));
+        assertFalse(cursorRegistry.get("bar").isPresent());
+    }
+    
+    @Test
+    public void assertUnregister() {
+        cursorRegistry.register("foo", mock(Cursor.class));
+        cursorRegistry.unregister("foo");
+        assertTrue(cursorRegistry.isEmpty());
+    }
+    
+    @Test
+    public void assertUnregisterAll() {
+        cursorRegistry.register("foo", mock(Cursor.class));
+        cursorRegistry.register("bar", mock(Cursor.class));
+        cursorRegistry.unregisterAll();
+        assertTrue(cursorRegistry.isEmpty());
+    }
+    
+    @Test
+    public void assertUnregisterWithResources() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        cursorRegistry.register("foo", mock(Cursor.class), Collections.singletonList(resultSet), false);
+        cursorRegistry.unregister("foo");
+        verify(resultSet).close();
+    }
+    
+    @Test
+    public void assertRegisterReplacedWithResources() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        cursorRegistry.register("foo", mock(Cursor.class), Collections.singletonList(resultSet), false);
+        cursorRegistry.register("foo", mock(Cursor.class));
+        verify(resultSet).close();
+        assertFalse(cursorRegistry.isEmpty());
+    }
+    
+    @Test
+    public void assertUnregisterTransactionalCursors() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        cursorRegistry.register("foo", mock(Cursor.class), Collections.singletonList(resultSet), true);
+        cursorRegistry.register("bar", mock(Cursor.class));
+        assertThat(cursorRegistry.unregisterTransactionalCursors(), is(1));
+        verify(resultSet).close();
+        assertFalse(cursorRegistry.get("foo").isPresent());
+        assertTrue(cursorRegistry.get("bar").isPresent());
+    }
+    
+    @Test
+    public void assertUnregisterIdleCursors() {
+        cursorRegistry.register("foo", mock(Cursor.class));
+        assertThat(cursorRegistry.unregisterIdleCursors(60000L), is(0));
+        assertFalse(cursorRegistry.isEmpty());
+        assertThat(cursorRegistry.unregisterIdleCursors(-1L), is(1));
+        assertTrue(cursorRegistry.isEmpty());
+    }
+}
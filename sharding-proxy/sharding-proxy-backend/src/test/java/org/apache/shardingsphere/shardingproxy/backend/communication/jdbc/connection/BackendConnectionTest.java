@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.underlying.executor.sql.jdbc.connection.ConnectionMode;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 import org.apache.shardingsphere.shardingproxy.backend.MockLogicSchemasUtil;
+import org.apache.shardingsphere.shardingproxy.backend.communication.cursor.Cursor;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -41,6 +42,7 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -204,6 +206,39 @@ public final class BackendConnectionTest {
         assertTrue(actual.getCachedStatements().isEmpty());
     }
     
+    @Test
+    public void assertCloseWithCursor() throws SQLException {
+        when(backendDataSource.getConnections(anyString(), eq(1), any(), eq(TransactionType.LOCAL))).thenReturn(MockConnectionUtil.mockNewConnections(1));
+        final Connection cursorConnection = backendConnection.getConnections("ds1", 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+        ResultSet cursorResultSet = mock(ResultSet.class);
+        backendConnection.add(cursorResultSet);
+        backendConnection.registerCursor("foo", mock(Cursor.class));
+        ResultSet otherResultSet = mock(ResultSet.class);
+        backendConnection.add(otherResultSet);
+        backendConnection.close();
+        verify(otherResultSet).close();
+        verify(cursorResultSet, times(0)).close();
+        verify(cursorConnection, times(0)).close();
+        backendConnection.getCursorRegistry().unregisterIdleCursors(-1L);
+        verify(cursorResultSet).close();
+        verify(cursorConnection).close();
+    }
+    
+    @Test
+    public void assertCloseWithCursorInTransaction() throws SQLException {
+        backendConnection.getStateHandler().setStatus(ConnectionStatus.TRANSACTION);
+        when(backendDataSource.getConnections(anyString(), eq(1), any(), eq(TransactionType.LOCAL))).thenReturn(MockConnectionUtil.mockNewConnections(1));
+        backendConnection.getConnections("ds1", 1, ConnectionMode.MEMORY_STRICTLY);
+        backendConnection.registerCursor("foo", mock(Cursor.class));
+        backendConnection.close();
+        assertFalse(backendConnection.getCursorRegistry().isEmpty());
+        assertThat(backendConnection.getConnectionSize(), is(1));
+        backendConnection.getStateHandler().setStatus(ConnectionStatus.TERMINATED);
+        backendConnection.close();
+        assertTrue(backendConnection.getCursorRegistry().isEmpty());
+        assertThat(backendConnection.getConnectionSize(), is(0));
+    }
+    
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
+
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.BatchUpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseType;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionContext;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.executor.context.SQLUnit;
+import org.apache.shardingsphere.underlying.executor.sql.jdbc.connection.ConnectionMode;
+import org.apache.shardingsphere.underlying.executor.sql.jdbc.executor.ExecutorExceptionHandler;
+import org.apache.shardingsphere.underlying.executor.sql.jdbc.group.StatementOption;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class JDBCBatchExecuteEngineTest {
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private SQLStatementContext sqlStatementContext;
+    
+    private DatabaseType originalDatabaseType;
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException {
+        originalDatabaseType = LogicSchemas.getInstance().getDatabaseType();
+        setDatabaseType(DatabaseTypes.getActualDatabaseType("MySQL"));
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(InsertStatement.class));
+    }
+    
+    @After
+    public void tearDown() throws ReflectiveOperationException {
+        setDatabaseType(originalDatabaseType);
+    }
+    
+    private void setDatabaseType(final DatabaseType databaseType) throws ReflectiveOperationException {
+        Field field = LogicSchemas.class.getDeclaredField("databaseType");
+        field.setAccessible(true);
+        field.set(LogicSchemas.getInstance(), databaseType);
+    }
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        final Statement statement0 = mockStatement("ds_0");
+        final Statement statement1 = mockStatement("ds_1");
+        when(statement0.executeBatch()).thenReturn(new int[]{1, 2});
+        when(statement1.executeBatch()).thenReturn(new int[]{3});
+        ExecutionContext executionContext0 = new ExecutionContext(sqlStatementContext, Arrays.asList(createExecutionUnit("ds_0", "sql_0"), createExecutionUnit("ds_1", "sql_1")));
+        ExecutionContext executionContext1 = new ExecutionContext(sqlStatementContext, createExecutionUnit("ds_0", "sql_2"));
+        BatchUpdateResponse actual = new JDBCBatchExecuteEngine(backendConnection).execute(Arrays.asList(executionContext0, executionContext1));
+        assertFalse(actual.findCause().isPresent());
+        assertThat(actual.getUpdateResponses().size(), is(2));
+        assertThat(actual.getUpdateResponses().get(0).getUpdateCount(), is(4L));
+        assertThat(actual.getUpdateResponses().get(0).getType(), is("INSERT"));
+        assertThat(actual.getUpdateResponses().get(1).getUpdateCount(), is(2L));
+        verify(statement0).addBatch("sql_0");
+        verify(statement0).addBatch("sql_2");
+        verify(statement1).addBatch("sql_1");
+        verify(backendConnection).add(statement0);
+        verify(backendConnection).add(statement1);
+    }
+    
+    @Test
+    public void assertExecuteWithGeneratedKeys() throws SQLException {
+        Statement statement = mockStatement("ds_0");
+        when(statement.executeBatch()).thenReturn(new int[]{2, 1});
+        ResultSet generatedKeys = mock(ResultSet.class);
+        when(generatedKeys.next()).thenReturn(true, true, true, false);
+        when(generatedKeys.getLong(1)).thenReturn(10L, 11L, 12L);
+        when(statement.getGeneratedKeys()).thenReturn(generatedKeys);
+        ExecutionContext executionContext0 = new ExecutionContext(sqlStatementContext, createExecutionUnit("ds_0", "sql_0"));
+        ExecutionContext executionContext1 = new ExecutionContext(sqlStatementContext, createExecutionUnit("ds_0", "sql_1"));
+        BatchUpdateResponse actual = new JDBCBatchExecuteEngine(backendConnection).execute(Arrays.asList(executionContext0, executionContext1));
+        assertThat(actual.getUpdateResponses().get(0).getLastInsertId(), is(10L));
+        assertThat(actual.getUpdateResponses().get(1).getLastInsertId(), is(12L));
+    }
+    
+    @Test
+    public void assertExecuteInsertWithGeneratedKeysUnavailable() throws SQLException {
+        Statement statement = mockStatement("ds_0");
+        when(statement.executeBatch()).thenReturn(new int[]{1});
+        when(statement.getGeneratedKeys()).thenThrow(new SQLException("Generated keys not requested."));
+        ExecutionContext executionContext = new ExecutionContext(sqlStatementContext, createExecutionUnit("ds_0", "sql_0"));
+        BatchUpdateResponse actual = new JDBCBatchExecuteEngine(backendConnection).execute(Collections.singletonList(executionContext));
+        assertFalse(actual.findCause().isPresent());
+        assertThat(actual.getUpdateResponses().get(0).getUpdateCount(), is(1L));
+        assertThat(actual.getUpdateResponses().get(0).getLastInsertId(), is(0L));
+        ArgumentCaptor<StatementOption> statementOption = ArgumentCaptor.forClass(StatementOption.class);
+        verify(backendConnection).createStatement(any(Connection.class), eq(ConnectionMode.CONNECTION_STRICTLY), statementOption.capture());
+        assertTrue(statementOption.getValue().isReturnGeneratedKeys());
+    }
+    
+    @Test
+    public void assertExecuteWithFailure() throws SQLException {
+        Statement statement0 = mockStatement("ds_0");
+        Statement statement1 = mockStatement("ds_1");
+        when(statement0.executeBatch()).thenReturn(new int[]{1, 1});
+        BatchUpdateException cause = new BatchUpdateException(new int[0]);
+        when(statement1.executeBatch()).thenThrow(cause);
+        ExecutionContext executionContext0 = new ExecutionContext(sqlStatementContext, createExecutionUnit("ds_0", "sql_0"));
+        ExecutionContext executionContext1 = new ExecutionContext(sqlStatementContext, createExecutionUnit("ds_1", "sql_1"));
+        ExecutionContext executionContext2 = new ExecutionContext(sqlStatementContext, createExecutionUnit("ds_0", "sql_2"));
+        boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        BatchUpdateResponse actual = new JDBCBatchExecuteEngine(backendConnection).execute(Arrays.asList(executionContext0, executionContext1, executionContext2));
+        assertThat(ExecutorExceptionHandler.isExceptionThrown(), is(isExceptionThrown));
+        assertThat(actual.getUpdateResponses().size(), is(1));
+        assertThat(actual.getUpdateResponses().get(0).getUpdateCount(), is(1L));
+        assertTrue(actual.findCause().isPresent());
+        assertThat(actual.findCause().get(), is((SQLException) cause));
+    }
+    
+    private Statement mockStatement(final String dataSourceName) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement result = mock(Statement.class, RETURNS_DEEP_STUBS);
+        when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:mysql://127.0.0.1:3306/" + dataSourceName);
+        when(backendConnection.getConnections(dataSourceName, 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+        when(backendConnection.createStatement(eq(connection), eq(ConnectionMode.CONNECTION_STRICTLY), any())).thenReturn(result);
+        return result;
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final String sql) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(sql, Collections.emptyList()));
+    }
+}
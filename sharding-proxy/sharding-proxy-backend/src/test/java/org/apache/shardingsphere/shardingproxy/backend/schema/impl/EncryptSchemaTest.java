@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.schema.impl;
+
+import org.apache.shardingsphere.encrypt.api.EncryptColumnRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.EncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.EncryptorRuleConfiguration;
+import org.apache.shardingsphere.orchestration.core.common.event.EncryptRuleChangedEvent;
+import org.apache.shardingsphere.orchestration.core.common.event.PropertiesChangedEvent;
+import org.apache.shardingsphere.orchestration.core.common.eventbus.ShardingOrchestrationEventBus;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.PreparedStatementExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseType;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class EncryptSchemaTest {
+    
+    private static final String SQL = "SELECT pwd FROM t_encrypt WHERE id = ?";
+    
+    private static final String URL = "jdbc:h2:mem:encrypt_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private DatabaseType originalDatabaseType;
+    
+    private EncryptSchema encryptSchema;
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException, SQLException {
+        originalDatabaseType = LogicSchemas.getInstance().getDatabaseType();
+        setDatabaseType(DatabaseTypes.getActualDatabaseType("H2"));
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS t_encrypt (id INT PRIMARY KEY, pwd_cipher VARCHAR(64), pwd_cipher_new VARCHAR(64))");
+        }
+        encryptSchema = new EncryptSchema("encrypt_schema", createDataSources(), createEncryptRuleConfiguration("pwd_cipher"));
+    }
+    
+    @After
+    public void tearDown() throws Exception {
+        ShardingOrchestrationEventBus.getInstance().unregister(encryptSchema);
+        encryptSchema.getBackendDataSource().close();
+        setDatabaseType(originalDatabaseType);
+    }
+    
+    private void setDatabaseType(final DatabaseType databaseType) throws ReflectiveOperationException {
+        Field field = LogicSchemas.class.getDeclaredField("databaseType");
+        field.setAccessible(true);
+        field.set(LogicSchemas.getInstance(), databaseType);
+    }
+    
+    private Map<String, YamlDataSourceParameter> createDataSources() {
+        YamlDataSourceParameter dataSourceParameter = new YamlDataSourceParameter();
+        dataSourceParameter.setUrl(URL);
+        dataSourceParameter.setUsername("sa");
+        dataSourceParameter.setPassword("");
+        Map<String, YamlDataSourceParameter> result = new HashMap<>(1, 1);
+        result.put("encrypt_ds", dataSourceParameter);
+        return result;
+    }
+    
+    private EncryptRuleConfiguration createEncryptRuleConfiguration(final String cipherColumn) {
+        EncryptColumnRuleConfiguration columnRuleConfig = new EncryptColumnRuleConfiguration(null, cipherColumn, null, "md5_encryptor");
+        return new EncryptRuleConfiguration(Collections.singletonMap("md5_encryptor", new EncryptorRuleConfiguration("MD5", new Properties())),
+                Collections.singletonMap("t_encrypt", new EncryptTableRuleConfiguration(Collections.singletonMap("pwd", columnRuleConfig))));
+    }
+    
+    @Test
+    public void assertRenewEncryptRuleRewritesWithNewRule() {
+        assertThat(rewrite(SQL), is("SELECT pwd_cipher AS pwd FROM t_encrypt WHERE id = ?"));
+        encryptSchema.renew(new EncryptRuleChangedEvent("encrypt_schema", createEncryptRuleConfiguration("pwd_cipher_new")));
+        assertThat(rewrite(SQL), is("SELECT pwd_cipher_new AS pwd FROM t_encrypt WHERE id = ?"));
+    }
+    
+    @Test
+    public void assertRenewPropertiesClearsRewrittenSQL() {
+        rewrite(SQL);
+        assertTrue(encryptSchema.getSqlRewriteResultCache().getRewrittenSQL(SQL, null, false, Collections.emptyList()).isPresent());
+        encryptSchema.renew(new PropertiesChangedEvent(new Properties()));
+        assertFalse(encryptSchema.getSqlRewriteResultCache().getRewrittenSQL(SQL, null, false, Collections.emptyList()).isPresent());
+    }
+    
+    private String rewrite(final String sql) {
+        return new PreparedStatementExecutorWrapper(encryptSchema, Collections.singletonList(1)).route(sql).getExecutionUnits().iterator().next().getSqlUnit().getSql();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.schema.impl;
+
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.orchestration.core.common.event.ShardingRuleChangedEvent;
+import org.apache.shardingsphere.orchestration.core.common.eventbus.ShardingOrchestrationEventBus;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseType;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingSchemaTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    private static final String URL = "jdbc:h2:mem:sharding_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private DatabaseType originalDatabaseType;
+    
+    private ShardingSchema shardingSchema;
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException, SQLException {
+        originalDatabaseType = LogicSchemas.getInstance().getDatabaseType();
+        setDatabaseType(DatabaseTypes.getActualDatabaseType("H2"));
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order_0 (order_id INT PRIMARY KEY)");
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order_1 (order_id INT PRIMARY KEY)");
+        }
+        shardingSchema = new ShardingSchema("sharding_schema", createDataSources(), createShardingRuleConfiguration("t_order_0"), false);
+    }
+    
+    @After
+    public void tearDown() throws Exception {
+        ShardingOrchestrationEventBus.getInstance().unregister(shardingSchema);
+        shardingSchema.getBackendDataSource().close();
+        setDatabaseType(originalDatabaseType);
+    }
+    
+    private void setDatabaseType(final DatabaseType databaseType) throws ReflectiveOperationException {
+        Field field = LogicSchemas.class.getDeclaredField("databaseType");
+        field.setAccessible(true);
+        field.set(LogicSchemas.getInstance(), databaseType);
+    }
+    
+    private Map<String, YamlDataSourceParameter> createDataSources() {
+        YamlDataSourceParameter dataSourceParameter = new YamlDataSourceParameter();
+        dataSourceParameter.setUrl(URL);
+        dataSourceParameter.setUsername("sa");
+        dataSourceParameter.setPassword("");
+        Map<String, YamlDataSourceParameter> result = new HashMap<>(1, 1);
+        result.put("sharding_ds", dataSourceParameter);
+        return result;
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration(final String actualTable) {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTableRuleConfigs().add(new TableRuleConfiguration("t_order", "sharding_ds." + actualTable));
+        return result;
+    }
+    
+    @Test
+    public void assertRenewShardingRuleClearsRewrittenSQL() {
+        shardingSchema.getSqlRewriteResultCache().put(SQL, null, false, Collections.emptyList(), "SELECT * FROM t_order_0 WHERE order_id = ?");
+        shardingSchema.renew(new ShardingRuleChangedEvent("sharding_schema", createShardingRuleConfiguration("t_order_1")));
+        assertThat(shardingSchema.getShardingRule().getTableRule("t_order").getActualDataNodes().get(0).getTableName(), is("t_order_1"));
+        assertFalse(shardingSchema.getSqlRewriteResultCache().getRewrittenSQL(SQL, null, false, Collections.emptyList()).isPresent());
+    }
+}
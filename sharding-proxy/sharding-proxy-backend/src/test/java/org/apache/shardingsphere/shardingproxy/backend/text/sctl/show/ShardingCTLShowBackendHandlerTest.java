@@ -70,6 +70,15 @@ public final class ShardingCTLShowBackendHandlerTest {
         assertThat(((ErrorResponse) actual).getCause(), instanceOf(UnsupportedShardingCTLTypeException.class));
     }
     
+    @Test
+    public void assertShowShadowJudgementWithoutShadowSchema() {
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show shadow_judgement", backendConnection);
+        BackendResponse actual = backendHandler.execute();
+        assertThat(actual, instanceOf(ErrorResponse.class));
+        assertThat(((ErrorResponse) actual).getCause(), instanceOf(UnsupportedShardingCTLTypeException.class));
+    }
+    
     @Test
     public void assertShowCTLFormatError() {
         backendConnection.setCurrentSchema("schema");
@@ -26,16 +26,20 @@ import org.apache.shardingsphere.database.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriter;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.common.hook.RootInvokeHook;
 import org.apache.shardingsphere.underlying.common.hook.SPIRootInvokeHook;
 
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Command executor task.
@@ -52,55 +56,118 @@ public final class CommandExecutorTask implements Runnable {
     
     private final Object message;
     
+    private final Consumer<CommandExecutorTask> suspendCallback;
+    
+    private RootInvokeHook rootInvokeHook;
+    
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    private QueryDataWriter queryDataWriter;
+    
+    private boolean suspended;
+    
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
      * a new plugin should be provided to SkyWalking project if this API changed.
+     * 
+     * <p>
+     * The task is suspended and handed to suspend callback if channel is not writable while writing query data,
+     * and the same task should be run again to resume writing when channel is writable.
+     * </p>
      *
      * @see <a href="https://github.com/apache/skywalking/blob/master/docs/en/guides/Java-Plugin-Development-Guide.md#user-content-plugin-development-guide">Plugin Development Guide</a>
      */
     @Override
     public void run() {
-        RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
-        rootInvokeHook.start();
+        boolean isResumed = suspended;
+        if (!isResumed) {
+            rootInvokeHook = new SPIRootInvokeHook();
+            rootInvokeHook.start();
+        }
         int connectionSize = 0;
         boolean isNeedFlush = false;
-        try (BackendConnection backendConnection = this.backendConnection;
-             PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
-            backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
-            backendConnection.getStateHandler().setRunningStatusIfNecessary();
-            isNeedFlush = executeCommand(context, payload, backendConnection);
+        try {
+            isNeedFlush = isResumed ? writeQueryData() : executeCommand();
             connectionSize = backendConnection.getConnectionSize();
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
-            log.error("Exception occur: ", ex);
-            context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
-            Optional<DatabasePacket> databasePacket = databaseProtocolFrontendEngine.getCommandExecuteEngine().getOtherPacket();
-            databasePacket.ifPresent(context::writeAndFlush);
+            suspended = false;
+            writeErrorPacket(ex);
         } finally {
             if (isNeedFlush) {
                 context.flush();
             }
-            rootInvokeHook.finish(connectionSize);
+            if (suspended) {
+                suspend();
+            } else {
+                finish(isResumed, connectionSize);
+            }
         }
     }
     
-    private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
+    private boolean executeCommand() throws Exception {
+        try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
+            backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
+            backendConnection.getStateHandler().setRunningStatusIfNecessary();
+            return executeCommand(payload);
+        }
+    }
+    
+    private boolean executeCommand(final PacketPayload payload) throws SQLException {
         CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
         CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
         CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
         CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
         Collection<DatabasePacket> responsePackets = commandExecutor.execute();
-        if (responsePackets.isEmpty()) {
-            return false;
-        }
         for (DatabasePacket each : responsePackets) {
             context.write(each);
         }
         if (commandExecutor instanceof QueryCommandExecutor) {
-            commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
-            return true;
+            queryCommandExecutor = (QueryCommandExecutor) commandExecutor;
+            int flushThreshold = ShardingProxyContext.getInstance().getProperties().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+            queryDataWriter = new QueryDataWriter(responsePackets.size(), flushThreshold);
+            return writeQueryData();
         }
-        return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
+        return !responsePackets.isEmpty() && (commandExecutor.isFlushNeeded() || databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket());
+    }
+    
+    private boolean writeQueryData() throws SQLException {
+        suspended = !databaseProtocolFrontendEngine.getCommandExecuteEngine().writeQueryData(context, backendConnection, queryCommandExecutor, queryDataWriter);
+        return true;
+    }
+    
+    /**
+     * Abandon suspended task, which is not resumed because channel is inactive.
+     */
+    public void abandon() {
+        if (suspended) {
+            suspended = false;
+            rootInvokeHook.finish(backendConnection.getConnectionSize());
+        }
+    }
+    
+    private void suspend() {
+        context.channel().config().setAutoRead(false);
+        suspendCallback.accept(this);
+    }
+    
+    private void finish(final boolean isResumed, final int connectionSize) {
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            writeErrorPacket(ex);
+        }
+        if (isResumed) {
+            context.channel().config().setAutoRead(true);
+        }
+        rootInvokeHook.finish(connectionSize);
+    }
+    
+    private void writeErrorPacket(final Exception cause) {
+        log.error("Exception occur: ", cause);
+        context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(cause));
+        Optional<DatabasePacket> databasePacket = databaseProtocolFrontendEngine.getCommandExecuteEngine().getOtherPacket();
+        databasePacket.ifPresent(context::writeAndFlush);
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+
+import java.sql.SQLException;
+
+/**
+ * Idle cursor release task.
+ * 
+ * <p>
+ * The task is skipped if backend connection is running a command or in transaction, idle cursors will be checked again next time.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class IdleCursorReleaseTask implements Runnable {
+    
+    private final BackendConnection backendConnection;
+    
+    private final long idleTimeoutMilliseconds;
+    
+    @Override
+    public void run() {
+        if (!backendConnection.getStateHandler().setRunningStatusIfReleased()) {
+            return;
+        }
+        int releasedCount = backendConnection.getCursorRegistry().unregisterIdleCursors(idleTimeoutMilliseconds);
+        if (releasedCount > 0) {
+            log.info("Release {} idle cursor(s) of connection {}.", releasedCount, backendConnection.getConnectionId());
+        }
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            log.error("Exception occur: ", ex);
+        }
+    }
+}
@@ -27,12 +27,18 @@ import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.command.CommandExecutorTask;
+import org.apache.shardingsphere.shardingproxy.frontend.command.IdleCursorReleaseTask;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroup;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.CommandExecutorSelector;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Frontend channel inbound handler.
  */
@@ -44,6 +50,10 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     
     private volatile boolean authorized;
     
+    private final AtomicReference<CommandExecutorTask> suspendedTask = new AtomicReference<>();
+    
+    private ScheduledFuture<?> idleCursorCheckFuture;
+    
     private final BackendConnection backendConnection = new BackendConnection(
             TransactionType.valueOf(ShardingProxyContext.getInstance().getProperties().getValue(ConfigurationPropertyKey.PROXY_TRANSACTION_TYPE)),
             ShardingProxyContext.getInstance().getProperties().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED));
@@ -52,6 +62,14 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     public void channelActive(final ChannelHandlerContext context) {
         ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
         databaseProtocolFrontendEngine.getAuthEngine().handshake(context, backendConnection);
+        long idleTimeout = ShardingProxyContext.getInstance().getProperties().<Long>getValue(ConfigurationPropertyKey.PROXY_CURSOR_IDLE_TIMEOUT_MILLISECONDS);
+        idleCursorCheckFuture = context.executor().scheduleAtFixedRate(() -> releaseIdleCursors(context, idleTimeout), idleTimeout, idleTimeout, TimeUnit.MILLISECONDS);
+    }
+    
+    private void releaseIdleCursors(final ChannelHandlerContext context, final long idleTimeoutMilliseconds) {
+        if (!backendConnection.getCursorRegistry().isEmpty()) {
+            getCommandExecutor(context).execute(new IdleCursorReleaseTask(backendConnection, idleTimeoutMilliseconds));
+        }
     }
     
     @Override
@@ -60,8 +78,26 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             authorized = auth(context, (ByteBuf) message);
             return;
         }
-        CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.isSupportHint(),
-                backendConnection.getTransactionType(), context.channel().id()).execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message));
+        getCommandExecutor(context).execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message, task -> suspend(context, task)));
+    }
+    
+    private ExecutorService getCommandExecutor(final ChannelHandlerContext context) {
+        return CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.isSupportHint(),
+                backendConnection.getTransactionType(), context.channel().id());
+    }
+    
+    private void suspend(final ChannelHandlerContext context, final CommandExecutorTask commandExecutorTask) {
+        suspendedTask.set(commandExecutorTask);
+        if (context.channel().isWritable()) {
+            resume(context);
+        }
+    }
+    
+    private void resume(final ChannelHandlerContext context) {
+        CommandExecutorTask commandExecutorTask = suspendedTask.getAndSet(null);
+        if (null != commandExecutorTask) {
+            getCommandExecutor(context).execute(commandExecutorTask);
+        }
     }
     
     private boolean auth(final ChannelHandlerContext context, final ByteBuf message) {
@@ -80,6 +116,13 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @SneakyThrows
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        CommandExecutorTask commandExecutorTask = suspendedTask.getAndSet(null);
+        if (null != commandExecutorTask) {
+            commandExecutorTask.abandon();
+        }
+        if (null != idleCursorCheckFuture) {
+            idleCursorCheckFuture.cancel(false);
+        }
         databaseProtocolFrontendEngine.release(backendConnection);
         backendConnection.close(true);
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
@@ -88,7 +131,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
-            backendConnection.getResourceSynchronizer().doNotify();
+            resume(context);
         }
     }
 }
@@ -73,6 +73,7 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
             authResponse = response41.getAuthResponse();
             database = response41.getDatabase();
             sequenceId = response41.getSequenceId();
+            backendConnection.setMultiStatementsEnabled(0 != (response41.getCapabilityFlags() & MySQLCapabilityFlag.CLIENT_MULTI_STATEMENTS.getValue()));
             if (!Strings.isNullOrEmpty(database) && !LogicSchemas.getInstance().schemaExists(database)) {
                 context.writeAndFlush(new MySQLErrPacket(++sequenceId, MySQLServerErrorCode.ER_BAD_DB_ERROR, database));
                 return false;
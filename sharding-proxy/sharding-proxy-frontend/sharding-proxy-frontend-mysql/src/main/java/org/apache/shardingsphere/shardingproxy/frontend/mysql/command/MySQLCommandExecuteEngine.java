@@ -29,12 +29,12 @@ import org.apache.shardingsphere.database.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
-import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriter;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.MySQLErrPacketFactory;
-import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.fetch.MySQLComStmtFetchExecutor;
 
 import java.sql.SQLException;
 import java.util.Optional;
@@ -70,28 +70,17 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+    public boolean writeQueryData(final ChannelHandlerContext context,
+                                  final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final QueryDataWriter queryDataWriter) throws SQLException {
         if (!queryCommandExecutor.isQuery() || !context.channel().isActive()) {
-            return;
+            return true;
         }
-        int count = 0;
-        int flushThreshold = ShardingProxyContext.getInstance().getProperties().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        int currentSequenceId = 0;
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
-            }
-            DatabasePacket dataValue = queryCommandExecutor.getQueryData();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
-            }
-            currentSequenceId++;
+        if (!queryDataWriter.write(context, queryCommandExecutor)) {
+            return false;
         }
-        context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
+        int sequenceId = queryDataWriter.getWrittenRowCount() + 1 + queryDataWriter.getHeaderPackagesCount();
+        context.write(queryCommandExecutor instanceof MySQLComStmtFetchExecutor
+                ? new MySQLEofPacket(sequenceId, 0, ((MySQLComStmtFetchExecutor) queryCommandExecutor).getStatusFlags()) : new MySQLEofPacket(sequenceId));
+        return true;
     }
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCom
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.admin.initdb.MySQLComInitDbPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.fetch.MySQLComStmtFetchPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.prepare.MySQLComStmtPreparePacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
@@ -37,10 +38,14 @@ import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.admin.quit
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.generic.MySQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.close.MySQLComStmtCloseExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.execute.MySQLComStmtExecuteExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.fetch.MySQLComStmtFetchExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.prepare.MySQLComStmtPrepareExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.reset.MySQLComStmtResetExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.fieldlist.MySQLComFieldListPacketExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query.MySQLMultiStatementsSplitter;
+
+import java.util.List;
 
 /**
  * Command executor factory for MySQL.
@@ -67,19 +72,31 @@ public final class MySQLCommandExecutorFactory {
             case COM_FIELD_LIST:
                 return new MySQLComFieldListPacketExecutor((MySQLComFieldListPacket) commandPacket, backendConnection);
             case COM_QUERY:
-                return new MySQLComQueryPacketExecutor((MySQLComQueryPacket) commandPacket, backendConnection);
+                return createComQueryPacketExecutor((MySQLComQueryPacket) commandPacket, backendConnection);
             case COM_STMT_PREPARE:
                 return new MySQLComStmtPrepareExecutor((MySQLComStmtPreparePacket) commandPacket, backendConnection);
             case COM_STMT_EXECUTE:
                 return new MySQLComStmtExecuteExecutor((MySQLComStmtExecutePacket) commandPacket, backendConnection);
+            case COM_STMT_FETCH:
+                return new MySQLComStmtFetchExecutor((MySQLComStmtFetchPacket) commandPacket, backendConnection);
             case COM_STMT_RESET:
-                return new MySQLComStmtResetExecutor((MySQLComStmtResetPacket) commandPacket);
+                return new MySQLComStmtResetExecutor((MySQLComStmtResetPacket) commandPacket, backendConnection);
             case COM_STMT_CLOSE:
-                return new MySQLComStmtCloseExecutor((MySQLComStmtClosePacket) commandPacket);
+                return new MySQLComStmtCloseExecutor((MySQLComStmtClosePacket) commandPacket, backendConnection);
             case COM_PING:
                 return new MySQLComPingExecutor();
             default:
                 return new MySQLUnsupportedCommandExecutor(commandPacketType);
         }
     }
+    
+    private static CommandExecutor createComQueryPacketExecutor(final MySQLComQueryPacket commandPacket, final BackendConnection backendConnection) {
+        if (backendConnection.isMultiStatementsEnabled()) {
+            List<String> sqls = MySQLMultiStatementsSplitter.split(commandPacket.getSql());
+            if (sqls.size() > 1) {
+                return new MySQLComQueryPacketExecutor(sqls, backendConnection);
+            }
+        }
+        return new MySQLComQueryPacketExecutor(commandPacket, backendConnection);
+    }
 }
@@ -20,7 +20,9 @@ package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.bin
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.fetch.MySQLCursor;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -33,8 +35,11 @@ public final class MySQLComStmtCloseExecutor implements CommandExecutor {
     
     private final MySQLComStmtClosePacket packet;
     
+    private final BackendConnection backendConnection;
+    
     @Override
     public Collection<DatabasePacket> execute() {
+        backendConnection.getCursorRegistry().unregister(MySQLCursor.getCursorName(packet.getStatementId()));
         //TODO we need to design the cache in future.
 //        packet.removeCachedStatement();
         return Collections.emptyList();
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.bin
 import lombok.Getter;
 import org.apache.shardingsphere.database.protocol.error.CommonErrorCode;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLStatusFlag;
 import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
@@ -41,6 +42,7 @@ import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateRes
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.MySQLErrPacketFactory;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.fetch.MySQLCursor;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -56,6 +58,12 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private final DatabaseCommunicationEngine databaseCommunicationEngine;
     
+    private final BackendConnection backendConnection;
+    
+    private final String cursorName;
+    
+    private final boolean readOnlyCursor;
+    
     private volatile boolean isQuery;
     
     @Getter
@@ -69,6 +77,9 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     public MySQLComStmtExecuteExecutor(final MySQLComStmtExecutePacket comStmtExecutePacket, final BackendConnection backendConnection) {
         databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(
                 backendConnection.getLogicSchema(), comStmtExecutePacket.getSql(), comStmtExecutePacket.getParameters(), backendConnection);
+        this.backendConnection = backendConnection;
+        cursorName = MySQLCursor.getCursorName(comStmtExecutePacket.getStatementId());
+        readOnlyCursor = comStmtExecutePacket.isReadOnlyCursor();
     }
     
     @Override
@@ -76,6 +87,7 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
         if (ShardingProxyContext.getInstance().isCircuitBreak()) {
             return Collections.singletonList(new MySQLErrPacket(1, CommonErrorCode.CIRCUIT_BREAK_MODE));
         }
+        backendConnection.getCursorRegistry().unregister(cursorName);
         BackendResponse backendResponse = databaseCommunicationEngine.execute();
         if (backendResponse instanceof ErrorResponse) {
             isErrorResponse = true;
@@ -85,8 +97,12 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
             isUpdateResponse = true;
             return Collections.singletonList(createUpdatePacket((UpdateResponse) backendResponse));
         }
+        if (readOnlyCursor) {
+            backendConnection.registerCursor(cursorName, new MySQLCursor(databaseCommunicationEngine));
+            return createQueryPacket((QueryResponse) backendResponse, MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | MySQLStatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue());
+        }
         isQuery = true;
-        return createQueryPacket((QueryResponse) backendResponse);
+        return createQueryPacket((QueryResponse) backendResponse, MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue());
     }
     
     private MySQLErrPacket createErrorPacket(final Exception cause) {
@@ -97,7 +113,7 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
         return new MySQLOKPacket(1, updateResponse.getUpdateCount(), updateResponse.getLastInsertId());
     }
     
-    private Collection<DatabasePacket> createQueryPacket(final QueryResponse backendResponse) {
+    private Collection<DatabasePacket> createQueryPacket(final QueryResponse backendResponse, final int statusFlags) {
         Collection<DatabasePacket> result = new LinkedList<>();
         List<QueryHeader> queryHeader = backendResponse.getQueryHeaders();
         result.add(new MySQLFieldCountPacket(++currentSequenceId, queryHeader.size()));
@@ -105,7 +121,7 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
             result.add(new MySQLColumnDefinition41Packet(++currentSequenceId, each.getSchema(), each.getTable(), each.getTable(),
                     each.getColumnLabel(), each.getColumnName(), each.getColumnLength(), MySQLColumnType.valueOfJDBCType(each.getColumnType()), each.getDecimals()));
         }
-        result.add(new MySQLEofPacket(++currentSequenceId));
+        result.add(new MySQLEofPacket(++currentSequenceId, 0, statusFlags));
         return result;
     }
     
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.fetch;
+
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLServerErrorCode;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.fetch.MySQLComStmtFetchPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.cursor.CursorRegistry;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * COM_STMT_FETCH command executor for MySQL.
+ */
+public final class MySQLComStmtFetchExecutor implements QueryCommandExecutor {
+    
+    private final MySQLComStmtFetchPacket packet;
+    
+    private final CursorRegistry cursorRegistry;
+    
+    private MySQLCursor cursor;
+    
+    private volatile boolean isErrorResponse;
+    
+    private int fetchedRowCount;
+    
+    private boolean lastRowSent;
+    
+    private int currentSequenceId;
+    
+    public MySQLComStmtFetchExecutor(final MySQLComStmtFetchPacket packet, final BackendConnection backendConnection) {
+        this.packet = packet;
+        cursorRegistry = backendConnection.getCursorRegistry();
+    }
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        Optional<MySQLCursor> cursor = cursorRegistry.get(MySQLCursor.getCursorName(packet.getStatementId()));
+        if (!cursor.isPresent()) {
+            isErrorResponse = true;
+            return Collections.singletonList(new MySQLErrPacket(1, MySQLServerErrorCode.ER_STMT_HAS_NO_OPEN_CURSOR, packet.getStatementId()));
+        }
+        this.cursor = cursor.get();
+        return Collections.emptyList();
+    }
+    
+    @Override
+    public boolean isUpdateResponse() {
+        return false;
+    }
+    
+    @Override
+    public boolean isErrorResponse() {
+        return isErrorResponse;
+    }
+    
+    @Override
+    public boolean isQuery() {
+        return null != cursor;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (fetchedRowCount >= packet.getNumRows()) {
+            return false;
+        }
+        if (!cursor.getDatabaseCommunicationEngine().next()) {
+            lastRowSent = true;
+            cursorRegistry.unregister(MySQLCursor.getCursorName(packet.getStatementId()));
+            return false;
+        }
+        fetchedRowCount++;
+        return true;
+    }
+    
+    @Override
+    public MySQLPacket getQueryData() throws SQLException {
+        QueryData queryData = cursor.getDatabaseCommunicationEngine().getQueryData();
+        return new MySQLBinaryResultSetRowPacket(++currentSequenceId, queryData.getData(), getMySQLColumnTypes(queryData));
+    }
+    
+    private List<MySQLColumnType> getMySQLColumnTypes(final QueryData queryData) {
+        List<MySQLColumnType> result = new ArrayList<>(queryData.getColumnTypes().size());
+        for (int i = 0; i < queryData.getColumnTypes().size(); i++) {
+            result.add(MySQLColumnType.valueOfJDBCType(queryData.getColumnTypes().get(i)));
+        }
+        return result;
+    }
+    
+    /**
+     * Get status flags of EOF packet after fetched rows.
+     *
+     * @return status flags
+     */
+    public int getStatusFlags() {
+        int result = MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | MySQLStatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue();
+        return lastRowSent ? result | MySQLStatusFlag.SERVER_STATUS_LAST_ROW_SENT.getValue() : result;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.fetch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.cursor.Cursor;
+
+/**
+ * Read only cursor of prepared statement for MySQL.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLCursor implements Cursor {
+    
+    private final DatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    /**
+     * Get cursor name of statement.
+     *
+     * @param statementId statement ID
+     * @return cursor name
+     */
+    public static String getCursorName(final int statementId) {
+        return String.valueOf(statementId);
+    }
+}
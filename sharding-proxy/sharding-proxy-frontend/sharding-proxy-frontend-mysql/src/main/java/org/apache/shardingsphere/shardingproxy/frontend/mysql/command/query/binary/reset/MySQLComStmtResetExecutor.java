@@ -21,7 +21,9 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.fetch.MySQLCursor;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -34,8 +36,11 @@ public final class MySQLComStmtResetExecutor implements CommandExecutor {
     
     private final MySQLComStmtResetPacket packet;
     
+    private final BackendConnection backendConnection;
+    
     @Override
     public Collection<DatabasePacket> execute() {
+        backendConnection.getCursorRegistry().unregister(MySQLCursor.getCursorName(packet.getStatementId()));
         // TODO we should implement the stmt reset after supporting COM_STMT_SEND_LONG_DATA
         return Collections.singletonList(new MySQLOKPacket(1));
     }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.tex
 import lombok.Getter;
 import org.apache.shardingsphere.database.protocol.error.CommonErrorCode;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLStatusFlag;
 import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.MySQLColumnFieldDetailFlag;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.BatchUpdateResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandlerFactory;
@@ -46,15 +48,24 @@ import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * COM_QUERY command packet executor for MySQL.
+ * 
+ * <p>
+ * For multiple statements, results except the last one are sent with more results exists status,
+ * and only the last query result is streamed.
+ * </p>
  */
 public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
-    private final TextProtocolBackendHandler textProtocolBackendHandler;
+    private final List<TextProtocolBackendHandler> textProtocolBackendHandlers;
+    
+    private TextProtocolBackendHandler textProtocolBackendHandler;
     
     private volatile boolean isQuery;
     
@@ -67,7 +78,12 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     private int currentSequenceId;
     
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket comQueryPacket, final BackendConnection backendConnection) {
-        textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), comQueryPacket.getSql(), backendConnection);
+        textProtocolBackendHandlers = Collections.singletonList(
+                TextProtocolBackendHandlerFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), comQueryPacket.getSql(), backendConnection));
+    }
+    
+    public MySQLComQueryPacketExecutor(final List<String> sqls, final BackendConnection backendConnection) {
+        textProtocolBackendHandlers = TextProtocolBackendHandlerFactory.newInstances(DatabaseTypes.getActualDatabaseType("MySQL"), sqls, backendConnection);
     }
     
     @Override
@@ -75,25 +91,63 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         if (ShardingProxyContext.getInstance().isCircuitBreak()) {
             return Collections.singletonList(new MySQLErrPacket(1, CommonErrorCode.CIRCUIT_BREAK_MODE));
         }
-        BackendResponse backendResponse = textProtocolBackendHandler.execute();
+        Collection<DatabasePacket> result = new LinkedList<>();
+        Iterator<TextProtocolBackendHandler> iterator = textProtocolBackendHandlers.iterator();
+        while (iterator.hasNext() && !isErrorResponse) {
+            execute(iterator.next(), iterator.hasNext(), result);
+        }
+        return result;
+    }
+    
+    private void execute(final TextProtocolBackendHandler backendHandler, final boolean hasMoreResults, final Collection<DatabasePacket> packets) throws SQLException {
+        BackendResponse backendResponse = backendHandler.execute();
         if (backendResponse instanceof ErrorResponse) {
             isErrorResponse = true;
-            return Collections.singletonList(createErrorPacket(((ErrorResponse) backendResponse).getCause()));
+            packets.add(createErrorPacket(((ErrorResponse) backendResponse).getCause()));
+            return;
+        }
+        if (backendResponse instanceof BatchUpdateResponse) {
+            isUpdateResponse = true;
+            Optional<SQLException> cause = ((BatchUpdateResponse) backendResponse).findCause();
+            Iterator<UpdateResponse> iterator = ((BatchUpdateResponse) backendResponse).getUpdateResponses().iterator();
+            while (iterator.hasNext()) {
+                packets.add(createUpdatePacket(iterator.next(), hasMoreResults || iterator.hasNext() || cause.isPresent()));
+            }
+            if (cause.isPresent()) {
+                isErrorResponse = true;
+                packets.add(createErrorPacket(cause.get()));
+            }
+            return;
         }
         if (backendResponse instanceof UpdateResponse) {
             isUpdateResponse = true;
-            return Collections.singletonList(createUpdatePacket((UpdateResponse) backendResponse));
+            packets.add(createUpdatePacket((UpdateResponse) backendResponse, hasMoreResults));
+            return;
+        }
+        isUpdateResponse = false;
+        packets.addAll(createQueryPackets((QueryResponse) backendResponse));
+        if (hasMoreResults) {
+            while (backendHandler.next()) {
+                packets.add(new MySQLTextResultSetRowPacket(++currentSequenceId, backendHandler.getQueryData().getData()));
+            }
+            packets.add(new MySQLEofPacket(++currentSequenceId, 0, getStatusFlags(true)));
+            return;
         }
         isQuery = true;
-        return createQueryPackets((QueryResponse) backendResponse);
+        textProtocolBackendHandler = backendHandler;
     }
     
     private MySQLErrPacket createErrorPacket(final Exception cause) {
-        return MySQLErrPacketFactory.newInstance(1, cause);
+        return MySQLErrPacketFactory.newInstance(++currentSequenceId, cause);
+    }
+    
+    private MySQLOKPacket createUpdatePacket(final UpdateResponse updateResponse, final boolean hasMoreResults) {
+        return new MySQLOKPacket(++currentSequenceId, updateResponse.getUpdateCount(), updateResponse.getLastInsertId(), getStatusFlags(hasMoreResults), 0, "");
     }
     
-    private MySQLOKPacket createUpdatePacket(final UpdateResponse updateResponse) {
-        return new MySQLOKPacket(1, updateResponse.getUpdateCount(), updateResponse.getLastInsertId());
+    private int getStatusFlags(final boolean hasMoreResults) {
+        int result = MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue();
+        return hasMoreResults ? result | MySQLStatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue() : result;
     }
     
     private Collection<DatabasePacket> createQueryPackets(final QueryResponse backendResponse) {
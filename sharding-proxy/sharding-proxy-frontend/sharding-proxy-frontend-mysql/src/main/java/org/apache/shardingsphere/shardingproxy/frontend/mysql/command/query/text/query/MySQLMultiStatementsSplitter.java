@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Multiple statements splitter for MySQL.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLMultiStatementsSplitter {
+    
+    /**
+     * Split SQL by semicolons which are not in quotes or comments.
+     *
+     * @param sql SQL which may contain multiple statements
+     * @return statements without blank ones
+     */
+    public static List<String> split(final String sql) {
+        List<String> result = new LinkedList<>();
+        if (null == sql) {
+            return result;
+        }
+        int start = 0;
+        int index = 0;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if ('\'' == current || '"' == current || '`' == current) {
+                index = skipQuoted(sql, index, current);
+            } else if (isLineCommentStart(sql, index)) {
+                index = skipLineComment(sql, index);
+            } else if ('/' == current && index + 1 < sql.length() && '*' == sql.charAt(index + 1)) {
+                index = skipBlockComment(sql, index);
+            } else {
+                if (';' == current) {
+                    addStatement(result, sql.substring(start, index));
+                    start = index + 1;
+                }
+                index++;
+            }
+        }
+        addStatement(result, sql.substring(start));
+        return result;
+    }
+    
+    private static int skipQuoted(final String sql, final int quoteIndex, final char quote) {
+        int result = quoteIndex + 1;
+        while (result < sql.length()) {
+            char current = sql.charAt(result);
+            if ('\\' == current && '`' != quote) {
+                result += 2;
+            } else if (quote == current) {
+                if (result + 1 < sql.length() && quote == sql.charAt(result + 1)) {
+                    result += 2;
+                } else {
+                    return result + 1;
+                }
+            } else {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private static boolean isLineCommentStart(final String sql, final int index) {
+        if ('#' == sql.charAt(index)) {
+            return true;
+        }
+        return '-' == sql.charAt(index) && index + 1 < sql.length() && '-' == sql.charAt(index + 1) && (index + 2 == sql.length() || Character.isWhitespace(sql.charAt(index + 2)));
+    }
+    
+    private static int skipLineComment(final String sql, final int commentIndex) {
+        int result = sql.indexOf('\n', commentIndex);
+        return -1 == result ? sql.length() : result + 1;
+    }
+    
+    private static int skipBlockComment(final String sql, final int commentIndex) {
+        int result = sql.indexOf("*/", commentIndex + 2);
+        return -1 == result ? sql.length() : result + 2;
+    }
+    
+    private static void addStatement(final List<String> statements, final String statement) {
+        String trimmed = statement.trim();
+        if (!trimmed.isEmpty()) {
+            statements.add(trimmed);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriter;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLCommandExecuteEngineTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private ChannelConfig channelConfig;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(context.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.config()).thenReturn(channelConfig);
+        when(channelConfig.getWriteBufferHighWaterMark()).thenReturn(64 * 1024);
+        when(channelConfig.getWriteBufferLowWaterMark()).thenReturn(32 * 1024);
+        when(channel.bytesBeforeUnwritable()).thenReturn(64 * 1024L);
+        when(queryCommandExecutor.isQuery()).thenReturn(true);
+        when(queryCommandExecutor.getQueryData()).thenReturn(mock(DatabasePacket.class));
+    }
+    
+    @Test
+    public void assertWriteQueryData() throws SQLException {
+        when(channel.isWritable()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        assertTrue(new MySQLCommandExecuteEngine().writeQueryData(context, null, queryCommandExecutor, new QueryDataWriter(3, 128)));
+        assertEofSequenceId(6);
+    }
+    
+    @Test
+    public void assertWriteQueryDataWithFlushThreshold() throws SQLException {
+        when(channel.isWritable()).thenReturn(true);
+        when(queryCommandExecutor.next()).thenReturn(true, true, true, false);
+        assertTrue(new MySQLCommandExecuteEngine().writeQueryData(context, null, queryCommandExecutor, new QueryDataWriter(3, 2)));
+        verify(context).flush();
+    }
+    
+    @Test
+    public void assertWriteQueryDataWithPendingBytesReachLowWaterMark() throws SQLException {
+        when(channel.isWritable()).thenReturn(true);
+        when(channel.bytesBeforeUnwritable()).thenReturn(16 * 1024L);
+        when(queryCommandExecutor.next()).thenReturn(true, false);
+        assertTrue(new MySQLCommandExecuteEngine().writeQueryData(context, null, queryCommandExecutor, new QueryDataWriter(3, 128)));
+        verify(context).flush();
+    }
+    
+    @Test
+    public void assertWriteQueryDataSuspendedAndResumed() throws SQLException {
+        when(channel.isWritable()).thenReturn(true, false);
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        MySQLCommandExecuteEngine engine = new MySQLCommandExecuteEngine();
+        QueryDataWriter queryDataWriter = new QueryDataWriter(3, 128);
+        assertFalse(engine.writeQueryData(context, null, queryCommandExecutor, queryDataWriter));
+        verify(context).flush();
+        verify(context, never()).write(any(MySQLEofPacket.class));
+        when(channel.isWritable()).thenReturn(true);
+        assertTrue(engine.writeQueryData(context, null, queryCommandExecutor, queryDataWriter));
+        assertEofSequenceId(6);
+    }
+    
+    private void assertEofSequenceId(final int expectedSequenceId) {
+        ArgumentCaptor<DatabasePacket> captor = ArgumentCaptor.forClass(DatabasePacket.class);
+        verify(context, times(3)).write(captor.capture());
+        assertThat(((MySQLEofPacket) captor.getValue()).getSequenceId(), is(expectedSequenceId));
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.bin
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.cursor.CursorRegistry;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.hamcrest.Matchers;
@@ -47,7 +48,9 @@ public class MySQLComStmtExecuteExecutorTest {
     @Test
     @SneakyThrows
     public void assertIsErrorResponse() {
-        MySQLComStmtExecuteExecutor mySQLComStmtExecuteExecutor = new MySQLComStmtExecuteExecutor(mock(MySQLComStmtExecutePacket.class), mock(BackendConnection.class));
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        when(backendConnection.getCursorRegistry()).thenReturn(new CursorRegistry());
+        MySQLComStmtExecuteExecutor mySQLComStmtExecuteExecutor = new MySQLComStmtExecuteExecutor(mock(MySQLComStmtExecutePacket.class), backendConnection);
         FieldSetter.setField(mySQLComStmtExecuteExecutor, MySQLComStmtExecuteExecutor.class.getDeclaredField("databaseCommunicationEngine"), databaseCommunicationEngine);
         when(sqlException.getCause()).thenReturn(new Exception());
         when(databaseCommunicationEngine.execute()).thenReturn(new ErrorResponse(sqlException));
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.binary.fetch;
+
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLStatusFlag;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.fetch.MySQLComStmtFetchPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.cursor.CursorRegistry;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLComStmtFetchExecutorTest {
+    
+    @Mock
+    private MySQLComStmtFetchPacket packet;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private DatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    private final CursorRegistry cursorRegistry = new CursorRegistry();
+    
+    @Before
+    public void setUp() {
+        when(packet.getStatementId()).thenReturn(1);
+        when(backendConnection.getCursorRegistry()).thenReturn(cursorRegistry);
+    }
+    
+    @Test
+    public void assertExecuteWithoutCursor() {
+        MySQLComStmtFetchExecutor actual = new MySQLComStmtFetchExecutor(packet, backendConnection);
+        Collection<DatabasePacket> packets = actual.execute();
+        assertThat(packets.size(), is(1));
+        assertThat(packets.iterator().next(), instanceOf(MySQLErrPacket.class));
+        assertTrue(actual.isErrorResponse());
+        assertFalse(actual.isQuery());
+    }
+    
+    @Test
+    public void assertNextWithinNumRows() throws SQLException {
+        cursorRegistry.register(MySQLCursor.getCursorName(1), new MySQLCursor(databaseCommunicationEngine));
+        when(packet.getNumRows()).thenReturn(1);
+        when(databaseCommunicationEngine.next()).thenReturn(true);
+        MySQLComStmtFetchExecutor actual = new MySQLComStmtFetchExecutor(packet, backendConnection);
+        assertTrue(actual.execute().isEmpty());
+        assertTrue(actual.isQuery());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        assertFalse(cursorRegistry.isEmpty());
+        assertThat(actual.getStatusFlags(), is(MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | MySQLStatusFlag.SERVER_STATUS_CURSOR_EXISTS.getValue()));
+    }
+    
+    @Test
+    public void assertNextUntilLastRowSent() throws SQLException {
+        cursorRegistry.register(MySQLCursor.getCursorName(1), new MySQLCursor(databaseCommunicationEngine));
+        when(packet.getNumRows()).thenReturn(10);
+        when(databaseCommunicationEngine.next()).thenReturn(true, false);
+        MySQLComStmtFetchExecutor actual = new MySQLComStmtFetchExecutor(packet, backendConnection);
+        actual.execute();
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        assertTrue(cursorRegistry.isEmpty());
+        assertThat(actual.getStatusFlags() & MySQLStatusFlag.SERVER_STATUS_LAST_ROW_SENT.getValue(), is(MySQLStatusFlag.SERVER_STATUS_LAST_ROW_SENT.getValue()));
+    }
+}
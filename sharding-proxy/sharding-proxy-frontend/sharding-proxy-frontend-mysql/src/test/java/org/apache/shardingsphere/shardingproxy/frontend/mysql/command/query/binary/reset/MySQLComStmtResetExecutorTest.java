@@ -20,6 +20,8 @@ package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.bin
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.cursor.CursorRegistry;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -30,6 +32,7 @@ import java.util.Collection;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class MySQLComStmtResetExecutorTest {
@@ -37,9 +40,13 @@ public final class MySQLComStmtResetExecutorTest {
     @Mock
     private MySQLComStmtResetPacket packet;
     
+    @Mock
+    private BackendConnection backendConnection;
+    
     @Test
     public void assertExecute() {
-        MySQLComStmtResetExecutor mySQLComStmtResetExecutor = new MySQLComStmtResetExecutor(packet);
+        when(backendConnection.getCursorRegistry()).thenReturn(new CursorRegistry());
+        MySQLComStmtResetExecutor mySQLComStmtResetExecutor = new MySQLComStmtResetExecutor(packet, backendConnection);
         Collection<DatabasePacket> actual = mySQLComStmtResetExecutor.execute();
         assertThat(actual.size(), is(1));
         assertThat(actual.iterator().next(), instanceOf(MySQLOKPacket.class));
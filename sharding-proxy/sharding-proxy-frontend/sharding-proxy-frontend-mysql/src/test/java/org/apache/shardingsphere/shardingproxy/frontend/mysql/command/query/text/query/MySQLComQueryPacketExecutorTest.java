@@ -18,8 +18,14 @@
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLStatusFlag;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.BatchUpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
 import org.hamcrest.Matchers;
 import org.junit.Assert;
@@ -30,8 +36,14 @@ import org.mockito.internal.util.reflection.FieldSetter;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -47,10 +59,62 @@ public class MySQLComQueryPacketExecutorTest {
     @SneakyThrows
     public void assertIsErrorResponse() {
         MySQLComQueryPacketExecutor mySQLComQueryPacketExecutor = new MySQLComQueryPacketExecutor(mock(MySQLComQueryPacket.class), null);
-        FieldSetter.setField(mySQLComQueryPacketExecutor, MySQLComQueryPacketExecutor.class.getDeclaredField("textProtocolBackendHandler"), textProtocolBackendHandler);
+        FieldSetter.setField(mySQLComQueryPacketExecutor, MySQLComQueryPacketExecutor.class.getDeclaredField("textProtocolBackendHandlers"), Collections.singletonList(textProtocolBackendHandler));
         when(sqlException.getCause()).thenReturn(new Exception());
         when(textProtocolBackendHandler.execute()).thenReturn(new ErrorResponse(sqlException));
         mySQLComQueryPacketExecutor.execute();
         Assert.assertThat(mySQLComQueryPacketExecutor.isErrorResponse(), Matchers.is(true));
     }
+    
+    @Test
+    @SneakyThrows
+    public void assertExecuteMultiStatements() {
+        MySQLComQueryPacketExecutor mySQLComQueryPacketExecutor = new MySQLComQueryPacketExecutor(mock(MySQLComQueryPacket.class), null);
+        TextProtocolBackendHandler batchUpdateBackendHandler = mock(TextProtocolBackendHandler.class);
+        FieldSetter.setField(mySQLComQueryPacketExecutor,
+                MySQLComQueryPacketExecutor.class.getDeclaredField("textProtocolBackendHandlers"), Arrays.asList(batchUpdateBackendHandler, textProtocolBackendHandler));
+        when(batchUpdateBackendHandler.execute()).thenReturn(new BatchUpdateResponse(Arrays.asList(new UpdateResponse(), new UpdateResponse())));
+        when(textProtocolBackendHandler.execute()).thenReturn(new UpdateResponse());
+        List<DatabasePacket> actual = new ArrayList<>(mySQLComQueryPacketExecutor.execute());
+        Assert.assertThat(actual.size(), Matchers.is(3));
+        for (int i = 0; i < actual.size(); i++) {
+            Assert.assertThat(((MySQLOKPacket) actual.get(i)).getSequenceId(), Matchers.is(i + 1));
+        }
+        int moreResultsExists = MySQLStatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue();
+        Assert.assertThat(((MySQLOKPacket) actual.get(0)).getStatusFlag() & moreResultsExists, Matchers.is(moreResultsExists));
+        Assert.assertThat(((MySQLOKPacket) actual.get(1)).getStatusFlag() & moreResultsExists, Matchers.is(moreResultsExists));
+        Assert.assertThat(((MySQLOKPacket) actual.get(2)).getStatusFlag() & moreResultsExists, Matchers.is(0));
+        Assert.assertTrue(mySQLComQueryPacketExecutor.isUpdateResponse());
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertExecuteMultiStatementsStopAtError() {
+        MySQLComQueryPacketExecutor mySQLComQueryPacketExecutor = new MySQLComQueryPacketExecutor(mock(MySQLComQueryPacket.class), null);
+        TextProtocolBackendHandler nextBackendHandler = mock(TextProtocolBackendHandler.class);
+        FieldSetter.setField(mySQLComQueryPacketExecutor,
+                MySQLComQueryPacketExecutor.class.getDeclaredField("textProtocolBackendHandlers"), Arrays.asList(textProtocolBackendHandler, nextBackendHandler));
+        when(textProtocolBackendHandler.execute()).thenReturn(new ErrorResponse(new SQLException("test", "HY000", 1000)));
+        List<DatabasePacket> actual = new ArrayList<>(mySQLComQueryPacketExecutor.execute());
+        Assert.assertThat(actual.size(), Matchers.is(1));
+        Assert.assertThat(actual.get(0), Matchers.instanceOf(MySQLErrPacket.class));
+        verify(nextBackendHandler, never()).execute();
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertExecuteMultiStatementsWithBatchFailure() {
+        MySQLComQueryPacketExecutor mySQLComQueryPacketExecutor = new MySQLComQueryPacketExecutor(mock(MySQLComQueryPacket.class), null);
+        TextProtocolBackendHandler nextBackendHandler = mock(TextProtocolBackendHandler.class);
+        FieldSetter.setField(mySQLComQueryPacketExecutor,
+                MySQLComQueryPacketExecutor.class.getDeclaredField("textProtocolBackendHandlers"), Arrays.asList(textProtocolBackendHandler, nextBackendHandler));
+        when(textProtocolBackendHandler.execute()).thenReturn(new BatchUpdateResponse(Collections.singletonList(new UpdateResponse()), new SQLException("test", "HY000", 1000)));
+        List<DatabasePacket> actual = new ArrayList<>(mySQLComQueryPacketExecutor.execute());
+        Assert.assertThat(actual.size(), Matchers.is(2));
+        int moreResultsExists = MySQLStatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue();
+        Assert.assertThat(((MySQLOKPacket) actual.get(0)).getStatusFlag() & moreResultsExists, Matchers.is(moreResultsExists));
+        Assert.assertThat(actual.get(1), Matchers.instanceOf(MySQLErrPacket.class));
+        Assert.assertTrue(mySQLComQueryPacketExecutor.isErrorResponse());
+        verify(nextBackendHandler, never()).execute();
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLMultiStatementsSplitterTest {
+    
+    @Test
+    public void assertSplitSingleStatement() {
+        assertThat(MySQLMultiStatementsSplitter.split("SELECT 1;"), is(Collections.singletonList("SELECT 1")));
+    }
+    
+    @Test
+    public void assertSplitMultiStatements() {
+        assertThat(MySQLMultiStatementsSplitter.split("INSERT INTO t VALUES (1); UPDATE t SET c = 2 ;; DELETE FROM t"),
+                is(Arrays.asList("INSERT INTO t VALUES (1)", "UPDATE t SET c = 2", "DELETE FROM t")));
+    }
+    
+    @Test
+    public void assertSplitWithSemicolonInQuotes() {
+        assertThat(MySQLMultiStatementsSplitter.split("INSERT INTO t VALUES ('a;b', \"c\\\";d\", 'e'';f'); SELECT `x;y` FROM t"),
+                is(Arrays.asList("INSERT INTO t VALUES ('a;b', \"c\\\";d\", 'e'';f')", "SELECT `x;y` FROM t")));
+    }
+    
+    @Test
+    public void assertSplitWithSemicolonInComments() {
+        assertThat(MySQLMultiStatementsSplitter.split("SELECT 1 -- a;b\n; SELECT 2 # c;d\n; SELECT /* e;f */ 3"),
+                is(Arrays.asList("SELECT 1 -- a;b", "SELECT 2 # c;d", "SELECT /* e;f */ 3")));
+    }
+}
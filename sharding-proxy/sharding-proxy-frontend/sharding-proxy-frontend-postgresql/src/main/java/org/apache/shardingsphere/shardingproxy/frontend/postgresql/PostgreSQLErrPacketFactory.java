@@ -23,6 +23,8 @@ import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.Pos
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.ServerErrorMessage;
 
+import java.sql.SQLException;
+
 /**
  * ERR packet factory for PostgreSQL.
  */
@@ -46,6 +48,9 @@ public final class PostgreSQLErrPacketFactory {
             return errorResponsePacket;
         }
         PostgreSQLErrorResponsePacket errorResponsePacket = new PostgreSQLErrorResponsePacket();
+        if (cause instanceof SQLException && null != ((SQLException) cause).getSQLState()) {
+            errorResponsePacket.addField(PostgreSQLErrorResponsePacket.FIELD_TYPE_CODE, ((SQLException) cause).getSQLState());
+        }
         errorResponsePacket.addField(PostgreSQLErrorResponsePacket.FIELD_TYPE_MESSAGE, cause.getMessage());
         return errorResponsePacket;
     }
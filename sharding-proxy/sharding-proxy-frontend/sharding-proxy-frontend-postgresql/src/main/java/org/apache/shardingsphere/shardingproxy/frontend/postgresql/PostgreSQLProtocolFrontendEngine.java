@@ -25,6 +25,7 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connec
 import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.auth.PostgreSQLAuthenticationEngine;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy.PostgreSQLCopyInLoaderRegistry;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
 /**
@@ -49,5 +50,6 @@ public final class PostgreSQLProtocolFrontendEngine implements DatabaseProtocolF
     @Override
     public void release(final BackendConnection backendConnection) {
         BinaryStatementRegistry.getInstance().unregister(backendConnection.getConnectionId());
+        PostgreSQLCopyInLoaderRegistry.getInstance().unregister(backendConnection.getConnectionId());
     }
 }
@@ -26,16 +26,18 @@ import org.apache.shardingsphere.database.protocol.postgresql.packet.command.Pos
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacketFactory;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacketTypeLoader;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.text.copy.PostgreSQLCopyDonePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
-import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
-import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWriter;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.execute.PostgreSQLComExecuteExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy.PostgreSQLComCopyOutExecutor;
 
 import java.sql.SQLException;
 import java.util.Optional;
@@ -73,33 +75,53 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+    public boolean writeQueryData(final ChannelHandlerContext context,
+                                  final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final QueryDataWriter queryDataWriter) throws SQLException {
+        if (queryCommandExecutor instanceof PostgreSQLComExecuteExecutor) {
+            return writePortalData(context, (PostgreSQLComExecuteExecutor) queryCommandExecutor, queryDataWriter);
+        }
+        if (queryCommandExecutor instanceof PostgreSQLComCopyOutExecutor) {
+            return writeCopyOutData(context, queryCommandExecutor, queryDataWriter);
+        }
         if (queryCommandExecutor.isQuery() && !context.channel().isActive()) {
             context.write(new PostgreSQLCommandCompletePacket());
             context.write(new PostgreSQLReadyForQueryPacket());
-            return;
+            return true;
         }
         if (queryCommandExecutor.isErrorResponse() || queryCommandExecutor.isUpdateResponse()) {
             context.write(new PostgreSQLReadyForQueryPacket());
-            return;
+            return true;
         }
-        int count = 0;
-        int proxyFrontendFlushThreshold = ShardingProxyContext.getInstance().getProperties().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
-            }
-            DatabasePacket resultValue = queryCommandExecutor.getQueryData();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == count) {
-                context.flush();
-                count = 0;
-            }
+        if (!queryDataWriter.write(context, queryCommandExecutor)) {
+            return false;
         }
         context.write(new PostgreSQLCommandCompletePacket());
         context.write(new PostgreSQLReadyForQueryPacket());
+        return true;
+    }
+    
+    private boolean writePortalData(final ChannelHandlerContext context, final PostgreSQLComExecuteExecutor executeExecutor, final QueryDataWriter queryDataWriter) throws SQLException {
+        if (!executeExecutor.isQuery()) {
+            return true;
+        }
+        if (!queryDataWriter.write(context, executeExecutor)) {
+            return false;
+        }
+        context.write(executeExecutor.getCompletePacket());
+        return true;
+    }
+    
+    private boolean writeCopyOutData(final ChannelHandlerContext context, final QueryCommandExecutor copyOutExecutor, final QueryDataWriter queryDataWriter) throws SQLException {
+        if (!copyOutExecutor.isQuery()) {
+            context.write(new PostgreSQLReadyForQueryPacket());
+            return true;
+        }
+        if (!queryDataWriter.write(context, copyOutExecutor)) {
+            return false;
+        }
+        context.write(new PostgreSQLCopyDonePacket());
+        context.write(new PostgreSQLCommandCompletePacket("COPY", queryDataWriter.getWrittenRowCount()));
+        context.write(new PostgreSQLReadyForQueryPacket());
+        return true;
     }
 }
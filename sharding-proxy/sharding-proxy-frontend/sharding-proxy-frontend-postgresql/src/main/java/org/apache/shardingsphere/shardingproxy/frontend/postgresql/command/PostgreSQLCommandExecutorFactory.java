@@ -23,8 +23,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.text.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.text.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.text.copy.PostgreSQLCopyFailPacket;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
@@ -35,6 +38,15 @@ import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.parse.PostgreSQLComParseExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.sync.PostgreSQLComSyncExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.PostgreSQLComQueryExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy.PostgreSQLComCopyDataExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy.PostgreSQLComCopyDoneExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy.PostgreSQLComCopyFailExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy.PostgreSQLComCopyInExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy.PostgreSQLComCopyOutExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy.PostgreSQLCopyStatement;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy.PostgreSQLCopyStatementParser;
+
+import java.util.Optional;
 
 /**
  * Command executor factory for PostgreSQL.
@@ -55,7 +67,7 @@ public final class PostgreSQLCommandExecutorFactory {
         log.debug("Execute packet type: {}, value: {}", commandPacketType, commandPacket);
         switch (commandPacketType) {
             case QUERY:
-                return new PostgreSQLComQueryExecutor((PostgreSQLComQueryPacket) commandPacket, backendConnection);
+                return createComQueryExecutor((PostgreSQLComQueryPacket) commandPacket, backendConnection);
             case PARSE:
                 return new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) commandPacket, backendConnection);
             case BIND:
@@ -63,13 +75,27 @@ public final class PostgreSQLCommandExecutorFactory {
             case DESCRIBE:
                 return new PostgreSQLComDescribeExecutor();
             case EXECUTE:
-                return new PostgreSQLComExecuteExecutor();
+                return new PostgreSQLComExecuteExecutor((PostgreSQLComExecutePacket) commandPacket, backendConnection);
             case SYNC:
-                return new PostgreSQLComSyncExecutor();
+                return new PostgreSQLComSyncExecutor(backendConnection);
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataExecutor((PostgreSQLCopyDataPacket) commandPacket, backendConnection);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDoneExecutor(backendConnection);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailExecutor((PostgreSQLCopyFailPacket) commandPacket, backendConnection);
             case TERMINATE:
                 return new PostgreSQLComTerminationExecutor();
             default:
                 return new PostgreSQLUnsupportedCommandExecutor();
         }
     }
+    
+    private static CommandExecutor createComQueryExecutor(final PostgreSQLComQueryPacket comQueryPacket, final BackendConnection backendConnection) {
+        Optional<PostgreSQLCopyStatement> copyStatement = PostgreSQLCopyStatementParser.parse(comQueryPacket.getSql());
+        if (!copyStatement.isPresent()) {
+            return new PostgreSQLComQueryExecutor(comQueryPacket, backendConnection);
+        }
+        return copyStatement.get().isCopyIn() ? new PostgreSQLComCopyInExecutor(copyStatement.get(), backendConnection) : new PostgreSQLComCopyOutExecutor(copyStatement.get(), backendConnection);
+    }
 }
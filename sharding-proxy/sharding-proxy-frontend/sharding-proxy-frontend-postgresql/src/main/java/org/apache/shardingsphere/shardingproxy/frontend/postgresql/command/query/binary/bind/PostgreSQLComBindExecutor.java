@@ -17,32 +17,25 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.bind;
 
-import lombok.Getter;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.constant.PostgreSQLColumnType;
-import org.apache.shardingsphere.database.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
-import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBinaryResultSetRowPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
-import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.text.PostgreSQLDataRowPacket;
-import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngineFactory;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
-import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
-import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
-import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.PostgreSQLErrPacketFactory;
 
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -52,25 +45,29 @@ import java.util.Optional;
 
 /**
  * Command bind executor for PostgreSQL.
+ * 
+ * <p>
+ * The result of bound statement is kept in portal, and rows of portal are fetched by execute command.
+ * Columns are returned in binary format if requested by result format codes and supported by binary protocol value, otherwise in text format.
+ * </p>
  */
-public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
+public final class PostgreSQLComBindExecutor implements CommandExecutor {
     
-    private final PostgreSQLComBindPacket packet;
-            
-    private final DatabaseCommunicationEngine databaseCommunicationEngine;
+    private static final int TEXT_FORMAT_CODE = 0;
+    
+    private static final int BINARY_FORMAT_CODE = 1;
     
-    private volatile boolean isQuery;
+    private final PostgreSQLComBindPacket packet;
     
-    @Getter
-    private volatile boolean isUpdateResponse;
+    private final DatabaseCommunicationEngine databaseCommunicationEngine;
     
-    @Getter
-    private volatile boolean isErrorResponse;
+    private final BackendConnection backendConnection;
     
     public PostgreSQLComBindExecutor(final PostgreSQLComBindPacket packet, final BackendConnection backendConnection) {
         this.packet = packet;
         databaseCommunicationEngine = null == packet.getSql()
                 ? null : DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(backendConnection.getLogicSchema(), packet.getSql(), packet.getParameters(), backendConnection);
+        this.backendConnection = backendConnection;
     }
     
     @Override
@@ -78,6 +75,7 @@ public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
         if (ShardingProxyContext.getInstance().isCircuitBreak()) {
             return Collections.singletonList(new PostgreSQLErrorResponsePacket());
         }
+        backendConnection.getCursorRegistry().unregister(packet.getPortal());
         List<DatabasePacket> result = new LinkedList<>();
         result.add(new PostgreSQLBindCompletePacket());
         if (null == databaseCommunicationEngine) {
@@ -85,16 +83,15 @@ public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
         }
         BackendResponse backendResponse = databaseCommunicationEngine.execute();
         if (backendResponse instanceof ErrorResponse) {
-            isErrorResponse = true;
             result.add(createErrorPacket((ErrorResponse) backendResponse));
+            return result;
         }
-        if (backendResponse instanceof UpdateResponse) {
-            isUpdateResponse = true;
-            result.add(createUpdatePacket((UpdateResponse) backendResponse));
-        }
+        List<Integer> resultFormatCodes = Collections.emptyList();
         if (backendResponse instanceof QueryResponse) {
-            createQueryPacket((QueryResponse) backendResponse).ifPresent(result::add);
+            resultFormatCodes = getResultFormatCodes((QueryResponse) backendResponse);
+            createQueryPacket((QueryResponse) backendResponse, resultFormatCodes).ifPresent(result::add);
         }
+        backendConnection.registerCursor(packet.getPortal(), new PostgreSQLPortal(databaseCommunicationEngine, backendResponse, resultFormatCodes));
         return result;
     }
     
@@ -102,48 +99,31 @@ public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
         return PostgreSQLErrPacketFactory.newInstance(errorResponse.getCause());
     }
     
-    private PostgreSQLCommandCompletePacket createUpdatePacket(final UpdateResponse updateResponse) {
-        return new PostgreSQLCommandCompletePacket(updateResponse.getType(), updateResponse.getUpdateCount());
+    private List<Integer> getResultFormatCodes(final QueryResponse queryResponse) {
+        List<Integer> result = new ArrayList<>(queryResponse.getQueryHeaders().size());
+        for (int i = 0; i < queryResponse.getQueryHeaders().size(); i++) {
+            int columnType = queryResponse.getQueryHeaders().get(i).getColumnType();
+            boolean isBinary = BINARY_FORMAT_CODE == packet.getResultFormatCode(i)
+                    && PostgreSQLBinaryProtocolValueFactory.isBinaryProtocolValueSupported(PostgreSQLColumnType.valueOfJDBCType(columnType));
+            result.add(isBinary ? BINARY_FORMAT_CODE : TEXT_FORMAT_CODE);
+        }
+        return result;
     }
     
-    private Optional<PostgreSQLRowDescriptionPacket> createQueryPacket(final QueryResponse queryResponse) {
-        List<PostgreSQLColumnDescription> columnDescriptions = getPostgreSQLColumnDescriptions(queryResponse);
-        isQuery = !columnDescriptions.isEmpty();
-        if (columnDescriptions.isEmpty() || packet.isBinaryRowData()) {
+    private Optional<PostgreSQLRowDescriptionPacket> createQueryPacket(final QueryResponse queryResponse, final List<Integer> resultFormatCodes) {
+        List<PostgreSQLColumnDescription> columnDescriptions = getPostgreSQLColumnDescriptions(queryResponse, resultFormatCodes);
+        if (columnDescriptions.isEmpty()) {
             return Optional.empty();
         }
         return Optional.of(new PostgreSQLRowDescriptionPacket(columnDescriptions.size(), columnDescriptions));
     }
     
-    private List<PostgreSQLColumnDescription> getPostgreSQLColumnDescriptions(final QueryResponse queryResponse) {
+    private List<PostgreSQLColumnDescription> getPostgreSQLColumnDescriptions(final QueryResponse queryResponse, final List<Integer> resultFormatCodes) {
         List<PostgreSQLColumnDescription> result = new LinkedList<>();
         int columnIndex = 0;
         for (QueryHeader each : queryResponse.getQueryHeaders()) {
-            result.add(new PostgreSQLColumnDescription(each.getColumnName(), ++columnIndex, each.getColumnType(), each.getColumnLength()));
-        }
-        return result;
-    }
-    
-    @Override
-    public boolean isQuery() {
-        return isQuery;
-    }
-    
-    @Override
-    public boolean next() throws SQLException {
-        return null != databaseCommunicationEngine && databaseCommunicationEngine.next();
-    }
-    
-    @Override
-    public PostgreSQLPacket getQueryData() throws SQLException {
-        QueryData queryData = databaseCommunicationEngine.getQueryData();
-        return packet.isBinaryRowData() ? new PostgreSQLBinaryResultSetRowPacket(queryData.getData(), getPostgreSQLColumnTypes(queryData)) : new PostgreSQLDataRowPacket(queryData.getData());
-    }
-    
-    private List<PostgreSQLColumnType> getPostgreSQLColumnTypes(final QueryData queryData) {
-        List<PostgreSQLColumnType> result = new ArrayList<>(queryData.getColumnTypes().size());
-        for (int i = 0; i < queryData.getColumnTypes().size(); i++) {
-            result.add(PostgreSQLColumnType.valueOfJDBCType(queryData.getColumnTypes().get(i)));
+            result.add(new PostgreSQLColumnDescription(each.getColumnName(), columnIndex + 1, each.getColumnType(), each.getColumnLength(), resultFormatCodes.get(columnIndex)));
+            columnIndex++;
         }
         return result;
     }
@@ -17,19 +17,125 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.execute;
 
+import lombok.Getter;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
-import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.database.protocol.postgresql.constant.PostgreSQLColumnType;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.execute.PostgreSQLPortalSuspendedPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.text.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.cursor.CursorRegistry;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.bind.PostgreSQLPortal;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Command execute executor for PostgreSQL.
+ * 
+ * <p>
+ * At most max rows of portal are fetched, and the portal is suspended if rows remain.
+ * </p>
  */
-public final class PostgreSQLComExecuteExecutor implements CommandExecutor {
+public final class PostgreSQLComExecuteExecutor implements QueryCommandExecutor {
+    
+    private static final int BINARY_FORMAT_CODE = 1;
+    
+    private final PostgreSQLComExecutePacket packet;
+    
+    private final CursorRegistry cursorRegistry;
+    
+    private PostgreSQLPortal portal;
+    
+    private volatile boolean isQuery;
+    
+    @Getter
+    private volatile boolean isUpdateResponse;
+    
+    private int fetchedRowCount;
+    
+    private boolean isPortalSuspended;
+    
+    public PostgreSQLComExecuteExecutor(final PostgreSQLComExecutePacket packet, final BackendConnection backendConnection) {
+        this.packet = packet;
+        cursorRegistry = backendConnection.getCursorRegistry();
+    }
     
     @Override
     public Collection<DatabasePacket> execute() {
+        Optional<PostgreSQLPortal> registeredPortal = cursorRegistry.get(packet.getPortal());
+        if (!registeredPortal.isPresent()) {
+            return Collections.singletonList(new PostgreSQLCommandCompletePacket());
+        }
+        if (registeredPortal.get().getBackendResponse() instanceof UpdateResponse) {
+            isUpdateResponse = true;
+            cursorRegistry.unregister(packet.getPortal());
+            UpdateResponse updateResponse = (UpdateResponse) registeredPortal.get().getBackendResponse();
+            return Collections.singletonList(new PostgreSQLCommandCompletePacket(updateResponse.getType(), updateResponse.getUpdateCount()));
+        }
+        isQuery = registeredPortal.get().getBackendResponse() instanceof QueryResponse;
+        portal = registeredPortal.get();
         return Collections.emptyList();
     }
+    
+    @Override
+    public boolean isErrorResponse() {
+        return false;
+    }
+    
+    @Override
+    public boolean isQuery() {
+        return isQuery;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (0 < packet.getMaxRows() && fetchedRowCount >= packet.getMaxRows()) {
+            isPortalSuspended = true;
+            return false;
+        }
+        if (!portal.getDatabaseCommunicationEngine().next()) {
+            cursorRegistry.unregister(packet.getPortal());
+            return false;
+        }
+        fetchedRowCount++;
+        return true;
+    }
+    
+    @Override
+    public PostgreSQLPacket getQueryData() throws SQLException {
+        QueryData queryData = portal.getDatabaseCommunicationEngine().getQueryData();
+        if (portal.getResultFormatCodes().contains(BINARY_FORMAT_CODE)) {
+            return new PostgreSQLBinaryResultSetRowPacket(queryData.getData(), getPostgreSQLColumnTypes(queryData), portal.getResultFormatCodes());
+        }
+        return new PostgreSQLDataRowPacket(queryData.getData());
+    }
+    
+    private List<PostgreSQLColumnType> getPostgreSQLColumnTypes(final QueryData queryData) {
+        List<PostgreSQLColumnType> result = new ArrayList<>(queryData.getColumnTypes().size());
+        for (int i = 0; i < queryData.getColumnTypes().size(); i++) {
+            result.add(PostgreSQLColumnType.valueOfJDBCType(queryData.getColumnTypes().get(i)));
+        }
+        return result;
+    }
+    
+    /**
+     * Get packet to complete execution.
+     * 
+     * @return portal suspended packet if rows of portal remain, otherwise command complete packet
+     */
+    public PostgreSQLPacket getCompletePacket() {
+        return isPortalSuspended ? new PostgreSQLPortalSuspendedPacket() : new PostgreSQLCommandCompletePacket();
+    }
 }
@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.sync;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 
 import java.util.Collection;
@@ -25,11 +28,26 @@ import java.util.Collections;
 
 /**
  * Command sync executor for PostgreSQL.
+ * 
+ * <p>
+ * Sync closes portals which are not in transaction, and responses of extended query are flushed here.
+ * </p>
  */
+@RequiredArgsConstructor
 public final class PostgreSQLComSyncExecutor implements CommandExecutor {
     
+    private final BackendConnection backendConnection;
+    
     @Override
     public Collection<DatabasePacket> execute() {
-        return Collections.emptyList();
+        if (!backendConnection.getStateHandler().isInTransaction()) {
+            backendConnection.getCursorRegistry().unregisterAll();
+        }
+        return Collections.singletonList(new PostgreSQLReadyForQueryPacket());
+    }
+    
+    @Override
+    public boolean isFlushNeeded() {
+        return true;
     }
 }
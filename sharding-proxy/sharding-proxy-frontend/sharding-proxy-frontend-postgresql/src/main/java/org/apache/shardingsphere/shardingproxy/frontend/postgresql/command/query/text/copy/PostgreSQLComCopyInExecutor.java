@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy;
+
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.text.copy.PostgreSQLCopyInResponsePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.PostgreSQLErrPacketFactory;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Command copy from standard input executor for PostgreSQL.
+ */
+public final class PostgreSQLComCopyInExecutor extends PostgreSQLCopyInCommandExecutor {
+    
+    private final PostgreSQLCopyStatement copyStatement;
+    
+    private final BackendConnection backendConnection;
+    
+    public PostgreSQLComCopyInExecutor(final PostgreSQLCopyStatement copyStatement, final BackendConnection backendConnection) {
+        this.copyStatement = copyStatement;
+        this.backendConnection = backendConnection;
+    }
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        PostgreSQLCopyInLoader loader;
+        try {
+            if (!copyStatement.getOptions().isEmpty()) {
+                throw new SQLFeatureNotSupportedException(String.format("COPY options are not supported: %s", copyStatement.getOptions()));
+            }
+            loader = new PostgreSQLCopyInLoader(copyStatement, backendConnection);
+        } catch (final SQLException ex) {
+            return Arrays.asList(PostgreSQLErrPacketFactory.newInstance(ex), new PostgreSQLReadyForQueryPacket());
+        }
+        PostgreSQLCopyInLoaderRegistry.getInstance().register(backendConnection.getConnectionId(), loader);
+        return Collections.singletonList(new PostgreSQLCopyInResponsePacket(loader.getColumnCount()));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.text.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.text.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandlerFactory;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.PostgreSQLErrPacketFactory;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Command copy to standard output executor for PostgreSQL.
+ * 
+ * <p>
+ * Table or query is executed as select statement, and every row of result is returned as copy data.
+ * </p>
+ */
+public final class PostgreSQLComCopyOutExecutor implements QueryCommandExecutor {
+    
+    private final PostgreSQLCopyStatement copyStatement;
+    
+    private final TextProtocolBackendHandler textProtocolBackendHandler;
+    
+    private volatile boolean isQuery;
+    
+    @Getter
+    private volatile boolean isErrorResponse;
+    
+    public PostgreSQLComCopyOutExecutor(final PostgreSQLCopyStatement copyStatement, final BackendConnection backendConnection) {
+        this.copyStatement = copyStatement;
+        textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypes.getActualDatabaseType("PostgreSQL"), getSelectSQL(copyStatement), backendConnection);
+    }
+    
+    private static String getSelectSQL(final PostgreSQLCopyStatement copyStatement) {
+        if (null != copyStatement.getQuery()) {
+            return copyStatement.getQuery();
+        }
+        String columns = copyStatement.getColumnNames().isEmpty() ? "*" : String.join(", ", copyStatement.getColumnNames());
+        return String.format("SELECT %s FROM %s", columns, copyStatement.getTableName());
+    }
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        if (!copyStatement.getOptions().isEmpty()) {
+            isErrorResponse = true;
+            SQLException cause = new SQLFeatureNotSupportedException(String.format("COPY options are not supported: %s", copyStatement.getOptions()));
+            return Collections.singletonList(PostgreSQLErrPacketFactory.newInstance(cause));
+        }
+        BackendResponse backendResponse = textProtocolBackendHandler.execute();
+        if (backendResponse instanceof ErrorResponse) {
+            isErrorResponse = true;
+            return Collections.singletonList(PostgreSQLErrPacketFactory.newInstance(((ErrorResponse) backendResponse).getCause()));
+        }
+        if (!(backendResponse instanceof QueryResponse)) {
+            isErrorResponse = true;
+            return Collections.singletonList(PostgreSQLErrPacketFactory.newInstance(new SQLException("COPY query must be a SELECT", "0A000")));
+        }
+        isQuery = true;
+        return Collections.singletonList(new PostgreSQLCopyOutResponsePacket(((QueryResponse) backendResponse).getQueryHeaders().size()));
+    }
+    
+    @Override
+    public boolean isQuery() {
+        return isQuery;
+    }
+    
+    @Override
+    public boolean isUpdateResponse() {
+        return false;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return textProtocolBackendHandler.next();
+    }
+    
+    @Override
+    public PostgreSQLPacket getQueryData() throws SQLException {
+        return new PostgreSQLCopyDataPacket(PostgreSQLCopyTextFormat.formatRow(textProtocolBackendHandler.getQueryData().getData()).getBytes(StandardCharsets.UTF_8));
+    }
+}
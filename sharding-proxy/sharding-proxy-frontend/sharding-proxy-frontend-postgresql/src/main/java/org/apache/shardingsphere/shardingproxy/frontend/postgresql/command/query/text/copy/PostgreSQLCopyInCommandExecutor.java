@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy;
+
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+
+/**
+ * Command executor of copy in mode for PostgreSQL.
+ * 
+ * <p>
+ * No query data is returned in copy in mode, and all response packets including ready for query packet are returned by execution,
+ * so that response packets are flushed to client as soon as command is executed.
+ * </p>
+ */
+public abstract class PostgreSQLCopyInCommandExecutor implements CommandExecutor {
+    
+    @Override
+    public final boolean isFlushNeeded() {
+        return true;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngineFactory;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Copy in loader for PostgreSQL.
+ * 
+ * <p>
+ * Rows received from client are buffered and loaded in batches by multiple values insert statement,
+ * which is routed and rewritten so that every row is inserted into its own data node.
+ * </p>
+ */
+public final class PostgreSQLCopyInLoader {
+    
+    private static final int MAX_BATCH_ROWS = 1000;
+    
+    private static final int MAX_PARAMETERS = Short.MAX_VALUE;
+    
+    private static final String END_OF_DATA = "\\.";
+    
+    private final BackendConnection backendConnection;
+    
+    private final String tableName;
+    
+    private final List<String> columnNames;
+    
+    private final List<Integer> columnTypes;
+    
+    private final int batchSize;
+    
+    private final List<List<Object>> batchedRows = new LinkedList<>();
+    
+    private final ByteArrayOutputStream pendingLine = new ByteArrayOutputStream();
+    
+    private boolean endOfData;
+    
+    @Getter
+    private long loadedRowCount;
+    
+    public PostgreSQLCopyInLoader(final PostgreSQLCopyStatement copyStatement, final BackendConnection backendConnection) throws SQLException {
+        this.backendConnection = backendConnection;
+        tableName = copyStatement.getTableName();
+        Optional<TableMetaData> tableMetaData = findTableMetaData(backendConnection.getLogicSchema(), tableName);
+        columnNames = copyStatement.getColumnNames().isEmpty() ? getAllColumnNames(tableMetaData.orElse(null)) : copyStatement.getColumnNames();
+        columnTypes = getColumnTypes(tableMetaData.orElse(null));
+        batchSize = Math.max(1, Math.min(MAX_BATCH_ROWS, MAX_PARAMETERS / columnNames.size()));
+    }
+    
+    private Optional<TableMetaData> findTableMetaData(final LogicSchema logicSchema, final String tableName) throws SQLException {
+        if (null == logicSchema) {
+            throw new SQLException("No database selected", "3D000");
+        }
+        RuleSchemaMetaData ruleSchemaMetaData = logicSchema.getMetaData().getSchema();
+        if (ruleSchemaMetaData.getConfiguredSchemaMetaData().containsTable(tableName)) {
+            return Optional.of(ruleSchemaMetaData.getConfiguredSchemaMetaData().get(tableName));
+        }
+        for (SchemaMetaData each : ruleSchemaMetaData.getUnconfiguredSchemaMetaDataMap().values()) {
+            if (each.containsTable(tableName)) {
+                return Optional.of(each.get(tableName));
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private List<String> getAllColumnNames(final TableMetaData tableMetaData) throws SQLException {
+        if (null == tableMetaData) {
+            throw new SQLException(String.format("relation \"%s\" does not exist", tableName), "42P01");
+        }
+        return new ArrayList<>(tableMetaData.getColumns().keySet());
+    }
+    
+    private List<Integer> getColumnTypes(final TableMetaData tableMetaData) throws SQLException {
+        if (null == tableMetaData) {
+            return Collections.nCopies(columnNames.size(), Types.VARCHAR);
+        }
+        List<Integer> result = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            ColumnMetaData columnMetaData = tableMetaData.getColumns().get(each.toLowerCase());
+            if (null == columnMetaData) {
+                throw new SQLException(String.format("column \"%s\" of relation \"%s\" does not exist", each, tableName), "42703");
+            }
+            result.add(columnMetaData.getDataType());
+        }
+        return result;
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnNames.size();
+    }
+    
+    /**
+     * Receive copy data, rows of which may be split across copy data.
+     *
+     * @param data copy data
+     * @throws SQLException SQL exception
+     */
+    public void receive(final byte[] data) throws SQLException {
+        int lineStart = 0;
+        for (int i = 0; i < data.length; i++) {
+            if ('\n' == data[i]) {
+                pendingLine.write(data, lineStart, i - lineStart);
+                receiveLine();
+                lineStart = i + 1;
+            }
+        }
+        pendingLine.write(data, lineStart, data.length - lineStart);
+    }
+    
+    private void receiveLine() throws SQLException {
+        String line = new String(pendingLine.toByteArray(), StandardCharsets.UTF_8);
+        pendingLine.reset();
+        if (endOfData) {
+            return;
+        }
+        if (line.endsWith("\r")) {
+            line = line.substring(0, line.length() - 1);
+        }
+        if (END_OF_DATA.equals(line)) {
+            endOfData = true;
+            return;
+        }
+        List<String> values = PostgreSQLCopyTextFormat.parseRow(line);
+        if (values.size() != columnNames.size()) {
+            throw new SQLException(values.size() > columnNames.size() ? "extra data after last expected column" : "missing data for column \"" + columnNames.get(values.size()) + "\"", "22P04");
+        }
+        List<Object> row = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            row.add(PostgreSQLCopyTextFormat.convert(values.get(i), columnTypes.get(i)));
+        }
+        batchedRows.add(row);
+        if (batchedRows.size() >= batchSize) {
+            load();
+        }
+    }
+    
+    /**
+     * Finish copy in and load rows remained.
+     *
+     * @return count of loaded rows
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        if (pendingLine.size() > 0) {
+            receiveLine();
+        }
+        load();
+        return loadedRowCount;
+    }
+    
+    private void load() throws SQLException {
+        if (batchedRows.isEmpty()) {
+            return;
+        }
+        List<Object> parameters = new ArrayList<>(batchedRows.size() * columnNames.size());
+        for (List<Object> each : batchedRows) {
+            parameters.addAll(each);
+        }
+        String sql = createInsertSQL(batchedRows.size());
+        batchedRows.clear();
+        BackendResponse backendResponse = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(backendConnection.getLogicSchema(), sql, parameters, backendConnection).execute();
+        if (backendResponse instanceof ErrorResponse) {
+            Exception cause = ((ErrorResponse) backendResponse).getCause();
+            throw cause instanceof SQLException ? (SQLException) cause : new SQLException(cause);
+        }
+        loadedRowCount += ((UpdateResponse) backendResponse).getUpdateCount();
+    }
+    
+    private String createInsertSQL(final int rowCount) {
+        StringBuilder result = new StringBuilder("INSERT INTO ").append(tableName).append(" (").append(String.join(", ", columnNames)).append(") VALUES ");
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columnNames.size(), "?")) + ")";
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(placeholders);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Copy in loader registry, which keeps loader of connection in copy in mode.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyInLoaderRegistry {
+    
+    private static final PostgreSQLCopyInLoaderRegistry INSTANCE = new PostgreSQLCopyInLoaderRegistry();
+    
+    private final ConcurrentMap<Integer, PostgreSQLCopyInLoader> loaders = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of copy in loader registry.
+     *
+     * @return instance of copy in loader registry
+     */
+    public static PostgreSQLCopyInLoaderRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register.
+     *
+     * @param connectionId connection id
+     * @param loader copy in loader
+     */
+    public void register(final int connectionId, final PostgreSQLCopyInLoader loader) {
+        loaders.put(connectionId, loader);
+    }
+    
+    /**
+     * Unregister.
+     *
+     * @param connectionId connection id
+     */
+    public void unregister(final int connectionId) {
+        loaders.remove(connectionId);
+    }
+    
+    /**
+     * Get copy in loader.
+     *
+     * @param connectionId connection id
+     * @return copy in loader if connection is in copy in mode
+     */
+    public Optional<PostgreSQLCopyInLoader> get(final int connectionId) {
+        return Optional.ofNullable(loaders.get(connectionId));
+    }
+}
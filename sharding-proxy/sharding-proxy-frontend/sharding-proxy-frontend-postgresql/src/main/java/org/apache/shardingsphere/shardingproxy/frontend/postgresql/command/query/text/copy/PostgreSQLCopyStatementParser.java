@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Copy statement parser for PostgreSQL.
+ * 
+ * <p>
+ * Only copy between table or query and standard input or output of client is recognized, copy with server side file is left to SQL parser.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyStatementParser {
+    
+    private static final Pattern COPY_TABLE_PATTERN = Pattern.compile("^\\s*COPY\\s+([\\w.\"]+)\\s*(?:\\(([^)]*)\\))?"
+            + "\\s*(FROM\\s+STDIN|TO\\s+STDOUT)\\b(.*?)[\\s;]*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private static final Pattern COPY_QUERY_PATTERN = Pattern.compile("^\\s*COPY\\s*\\((.+)\\)\\s*TO\\s+STDOUT\\b(.*?)[\\s;]*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    /**
+     * Parse copy statement.
+     *
+     * @param sql SQL
+     * @return copy statement if SQL is copy from standard input or to standard output, otherwise empty
+     */
+    public static Optional<PostgreSQLCopyStatement> parse(final String sql) {
+        Matcher tableMatcher = COPY_TABLE_PATTERN.matcher(sql);
+        if (tableMatcher.matches()) {
+            List<String> columnNames = null == tableMatcher.group(2) ? Collections.emptyList() : getColumnNames(tableMatcher.group(2));
+            boolean isCopyIn = tableMatcher.group(3).toUpperCase().startsWith("FROM");
+            return Optional.of(new PostgreSQLCopyStatement(getTableName(tableMatcher.group(1)), columnNames, null, isCopyIn, tableMatcher.group(4).trim()));
+        }
+        Matcher queryMatcher = COPY_QUERY_PATTERN.matcher(sql);
+        if (queryMatcher.matches()) {
+            return Optional.of(new PostgreSQLCopyStatement(null, Collections.emptyList(), queryMatcher.group(1).trim(), false, queryMatcher.group(2).trim()));
+        }
+        return Optional.empty();
+    }
+    
+    private static String getTableName(final String qualifiedTableName) {
+        String[] segments = qualifiedTableName.split("\\.");
+        return getIdentifier(segments[segments.length - 1]);
+    }
+    
+    private static List<String> getColumnNames(final String columnNames) {
+        List<String> result = new ArrayList<>();
+        for (String each : columnNames.split(",")) {
+            if (!each.trim().isEmpty()) {
+                result.add(getIdentifier(each.trim()));
+            }
+        }
+        return result;
+    }
+    
+    private static String getIdentifier(final String identifier) {
+        return identifier.startsWith("\"") && identifier.endsWith("\"") && identifier.length() > 1 ? identifier.substring(1, identifier.length() - 1) : identifier.toLowerCase();
+    }
+}
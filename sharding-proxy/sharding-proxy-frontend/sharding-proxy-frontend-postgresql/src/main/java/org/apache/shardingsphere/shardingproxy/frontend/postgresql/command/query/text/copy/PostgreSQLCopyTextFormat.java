@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text format of copy for PostgreSQL.
+ * 
+ * <p>
+ * Columns of row are separated by tab, null is represented as {@code \N}, and special characters are escaped by backslash.
+ * </p>
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY</a>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyTextFormat {
+    
+    private static final char DELIMITER = '\t';
+    
+    private static final char VERTICAL_TAB = 0x0B;
+    
+    private static final String NULL_VALUE = "\\N";
+    
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    /**
+     * Parse row.
+     *
+     * @param line line of row without line terminator
+     * @return values of row
+     */
+    public static List<String> parseRow(final String line) {
+        List<String> result = new ArrayList<>();
+        int start = 0;
+        int i = 0;
+        while (i < line.length()) {
+            char each = line.charAt(i);
+            if ('\\' == each) {
+                i++;
+            } else if (DELIMITER == each) {
+                result.add(unescape(line.substring(start, i)));
+                start = i + 1;
+            }
+            i++;
+        }
+        result.add(unescape(line.substring(start)));
+        return result;
+    }
+    
+    private static String unescape(final String value) {
+        if (NULL_VALUE.equals(value)) {
+            return null;
+        }
+        if (-1 == value.indexOf('\\')) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        int i = 0;
+        while (i < value.length()) {
+            char each = value.charAt(i++);
+            if ('\\' != each || i >= value.length()) {
+                result.append(each);
+                continue;
+            }
+            char escaped = value.charAt(i++);
+            switch (escaped) {
+                case 'b':
+                    result.append('\b');
+                    break;
+                case 'f':
+                    result.append('\f');
+                    break;
+                case 'n':
+                    result.append('\n');
+                    break;
+                case 'r':
+                    result.append('\r');
+                    break;
+                case 't':
+                    result.append('\t');
+                    break;
+                case 'v':
+                    result.append(VERTICAL_TAB);
+                    break;
+                case 'x':
+                    int hexEnd = getDigitsEnd(value, i, 2, 16);
+                    if (hexEnd == i) {
+                        result.append(escaped);
+                    } else {
+                        result.append((char) Integer.parseInt(value.substring(i, hexEnd), 16));
+                        i = hexEnd;
+                    }
+                    break;
+                default:
+                    int octalEnd = getDigitsEnd(value, i - 1, 3, 8);
+                    if (octalEnd == i - 1) {
+                        result.append(escaped);
+                    } else {
+                        result.append((char) Integer.parseInt(value.substring(i - 1, octalEnd), 8));
+                        i = octalEnd;
+                    }
+            }
+        }
+        return result.toString();
+    }
+    
+    private static int getDigitsEnd(final String value, final int start, final int maxLength, final int radix) {
+        int result = start;
+        while (result < value.length() && result - start < maxLength && -1 != Character.digit(value.charAt(result), radix)) {
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Format row.
+     *
+     * @param values values of row
+     * @return line of row with line terminator
+     */
+    public static String formatRow(final List<Object> values) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                result.append(DELIMITER);
+            }
+            Object value = values.get(i);
+            if (null == value) {
+                result.append(NULL_VALUE);
+            } else {
+                escape(value instanceof byte[] ? formatBytes((byte[]) value) : value.toString(), result);
+            }
+        }
+        return result.append('\n').toString();
+    }
+    
+    private static String formatBytes(final byte[] value) {
+        StringBuilder result = new StringBuilder(2 + value.length * 2).append("\\x");
+        for (byte each : value) {
+            result.append(HEX_DIGITS[(each >> 4) & 0xf]).append(HEX_DIGITS[each & 0xf]);
+        }
+        return result.toString();
+    }
+    
+    private static void escape(final String value, final StringBuilder result) {
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            switch (each) {
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                default:
+                    result.append(each);
+            }
+        }
+    }
+    
+    /**
+     * Convert text value to value of JDBC type.
+     *
+     * @param value text value
+     * @param jdbcType JDBC type
+     * @return value of JDBC type
+     * @throws SQLException SQL exception if text value is invalid for JDBC type
+     */
+    public static Object convert(final String value, final int jdbcType) throws SQLException {
+        if (null == value) {
+            return null;
+        }
+        try {
+            return convertValue(value, jdbcType);
+        } catch (final IllegalArgumentException ex) {
+            throw new SQLException(String.format("invalid input syntax for type %s: \"%s\"", JDBCType.valueOf(jdbcType).getName().toLowerCase(), value), "22P02", ex);
+        }
+    }
+    
+    private static Object convertValue(final String value, final int jdbcType) {
+        switch (jdbcType) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return convertBoolean(value);
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.valueOf(value.trim());
+            case Types.BIGINT:
+                return Long.valueOf(value.trim());
+            case Types.REAL:
+                return Float.valueOf(value.trim());
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.valueOf(value.trim());
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new BigDecimal(value.trim());
+            case Types.DATE:
+                return Date.valueOf(value.trim());
+            case Types.TIMESTAMP:
+                return Timestamp.valueOf(value.trim());
+            default:
+                return value;
+        }
+    }
+    
+    private static Boolean convertBoolean(final String value) {
+        switch (value.trim().toLowerCase()) {
+            case "t":
+            case "true":
+            case "y":
+            case "yes":
+            case "on":
+            case "1":
+                return true;
+            case "f":
+            case "false":
+            case "n":
+            case "no":
+            case "off":
+            case "0":
+                return false;
+            default:
+                throw new IllegalArgumentException(value);
+        }
+    }
+}
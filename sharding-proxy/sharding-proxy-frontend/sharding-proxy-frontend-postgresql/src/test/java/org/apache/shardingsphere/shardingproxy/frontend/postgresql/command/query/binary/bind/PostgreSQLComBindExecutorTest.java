@@ -21,6 +21,8 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.cursor.CursorRegistry;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.hamcrest.Matchers;
 import org.junit.Assert;
@@ -46,11 +48,13 @@ public class PostgreSQLComBindExecutorTest {
     @Test
     @SneakyThrows
     public void assertExecuteHasError() {
-        PostgreSQLComBindExecutor postgreSQLComBindExecutor = new PostgreSQLComBindExecutor(mock(PostgreSQLComBindPacket.class), null);
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        when(backendConnection.getCursorRegistry()).thenReturn(new CursorRegistry());
+        PostgreSQLComBindExecutor postgreSQLComBindExecutor = new PostgreSQLComBindExecutor(mock(PostgreSQLComBindPacket.class), backendConnection);
         FieldSetter.setField(postgreSQLComBindExecutor, PostgreSQLComBindExecutor.class.getDeclaredField("databaseCommunicationEngine"), databaseCommunicationEngine);
         ErrorResponse errorResponse = new ErrorResponse(new PSQLException(mock(ServerErrorMessage.class)));
         when(databaseCommunicationEngine.execute()).thenReturn(errorResponse);
         Assert.assertThat(((LinkedList) postgreSQLComBindExecutor.execute()).get(1), Matchers.instanceOf(PostgreSQLErrorResponsePacket.class));
-        Assert.assertThat(postgreSQLComBindExecutor.isErrorResponse(), Matchers.is(true));
+        Assert.assertTrue(backendConnection.getCursorRegistry().isEmpty());
     }
 }
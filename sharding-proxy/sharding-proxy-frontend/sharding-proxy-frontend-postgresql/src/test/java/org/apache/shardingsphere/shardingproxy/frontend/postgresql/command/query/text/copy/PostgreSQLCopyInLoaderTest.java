@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy;
+
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.sql.parser.binder.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.schema.RuleSchemaMetaData;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLCopyInLoaderTest {
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Before
+    public void setUp() {
+        TableMetaData tableMetaData = new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", Types.INTEGER, "int4", true, false, false), new ColumnMetaData("status", Types.VARCHAR, "varchar", false, false, false)), Collections.emptyList());
+        RuleSchemaMetaData ruleSchemaMetaData = new RuleSchemaMetaData(new SchemaMetaData(Collections.singletonMap("t_order", tableMetaData)), Collections.emptyMap());
+        LogicSchema logicSchema = mock(LogicSchema.class);
+        when(logicSchema.getMetaData()).thenReturn(new ShardingSphereMetaData(null, ruleSchemaMetaData));
+        when(backendConnection.getLogicSchema()).thenReturn(logicSchema);
+    }
+    
+    @Test
+    public void assertNewInstanceWithAllColumns() throws SQLException {
+        assertThat(new PostgreSQLCopyInLoader(new PostgreSQLCopyStatement("t_order", Collections.emptyList(), null, true, ""), backendConnection).getColumnCount(), is(2));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNewInstanceWithUnknownColumn() throws SQLException {
+        new PostgreSQLCopyInLoader(new PostgreSQLCopyStatement("t_order", Collections.singletonList("foo"), null, true, ""), backendConnection);
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNewInstanceWithUnknownTable() throws SQLException {
+        new PostgreSQLCopyInLoader(new PostgreSQLCopyStatement("t_foo", Collections.emptyList(), null, true, ""), backendConnection);
+    }
+    
+    @Test
+    public void assertReceiveRowSplitAcrossCopyData() throws SQLException {
+        PostgreSQLCopyInLoader loader = new PostgreSQLCopyInLoader(new PostgreSQLCopyStatement("t_order", Collections.emptyList(), null, true, ""), backendConnection);
+        loader.receive("1\tf".getBytes());
+        loader.receive("oo\n\\.\n".getBytes());
+        loader.receive("ignored after end of data\n".getBytes());
+        assertThat(loader.getLoadedRowCount(), is(0L));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertReceiveRowWithMissingColumn() throws SQLException {
+        new PostgreSQLCopyInLoader(new PostgreSQLCopyStatement("t_order", Collections.emptyList(), null, true, ""), backendConnection).receive("1\n".getBytes());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertReceiveRowWithInvalidValue() throws SQLException {
+        new PostgreSQLCopyInLoader(new PostgreSQLCopyStatement("t_order", Collections.emptyList(), null, true, ""), backendConnection).receive("foo\tbar\n".getBytes());
+    }
+}
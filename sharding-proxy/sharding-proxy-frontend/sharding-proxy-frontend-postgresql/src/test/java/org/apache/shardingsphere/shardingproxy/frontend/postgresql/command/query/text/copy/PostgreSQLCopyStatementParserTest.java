@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyStatementParserTest {
+    
+    @Test
+    public void assertParseCopyFromStdin() {
+        Optional<PostgreSQLCopyStatement> actual = PostgreSQLCopyStatementParser.parse("copy public.T_Order (Order_id, \"user_id\") from stdin;");
+        assertTrue(actual.isPresent());
+        assertTrue(actual.get().isCopyIn());
+        assertThat(actual.get().getTableName(), is("t_order"));
+        assertThat(actual.get().getColumnNames(), is(Arrays.asList("order_id", "user_id")));
+        assertThat(actual.get().getOptions(), is(""));
+    }
+    
+    @Test
+    public void assertParseCopyTableToStdout() {
+        Optional<PostgreSQLCopyStatement> actual = PostgreSQLCopyStatementParser.parse("COPY t_order TO STDOUT WITH (FORMAT csv)");
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().isCopyIn());
+        assertThat(actual.get().getTableName(), is("t_order"));
+        assertTrue(actual.get().getColumnNames().isEmpty());
+        assertThat(actual.get().getOptions(), is("WITH (FORMAT csv)"));
+    }
+    
+    @Test
+    public void assertParseCopyQueryToStdout() {
+        Optional<PostgreSQLCopyStatement> actual = PostgreSQLCopyStatementParser.parse("COPY (SELECT * FROM t_order WHERE order_id IN (1, 2)) TO STDOUT");
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().isCopyIn());
+        assertNull(actual.get().getTableName());
+        assertThat(actual.get().getQuery(), is("SELECT * FROM t_order WHERE order_id IN (1, 2)"));
+    }
+    
+    @Test
+    public void assertParseNotCopyStatement() {
+        assertFalse(PostgreSQLCopyStatementParser.parse("SELECT * FROM t_order").isPresent());
+        assertFalse(PostgreSQLCopyStatementParser.parse("COPY t_order FROM '/tmp/t_order.txt'").isPresent());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.text.copy;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLCopyTextFormatTest {
+    
+    @Test
+    public void assertParseRow() {
+        assertThat(PostgreSQLCopyTextFormat.parseRow("1\tfoo\\tbar\t\\N\t\ta\\\\b\\nc\\101\\x41"), is(Arrays.asList("1", "foo\tbar", null, "", "a\\b\ncAA")));
+    }
+    
+    @Test
+    public void assertFormatRow() {
+        assertThat(PostgreSQLCopyTextFormat.formatRow(Arrays.asList(1, "foo\tbar\\", null, new byte[]{10, -1})), is("1\tfoo\\tbar\\\\\t\\N\t\\\\x0aff\n"));
+    }
+    
+    @Test
+    public void assertFormatAndParseRow() {
+        String formatted = PostgreSQLCopyTextFormat.formatRow(Arrays.asList("a\r\nb", "\\N", null));
+        assertThat(PostgreSQLCopyTextFormat.parseRow(formatted.substring(0, formatted.length() - 1)), is(Arrays.asList("a\r\nb", "\\N", null)));
+    }
+    
+    @Test
+    public void assertConvert() throws SQLException {
+        assertThat(PostgreSQLCopyTextFormat.convert("1", Types.INTEGER), is((Object) 1));
+        assertThat(PostgreSQLCopyTextFormat.convert("1", Types.BIGINT), is((Object) 1L));
+        assertThat(PostgreSQLCopyTextFormat.convert("1.50", Types.NUMERIC), is((Object) new BigDecimal("1.50")));
+        assertThat(PostgreSQLCopyTextFormat.convert("t", Types.BIT), is((Object) true));
+        assertThat(PostgreSQLCopyTextFormat.convert("foo", Types.VARCHAR), is((Object) "foo"));
+        assertNull(PostgreSQLCopyTextFormat.convert(null, Types.INTEGER));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertConvertWithInvalidValue() throws SQLException {
+        PostgreSQLCopyTextFormat.convert("foo", Types.INTEGER);
+    }
+}
@@ -34,4 +34,18 @@ public interface CommandExecutor {
      * @throws SQLException SQL exception
      */
     Collection<DatabasePacket> execute() throws SQLException;
+    
+    /**
+     * Judge whether response packets should be flushed as soon as command is executed.
+     * 
+     * <p>
+     * Response packets are flushed regardless of flush strategy of frontend if true,
+     * which is needed by commands completing a sequence of messages which client is waiting for.
+     * </p>
+     *
+     * @return flush response packets immediately or not
+     */
+    default boolean isFlushNeeded() {
+        return false;
+    }
 }
@@ -84,8 +84,9 @@ public interface CommandExecuteEngine {
      * @param context channel handler context
      * @param backendConnection backend connection
      * @param queryCommandExecutor query command executor
-     * @param headerPackagesCount count of header packages
+     * @param queryDataWriter query data writer
+     * @return all query data written or not, false means writing is suspended because channel is not writable and should be resumed when channel is writable again
      * @throws SQLException SQL exception
      */
-    void writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount) throws SQLException;
+    boolean writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, QueryDataWriter queryDataWriter) throws SQLException;
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.engine;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+
+import java.sql.SQLException;
+
+/**
+ * Query data writer.
+ * 
+ * <p>
+ * Flushes when pending bytes of channel reach write buffer low water mark or unflushed rows reach flush threshold,
+ * and suspends writing instead of blocking when channel is not writable.
+ * The writer keeps its progress, so writing can be resumed by calling {@link #write(ChannelHandlerContext, QueryCommandExecutor)} again.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class QueryDataWriter {
+    
+    @Getter
+    private final int headerPackagesCount;
+    
+    private final int flushThreshold;
+    
+    @Getter
+    private int writtenRowCount;
+    
+    private int unflushedRowCount;
+    
+    /**
+     * Write query data until all query data written or channel is not writable.
+     *
+     * @param context channel handler context
+     * @param queryCommandExecutor query command executor
+     * @return all query data written or not, false means writing is suspended because channel is not writable
+     * @throws SQLException SQL exception
+     */
+    public boolean write(final ChannelHandlerContext context, final QueryCommandExecutor queryCommandExecutor) throws SQLException {
+        Channel channel = context.channel();
+        while (channel.isActive()) {
+            if (!channel.isWritable()) {
+                flush(context);
+                return false;
+            }
+            if (!queryCommandExecutor.next()) {
+                return true;
+            }
+            context.write(queryCommandExecutor.getQueryData());
+            writtenRowCount++;
+            unflushedRowCount++;
+            if (isFlushRequired(channel)) {
+                flush(context);
+            }
+        }
+        return true;
+    }
+    
+    private boolean isFlushRequired(final Channel channel) {
+        return unflushedRowCount >= flushThreshold || getPendingBytes(channel) >= channel.config().getWriteBufferLowWaterMark();
+    }
+    
+    private long getPendingBytes(final Channel channel) {
+        return channel.config().getWriteBufferHighWaterMark() - channel.bytesBeforeUnwritable();
+    }
+    
+    private void flush(final ChannelHandlerContext context) {
+        context.flush();
+        unflushedRowCount = 0;
+    }
+}
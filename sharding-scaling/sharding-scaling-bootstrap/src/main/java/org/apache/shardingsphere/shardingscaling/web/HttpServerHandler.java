@@ -34,13 +34,19 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.netty.util.CharsetUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.shardingscaling.core.ShardingScalingJob;
+import org.apache.shardingsphere.shardingscaling.core.check.DataConsistencyCheckReport;
+import org.apache.shardingsphere.shardingscaling.core.config.RateLimitConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.config.ScalingConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.config.utils.SyncConfigurationUtil;
 import org.apache.shardingsphere.shardingscaling.core.controller.ScalingJobController;
 import org.apache.shardingsphere.shardingscaling.core.controller.SyncProgress;
 import org.apache.shardingsphere.shardingscaling.core.exception.ScalingJobNotFoundException;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics.ScalingJobMetricsSnapshot;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.throttle.JobRateLimiter;
 import org.apache.shardingsphere.shardingscaling.utils.ResponseContentUtil;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -50,7 +56,8 @@ import java.util.regex.Pattern;
 @Slf4j
 public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
     
-    private static final Pattern URL_PATTERN = Pattern.compile("(^/shardingscaling/job/(start|stop|list))|(^/shardingscaling/job/progress/\\d+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern URL_PATTERN = Pattern.compile(
+            "(^/shardingscaling/job/(start|stop|reset|list))|(^/shardingscaling/job/(progress|check|ratelimit|metrics)/\\d+)|(^/shardingscaling/metrics)", Pattern.CASE_INSENSITIVE);
     
     private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
     
@@ -74,6 +81,26 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
             getJobProgress(channelHandlerContext, requestPath);
             return;
         }
+        if (requestPath.contains("/shardingscaling/job/check/") && method.equals(HttpMethod.POST)) {
+            checkJob(channelHandlerContext, requestPath);
+            return;
+        }
+        if (requestPath.contains("/shardingscaling/job/check/") && method.equals(HttpMethod.GET)) {
+            getJobCheckReport(channelHandlerContext, requestPath);
+            return;
+        }
+        if (requestPath.contains("/shardingscaling/job/ratelimit/") && method.equals(HttpMethod.POST)) {
+            updateJobRateLimit(channelHandlerContext, requestPath, requestBody);
+            return;
+        }
+        if (requestPath.contains("/shardingscaling/job/metrics/") && method.equals(HttpMethod.GET)) {
+            getJobMetrics(channelHandlerContext, requestPath);
+            return;
+        }
+        if ("/shardingscaling/metrics".equalsIgnoreCase(requestPath) && method.equals(HttpMethod.GET)) {
+            response(SCALING_JOB_CONTROLLER.exportPrometheusMetrics(), channelHandlerContext, HttpResponseStatus.OK);
+            return;
+        }
         if ("/shardingscaling/job/list".equalsIgnoreCase(requestPath) && method.equals(HttpMethod.GET)) {
             listAllJobs(channelHandlerContext);
             return;
@@ -82,14 +109,21 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
             stopJob(channelHandlerContext, requestBody);
             return;
         }
+        if ("/shardingscaling/job/reset".equalsIgnoreCase(requestPath) && method.equals(HttpMethod.POST)) {
+            resetJob(channelHandlerContext, requestBody);
+            return;
+        }
         response(GSON.toJson(ResponseContentUtil.handleBadRequest("Not support request!")),
                 channelHandlerContext, HttpResponseStatus.BAD_REQUEST);
     }
     
     private void startJob(final ChannelHandlerContext channelHandlerContext, final String requestBody) {
         ScalingConfiguration scalingConfiguration = GSON.fromJson(requestBody, ScalingConfiguration.class);
-        ShardingScalingJob shardingScalingJob = new ShardingScalingJob("Local Sharding Scaling Job");
-        shardingScalingJob.getSyncConfigurations().addAll(SyncConfigurationUtil.toSyncConfigurations(scalingConfiguration));
+        Collection<SyncConfiguration> syncConfigurations = SyncConfigurationUtil.toSyncConfigurations(scalingConfiguration);
+        String jobName = scalingConfiguration.getJobConfiguration().getJobName();
+        ShardingScalingJob shardingScalingJob = new ShardingScalingJob(null == jobName ? SyncConfigurationUtil.generateJobName(syncConfigurations) : jobName);
+        shardingScalingJob.getSyncConfigurations().addAll(syncConfigurations);
+        shardingScalingJob.setRateLimiter(new JobRateLimiter(scalingConfiguration.getJobConfiguration().getRateLimit()));
         log.info("start job : {}", requestBody);
         SCALING_JOB_CONTROLLER.start(shardingScalingJob);
         response(GSON.toJson(ResponseContentUtil.success()), channelHandlerContext, HttpResponseStatus.OK);
@@ -105,6 +139,46 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
         }
     }
     
+    private void updateJobRateLimit(final ChannelHandlerContext channelHandlerContext, final String requestPath, final String requestBody) {
+        int jobId = Integer.parseInt(requestPath.split("/")[4]);
+        try {
+            SCALING_JOB_CONTROLLER.updateRateLimit(jobId, GSON.fromJson(requestBody, RateLimitConfiguration.class));
+            response(GSON.toJson(ResponseContentUtil.success()), channelHandlerContext, HttpResponseStatus.OK);
+        } catch (ScalingJobNotFoundException e) {
+            response(GSON.toJson(ResponseContentUtil.handleBadRequest(e.getMessage())), channelHandlerContext, HttpResponseStatus.BAD_REQUEST);
+        }
+    }
+    
+    private void checkJob(final ChannelHandlerContext channelHandlerContext, final String requestPath) {
+        int jobId = Integer.parseInt(requestPath.split("/")[4]);
+        try {
+            DataConsistencyCheckReport report = SCALING_JOB_CONTROLLER.check(jobId);
+            response(GSON.toJson(ResponseContentUtil.build(report)), channelHandlerContext, HttpResponseStatus.OK);
+        } catch (ScalingJobNotFoundException e) {
+            response(GSON.toJson(ResponseContentUtil.handleBadRequest(e.getMessage())), channelHandlerContext, HttpResponseStatus.BAD_REQUEST);
+        }
+    }
+    
+    private void getJobCheckReport(final ChannelHandlerContext channelHandlerContext, final String requestPath) {
+        int jobId = Integer.parseInt(requestPath.split("/")[4]);
+        try {
+            DataConsistencyCheckReport report = SCALING_JOB_CONTROLLER.getCheckReport(jobId);
+            response(GSON.toJson(ResponseContentUtil.build(report)), channelHandlerContext, HttpResponseStatus.OK);
+        } catch (ScalingJobNotFoundException e) {
+            response(GSON.toJson(ResponseContentUtil.handleBadRequest(e.getMessage())), channelHandlerContext, HttpResponseStatus.BAD_REQUEST);
+        }
+    }
+    
+    private void getJobMetrics(final ChannelHandlerContext channelHandlerContext, final String requestPath) {
+        int jobId = Integer.parseInt(requestPath.split("/")[4]);
+        try {
+            ScalingJobMetricsSnapshot metrics = SCALING_JOB_CONTROLLER.getMetrics(jobId);
+            response(GSON.toJson(ResponseContentUtil.build(metrics)), channelHandlerContext, HttpResponseStatus.OK);
+        } catch (ScalingJobNotFoundException e) {
+            response(GSON.toJson(ResponseContentUtil.handleBadRequest(e.getMessage())), channelHandlerContext, HttpResponseStatus.BAD_REQUEST);
+        }
+    }
+    
     private void listAllJobs(final ChannelHandlerContext channelHandlerContext) {
         List<ShardingScalingJob> shardingScalingJobs = SCALING_JOB_CONTROLLER.listShardingScalingJobs();
         response(GSON.toJson(ResponseContentUtil.build(shardingScalingJobs)), channelHandlerContext, HttpResponseStatus.OK);
@@ -117,6 +191,16 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
         response(GSON.toJson(ResponseContentUtil.success()), channelHandlerContext, HttpResponseStatus.OK);
     }
     
+    private void resetJob(final ChannelHandlerContext channelHandlerContext, final String requestBody) {
+        ShardingScalingJob shardingScalingJob = GSON.fromJson(requestBody, ShardingScalingJob.class);
+        try {
+            SCALING_JOB_CONTROLLER.reset(shardingScalingJob.getJobId());
+            response(GSON.toJson(ResponseContentUtil.success()), channelHandlerContext, HttpResponseStatus.OK);
+        } catch (ScalingJobNotFoundException e) {
+            response(GSON.toJson(ResponseContentUtil.handleBadRequest(e.getMessage())), channelHandlerContext, HttpResponseStatus.BAD_REQUEST);
+        }
+    }
+    
     private void response(final String content, final ChannelHandlerContext ctx, final HttpResponseStatus status) {
         FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, Unpooled.copiedBuffer(content, CharsetUtil.UTF_8));
         response.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain;charset=UTF-8");
@@ -22,6 +22,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics.ScalingJobMetrics;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.throttle.JobRateLimiter;
 import org.apache.shardingsphere.shardingscaling.core.synctask.SyncTask;
 
 import java.util.LinkedList;
@@ -49,4 +51,8 @@ public final class ShardingScalingJob {
     private final String jobName;
     
     private String status = "RUNNING";
+    
+    private transient JobRateLimiter rateLimiter;
+    
+    private final transient ScalingJobMetrics metrics = new ScalingJobMetrics();
 }
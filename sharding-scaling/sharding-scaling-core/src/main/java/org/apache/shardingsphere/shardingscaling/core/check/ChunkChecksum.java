@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.check;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Order-independent checksum of rows in a chunk, which is row count and sum of CRC32 of rows.
+ */
+@Getter
+@EqualsAndHashCode
+public final class ChunkChecksum {
+    
+    private long recordCount;
+    
+    private long checksum;
+    
+    /**
+     * Add row checksum.
+     *
+     * @param rowChecksum CRC32 of row
+     */
+    public void add(final long rowChecksum) {
+        recordCount++;
+        checksum += rowChecksum;
+    }
+    
+    /**
+     * Merge another chunk checksum.
+     *
+     * @param chunkChecksum chunk checksum
+     */
+    public void merge(final ChunkChecksum chunkChecksum) {
+        recordCount += chunkChecksum.recordCount;
+        checksum += chunkChecksum.checksum;
+    }
+}
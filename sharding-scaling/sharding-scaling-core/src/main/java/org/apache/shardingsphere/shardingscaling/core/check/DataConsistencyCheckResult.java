@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.check;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Data consistency check result of a target table.
+ */
+@Getter
+public final class DataConsistencyCheckResult {
+    
+    private final long sourceRecordCount;
+    
+    private final long targetRecordCount;
+    
+    private final int chunkCount;
+    
+    private final int mismatchedChunkCount;
+    
+    private final List<String> mismatchedKeys;
+    
+    private final boolean valid;
+    
+    public DataConsistencyCheckResult(final long sourceRecordCount, final long targetRecordCount, final int chunkCount, final int mismatchedChunkCount, final List<String> mismatchedKeys) {
+        this.sourceRecordCount = sourceRecordCount;
+        this.targetRecordCount = targetRecordCount;
+        this.chunkCount = chunkCount;
+        this.mismatchedChunkCount = mismatchedChunkCount;
+        this.mismatchedKeys = mismatchedKeys;
+        valid = sourceRecordCount == targetRecordCount && 0 == mismatchedChunkCount;
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.check;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.shardingscaling.core.config.RdbmsConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
+import org.apache.shardingsphere.shardingscaling.core.exception.DataCheckFailedException;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.AbstractShardingScalingExecutor;
+import org.apache.shardingsphere.shardingscaling.core.metadata.MetaDataManager;
+import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * Data consistency checker.
+ *
+ * <p>
+ * Target tables are checked chunk by chunk of primary key ranges, whose boundaries are read from target table.
+ * Row count and order-independent checksum of each chunk are calculated on target table and all its source tables in parallel,
+ * and only mismatched chunks are drilled down to find mismatched primary keys. Checked rows per second are throttled to limit load of source.
+ * </p>
+ */
+@Slf4j
+public final class DataConsistencyChecker extends AbstractShardingScalingExecutor {
+    
+    private static final int MAX_MISMATCHED_KEYS = 100;
+    
+    private final List<SyncConfiguration> syncConfigurations;
+    
+    private final DataConsistencyCheckReport report;
+    
+    private final DataSourceManager dataSourceManager;
+    
+    private final int chunkSize;
+    
+    private final int maxRowsPerSecond;
+    
+    private ExecutorService executorService;
+    
+    private long checkedRows;
+    
+    private long startTimeMillis;
+    
+    public DataConsistencyChecker(final List<SyncConfiguration> syncConfigurations, final DataConsistencyCheckReport report, final int chunkSize, final int maxRowsPerSecond) {
+        this(syncConfigurations, report, new DataSourceManager(), chunkSize, maxRowsPerSecond);
+    }
+    
+    public DataConsistencyChecker(final List<SyncConfiguration> syncConfigurations, final DataConsistencyCheckReport report, final DataSourceManager dataSourceManager,
+                                  final int chunkSize, final int maxRowsPerSecond) {
+        this.syncConfigurations = syncConfigurations;
+        this.report = report;
+        this.dataSourceManager = dataSourceManager;
+        this.chunkSize = chunkSize;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+    }
+    
+    @Override
+    public void start() {
+        super.start();
+        executorService = Executors.newCachedThreadPool();
+        startTimeMillis = System.currentTimeMillis();
+        try {
+            DataSource targetDataSource = dataSourceManager.getDataSource(syncConfigurations.get(0).getImporterConfiguration().getDataSourceConfiguration());
+            for (Entry<String, List<RdbmsConfiguration>> entry : groupSourceTables().entrySet()) {
+                if (!isRunning()) {
+                    break;
+                }
+                report.getResults().put(entry.getKey(), check(targetDataSource, entry.getKey(), entry.getValue()));
+                log.info("Data consistency check of table {} finished: {}", entry.getKey(), report.getResults().get(entry.getKey()).isValid());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private Map<String, List<RdbmsConfiguration>> groupSourceTables() {
+        Map<String, List<RdbmsConfiguration>> result = new LinkedHashMap<>();
+        for (SyncConfiguration each : syncConfigurations) {
+            for (Entry<String, String> entry : each.getTableNameMap().entrySet()) {
+                RdbmsConfiguration sourceConfiguration = RdbmsConfiguration.clone(each.getDumperConfiguration());
+                sourceConfiguration.setTableName(entry.getKey());
+                result.computeIfAbsent(entry.getValue(), key -> new LinkedList<>()).add(sourceConfiguration);
+            }
+        }
+        return result;
+    }
+    
+    private DataConsistencyCheckResult check(final DataSource targetDataSource, final String targetTableName, final List<RdbmsConfiguration> sourceConfigurations) {
+        RdbmsConfiguration firstSourceConfiguration = sourceConfigurations.get(0);
+        TableMetaData tableMetaData = new MetaDataManager(dataSourceManager.getDataSource(firstSourceConfiguration.getDataSourceConfiguration()))
+                .getTableMetaData(firstSourceConfiguration.getTableName());
+        List<String> columns = new ArrayList<>(tableMetaData.getColumns().keySet());
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        long sourceRecordCount = 0;
+        long targetRecordCount = 0;
+        int chunkCount = 0;
+        int mismatchedChunkCount = 0;
+        List<String> mismatchedKeys = new LinkedList<>();
+        Object[] lowerBound = null;
+        do {
+            Object[] upperBound = primaryKeys.isEmpty() ? null : findUpperBound(targetDataSource, targetTableName, primaryKeys, lowerBound);
+            String rangeCondition = getRangeCondition(primaryKeys, lowerBound, upperBound);
+            List<Object> parameters = getRangeParameters(lowerBound, upperBound);
+            Future<ChunkChecksum> targetFuture = executorService.submit(() -> calculateChecksum(targetDataSource, getChunkSQL(columns, targetTableName, rangeCondition), parameters));
+            Collection<Future<ChunkChecksum>> sourceFutures = new LinkedList<>();
+            for (RdbmsConfiguration each : sourceConfigurations) {
+                DataSource sourceDataSource = dataSourceManager.getDataSource(each.getDataSourceConfiguration());
+                sourceFutures.add(executorService.submit(() -> calculateChecksum(sourceDataSource, getChunkSQL(columns, each.getTableName(), rangeCondition), parameters)));
+            }
+            ChunkChecksum sourceChecksum = new ChunkChecksum();
+            for (Future<ChunkChecksum> each : sourceFutures) {
+                sourceChecksum.merge(getChecksum(each));
+            }
+            ChunkChecksum targetChecksum = getChecksum(targetFuture);
+            chunkCount++;
+            sourceRecordCount += sourceChecksum.getRecordCount();
+            targetRecordCount += targetChecksum.getRecordCount();
+            if (!sourceChecksum.equals(targetChecksum)) {
+                mismatchedChunkCount++;
+                if (!primaryKeys.isEmpty() && mismatchedKeys.size() < MAX_MISMATCHED_KEYS) {
+                    drillDown(targetDataSource, targetTableName, sourceConfigurations, columns, rangeCondition, parameters, getPrimaryKeyIndexes(columns, primaryKeys), mismatchedKeys);
+                }
+            }
+            throttle(sourceChecksum.getRecordCount());
+            lowerBound = upperBound;
+        } while (null != lowerBound && isRunning());
+        return new DataConsistencyCheckResult(sourceRecordCount, targetRecordCount, chunkCount, mismatchedChunkCount, mismatchedKeys);
+    }
+    
+    private Object[] findUpperBound(final DataSource dataSource, final String tableName, final List<String> primaryKeys, final Object[] lowerBound) {
+        String primaryKeyColumns = String.join(",", primaryKeys);
+        String rangeCondition = getRangeCondition(primaryKeys, lowerBound, null);
+        String sql = String.format("SELECT %s FROM %s%s ORDER BY %s LIMIT 1 OFFSET %d", primaryKeyColumns, tableName, rangeCondition, primaryKeyColumns, chunkSize - 1);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            setParameters(preparedStatement, getRangeParameters(lowerBound, null));
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                Object[] result = new Object[primaryKeys.size()];
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = resultSet.getObject(i + 1);
+                }
+                return result;
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailedException(String.format("Find chunk boundary of table %s error", tableName), ex);
+        }
+    }
+    
+    private String getRangeCondition(final List<String> primaryKeys, final Object[] lowerBound, final Object[] upperBound) {
+        String columns = 1 == primaryKeys.size() ? primaryKeys.get(0) : String.format("(%s)", String.join(",", primaryKeys));
+        String placeholders = 1 == primaryKeys.size() ? "?" : String.format("(%s)", String.join(",", Collections.nCopies(primaryKeys.size(), "?")));
+        Collection<String> conditions = new LinkedList<>();
+        if (null != lowerBound) {
+            conditions.add(String.format("%s > %s", columns, placeholders));
+        }
+        if (null != upperBound) {
+            conditions.add(String.format("%s <= %s", columns, placeholders));
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+    
+    private String getChunkSQL(final List<String> columns, final String tableName, final String rangeCondition) {
+        return String.format("SELECT %s FROM %s%s", String.join(",", columns), tableName, rangeCondition);
+    }
+    
+    private List<Object> getRangeParameters(final Object[] lowerBound, final Object[] upperBound) {
+        List<Object> result = new LinkedList<>();
+        if (null != lowerBound) {
+            result.addAll(Arrays.asList(lowerBound));
+        }
+        if (null != upperBound) {
+            result.addAll(Arrays.asList(upperBound));
+        }
+        return result;
+    }
+    
+    private ChunkChecksum calculateChecksum(final DataSource dataSource, final String sql, final List<Object> parameters) throws SQLException {
+        ChunkChecksum result = new ChunkChecksum();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            setParameters(preparedStatement, parameters);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                int columnCount = resultSet.getMetaData().getColumnCount();
+                while (resultSet.next()) {
+                    result.add(calculateRowChecksum(resultSet, columnCount));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private ChunkChecksum getChecksum(final Future<ChunkChecksum> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DataCheckFailedException("Data consistency check is interrupted", ex);
+        } catch (final ExecutionException ex) {
+            throw new DataCheckFailedException("Calculate chunk checksum error", ex.getCause());
+        }
+    }
+    
+    private void drillDown(final DataSource targetDataSource, final String targetTableName, final List<RdbmsConfiguration> sourceConfigurations,
+                           final List<String> columns, final String rangeCondition, final List<Object> parameters, final int[] primaryKeyIndexes, final List<String> mismatchedKeys) {
+        try {
+            Map<String, Long> targetRowChecksums = new HashMap<>(chunkSize, 1);
+            calculateRowChecksums(targetDataSource, getChunkSQL(columns, targetTableName, rangeCondition), parameters, primaryKeyIndexes, targetRowChecksums::put);
+            for (RdbmsConfiguration each : sourceConfigurations) {
+                calculateRowChecksums(dataSourceManager.getDataSource(each.getDataSourceConfiguration()), getChunkSQL(columns, each.getTableName(), rangeCondition), parameters, primaryKeyIndexes,
+                    (primaryKey, rowChecksum) -> {
+                        if (!rowChecksum.equals(targetRowChecksums.remove(primaryKey))) {
+                            addMismatchedKey(mismatchedKeys, primaryKey);
+                        }
+                    });
+            }
+            for (String each : targetRowChecksums.keySet()) {
+                addMismatchedKey(mismatchedKeys, each);
+            }
+        } catch (final SQLException ex) {
+            throw new DataCheckFailedException(String.format("Drill down mismatched chunk of table %s error", targetTableName), ex);
+        }
+    }
+    
+    private void calculateRowChecksums(final DataSource dataSource, final String sql, final List<Object> parameters,
+                                       final int[] primaryKeyIndexes, final BiConsumer<String, Long> rowChecksumConsumer) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            setParameters(preparedStatement, parameters);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            int columnCount = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                rowChecksumConsumer.accept(getPrimaryKey(resultSet, primaryKeyIndexes), calculateRowChecksum(resultSet, columnCount));
+            }
+        }
+    }
+    
+    private void addMismatchedKey(final List<String> mismatchedKeys, final String primaryKey) {
+        if (mismatchedKeys.size() < MAX_MISMATCHED_KEYS) {
+            mismatchedKeys.add(primaryKey);
+        }
+    }
+    
+    private int[] getPrimaryKeyIndexes(final List<String> columns, final List<String> primaryKeys) {
+        int[] result = new int[primaryKeys.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = columns.indexOf(primaryKeys.get(i)) + 1;
+        }
+        return result;
+    }
+    
+    private String getPrimaryKey(final ResultSet resultSet, final int[] primaryKeyIndexes) throws SQLException {
+        StringBuilder result = new StringBuilder();
+        for (int each : primaryKeyIndexes) {
+            if (result.length() > 0) {
+                result.append(',');
+            }
+            result.append(resultSet.getObject(each));
+        }
+        return result.toString();
+    }
+    
+    private long calculateRowChecksum(final ResultSet resultSet, final int columnCount) throws SQLException {
+        CRC32 result = new CRC32();
+        for (int i = 1; i <= columnCount; i++) {
+            Object value = resultSet.getObject(i);
+            if (null == value) {
+                result.update(ByteBuffer.allocate(4).putInt(-1).array());
+                continue;
+            }
+            byte[] bytes = toBytes(value);
+            result.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+            result.update(bytes);
+        }
+        return result.getValue();
+    }
+    
+    private byte[] toBytes(final Object value) {
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).stripTrailingZeros().toPlainString().getBytes(StandardCharsets.UTF_8);
+        }
+        return value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private void setParameters(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
+        int index = 1;
+        for (Object each : parameters) {
+            preparedStatement.setObject(index++, each);
+        }
+    }
+    
+    private void throttle(final long rows) {
+        checkedRows += rows;
+        if (maxRowsPerSecond <= 0) {
+            return;
+        }
+        long waitMillis = checkedRows * 1000 / maxRowsPerSecond - (System.currentTimeMillis() - startTimeMillis);
+        if (waitMillis > 0) {
+            try {
+                Thread.sleep(waitMillis);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                stop();
+            }
+        }
+    }
+}
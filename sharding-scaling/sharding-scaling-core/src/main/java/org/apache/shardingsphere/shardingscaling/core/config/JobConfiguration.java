@@ -31,5 +31,9 @@ import lombok.Setter;
 @Getter
 public final class JobConfiguration {
     
+    private String jobName;
+    
     private int concurrency = 3;
+    
+    private RateLimitConfiguration rateLimit = new RateLimitConfiguration();
 }
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Rate limit configuration of scaling job, non-positive limit means unlimited.
+ */
+@Setter
+@Getter
+public final class RateLimitConfiguration {
+    
+    /**
+     * Max rows written to target per second of job.
+     */
+    private long maxRowsPerSecond;
+    
+    /**
+     * Max bytes written to target per second of job.
+     */
+    private long maxBytesPerSecond;
+    
+    /**
+     * Max rows read from or written to each data source per second.
+     */
+    private long dataSourceMaxRowsPerSecond;
+    
+    /**
+     * Max bytes read from or written to each data source per second.
+     */
+    private long dataSourceMaxBytesPerSecond;
+    
+    /**
+     * Back off when probed query latency of data source is above threshold or not.
+     */
+    private boolean adaptive;
+    
+    /**
+     * Probed query latency of data source in milliseconds above which adaptive rate limit backs off.
+     */
+    private long latencyThresholdMilliseconds = 100L;
+}
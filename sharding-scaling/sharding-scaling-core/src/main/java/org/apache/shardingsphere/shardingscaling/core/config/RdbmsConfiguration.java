@@ -21,7 +21,12 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics.ScalingJobMetrics;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPosition;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.throttle.JobRateLimiter;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -32,16 +37,28 @@ import java.util.Map;
 @EqualsAndHashCode
 public final class RdbmsConfiguration implements Cloneable {
     
+    private String jobName;
+    
     private DataSourceConfiguration dataSourceConfiguration;
     
     private String tableName;
     
     private String whereCondition;
     
+    private List<Object> whereParameters;
+    
     private int spiltNum;
     
     private Map<String, String> tableNameMap;
     
+    private String primaryKey;
+    
+    private LogPosition position;
+    
+    private JobRateLimiter rateLimiter;
+    
+    private ScalingJobMetrics metrics;
+    
     /**
      * Clone to new rdbms configuration.
      *
@@ -61,4 +78,13 @@ public final class RdbmsConfiguration implements Cloneable {
     public String getWhereCondition() {
         return null == whereCondition ? "" : whereCondition;
     }
+    
+    /**
+     * Get parameters of where condition.
+     *
+     * @return empty list if whereParameters is null, otherwise whereParameters
+     */
+    public List<Object> getWhereParameters() {
+        return null == whereParameters ? Collections.emptyList() : whereParameters;
+    }
 }
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.shardingscaling.core.config;
 import org.apache.shardingsphere.shardingscaling.core.execute.engine.DefaultSyncTaskExecuteEngine;
 import org.apache.shardingsphere.shardingscaling.core.execute.engine.ShardingScalingExecuteEngine;
 import org.apache.shardingsphere.shardingscaling.core.execute.engine.SyncTaskExecuteEngine;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.PositionStore;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.PositionStoreFactory;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -41,6 +43,8 @@ public final class ScalingContext {
     private ShardingScalingExecuteEngine taskExecuteEngine;
     
     private ShardingScalingExecuteEngine importerExecuteEngine;
+    
+    private PositionStore positionStore;
 
     /**
      * Get instance of Sharding-Scaling's context.
@@ -61,6 +65,7 @@ public final class ScalingContext {
         this.syncTaskExecuteEngine = new DefaultSyncTaskExecuteEngine(serverConfiguration.getWorkerThread());
         this.taskExecuteEngine = new ShardingScalingExecuteEngine(serverConfiguration.getWorkerThread());
         this.importerExecuteEngine = new ShardingScalingExecuteEngine(serverConfiguration.getWorkerThread());
+        this.positionStore = PositionStoreFactory.newInstance(serverConfiguration);
     }
 
 }
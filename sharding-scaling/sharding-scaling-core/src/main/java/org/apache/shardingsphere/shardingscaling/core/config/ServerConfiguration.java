@@ -36,4 +36,14 @@ public final class ServerConfiguration implements YamlConfiguration {
     private int pushTimeout = 1000;
     
     private int workerThread = 30;
+    
+    private String positionStoreType = "FILE";
+    
+    private String positionStorePath = "position";
+    
+    private String postgreSQLDecodingPlugin = "test_decoding";
+    
+    private int consistencyCheckChunkSize = 1000;
+    
+    private int consistencyCheckMaxRowsPerSecond = 10000;
 }
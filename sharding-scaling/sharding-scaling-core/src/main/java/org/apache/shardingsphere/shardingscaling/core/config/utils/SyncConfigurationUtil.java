@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.shardingscaling.core.config.utils;
 
+import com.google.common.base.Joiner;
+import com.google.common.hash.Hashing;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
@@ -28,10 +30,12 @@ import org.apache.shardingsphere.shardingscaling.core.config.ScalingConfiguratio
 import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.underlying.common.config.DataSourceConfiguration;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.TreeSet;
 
 /**
  * Sync configuration Util.
@@ -59,6 +63,25 @@ public final class SyncConfigurationUtil {
         return result;
     }
     
+    /**
+     * Generate job name, which is stable for the same source data sources, destination data source and tables.
+     *
+     * @param syncConfigurations sync configurations
+     * @return job name
+     */
+    public static String generateJobName(final Collection<SyncConfiguration> syncConfigurations) {
+        Collection<String> syncDescriptions = new TreeSet<>();
+        for (SyncConfiguration each : syncConfigurations) {
+            syncDescriptions.add(String.format("%s>%s:%s", getJdbcUrl(each.getDumperConfiguration()), getJdbcUrl(each.getImporterConfiguration()),
+                    Joiner.on(',').join(new TreeSet<>(each.getTableNameMap().keySet()))));
+        }
+        return "scaling-job-" + Hashing.sha256().hashString(Joiner.on(';').join(syncDescriptions), StandardCharsets.UTF_8).toString().substring(0, 16);
+    }
+    
+    private static String getJdbcUrl(final RdbmsConfiguration rdbmsConfiguration) {
+        return ((JDBCDataSourceConfiguration) rdbmsConfiguration.getDataSourceConfiguration()).getJdbcUrl();
+    }
+    
     private static Map<String, Map<String, String>> toDataSourceTableNameMap(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, dataSourceNames);
         Map<String, Map<String, String>> result = new HashMap<>();
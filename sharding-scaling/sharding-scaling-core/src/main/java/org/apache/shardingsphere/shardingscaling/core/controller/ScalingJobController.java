@@ -18,13 +18,25 @@
 package org.apache.shardingsphere.shardingscaling.core.controller;
 
 import org.apache.shardingsphere.shardingscaling.core.ShardingScalingJob;
+import org.apache.shardingsphere.shardingscaling.core.check.DataConsistencyCheckReport;
+import org.apache.shardingsphere.shardingscaling.core.check.DataConsistencyChecker;
+import org.apache.shardingsphere.shardingscaling.core.config.RateLimitConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.controller.task.SyncTaskControlStatus;
 import org.apache.shardingsphere.shardingscaling.core.controller.task.SyncTaskController;
 import org.apache.shardingsphere.shardingscaling.core.exception.ScalingJobNotFoundException;
+import org.apache.shardingsphere.shardingscaling.core.execute.engine.ExecuteCallback;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics.PrometheusMetricsExporter;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics.ScalingJobMetrics;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics.ScalingJobMetricsSnapshot;
 import org.apache.shardingsphere.shardingscaling.core.preparer.ShardingScalingJobPreparer;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -37,6 +49,10 @@ public final class ScalingJobController {
     
     private final ConcurrentMap<Integer, List<SyncTaskController>> syncTaskControllerMaps = new ConcurrentHashMap<>();
     
+    private final ConcurrentMap<Integer, DataConsistencyChecker> dataConsistencyCheckers = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<Integer, DataConsistencyCheckReport> dataConsistencyCheckReports = new ConcurrentHashMap<>();
+    
     private final ShardingScalingJobPreparer shardingScalingJobPreparer = new ShardingScalingJobPreparer();
     
     /**
@@ -46,8 +62,22 @@ public final class ScalingJobController {
      */
     public void start(final ShardingScalingJob shardingScalingJob) {
         scalingJobMap.put(shardingScalingJob.getJobId(), shardingScalingJob);
+        for (SyncConfiguration each : shardingScalingJob.getSyncConfigurations()) {
+            each.getDumperConfiguration().setJobName(shardingScalingJob.getJobName());
+            each.getDumperConfiguration().setMetrics(shardingScalingJob.getMetrics());
+            each.getImporterConfiguration().setMetrics(shardingScalingJob.getMetrics());
+        }
+        if (null != shardingScalingJob.getRateLimiter()) {
+            for (SyncConfiguration each : shardingScalingJob.getSyncConfigurations()) {
+                each.getDumperConfiguration().setRateLimiter(shardingScalingJob.getRateLimiter());
+                each.getImporterConfiguration().setRateLimiter(shardingScalingJob.getRateLimiter());
+            }
+        }
         shardingScalingJobPreparer.prepare(shardingScalingJob);
         if (SyncTaskControlStatus.PREPARING_FAILURE.name().equals(shardingScalingJob.getStatus())) {
+            if (null != shardingScalingJob.getRateLimiter()) {
+                shardingScalingJob.getRateLimiter().close();
+            }
             return;
         }
         List<SyncTaskController> syncTaskControllers = new LinkedList<>();
@@ -69,10 +99,104 @@ public final class ScalingJobController {
         if (!scalingJobMap.containsKey(shardingScalingJobId)) {
             return;
         }
-        for (SyncTaskController syncTaskController : syncTaskControllerMaps.get(shardingScalingJobId)) {
-            syncTaskController.stop();
+        if (syncTaskControllerMaps.containsKey(shardingScalingJobId)) {
+            for (SyncTaskController syncTaskController : syncTaskControllerMaps.get(shardingScalingJobId)) {
+                syncTaskController.stop();
+            }
         }
         scalingJobMap.get(shardingScalingJobId).setStatus("STOPPED");
+        if (null != scalingJobMap.get(shardingScalingJobId).getRateLimiter()) {
+            scalingJobMap.get(shardingScalingJobId).getRateLimiter().close();
+        }
+        DataConsistencyChecker dataConsistencyChecker = dataConsistencyCheckers.remove(shardingScalingJobId);
+        if (null != dataConsistencyChecker) {
+            dataConsistencyChecker.stop();
+            dataConsistencyCheckReports.get(shardingScalingJobId).setStatus("STOPPED");
+        }
+    }
+    
+    /**
+     * Reset scaling job, which stops it and deletes its persisted positions, so that it is migrated from the beginning when started again.
+     *
+     * @param shardingScalingJobId sharding scaling job id
+     */
+    public void reset(final int shardingScalingJobId) {
+        ShardingScalingJob shardingScalingJob = scalingJobMap.get(shardingScalingJobId);
+        if (null == shardingScalingJob) {
+            throw new ScalingJobNotFoundException(String.format("Can't find scaling job id %s", shardingScalingJobId));
+        }
+        stop(shardingScalingJobId);
+        if (null != ScalingContext.getInstance().getPositionStore()) {
+            ScalingContext.getInstance().getPositionStore().delete(shardingScalingJob.getJobName());
+        }
+    }
+    
+    /**
+     * Update rate limit of running scaling job.
+     *
+     * @param shardingScalingJobId sharding scaling job id
+     * @param rateLimitConfiguration rate limit configuration
+     */
+    public void updateRateLimit(final int shardingScalingJobId, final RateLimitConfiguration rateLimitConfiguration) {
+        ShardingScalingJob shardingScalingJob = scalingJobMap.get(shardingScalingJobId);
+        if (null == shardingScalingJob || null == shardingScalingJob.getRateLimiter()) {
+            throw new ScalingJobNotFoundException(String.format("Can't find scaling job id %s", shardingScalingJobId));
+        }
+        shardingScalingJob.getRateLimiter().update(rateLimitConfiguration);
+    }
+    
+    /**
+     * Start data consistency check between source and target of scaling job.
+     *
+     * @param shardingScalingJobId sharding scaling job id
+     * @return data consistency check report, which is filled in when check is running
+     */
+    public DataConsistencyCheckReport check(final int shardingScalingJobId) {
+        ShardingScalingJob shardingScalingJob = scalingJobMap.get(shardingScalingJobId);
+        if (null == shardingScalingJob) {
+            throw new ScalingJobNotFoundException(String.format("Can't find scaling job id %s", shardingScalingJobId));
+        }
+        DataConsistencyCheckReport result = new DataConsistencyCheckReport(shardingScalingJobId);
+        DataConsistencyCheckReport registeredReport = dataConsistencyCheckReports.compute(shardingScalingJobId, (key, value) -> null != value && value.isRunning() ? value : result);
+        if (registeredReport != result) {
+            return registeredReport;
+        }
+        ServerConfiguration serverConfiguration = ScalingContext.getInstance().getServerConfiguration();
+        DataConsistencyChecker dataConsistencyChecker = new DataConsistencyChecker(shardingScalingJob.getSyncConfigurations(),
+                result, serverConfiguration.getConsistencyCheckChunkSize(), serverConfiguration.getConsistencyCheckMaxRowsPerSecond());
+        dataConsistencyCheckers.put(shardingScalingJobId, dataConsistencyChecker);
+        ScalingContext.getInstance().getTaskExecuteEngine().submit(dataConsistencyChecker, new ExecuteCallback() {
+            
+            @Override
+            public void onSuccess() {
+                dataConsistencyCheckers.remove(shardingScalingJobId, dataConsistencyChecker);
+                if (result.isRunning()) {
+                    result.setStatus("FINISHED");
+                }
+            }
+            
+            @Override
+            public void onFailure(final Throwable throwable) {
+                dataConsistencyCheckers.remove(shardingScalingJobId, dataConsistencyChecker);
+                result.setErrorMessage(throwable.getMessage());
+                result.setStatus("FAILURE");
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * Get data consistency check report.
+     *
+     * @param shardingScalingJobId sharding scaling job id
+     * @return data consistency check report
+     */
+    public DataConsistencyCheckReport getCheckReport(final int shardingScalingJobId) {
+        DataConsistencyCheckReport result = dataConsistencyCheckReports.get(shardingScalingJobId);
+        if (null == result) {
+            throw new ScalingJobNotFoundException(String.format("Can't find data consistency check of scaling job id %s", shardingScalingJobId));
+        }
+        return result;
     }
     
     /**
@@ -95,6 +219,33 @@ public final class ScalingJobController {
         return result;
     }
     
+    /**
+     * Get metrics of scaling job.
+     *
+     * @param shardingScalingJobId sharding scaling job id
+     * @return metrics snapshot
+     */
+    public ScalingJobMetricsSnapshot getMetrics(final int shardingScalingJobId) {
+        ShardingScalingJob shardingScalingJob = scalingJobMap.get(shardingScalingJobId);
+        if (null == shardingScalingJob) {
+            throw new ScalingJobNotFoundException(String.format("Can't find scaling job id %s", shardingScalingJobId));
+        }
+        return new ScalingJobMetricsSnapshot(shardingScalingJobId, shardingScalingJob.getMetrics());
+    }
+    
+    /**
+     * Export metrics of all scaling jobs in Prometheus text format.
+     *
+     * @return metrics in Prometheus text format
+     */
+    public String exportPrometheusMetrics() {
+        Map<Integer, ScalingJobMetrics> jobMetrics = new TreeMap<>();
+        for (ShardingScalingJob each : scalingJobMap.values()) {
+            jobMetrics.put(each.getJobId(), each.getMetrics());
+        }
+        return PrometheusMetricsExporter.export(jobMetrics);
+    }
+    
     /**
      * List all sharding scaling jobs.
      *
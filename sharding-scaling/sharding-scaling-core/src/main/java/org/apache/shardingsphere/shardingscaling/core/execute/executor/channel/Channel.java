@@ -37,8 +37,12 @@ public interface Channel {
     /**
      * fetch {@code Record} from channel, if the timeout also returns the record.
      *
+     * <p>
+     * Timeout bounds waiting for the first record, records already arrived are returned without waiting the whole timeout for a full batch.
+     * </p>
+     *
      * @param batchSize record batch size
-     * @param timeout value
+     * @param timeout seconds to wait for the first record
      * @return record
      */
     List<Record> fetchRecords(int batchSize, int timeout);
@@ -23,72 +23,53 @@ import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Fi
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.PlaceholderRecord;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
 
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Distribution channel.
+ *
+ * <p>
+ * Data records are distributed by table name and primary key values, so changes of same row are applied in order by one importer,
+ * and changes of different rows are applied by importers concurrently.
+ * Records are acknowledged in pushed order, the low watermark advances as soon as all records before it are acknowledged by importers.
+ * </p>
  */
 public final class DistributionChannel implements Channel {
     
     private final int channelNumber;
     
-    /**
-     * key = channel id, value = channel.
-     */
-    private final Map<String, MemoryChannel> channels = new HashMap<>();
+    private final MemoryChannel[] channels;
     
     /**
-     * key = thread id, value = channel id.
+     * key = thread id, value = channel.
      */
-    private final Map<String, String> channelAssignment = new HashMap<>();
+    private final ConcurrentMap<Long, MemoryChannel> channelAssignment = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger assignedChannelCount = new AtomicInteger();
     
     private final AckCallback ackCallback;
     
-    private Queue<Record> toBeAcknowledgeRecords = new ConcurrentLinkedQueue<>();
+    private final Queue<Record> toBeAcknowledgeRecords = new ArrayDeque<>();
     
-    private Map<LogPosition, Record> pendingAcknowledgeRecords = new ConcurrentHashMap<>();
+    private final Set<Record> acknowledgedRecords = Collections.newSetFromMap(new IdentityHashMap<>());
     
-    private ScheduledExecutorService scheduleAckRecordsExecutor;
+    private volatile LogPosition lowWatermark;
     
     public DistributionChannel(final int channelNumber, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
         this.ackCallback = ackCallback;
+        channels = new MemoryChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels.put(Integer.toString(i), new MemoryChannel(new SingleChannelAckCallback()));
-        }
-        scheduleAckRecords();
-    }
-    
-    private void scheduleAckRecords() {
-        this.scheduleAckRecordsExecutor = Executors.newSingleThreadScheduledExecutor();
-        scheduleAckRecordsExecutor.scheduleAtFixedRate(this::ackRecords0, 5, 1, TimeUnit.SECONDS);
-    }
-    
-    private void ackRecords0() {
-        synchronized (DistributionChannel.this) {
-            List<Record> result = new LinkedList<>();
-            while (!toBeAcknowledgeRecords.isEmpty()) {
-                Record record = toBeAcknowledgeRecords.peek();
-                if (pendingAcknowledgeRecords.containsKey(record.getLogPosition())) {
-                    result.add(record);
-                    toBeAcknowledgeRecords.poll();
-                    pendingAcknowledgeRecords.remove(record.getLogPosition());
-                } else {
-                    break;
-                }
-            }
-            if (result.size() > 0) {
-                ackCallback.onAck(result);
-            }
+            channels[i] = new MemoryChannel(this::acknowledge);
         }
     }
     
@@ -96,23 +77,52 @@ public final class DistributionChannel implements Channel {
     public void pushRecord(final Record record) throws InterruptedException {
         if (FinishedRecord.class.equals(record.getClass())) {
             // broadcast
-            for (Map.Entry<String, MemoryChannel> entry : channels.entrySet()) {
-                entry.getValue().pushRecord(record);
+            for (MemoryChannel each : channels) {
+                each.pushRecord(record);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            toBeAcknowledgeRecords.add(record);
-            // hash by table name
-            DataRecord dataRecord = (DataRecord) record;
-            String index = Integer.toString(Math.abs(dataRecord.hashCode()) % channelNumber);
-            channels.get(index).pushRecord(dataRecord);
+            synchronized (this) {
+                toBeAcknowledgeRecords.add(record);
+            }
+            // hash by table name and primary key values
+            channels[Math.floorMod(record.hashCode(), channelNumber)].pushRecord(record);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
-            toBeAcknowledgeRecords.add(record);
-            pendingAcknowledgeRecords.put(record.getLogPosition(), record);
+            synchronized (this) {
+                toBeAcknowledgeRecords.add(record);
+            }
+            acknowledge(Collections.singletonList(record));
         } else {
             throw new RuntimeException("Not Support Record Type");
         }
     }
     
+    private void acknowledge(final List<Record> records) {
+        List<Record> result = new ArrayList<>(records.size());
+        synchronized (this) {
+            for (Record each : records) {
+                if (!FinishedRecord.class.equals(each.getClass())) {
+                    acknowledgedRecords.add(each);
+                }
+            }
+            while (!toBeAcknowledgeRecords.isEmpty() && acknowledgedRecords.remove(toBeAcknowledgeRecords.peek())) {
+                result.add(toBeAcknowledgeRecords.poll());
+            }
+            if (!result.isEmpty()) {
+                lowWatermark = result.get(result.size() - 1).getLogPosition();
+                ackCallback.onAck(result);
+            }
+        }
+    }
+    
+    /**
+     * Get low watermark, which is log position of last record that itself and all records before it are acknowledged.
+     *
+     * @return low watermark, null if no record acknowledged
+     */
+    public LogPosition getLowWatermark() {
+        return lowWatermark;
+    }
+    
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
         return findChannel().fetchRecords(batchSize, timeout);
@@ -125,44 +135,12 @@ public final class DistributionChannel implements Channel {
     
     @Override
     public void close() {
-        for (MemoryChannel each : channels.values()) {
+        for (MemoryChannel each : channels) {
             each.close();
         }
-        scheduleAckRecordsExecutor.shutdown();
-        ackRecords0();
     }
     
     private Channel findChannel() {
-        String threadId = Long.toString(Thread.currentThread().getId());
-        checkAssignment(threadId);
-        return channels.get(channelAssignment.get(threadId));
-    }
-    
-    private void checkAssignment(final String threadId) {
-        if (!channelAssignment.containsKey(threadId)) {
-            synchronized (this) {
-                if (!channelAssignment.containsKey(threadId)) {
-                    assignmentChannel(threadId);
-                }
-            }
-        }
-    }
-    
-    private void assignmentChannel(final String threadId) {
-        for (Map.Entry<String, MemoryChannel> entry : channels.entrySet()) {
-            if (!channelAssignment.containsValue(entry.getKey())) {
-                channelAssignment.put(threadId, entry.getKey());
-            }
-        }
-    }
-    
-    private class SingleChannelAckCallback implements AckCallback {
-
-        @Override
-        public void onAck(final List<Record> records) {
-            for (Record record : records) {
-                pendingAcknowledgeRecords.put(record.getLogPosition(), record);
-            }
-        }
+        return channelAssignment.computeIfAbsent(Thread.currentThread().getId(), key -> channels[assignedChannelCount.getAndIncrement() % channelNumber]);
     }
 }
@@ -18,68 +18,251 @@
 package org.apache.shardingsphere.shardingscaling.core.execute.executor.channel;
 
 import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Memory channel.
+ * <p>
+ * Records are kept in a bounded ring buffer, producers claim sequences lock free and consumer drains published sequences in batch.
+ * Slots of fetched records are released after acknowledged, so acknowledgement is a watermark of sequence.
+ * Lock is only used to park and signal producers waiting for free slots or consumer waiting for records.
+ * Consumer waits up to timeout for the first record, then lingers at most {@link #BATCH_LINGER_MILLIS} for the batch to fill,
+ * so records are flushed soon after they arrive even if batch size is not reached.
+ * Closing channel wakes up waiting producers and consumer, records pushed after closed are discarded.
+ * </p>
  */
 public final class MemoryChannel implements Channel {
     
-    private static final int PUSH_TIMEOUT = ScalingContext.getInstance().getServerConfiguration().getPushTimeout();
+    private static final long BATCH_LINGER_MILLIS = 20L;
     
-    private final BlockingQueue<Record> queue = new ArrayBlockingQueue<>(ScalingContext.getInstance().getServerConfiguration().getBlockQueueSize());
+    private final Object[] entries;
+    
+    private final AtomicLongArray publishedSequences;
+    
+    private final int indexMask;
+    
+    private final long pushTimeoutNanos;
     
     private final AckCallback ackCallback;
     
-    private List<Record> toBeAcknowledgeRecords = new LinkedList<>();
+    private final AtomicLong claimSequence = new AtomicLong();
+    
+    private volatile long releasedSequence;
+    
+    private long fetchedSequence;
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    private final Condition batchFilled = lock.newCondition();
+    
+    private final AtomicInteger waitingProducerCount = new AtomicInteger();
+    
+    private volatile long consumerWaitingSequence = Long.MAX_VALUE;
+    
+    private volatile boolean closed;
     
     public MemoryChannel(final AckCallback ackCallback) {
+        this(getServerConfiguration().getBlockQueueSize(), getServerConfiguration().getPushTimeout(), ackCallback);
+    }
+    
+    public MemoryChannel(final int bufferSize, final long pushTimeoutMillis, final AckCallback ackCallback) {
+        int capacity = ceilingPowerOfTwo(bufferSize);
+        entries = new Object[capacity];
+        publishedSequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            publishedSequences.set(i, -1L);
+        }
+        indexMask = capacity - 1;
+        pushTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(pushTimeoutMillis);
         this.ackCallback = ackCallback;
     }
     
+    private static ServerConfiguration getServerConfiguration() {
+        return ScalingContext.getInstance().getServerConfiguration();
+    }
+    
+    private static int ceilingPowerOfTwo(final int value) {
+        return value <= 1 ? 1 : 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(value - 1));
+    }
+    
     @Override
     public void pushRecord(final Record dataRecord) throws InterruptedException {
-        if (!queue.offer(dataRecord, PUSH_TIMEOUT, TimeUnit.MILLISECONDS)) {
-            throw new RuntimeException();
+        long sequence = claim();
+        if (sequence < 0L) {
+            return;
+        }
+        int index = (int) sequence & indexMask;
+        entries[index] = dataRecord;
+        publishedSequences.set(index, sequence);
+        if (sequence >= consumerWaitingSequence) {
+            signal(batchFilled);
+        }
+    }
+    
+    private long claim() throws InterruptedException {
+        long deadline = 0L;
+        while (true) {
+            if (closed) {
+                return -1L;
+            }
+            long result = claimSequence.get();
+            if (result - releasedSequence < entries.length) {
+                if (claimSequence.compareAndSet(result, result + 1)) {
+                    return result;
+                }
+                continue;
+            }
+            if (0L == deadline) {
+                deadline = System.nanoTime() + pushTimeoutNanos;
+            }
+            if (!awaitFreeSlot(result, deadline - System.nanoTime())) {
+                throw new RuntimeException();
+            }
+        }
+    }
+    
+    private boolean awaitFreeSlot(final long sequence, final long timeoutNanos) throws InterruptedException {
+        long remainingNanos = timeoutNanos;
+        lock.lockInterruptibly();
+        waitingProducerCount.incrementAndGet();
+        try {
+            while (!closed && sequence - releasedSequence >= entries.length) {
+                if (remainingNanos <= 0L) {
+                    return false;
+                }
+                remainingNanos = notFull.awaitNanos(remainingNanos);
+            }
+            return true;
+        } finally {
+            waitingProducerCount.decrementAndGet();
+            lock.unlock();
         }
     }
     
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
-        List<Record> records = new ArrayList<>(batchSize);
-        long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
-            if (timeout * 1000 <= System.currentTimeMillis() - start) {
-                break;
-            }
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException ignored) {
-                break;
+        int fetchSize = (int) Math.min(batchSize, entries.length - (fetchedSequence - releasedSequence));
+        if (closed || fetchSize <= 0) {
+            return Collections.emptyList();
+        }
+        long timeoutNanos = TimeUnit.SECONDS.toNanos(timeout);
+        awaitPublished(fetchedSequence, timeoutNanos);
+        if (isPublished(fetchedSequence)) {
+            awaitPublished(fetchedSequence + fetchSize - 1, Math.min(timeoutNanos, TimeUnit.MILLISECONDS.toNanos(BATCH_LINGER_MILLIS)));
+        }
+        List<Record> result = new ArrayList<>(fetchSize);
+        long sequence = fetchedSequence;
+        while (result.size() < fetchSize && isPublished(sequence)) {
+            result.add((Record) entries[(int) sequence & indexMask]);
+            sequence++;
+        }
+        fetchedSequence = sequence;
+        return result;
+    }
+    
+    private void awaitPublished(final long sequence, final long timeoutNanos) {
+        if (isPublished(sequence)) {
+            return;
+        }
+        long remainingNanos = timeoutNanos;
+        lock.lock();
+        try {
+            consumerWaitingSequence = sequence;
+            while (!closed && !isPublished(sequence) && remainingNanos > 0L) {
+                remainingNanos = batchFilled.awaitNanos(remainingNanos);
             }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        } finally {
+            consumerWaitingSequence = Long.MAX_VALUE;
+            lock.unlock();
         }
-        queue.drainTo(records, batchSize);
-        toBeAcknowledgeRecords.addAll(records);
-        return records;
+    }
+    
+    private boolean isPublished(final long sequence) {
+        return sequence == publishedSequences.get((int) sequence & indexMask);
     }
     
     @Override
     public void ack() {
-        if (toBeAcknowledgeRecords.size() > 0) {
-            ackCallback.onAck(toBeAcknowledgeRecords);
-            toBeAcknowledgeRecords.clear();
+        long fromSequence = releasedSequence;
+        long toSequence = fetchedSequence;
+        if (fromSequence == toSequence) {
+            return;
+        }
+        ackCallback.onAck(new AcknowledgedRecords(fromSequence, toSequence));
+        for (long each = fromSequence; each < toSequence; each++) {
+            entries[(int) each & indexMask] = null;
+        }
+        releasedSequence = toSequence;
+        if (waitingProducerCount.get() > 0) {
+            signal(notFull);
+        }
+    }
+    
+    private void signal(final Condition condition) {
+        lock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            lock.unlock();
         }
     }
     
     @Override
     public void close() {
-        queue.clear();
+        closed = true;
+        Arrays.fill(entries, null);
+        lock.lock();
+        try {
+            notFull.signalAll();
+            batchFilled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Acknowledged records, which is a view of ring buffer between released sequence and fetched sequence.
+     */
+    private final class AcknowledgedRecords extends AbstractList<Record> {
+        
+        private final long fromSequence;
+        
+        private final int size;
+        
+        AcknowledgedRecords(final long fromSequence, final long toSequence) {
+            this.fromSequence = fromSequence;
+            size = (int) (toSequence - fromSequence);
+        }
+        
+        @Override
+        public Record get(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+            }
+            return (Record) entries[(int) (fromSequence + index) & indexMask];
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
     }
 }
@@ -26,7 +26,9 @@ import org.apache.shardingsphere.shardingscaling.core.config.RdbmsConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.exception.SyncTaskExecuteException;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.AbstractShardingScalingExecutor;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.channel.Channel;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPosition;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.NopLogPosition;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.FinishedRecord;
@@ -47,6 +49,10 @@ import java.sql.SQLException;
 @Slf4j
 public abstract class AbstractJDBCDumper extends AbstractShardingScalingExecutor implements JDBCDumper {
     
+    private static final int CHUNK_SIZE = 1000;
+    
+    private static final int RATE_LIMIT_BATCH_SIZE = 100;
+    
     @Getter(AccessLevel.PROTECTED)
     private final RdbmsConfiguration rdbmsConfiguration;
     
@@ -57,6 +63,10 @@ public abstract class AbstractJDBCDumper extends AbstractShardingScalingExecutor
     @Setter
     private Channel channel;
     
+    private int pendingRows;
+    
+    private long pendingBytes;
+    
     public AbstractJDBCDumper(final RdbmsConfiguration rdbmsConfiguration, final DataSourceManager dataSourceManager) {
         if (!JDBCDataSourceConfiguration.class.equals(rdbmsConfiguration.getDataSourceConfiguration().getClass())) {
             throw new UnsupportedOperationException("AbstractJDBCDumper only support JDBCDataSourceConfiguration");
@@ -79,29 +89,109 @@ public abstract class AbstractJDBCDumper extends AbstractShardingScalingExecutor
     
     @Override
     public final void dump(final Channel channel) {
+        LogPosition finishedPosition = new NopLogPosition();
         try (Connection conn = dataSourceManager.getDataSource(rdbmsConfiguration.getDataSourceConfiguration()).getConnection()) {
-            String sql = String.format("SELECT * FROM %s %s", rdbmsConfiguration.getTableName(), rdbmsConfiguration.getWhereCondition());
-            PreparedStatement ps = createPreparedStatement(conn, sql);
-            ResultSet rs = ps.executeQuery();
-            ResultSetMetaData metaData = rs.getMetaData();
-            while (isRunning() && rs.next()) {
-                DataRecord record = new DataRecord(new NopLogPosition(), metaData.getColumnCount());
-                record.setType("BOOTSTRAP-INSERT");
-                record.setTableName(rdbmsConfiguration.getTableNameMap().get(rdbmsConfiguration.getTableName()));
-                for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                    record.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i)));
-                }
-                pushRecord(record);
+            if (null != rdbmsConfiguration.getPrimaryKey() && rdbmsConfiguration.getPosition() instanceof PrimaryKeyPosition) {
+                finishedPosition = dumpByPrimaryKeyChunks(conn, (PrimaryKeyPosition) rdbmsConfiguration.getPosition());
+            } else {
+                dumpAll(conn);
             }
         } catch (SQLException e) {
             stop();
             channel.close();
             throw new SyncTaskExecuteException(e);
         } finally {
-            pushRecord(new FinishedRecord(new NopLogPosition()));
+            acquirePendingRateLimit();
+            pushRecord(new FinishedRecord(finishedPosition));
         }
     }
     
+    private void dumpAll(final Connection conn) throws SQLException {
+        String sql = String.format("SELECT * FROM %s %s", rdbmsConfiguration.getTableName(), rdbmsConfiguration.getWhereCondition());
+        PreparedStatement ps = createPreparedStatement(conn, sql);
+        for (int i = 0; i < rdbmsConfiguration.getWhereParameters().size(); i++) {
+            ps.setObject(i + 1, rdbmsConfiguration.getWhereParameters().get(i));
+        }
+        ResultSet rs = ps.executeQuery();
+        ResultSetMetaData metaData = rs.getMetaData();
+        while (isRunning() && rs.next()) {
+            pushDataRecord(createDataRecord(new NopLogPosition(), rs, metaData));
+        }
+    }
+    
+    private PrimaryKeyPosition dumpByPrimaryKeyChunks(final Connection conn, final PrimaryKeyPosition position) throws SQLException {
+        return 1 == tableMetaData.getPrimaryKeyColumns().size() ? dumpByUniqueKeyChunks(conn, position) : dumpByLeadingColumnChunks(conn, position);
+    }
+    
+    private PrimaryKeyPosition dumpByUniqueKeyChunks(final Connection conn, final PrimaryKeyPosition position) throws SQLException {
+        String primaryKey = rdbmsConfiguration.getPrimaryKey();
+        String sql = String.format("SELECT * FROM %s WHERE %s >= ? AND %s <= ? ORDER BY %s LIMIT %d", rdbmsConfiguration.getTableName(), primaryKey, primaryKey, primaryKey, CHUNK_SIZE);
+        long beginValue = position.getBeginValue();
+        try (PreparedStatement ps = createPreparedStatement(conn, sql)) {
+            while (isRunning() && beginValue <= position.getEndValue()) {
+                ps.setLong(1, beginValue);
+                ps.setLong(2, position.getEndValue());
+                int rowCount = 0;
+                try (ResultSet rs = ps.executeQuery()) {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    while (isRunning() && rs.next()) {
+                        beginValue = rs.getLong(primaryKey) + 1;
+                        pushDataRecord(createDataRecord(new PrimaryKeyPosition(beginValue, position.getEndValue()), rs, metaData));
+                        rowCount++;
+                    }
+                }
+                if (isRunning() && rowCount < CHUNK_SIZE) {
+                    beginValue = position.getEndValue() + 1;
+                }
+            }
+        }
+        return new PrimaryKeyPosition(beginValue, position.getEndValue());
+    }
+    
+    private PrimaryKeyPosition dumpByLeadingColumnChunks(final Connection conn, final PrimaryKeyPosition position) throws SQLException {
+        String leadingColumn = rdbmsConfiguration.getPrimaryKey();
+        String chunkEndSql = String.format("SELECT %s FROM %s WHERE %s >= ? AND %s <= ? ORDER BY %s LIMIT 1 OFFSET %d",
+                leadingColumn, rdbmsConfiguration.getTableName(), leadingColumn, leadingColumn, leadingColumn, CHUNK_SIZE - 1);
+        String sql = String.format("SELECT * FROM %s WHERE %s >= ? AND %s <= ? ORDER BY %s", rdbmsConfiguration.getTableName(), leadingColumn, leadingColumn, leadingColumn);
+        long beginValue = position.getBeginValue();
+        try (PreparedStatement chunkEndPs = conn.prepareStatement(chunkEndSql);
+             PreparedStatement ps = createPreparedStatement(conn, sql)) {
+            while (isRunning() && beginValue <= position.getEndValue()) {
+                long chunkEnd = getChunkEnd(chunkEndPs, beginValue, position.getEndValue());
+                ps.setLong(1, beginValue);
+                ps.setLong(2, chunkEnd);
+                try (ResultSet rs = ps.executeQuery()) {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    while (isRunning() && rs.next()) {
+                        pushDataRecord(createDataRecord(new PrimaryKeyPosition(rs.getLong(leadingColumn), position.getEndValue()), rs, metaData));
+                    }
+                }
+                if (isRunning()) {
+                    beginValue = chunkEnd + 1;
+                }
+            }
+        }
+        return new PrimaryKeyPosition(beginValue, position.getEndValue());
+    }
+    
+    private long getChunkEnd(final PreparedStatement chunkEndPs, final long beginValue, final long endValue) throws SQLException {
+        chunkEndPs.setLong(1, beginValue);
+        chunkEndPs.setLong(2, endValue);
+        try (ResultSet rs = chunkEndPs.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : endValue;
+        }
+    }
+    
+    private DataRecord createDataRecord(final LogPosition logPosition, final ResultSet rs, final ResultSetMetaData metaData) throws SQLException {
+        DataRecord result = new DataRecord(logPosition, metaData.getColumnCount());
+        result.setType("BOOTSTRAP-INSERT");
+        result.setTableName(rdbmsConfiguration.getTableNameMap().get(rdbmsConfiguration.getTableName()));
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            result.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i)));
+        }
+        return result;
+    }
+    
     /**
      * Create prepared statement.
      *
@@ -124,6 +214,28 @@ public abstract class AbstractJDBCDumper extends AbstractShardingScalingExecutor
         return resultSet.getObject(index);
     }
     
+    private void pushDataRecord(final DataRecord record) {
+        if (null != rdbmsConfiguration.getRateLimiter() && rdbmsConfiguration.getRateLimiter().isLimited()) {
+            pendingRows++;
+            pendingBytes += record.estimateSize();
+            if (pendingRows >= RATE_LIMIT_BATCH_SIZE) {
+                acquirePendingRateLimit();
+            }
+        }
+        if (null != rdbmsConfiguration.getMetrics()) {
+            rdbmsConfiguration.getMetrics().getDumpedRecords().mark(1);
+        }
+        pushRecord(record);
+    }
+    
+    private void acquirePendingRateLimit() {
+        if (pendingRows > 0) {
+            rdbmsConfiguration.getRateLimiter().acquire(rdbmsConfiguration.getDataSourceConfiguration(), false, pendingRows, pendingBytes);
+            pendingRows = 0;
+            pendingBytes = 0;
+        }
+    }
+    
     private void pushRecord(final Record record) {
         try {
             channel.pushRecord(record);
@@ -17,8 +17,17 @@
 
 package org.apache.shardingsphere.shardingscaling.core.execute.executor.dumper;
 
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPosition;
+
 /**
  * Log dumper.
  */
 public interface LogDumper extends Dumper {
+    
+    /**
+     * Acknowledge log position, all records before it have been applied to target.
+     *
+     * @param logPosition acknowledged log position
+     */
+    void ackPosition(LogPosition logPosition);
 }
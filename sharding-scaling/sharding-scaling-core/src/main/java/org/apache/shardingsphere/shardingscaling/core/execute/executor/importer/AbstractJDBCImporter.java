@@ -34,22 +34,47 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Savepoint;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract JDBC importer implementation.
+ *
+ * <p>
+ * Consecutive data records with same type, table and columns are imported together,
+ * inserts by multiple rows insert SQL and updates or deletes by JDBC batch.
+ * Count of records fetched for one transaction is adapted to observed latency.
+ * Records conflicting with existing rows by duplicate key are skipped and counted, each insert runs under a savepoint
+ * so that a conflict does not abort the whole transaction on databases like PostgreSQL.
+ * Other constraint violations, such as not null, foreign key or check, fail the task.
+ * </p>
  */
 @Slf4j
 public abstract class AbstractJDBCImporter extends AbstractShardingScalingExecutor implements Importer {
     
+    private static final int MAX_PARAMETER_COUNT = 32767;
+    
+    private static final int MAX_INSERT_ROW_COUNT = 1000;
+    
+    private static final int QUERY_TIMEOUT_SECONDS = 30;
+    
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+    
+    private static final int MYSQL_DUPLICATE_ENTRY_ERROR_CODE = 1062;
+    
     private final RdbmsConfiguration rdbmsConfiguration;
     
     private final DataSourceManager dataSourceManager;
     
     private final AbstractSqlBuilder sqlBuilder;
     
+    private final AdaptiveBatchSize batchSize = new AdaptiveBatchSize(100, 10, 5000, TimeUnit.MILLISECONDS.toNanos(500L));
+    
     @Setter
     private Channel channel;
     
@@ -76,9 +101,14 @@ public abstract class AbstractJDBCImporter extends AbstractShardingScalingExecut
     public final void write() {
         try {
             while (isRunning()) {
-                List<Record> records = channel.fetchRecords(100, 3);
+                List<Record> records = channel.fetchRecords(batchSize.getBatchSize(), 3);
                 if (null != records && records.size() > 0) {
+                    acquireRateLimit(records);
+                    long startTime = System.nanoTime();
                     flush(dataSourceManager.getDataSource(rdbmsConfiguration.getDataSourceConfiguration()), records);
+                    long elapsedNanos = System.nanoTime() - startTime;
+                    batchSize.adjust(records.size(), elapsedNanos);
+                    updateMetrics(records, elapsedNanos);
                     if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
                         channel.ack();
                         break;
@@ -91,64 +121,186 @@ public abstract class AbstractJDBCImporter extends AbstractShardingScalingExecut
         }
     }
     
+    private void acquireRateLimit(final List<Record> records) {
+        if (null == rdbmsConfiguration.getRateLimiter() || !rdbmsConfiguration.getRateLimiter().isLimited()) {
+            return;
+        }
+        int rows = 0;
+        long bytes = 0;
+        for (Record each : records) {
+            if (DataRecord.class.equals(each.getClass())) {
+                rows++;
+                bytes += ((DataRecord) each).estimateSize();
+            }
+        }
+        rdbmsConfiguration.getRateLimiter().acquire(rdbmsConfiguration.getDataSourceConfiguration(), true, rows, bytes);
+    }
+    
+    private void updateMetrics(final List<Record> records, final long elapsedNanos) {
+        if (null == rdbmsConfiguration.getMetrics()) {
+            return;
+        }
+        int rows = 0;
+        for (Record each : records) {
+            if (DataRecord.class.equals(each.getClass())) {
+                rows++;
+            }
+        }
+        rdbmsConfiguration.getMetrics().getImportedRecords().mark(rows);
+        rdbmsConfiguration.getMetrics().getApplyLatency().update(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+    
     private void flush(final DataSource dataSource, final List<Record> buffer) throws SQLException {
+        Map<String, PreparedStatement> preparedStatements = new HashMap<>();
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
-            for (Record record : buffer) {
-                if (DataRecord.class.equals(record.getClass())) {
-                    DataRecord dataRecord = (DataRecord) record;
-                    switch (dataRecord.getType()) {
-                        case "BOOTSTRAP-INSERT":
-                        case "INSERT":
-                            executeInsert(connection, dataRecord);
-                            break;
-                        case "UPDATE":
-                            executeUpdate(connection, dataRecord);
-                            break;
-                        case "DELETE":
-                            executeDelete(connection, dataRecord);
-                            break;
-                        default:
-                            break;
-                    }
+            List<DataRecord> group = new ArrayList<>(buffer.size());
+            for (Record each : buffer) {
+                if (!DataRecord.class.equals(each.getClass())) {
+                    continue;
+                }
+                DataRecord dataRecord = (DataRecord) each;
+                if (!group.isEmpty() && !isSameGroup(group.get(0), dataRecord)) {
+                    executeGroup(connection, preparedStatements, group);
+                    group.clear();
                 }
+                group.add(dataRecord);
+            }
+            if (!group.isEmpty()) {
+                executeGroup(connection, preparedStatements, group);
             }
             connection.commit();
+        } finally {
+            for (PreparedStatement each : preparedStatements.values()) {
+                each.close();
+            }
+        }
+    }
+    
+    private boolean isSameGroup(final DataRecord groupRecord, final DataRecord dataRecord) {
+        if (!groupRecord.getType().equals(dataRecord.getType()) || !groupRecord.getTableName().equals(dataRecord.getTableName()) || groupRecord.getColumnCount() != dataRecord.getColumnCount()) {
+            return false;
+        }
+        for (int i = 0; i < groupRecord.getColumnCount(); i++) {
+            Column groupColumn = groupRecord.getColumn(i);
+            Column column = dataRecord.getColumn(i);
+            if (!groupColumn.getName().equals(column.getName()) || groupColumn.isUpdated() != column.isUpdated() || groupColumn.isPrimaryKey() != column.isPrimaryKey()) {
+                return false;
+            }
         }
+        return true;
     }
     
-    private void executeInsert(final Connection connection, final DataRecord record) throws SQLException {
-        String insertSql = sqlBuilder.buildInsertSQL(record);
-        PreparedStatement ps = connection.prepareStatement(insertSql);
-        ps.setQueryTimeout(30);
+    private void executeGroup(final Connection connection, final Map<String, PreparedStatement> preparedStatements, final List<DataRecord> group) throws SQLException {
+        switch (group.get(0).getType()) {
+            case "BOOTSTRAP-INSERT":
+            case "INSERT":
+                executeInsert(connection, preparedStatements, group);
+                break;
+            case "UPDATE":
+                executeUpdate(connection, preparedStatements, group);
+                break;
+            case "DELETE":
+                executeDelete(connection, preparedStatements, group);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private void executeInsert(final Connection connection, final Map<String, PreparedStatement> preparedStatements, final List<DataRecord> group) throws SQLException {
+        int maxRowCount = Math.max(1, Math.min(MAX_INSERT_ROW_COUNT, MAX_PARAMETER_COUNT / group.get(0).getColumnCount()));
+        for (int i = 0; i < group.size(); i += maxRowCount) {
+            List<DataRecord> rows = group.subList(i, Math.min(i + maxRowCount, group.size()));
+            if (executeInsertUnderSavepoint(connection, preparedStatements, rows)) {
+                continue;
+            }
+            int conflictedCount = 0;
+            if (1 == rows.size()) {
+                conflictedCount = 1;
+            } else {
+                for (DataRecord each : rows) {
+                    if (!executeInsertUnderSavepoint(connection, preparedStatements, Collections.singletonList(each))) {
+                        conflictedCount++;
+                    }
+                }
+            }
+            markConflicted(rows.get(0).getTableName(), conflictedCount);
+        }
+    }
+    
+    private boolean executeInsertUnderSavepoint(final Connection connection, final Map<String, PreparedStatement> preparedStatements, final List<DataRecord> rows) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
         try {
-            for (int i = 0; i < record.getColumnCount(); i++) {
-                ps.setObject(i + 1, record.getColumn(i).getValue());
+            executeInsertStatement(connection, preparedStatements, rows);
+        } catch (SQLException ex) {
+            if (!isDuplicateKey(ex)) {
+                throw ex;
             }
-            ps.execute();
-        } catch (SQLIntegrityConstraintViolationException ignored) {
+            connection.rollback(savepoint);
+            return false;
+        }
+        connection.releaseSavepoint(savepoint);
+        return true;
+    }
+    
+    private boolean isDuplicateKey(final SQLException ex) {
+        return UNIQUE_VIOLATION_SQL_STATE.equals(ex.getSQLState()) || MYSQL_DUPLICATE_ENTRY_ERROR_CODE == ex.getErrorCode();
+    }
+    
+    private void markConflicted(final String tableName, final int conflictedCount) {
+        log.warn("Skip {} records of table {} conflicting with existing rows.", conflictedCount, tableName);
+        if (null != rdbmsConfiguration.getMetrics()) {
+            rdbmsConfiguration.getMetrics().getConflictedRecords().mark(conflictedCount);
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        List<Column> values = new ArrayList<>();
-        values.addAll(RecordUtil.extractUpdatedColumns(record));
-        values.addAll(RecordUtil.extractPrimaryColumns(record));
-        String updateSql = sqlBuilder.buildUpdateSQL(record);
-        PreparedStatement ps = connection.prepareStatement(updateSql);
-        for (int i = 0; i < values.size(); i++) {
-            ps.setObject(i + 1, values.get(i).getValue());
+    private void executeInsertStatement(final Connection connection, final Map<String, PreparedStatement> preparedStatements, final List<DataRecord> rows) throws SQLException {
+        PreparedStatement ps = getPreparedStatement(connection, preparedStatements, sqlBuilder.buildInsertSQL(rows.get(0), rows.size()));
+        ps.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+        int parameterIndex = 1;
+        for (DataRecord each : rows) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                ps.setObject(parameterIndex++, each.getColumn(i).getValue());
+            }
         }
         ps.execute();
     }
     
-    private void executeDelete(final Connection connection, final DataRecord record) throws SQLException {
-        String deleteSql = sqlBuilder.buildDeleteSQL(record);
-        List<Column> primaryKeys = RecordUtil.extractPrimaryColumns(record);
-        PreparedStatement ps = connection.prepareStatement(deleteSql);
-        for (int i = 0; i < primaryKeys.size(); i++) {
-            ps.setObject(i + 1, primaryKeys.get(i).getValue());
+    private void executeUpdate(final Connection connection, final Map<String, PreparedStatement> preparedStatements, final List<DataRecord> group) throws SQLException {
+        PreparedStatement ps = getPreparedStatement(connection, preparedStatements, sqlBuilder.buildUpdateSQL(group.get(0)));
+        ps.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+        for (DataRecord each : group) {
+            List<Column> values = new ArrayList<>(each.getColumnCount());
+            values.addAll(RecordUtil.extractUpdatedColumns(each));
+            values.addAll(RecordUtil.extractPrimaryColumns(each));
+            for (int i = 0; i < values.size(); i++) {
+                ps.setObject(i + 1, values.get(i).getValue());
+            }
+            ps.addBatch();
         }
-        ps.execute();
+        ps.executeBatch();
+    }
+    
+    private void executeDelete(final Connection connection, final Map<String, PreparedStatement> preparedStatements, final List<DataRecord> group) throws SQLException {
+        PreparedStatement ps = getPreparedStatement(connection, preparedStatements, sqlBuilder.buildDeleteSQL(group.get(0)));
+        ps.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+        for (DataRecord each : group) {
+            List<Column> primaryKeys = RecordUtil.extractPrimaryColumns(each);
+            for (int i = 0; i < primaryKeys.size(); i++) {
+                ps.setObject(i + 1, primaryKeys.get(i).getValue());
+            }
+            ps.addBatch();
+        }
+        ps.executeBatch();
+    }
+    
+    private PreparedStatement getPreparedStatement(final Connection connection, final Map<String, PreparedStatement> preparedStatements, final String sql) throws SQLException {
+        PreparedStatement result = preparedStatements.get(sql);
+        if (null == result) {
+            result = connection.prepareStatement(sql);
+            preparedStatements.put(sql, result);
+        }
+        return result;
     }
 }
@@ -17,7 +17,7 @@
 
 package org.apache.shardingsphere.shardingscaling.core.execute.executor.importer;
 
-import com.google.common.collect.Collections2;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.RecordUtil;
@@ -38,6 +38,8 @@ public abstract class AbstractSqlBuilder {
     
     private static final String DELETE_SQL_CACHE_KEY_PREFIX = "DELETE_";
     
+    private final ConcurrentMap<String, InsertSQLSegments> insertSQLCacheMap = new ConcurrentHashMap<>();
+    
     private final ConcurrentMap<String, String> sqlCacheMap = new ConcurrentHashMap<>();
     
     /**
@@ -54,6 +56,16 @@ public abstract class AbstractSqlBuilder {
      */
     protected abstract String getRightIdentifierQuoteString();
     
+    /**
+     * Build conflict SQL appended to insert SQL, which is dialect upsert clause.
+     *
+     * @param dataRecord data record
+     * @return conflict SQL, empty if not supported
+     */
+    protected String buildConflictSQL(final DataRecord dataRecord) {
+        return "";
+    }
+    
     /**
      * Build insert SQL.
      *
@@ -61,23 +73,42 @@ public abstract class AbstractSqlBuilder {
      * @return insert SQL
      */
     public String buildInsertSQL(final DataRecord dataRecord) {
-        String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
-        if (!sqlCacheMap.containsKey(sqlCacheKey)) {
-            sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns()));
+        return buildInsertSQL(dataRecord, 1);
+    }
+    
+    /**
+     * Build multiple rows insert SQL.
+     *
+     * @param dataRecord data record
+     * @param rowCount row count of values
+     * @return insert SQL
+     */
+    public String buildInsertSQL(final DataRecord dataRecord, final int rowCount) {
+        String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName()
+                + getColumnNamesLiteral(dataRecord.getColumns()) + getColumnNamesLiteral(RecordUtil.extractPrimaryColumns(dataRecord));
+        InsertSQLSegments segments = insertSQLCacheMap.computeIfAbsent(sqlCacheKey, key -> buildInsertSQLSegments(dataRecord));
+        StringBuilder result = new StringBuilder(segments.prefix.length() + (segments.valuesHolder.length() + 1) * rowCount + segments.suffix.length());
+        result.append(segments.prefix);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append(segments.valuesHolder);
         }
-        return sqlCacheMap.get(sqlCacheKey);
+        return result.append(segments.suffix).toString();
     }
     
-    private String buildInsertSQLInternal(final String tableName, final List<Column> columns) {
+    private InsertSQLSegments buildInsertSQLSegments(final DataRecord dataRecord) {
         StringBuilder columnsLiteral = new StringBuilder();
-        StringBuilder holder = new StringBuilder();
-        for (Column each : columns) {
-            columnsLiteral.append(String.format("%s%s%s,", getLeftIdentifierQuoteString(), each.getName(), getRightIdentifierQuoteString()));
+        StringBuilder holder = new StringBuilder("(");
+        for (Column each : dataRecord.getColumns()) {
+            columnsLiteral.append(quote(each.getName())).append(',');
             holder.append("?,");
         }
         columnsLiteral.setLength(columnsLiteral.length() - 1);
         holder.setLength(holder.length() - 1);
-        return String.format("INSERT INTO %s%s%s(%s) VALUES(%s)", getLeftIdentifierQuoteString(), tableName, getRightIdentifierQuoteString(), columnsLiteral.toString(), holder.toString());
+        holder.append(')');
+        return new InsertSQLSegments(String.format("INSERT INTO %s(%s) VALUES", quote(dataRecord.getTableName()), columnsLiteral.toString()), holder.toString(), buildConflictSQL(dataRecord));
     }
     
     /**
@@ -87,29 +118,19 @@ public abstract class AbstractSqlBuilder {
      * @return update SQL
      */
     public String buildUpdateSQL(final DataRecord dataRecord) {
-        String sqlCacheKey = UPDATE_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
-        if (!sqlCacheMap.containsKey(sqlCacheKey)) {
-            sqlCacheMap.put(sqlCacheKey, buildUpdateSQLInternal(dataRecord.getTableName(), RecordUtil.extractPrimaryColumns(dataRecord)));
-        }
-        StringBuilder updatedColumnString = new StringBuilder();
-        for (Column each : extractUpdatedColumns(dataRecord.getColumns())) {
-            updatedColumnString.append(String.format("%s%s%s = ?,", getLeftIdentifierQuoteString(), each.getName(), getRightIdentifierQuoteString()));
-        }
-        updatedColumnString.setLength(updatedColumnString.length() - 1);
-        return String.format(sqlCacheMap.get(sqlCacheKey), updatedColumnString.toString());
+        List<Column> updatedColumns = RecordUtil.extractUpdatedColumns(dataRecord);
+        List<Column> primaryColumns = RecordUtil.extractPrimaryColumns(dataRecord);
+        String sqlCacheKey = UPDATE_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName() + getColumnNamesLiteral(updatedColumns) + getColumnNamesLiteral(primaryColumns);
+        return sqlCacheMap.computeIfAbsent(sqlCacheKey, key -> buildUpdateSQLInternal(dataRecord.getTableName(), updatedColumns, primaryColumns));
     }
     
-    private String buildUpdateSQLInternal(final String tableName, final Collection<Column> extractPrimaryColumns) {
-        StringBuilder where = new StringBuilder();
-        for (Column each : extractPrimaryColumns) {
-            where.append(String.format("%s%s%s = ?,", getLeftIdentifierQuoteString(), each.getName(), getRightIdentifierQuoteString()));
+    private String buildUpdateSQLInternal(final String tableName, final Collection<Column> updatedColumns, final Collection<Column> primaryColumns) {
+        StringBuilder updatedColumnString = new StringBuilder();
+        for (Column each : updatedColumns) {
+            updatedColumnString.append(quote(each.getName())).append(" = ?,");
         }
-        where.setLength(where.length() - 1);
-        return String.format("UPDATE %s%s%s SET %%s WHERE %s", getLeftIdentifierQuoteString(), tableName, getRightIdentifierQuoteString(), where.toString());
-    }
-    
-    private Collection<Column> extractUpdatedColumns(final Collection<Column> columns) {
-        return Collections2.filter(columns, Column::isUpdated);
+        updatedColumnString.setLength(updatedColumnString.length() - 1);
+        return String.format("UPDATE %s SET %s WHERE %s", quote(tableName), updatedColumnString.toString(), buildWhereSQL(primaryColumns));
     }
     
     /**
@@ -119,19 +140,45 @@ public abstract class AbstractSqlBuilder {
      * @return delete SQL
      */
     public String buildDeleteSQL(final DataRecord dataRecord) {
-        String sqlCacheKey = DELETE_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
-        if (!sqlCacheMap.containsKey(sqlCacheKey)) {
-            sqlCacheMap.put(sqlCacheKey, buildDeleteSQLInternal(dataRecord.getTableName(), RecordUtil.extractPrimaryColumns(dataRecord)));
-        }
-        return sqlCacheMap.get(sqlCacheKey);
+        List<Column> primaryColumns = RecordUtil.extractPrimaryColumns(dataRecord);
+        String sqlCacheKey = DELETE_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName() + getColumnNamesLiteral(primaryColumns);
+        return sqlCacheMap.computeIfAbsent(sqlCacheKey, key -> String.format("DELETE FROM %s WHERE %s", quote(dataRecord.getTableName()), buildWhereSQL(primaryColumns)));
     }
     
-    private String buildDeleteSQLInternal(final String tableName, final Collection<Column> primaryColumns) {
-        StringBuilder where = new StringBuilder();
+    private String buildWhereSQL(final Collection<Column> primaryColumns) {
+        StringBuilder result = new StringBuilder();
         for (Column each : primaryColumns) {
-            where.append(String.format("%s%s%s = ?,", getLeftIdentifierQuoteString(), each.getName(), getRightIdentifierQuoteString()));
+            result.append(quote(each.getName())).append(" = ? AND ");
         }
-        where.setLength(where.length() - 1);
-        return String.format("DELETE FROM %s%s%s WHERE %s", getLeftIdentifierQuoteString(), tableName, getRightIdentifierQuoteString(), where.toString());
+        result.setLength(result.length() - " AND ".length());
+        return result.toString();
+    }
+    
+    private String getColumnNamesLiteral(final Collection<Column> columns) {
+        StringBuilder result = new StringBuilder();
+        for (Column each : columns) {
+            result.append('.').append(each.getName());
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Quote identifier.
+     *
+     * @param identifier identifier
+     * @return quoted identifier
+     */
+    protected final String quote(final String identifier) {
+        return getLeftIdentifierQuoteString() + identifier + getRightIdentifierQuoteString();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class InsertSQLSegments {
+        
+        private final String prefix;
+        
+        private final String valuesHolder;
+        
+        private final String suffix;
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.importer;
+
+import lombok.Getter;
+
+/**
+ * Adaptive batch size, which is grown while batches finish within target latency and shrunk while not.
+ */
+public final class AdaptiveBatchSize {
+    
+    private final int minBatchSize;
+    
+    private final int maxBatchSize;
+    
+    private final long targetLatencyNanos;
+    
+    @Getter
+    private int batchSize;
+    
+    public AdaptiveBatchSize(final int initialBatchSize, final int minBatchSize, final int maxBatchSize, final long targetLatencyNanos) {
+        batchSize = initialBatchSize;
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.targetLatencyNanos = targetLatencyNanos;
+    }
+    
+    /**
+     * Adjust batch size by observed latency of batch.
+     *
+     * @param recordCount record count of batch
+     * @param latencyNanos latency nanoseconds of batch
+     */
+    public void adjust(final int recordCount, final long latencyNanos) {
+        if (latencyNanos > targetLatencyNanos) {
+            batchSize = Math.max(minBatchSize, batchSize / 2);
+        } else if (recordCount >= batchSize && latencyNanos < targetLatencyNanos / 2) {
+            batchSize = Math.min(maxBatchSize, batchSize * 2);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram in milliseconds with fixed buckets.
+ */
+public final class LatencyHistogram {
+    
+    private static final long[] BUCKET_BOUNDS = {1L, 5L, 10L, 25L, 50L, 100L, 250L, 500L, 1000L, 2500L, 5000L, 10000L, 30000L, 60000L};
+    
+    private final LongAdder[] bucketCounts = new LongAdder[BUCKET_BOUNDS.length + 1];
+    
+    private final LongAdder count = new LongAdder();
+    
+    private final LongAdder sum = new LongAdder();
+    
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+    
+    public LatencyHistogram() {
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = new LongAdder();
+        }
+    }
+    
+    /**
+     * Record latency.
+     *
+     * @param millis latency in milliseconds
+     */
+    public void update(final long millis) {
+        long value = Math.max(0L, millis);
+        int index = Arrays.binarySearch(BUCKET_BOUNDS, value);
+        bucketCounts[index >= 0 ? index : -index - 1].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+    
+    /**
+     * Get upper bounds of buckets, exclusive of the last infinite bucket.
+     *
+     * @return upper bounds of buckets
+     */
+    public long[] getBucketBounds() {
+        return BUCKET_BOUNDS.clone();
+    }
+    
+    /**
+     * Get cumulative counts of buckets, the last one is count of infinite bucket.
+     *
+     * @return cumulative counts of buckets
+     */
+    public long[] getCumulativeCounts() {
+        long[] result = new long[bucketCounts.length];
+        long cumulative = 0L;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            cumulative += bucketCounts[i].sum();
+            result[i] = cumulative;
+        }
+        return result;
+    }
+    
+    /**
+     * Get count of recorded latencies.
+     *
+     * @return count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+    
+    /**
+     * Get sum of recorded latencies.
+     *
+     * @return sum in milliseconds
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+    
+    /**
+     * Get mean of recorded latencies.
+     *
+     * @return mean in milliseconds, 0 if nothing recorded
+     */
+    public double getMean() {
+        long currentCount = count.sum();
+        return 0L == currentCount ? 0D : (double) sum.sum() / currentCount;
+    }
+    
+    /**
+     * Get estimated percentile, which is upper bound of the bucket containing it.
+     *
+     * @param quantile quantile between 0 and 1
+     * @return percentile in milliseconds, 0 if nothing recorded
+     */
+    public long getPercentile(final double quantile) {
+        long[] cumulativeCounts = getCumulativeCounts();
+        long total = cumulativeCounts[cumulativeCounts.length - 1];
+        if (0L == total) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            if (cumulativeCounts[i] >= rank) {
+                return Math.min(BUCKET_BOUNDS[i], max.get());
+            }
+        }
+        return max.get();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Export scaling job metrics in Prometheus text exposition format.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrometheusMetricsExporter {
+    
+    private static final String PREFIX = "sharding_scaling_";
+    
+    /**
+     * Export metrics of scaling jobs.
+     *
+     * @param jobMetrics metrics of scaling jobs, key is job id
+     * @return metrics in Prometheus text format
+     */
+    public static String export(final Map<Integer, ScalingJobMetrics> jobMetrics) {
+        StringBuilder result = new StringBuilder();
+        appendHeader(result, "dumped_records_total", "counter", "Records dumped from source.");
+        for (Entry<Integer, ScalingJobMetrics> entry : jobMetrics.entrySet()) {
+            appendSample(result, "dumped_records_total", entry.getKey(), "", entry.getValue().getDumpedRecords().getCount());
+        }
+        appendHeader(result, "imported_records_total", "counter", "Records imported into target.");
+        for (Entry<Integer, ScalingJobMetrics> entry : jobMetrics.entrySet()) {
+            appendSample(result, "imported_records_total", entry.getKey(), "", entry.getValue().getImportedRecords().getCount());
+        }
+        appendHeader(result, "conflicted_records_total", "counter", "Records skipped for conflicting with existing rows of target.");
+        for (Entry<Integer, ScalingJobMetrics> entry : jobMetrics.entrySet()) {
+            appendSample(result, "conflicted_records_total", entry.getKey(), "", entry.getValue().getConflictedRecords().getCount());
+        }
+        appendHeader(result, "channel_queue_depth", "gauge", "Records dumped but not imported yet.");
+        for (Entry<Integer, ScalingJobMetrics> entry : jobMetrics.entrySet()) {
+            appendSample(result, "channel_queue_depth", entry.getKey(), "", entry.getValue().getChannelQueueDepth());
+        }
+        appendHeader(result, "event_lag_milliseconds_current", "gauge", "Lag of last acknowledged incremental event.");
+        for (Entry<Integer, ScalingJobMetrics> entry : jobMetrics.entrySet()) {
+            appendSample(result, "event_lag_milliseconds_current", entry.getKey(), "", entry.getValue().getCurrentEventLagMillis());
+        }
+        appendHeader(result, "event_lag_milliseconds", "histogram", "Lag between source commit and target acknowledge of incremental events.");
+        for (Entry<Integer, ScalingJobMetrics> entry : jobMetrics.entrySet()) {
+            appendHistogram(result, "event_lag_milliseconds", entry.getKey(), entry.getValue().getEventLag());
+        }
+        appendHeader(result, "apply_latency_milliseconds", "histogram", "Latency of importer batches.");
+        for (Entry<Integer, ScalingJobMetrics> entry : jobMetrics.entrySet()) {
+            appendHistogram(result, "apply_latency_milliseconds", entry.getKey(), entry.getValue().getApplyLatency());
+        }
+        return result.toString();
+    }
+    
+    private static void appendHeader(final StringBuilder builder, final String name, final String type, final String help) {
+        builder.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+    
+    private static void appendHistogram(final StringBuilder builder, final String name, final int jobId, final LatencyHistogram histogram) {
+        long[] bucketBounds = histogram.getBucketBounds();
+        long[] cumulativeCounts = histogram.getCumulativeCounts();
+        for (int i = 0; i < bucketBounds.length; i++) {
+            appendSample(builder, name + "_bucket", jobId, String.format(",le=\"%d\"", bucketBounds[i]), cumulativeCounts[i]);
+        }
+        appendSample(builder, name + "_bucket", jobId, ",le=\"+Inf\"", cumulativeCounts[cumulativeCounts.length - 1]);
+        appendSample(builder, name + "_sum", jobId, "", histogram.getSum());
+        appendSample(builder, name + "_count", jobId, "", histogram.getCount());
+    }
+    
+    private static void appendSample(final StringBuilder builder, final String name, final int jobId, final String extraLabels, final long value) {
+        builder.append(PREFIX).append(name).append("{job_id=\"").append(jobId).append('"').append(extraLabels).append("} ").append(value).append('\n');
+    }
+}
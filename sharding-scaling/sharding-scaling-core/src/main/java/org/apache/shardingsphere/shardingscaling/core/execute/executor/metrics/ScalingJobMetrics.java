@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics;
+
+import lombok.Getter;
+
+/**
+ * Metrics of scaling job, which are collected along dumper, channel and importer.
+ */
+@Getter
+public final class ScalingJobMetrics {
+    
+    private final ThroughputMeter dumpedRecords = new ThroughputMeter();
+    
+    private final ThroughputMeter importedRecords = new ThroughputMeter();
+    
+    private final ThroughputMeter conflictedRecords = new ThroughputMeter();
+    
+    private final LatencyHistogram eventLag = new LatencyHistogram();
+    
+    private final LatencyHistogram applyLatency = new LatencyHistogram();
+    
+    private volatile long currentEventLagMillis;
+    
+    /**
+     * Update lag between commit time of incremental event on source and acknowledge time of it on target.
+     *
+     * @param lagMillis event lag in milliseconds
+     */
+    public void updateEventLag(final long lagMillis) {
+        currentEventLagMillis = lagMillis;
+        eventLag.update(lagMillis);
+    }
+    
+    /**
+     * Get count of records which are dumped but not imported yet.
+     *
+     * @return channel queue depth
+     */
+    public long getChannelQueueDepth() {
+        return Math.max(0L, dumpedRecords.getCount() - importedRecords.getCount());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics;
+
+import lombok.Getter;
+
+/**
+ * Snapshot of scaling job metrics.
+ */
+@Getter
+public final class ScalingJobMetricsSnapshot {
+    
+    private final int jobId;
+    
+    private final long dumpedRecordCount;
+    
+    private final double dumpedRecordsPerSecond;
+    
+    private final long importedRecordCount;
+    
+    private final double importedRecordsPerSecond;
+    
+    private final long conflictedRecordCount;
+    
+    private final long channelQueueDepth;
+    
+    private final long eventLagMillis;
+    
+    private final long eventLagP99Millis;
+    
+    private final long applyBatchCount;
+    
+    private final double applyLatencyMeanMillis;
+    
+    private final long applyLatencyP99Millis;
+    
+    public ScalingJobMetricsSnapshot(final int jobId, final ScalingJobMetrics metrics) {
+        this.jobId = jobId;
+        dumpedRecordCount = metrics.getDumpedRecords().getCount();
+        dumpedRecordsPerSecond = metrics.getDumpedRecords().getRatePerSecond();
+        importedRecordCount = metrics.getImportedRecords().getCount();
+        importedRecordsPerSecond = metrics.getImportedRecords().getRatePerSecond();
+        conflictedRecordCount = metrics.getConflictedRecords().getCount();
+        channelQueueDepth = metrics.getChannelQueueDepth();
+        eventLagMillis = metrics.getCurrentEventLagMillis();
+        eventLagP99Millis = metrics.getEventLag().getPercentile(0.99);
+        applyBatchCount = metrics.getApplyLatency().getCount();
+        applyLatencyMeanMillis = metrics.getApplyLatency().getMean();
+        applyLatencyP99Millis = metrics.getApplyLatency().getPercentile(0.99);
+    }
+}
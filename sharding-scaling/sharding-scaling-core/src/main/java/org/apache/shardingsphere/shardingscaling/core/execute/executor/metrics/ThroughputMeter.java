@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics;
+
+import org.apache.shardingsphere.underlying.common.metrics.SlidingWindowCounter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput meter, which counts events in total and in per second buckets of recent seconds.
+ */
+public final class ThroughputMeter {
+    
+    private static final int WINDOW_SECONDS = 10;
+    
+    private final LongAdder count = new LongAdder();
+    
+    private final SlidingWindowCounter recentCount = new SlidingWindowCounter(WINDOW_SECONDS);
+    
+    /**
+     * Mark events.
+     *
+     * @param events count of events
+     */
+    public void mark(final long events) {
+        if (events <= 0) {
+            return;
+        }
+        count.add(events);
+        recentCount.add(events);
+    }
+    
+    /**
+     * Get total count of events.
+     *
+     * @return total count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+    
+    /**
+     * Get events per second of recent complete seconds.
+     *
+     * @return events per second
+     */
+    public double getRatePerSecond() {
+        return recentCount.getRatePerSecond();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.position;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.exception.SyncTaskExecuteException;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * File position store, which persists position of each sync task to a JSON file in directory of its job under position store path.
+ */
+public final class FilePositionStore implements PositionStore {
+    
+    private static final Gson GSON = new Gson();
+    
+    private Path directory;
+    
+    @Override
+    public String getType() {
+        return "FILE";
+    }
+    
+    @Override
+    public void init(final ServerConfiguration serverConfiguration) {
+        directory = Paths.get(serverConfiguration.getPositionStorePath());
+    }
+    
+    @Override
+    public Optional<LogPosition> get(final String jobName, final String key) {
+        Path file = getJobDirectory(jobName).resolve(encode(key) + ".json");
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            JsonObject jsonObject = new JsonParser().parse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).getAsJsonObject();
+            Class<?> positionClass = Class.forName(jsonObject.get("type").getAsString());
+            return Optional.of((LogPosition) GSON.fromJson(jsonObject.get("position"), positionClass));
+        } catch (final IOException | ClassNotFoundException ex) {
+            throw new SyncTaskExecuteException(String.format("Read position of %s error", key), ex);
+        }
+    }
+    
+    @Override
+    public void persist(final String jobName, final String key, final LogPosition position) {
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty("type", position.getClass().getName());
+        jsonObject.add("position", GSON.toJsonTree(position));
+        Path jobDirectory = getJobDirectory(jobName);
+        Path file = jobDirectory.resolve(encode(key) + ".json");
+        try {
+            Files.createDirectories(jobDirectory);
+            Path tempFile = Files.createTempFile(jobDirectory, file.getFileName().toString(), ".tmp");
+            Files.write(tempFile, GSON.toJson(jsonObject).getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            throw new SyncTaskExecuteException(String.format("Persist position of %s error", key), ex);
+        }
+    }
+    
+    @Override
+    public void delete(final String jobName) {
+        Path jobDirectory = getJobDirectory(jobName);
+        if (!Files.exists(jobDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(jobDirectory)) {
+            for (Path each : files.collect(Collectors.toList())) {
+                Files.deleteIfExists(each);
+            }
+            Files.deleteIfExists(jobDirectory);
+        } catch (final IOException ex) {
+            throw new SyncTaskExecuteException(String.format("Delete positions of job %s error", jobName), ex);
+        }
+    }
+    
+    private Path getJobDirectory(final String jobName) {
+        return directory.resolve(encode(jobName));
+    }
+    
+    private String encode(final String key) {
+        try {
+            return URLEncoder.encode(key, StandardCharsets.UTF_8.name());
+        } catch (final UnsupportedEncodingException ex) {
+            throw new SyncTaskExecuteException(String.format("Encode position key %s error", key), ex);
+        }
+    }
+}
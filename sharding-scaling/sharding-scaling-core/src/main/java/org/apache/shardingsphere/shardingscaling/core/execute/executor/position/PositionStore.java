@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.position;
+
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
+
+import java.util.Optional;
+
+/**
+ * Position store, which persists positions of sync tasks to resume them after restarted.
+ * 
+ * <p>
+ * Positions are grouped by job name, which is stable across restarts, kept when job is stopped and deleted only when job is reset.
+ * </p>
+ */
+public interface PositionStore {
+    
+    /**
+     * Get type of position store.
+     *
+     * @return type
+     */
+    String getType();
+    
+    /**
+     * Initialize position store.
+     *
+     * @param serverConfiguration server configuration
+     */
+    void init(ServerConfiguration serverConfiguration);
+    
+    /**
+     * Get persisted position.
+     *
+     * @param jobName job name
+     * @param key key of position in job
+     * @return persisted position
+     */
+    Optional<LogPosition> get(String jobName, String key);
+    
+    /**
+     * Persist position.
+     *
+     * @param jobName job name
+     * @param key key of position in job
+     * @param position position
+     */
+    void persist(String jobName, String key, LogPosition position);
+    
+    /**
+     * Delete all persisted positions of job.
+     *
+     * @param jobName job name
+     */
+    void delete(String jobName);
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.position;
+
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+
+/**
+ * Position store factory.
+ */
+public final class PositionStoreFactory {
+    
+    static {
+        ShardingSphereServiceLoader.register(PositionStore.class);
+    }
+    
+    /**
+     * New instance of position store.
+     *
+     * @param serverConfiguration server configuration
+     * @return position store
+     */
+    public static PositionStore newInstance(final ServerConfiguration serverConfiguration) {
+        for (PositionStore each : ShardingSphereServiceLoader.newServiceInstances(PositionStore.class)) {
+            if (each.getType().equalsIgnoreCase(serverConfiguration.getPositionStoreType())) {
+                each.init(serverConfiguration);
+                return each;
+            }
+        }
+        throw new UnsupportedOperationException(String.format("Cannot support position store type '%s'", serverConfiguration.getPositionStoreType()));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.position;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Primary key position, which is range of integer primary key values remaining to dump.
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class PrimaryKeyPosition implements LogPosition<PrimaryKeyPosition> {
+    
+    private static final long serialVersionUID = 3791628398428342153L;
+    
+    private final long beginValue;
+    
+    private final long endValue;
+    
+    /**
+     * Judge whether all primary key values in range are dumped.
+     *
+     * @return all primary key values in range are dumped or not
+     */
+    public boolean isFinished() {
+        return beginValue > endValue;
+    }
+    
+    @Override
+    public int compareTo(final PrimaryKeyPosition position) {
+        if (null == position) {
+            return 1;
+        }
+        return Long.compare(beginValue, position.beginValue);
+    }
+}
@@ -78,4 +78,24 @@ public final class DataRecord extends Record {
     public Column getColumn(final int index) {
         return columns.get(index);
     }
+    
+    /**
+     * Estimate size of column values in bytes.
+     *
+     * @return estimated size
+     */
+    public long estimateSize() {
+        long result = 0;
+        for (Column each : columns) {
+            Object value = each.getValue();
+            if (value instanceof byte[]) {
+                result += ((byte[]) value).length;
+            } else if (value instanceof CharSequence) {
+                result += ((CharSequence) value).length();
+            } else if (null != value) {
+                result += 8;
+            }
+        }
+        return result;
+    }
 }
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.throttle;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.shardingscaling.core.config.DataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.RateLimitConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate limiter of scaling job.
+ *
+ * <p>
+ * Rows and bytes written to target are limited per job, rows and bytes read from or written to each data source are limited per data source.
+ * In adaptive mode, query latency of each data source is probed every second, and acquirers back off exponentially while latency is above threshold.
+ * Acquirers are expected to acquire permits per batch of rows, because each acquisition backs off once.
+ * </p>
+ */
+@Slf4j
+public final class JobRateLimiter implements AutoCloseable {
+    
+    private static final long PROBE_INTERVAL_MILLISECONDS = 1000L;
+    
+    private static final long MIN_BACKOFF_MILLISECONDS = 10L;
+    
+    private static final long MAX_BACKOFF_MILLISECONDS = 5000L;
+    
+    private final ThroughputLimiter jobThroughputLimiter = new ThroughputLimiter();
+    
+    private final ConcurrentMap<DataSourceConfiguration, ThroughputLimiter> dataSourceThroughputLimiters = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<DataSourceConfiguration, AtomicLong> dataSourceBackoffMilliseconds = new ConcurrentHashMap<>();
+    
+    private final DataSourceManager dataSourceManager = new DataSourceManager();
+    
+    @Getter
+    private volatile RateLimitConfiguration rateLimitConfiguration;
+    
+    @Getter
+    private volatile boolean limited;
+    
+    private ScheduledExecutorService probeExecutor;
+    
+    public JobRateLimiter(final RateLimitConfiguration rateLimitConfiguration) {
+        update(rateLimitConfiguration);
+    }
+    
+    /**
+     * Update rate limit configuration at runtime.
+     *
+     * @param rateLimitConfiguration rate limit configuration
+     */
+    public synchronized void update(final RateLimitConfiguration rateLimitConfiguration) {
+        this.rateLimitConfiguration = rateLimitConfiguration;
+        limited = rateLimitConfiguration.isAdaptive() || rateLimitConfiguration.getMaxRowsPerSecond() > 0 || rateLimitConfiguration.getMaxBytesPerSecond() > 0
+                || rateLimitConfiguration.getDataSourceMaxRowsPerSecond() > 0 || rateLimitConfiguration.getDataSourceMaxBytesPerSecond() > 0;
+        jobThroughputLimiter.setRate(rateLimitConfiguration.getMaxRowsPerSecond(), rateLimitConfiguration.getMaxBytesPerSecond());
+        for (ThroughputLimiter each : dataSourceThroughputLimiters.values()) {
+            each.setRate(rateLimitConfiguration.getDataSourceMaxRowsPerSecond(), rateLimitConfiguration.getDataSourceMaxBytesPerSecond());
+        }
+        if (rateLimitConfiguration.isAdaptive() && null == probeExecutor) {
+            probeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread result = new Thread(runnable, "ShardingScaling-latency-probe");
+                result.setDaemon(true);
+                return result;
+            });
+            probeExecutor.scheduleWithFixedDelay(this::probe, PROBE_INTERVAL_MILLISECONDS, PROBE_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+        } else if (!rateLimitConfiguration.isAdaptive() && null != probeExecutor) {
+            probeExecutor.shutdownNow();
+            probeExecutor = null;
+            for (AtomicLong each : dataSourceBackoffMilliseconds.values()) {
+                each.set(0L);
+            }
+        }
+    }
+    
+    /**
+     * Acquire permits of rows and bytes for data source, blocking until granted.
+     * 
+     * <p>
+     * It returns immediately if no limit is configured, callers can check whether limited to skip estimating rows and bytes.
+     * </p>
+     *
+     * @param dataSourceConfiguration data source configuration
+     * @param isJobScoped whether rows and bytes are counted to limit of job
+     * @param rows rows
+     * @param bytes bytes
+     */
+    public void acquire(final DataSourceConfiguration dataSourceConfiguration, final boolean isJobScoped, final int rows, final long bytes) {
+        if (!limited) {
+            return;
+        }
+        backoff(dataSourceConfiguration);
+        if (isJobScoped) {
+            jobThroughputLimiter.acquire(rows, bytes);
+        }
+        getDataSourceThroughputLimiter(dataSourceConfiguration).acquire(rows, bytes);
+    }
+    
+    private ThroughputLimiter getDataSourceThroughputLimiter(final DataSourceConfiguration dataSourceConfiguration) {
+        ThroughputLimiter result = dataSourceThroughputLimiters.get(dataSourceConfiguration);
+        if (null != result) {
+            return result;
+        }
+        synchronized (this) {
+            return dataSourceThroughputLimiters.computeIfAbsent(dataSourceConfiguration, key -> {
+                ThroughputLimiter throughputLimiter = new ThroughputLimiter();
+                throughputLimiter.setRate(rateLimitConfiguration.getDataSourceMaxRowsPerSecond(), rateLimitConfiguration.getDataSourceMaxBytesPerSecond());
+                return throughputLimiter;
+            });
+        }
+    }
+    
+    private void backoff(final DataSourceConfiguration dataSourceConfiguration) {
+        long backoffMilliseconds = dataSourceBackoffMilliseconds.computeIfAbsent(dataSourceConfiguration, key -> new AtomicLong()).get();
+        if (backoffMilliseconds <= 0L) {
+            return;
+        }
+        try {
+            Thread.sleep(backoffMilliseconds);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void probe() {
+        for (Entry<DataSourceConfiguration, AtomicLong> entry : dataSourceBackoffMilliseconds.entrySet()) {
+            long latencyMilliseconds = probeLatency(entry.getKey());
+            long backoffMilliseconds = entry.getValue().get();
+            if (latencyMilliseconds > rateLimitConfiguration.getLatencyThresholdMilliseconds()) {
+                entry.getValue().set(Math.min(Math.max(backoffMilliseconds * 2, MIN_BACKOFF_MILLISECONDS), MAX_BACKOFF_MILLISECONDS));
+                log.warn("Probed latency {}ms of {} is above threshold, back off {}ms", latencyMilliseconds, entry.getKey().getDataSourceMetaData().getHostName(), entry.getValue().get());
+            } else {
+                entry.getValue().set(backoffMilliseconds / 2 < MIN_BACKOFF_MILLISECONDS ? 0L : backoffMilliseconds / 2);
+            }
+        }
+    }
+    
+    private long probeLatency(final DataSourceConfiguration dataSourceConfiguration) {
+        long startTime = System.nanoTime();
+        try (Connection connection = dataSourceManager.getDataSource(dataSourceConfiguration).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        } catch (final SQLException ex) {
+            log.warn("Probe latency of {} error", dataSourceConfiguration.getDataSourceMetaData().getHostName(), ex);
+            return Long.MAX_VALUE;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+    
+    @Override
+    public synchronized void close() {
+        if (null != probeExecutor) {
+            probeExecutor.shutdownNow();
+            probeExecutor = null;
+        }
+        dataSourceManager.close();
+    }
+}
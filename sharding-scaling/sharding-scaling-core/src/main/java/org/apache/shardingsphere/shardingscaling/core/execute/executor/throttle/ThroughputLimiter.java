@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.throttle;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+/**
+ * Throughput limiter of rows and bytes per second, whose rates can be changed at runtime.
+ */
+public final class ThroughputLimiter {
+    
+    private final RateLimiter rowsRateLimiter = RateLimiter.create(Double.MAX_VALUE);
+    
+    private final RateLimiter bytesRateLimiter = RateLimiter.create(Double.MAX_VALUE);
+    
+    private volatile boolean rowsLimited;
+    
+    private volatile boolean bytesLimited;
+    
+    /**
+     * Set rates.
+     *
+     * @param maxRowsPerSecond max rows per second, non-positive means unlimited
+     * @param maxBytesPerSecond max bytes per second, non-positive means unlimited
+     */
+    public void setRate(final long maxRowsPerSecond, final long maxBytesPerSecond) {
+        rowsRateLimiter.setRate(maxRowsPerSecond > 0 ? maxRowsPerSecond : Double.MAX_VALUE);
+        bytesRateLimiter.setRate(maxBytesPerSecond > 0 ? maxBytesPerSecond : Double.MAX_VALUE);
+        rowsLimited = maxRowsPerSecond > 0;
+        bytesLimited = maxBytesPerSecond > 0;
+    }
+    
+    /**
+     * Acquire permits of rows and bytes, blocking until granted.
+     *
+     * @param rows rows
+     * @param bytes bytes
+     */
+    public void acquire(final int rows, final long bytes) {
+        if (rowsLimited && rows > 0) {
+            rowsRateLimiter.acquire(rows);
+        }
+        if (bytesLimited && bytes > 0) {
+            bytesRateLimiter.acquire((int) Math.min(bytes, Integer.MAX_VALUE));
+        }
+    }
+}
@@ -54,4 +54,13 @@ public final class MetaDataManager {
         }
         return tableMetaDataMap.get(tableName);
     }
+    
+    /**
+     * Remove cached table meta data, it will be reloaded on next get.
+     *
+     * @param tableName table name
+     */
+    public void removeTableMetaData(final String tableName) {
+        tableMetaDataMap.remove(tableName);
+    }
 }
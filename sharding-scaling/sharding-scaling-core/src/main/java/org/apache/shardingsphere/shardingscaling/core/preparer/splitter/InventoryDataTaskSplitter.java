@@ -22,6 +22,7 @@ import org.apache.shardingsphere.shardingscaling.core.config.RdbmsConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.shardingscaling.core.exception.PrepareFailedException;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.shardingscaling.core.metadata.MetaDataManager;
 import org.apache.shardingsphere.shardingscaling.core.synctask.SyncTask;
 import org.apache.shardingsphere.shardingscaling.core.synctask.inventory.InventoryDataSyncTask;
@@ -32,7 +33,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -40,6 +43,13 @@ import javax.sql.DataSource;
 
 /**
  * Inventory data task splitter.
+ *
+ * <p>
+ * Tables are split by leading column of primary key into ranges holding about the same count of rows.
+ * Range boundaries are leading column values at row offsets of equal steps in order of the leading column, which are read by seeking the primary key index,
+ * so skewed or sparse keys do not produce skewed splits. Boundaries are distinct, so splits of non-unique leading column of union primary key never share a value.
+ * Splits of integer leading column are dumped by chunks and resumable, splits of other leading columns, such as string or big integer, are dumped by range conditions.
+ * </p>
  */
 @Slf4j
 public final class InventoryDataTaskSplitter {
@@ -85,54 +95,118 @@ public final class InventoryDataTaskSplitter {
     }
     
     private boolean isSpiltByPrimaryKeyRange(final RdbmsConfiguration rdbmsConfiguration, final MetaDataManager metaDataManager) {
-        List<String> primaryKeys = metaDataManager.getTableMetaData(rdbmsConfiguration.getTableName()).getPrimaryKeyColumns();
+        TableMetaData tableMetaData = metaDataManager.getTableMetaData(rdbmsConfiguration.getTableName());
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
         if (null == primaryKeys || 0 == primaryKeys.size()) {
             log.warn("Can't split range for table {}, reason: no primary key", rdbmsConfiguration.getTableName());
             return false;
         }
-        if (primaryKeys.size() > 1) {
-            log.warn("Can't split range for table {}, reason: primary key is union primary", rdbmsConfiguration.getTableName());
-            return false;
-        }
-        TableMetaData tableMetaData = metaDataManager.getTableMetaData(rdbmsConfiguration.getTableName());
-        int index = tableMetaData.findColumnIndex(primaryKeys.get(0));
-        if (isNotIntegerPrimary(tableMetaData.getColumnMetaData(index).getDataType())) {
-            log.warn("Can't split range for table {}, reason: primary key is not integer number", rdbmsConfiguration.getTableName());
-            return false;
-        }
         return true;
     }
     
-    private boolean isNotIntegerPrimary(final int columnType) {
-        return Types.INTEGER != columnType && Types.BIGINT != columnType && Types.SMALLINT != columnType && Types.TINYINT != columnType;
+    private boolean isIntegerColumn(final TableMetaData tableMetaData, final String columnName) {
+        int columnType = tableMetaData.getColumnMetaData(tableMetaData.findColumnIndex(columnName)).getDataType();
+        return Types.INTEGER == columnType || Types.BIGINT == columnType || Types.SMALLINT == columnType || Types.TINYINT == columnType;
     }
     
     private Collection<SyncConfiguration> splitByPrimaryKeyRange(final SyncConfiguration syncConfiguration, final MetaDataManager metaDataManager, final DataSource dataSource) {
-        int concurrency = syncConfiguration.getConcurrency();
-        Collection<SyncConfiguration> result = new LinkedList<>();
         RdbmsConfiguration dumperConfiguration = syncConfiguration.getDumperConfiguration();
-        String primaryKey = metaDataManager.getTableMetaData(dumperConfiguration.getTableName()).getPrimaryKeyColumns().get(0);
+        TableMetaData tableMetaData = metaDataManager.getTableMetaData(dumperConfiguration.getTableName());
+        List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
+        String leadingColumn = primaryKeys.get(0);
         try (Connection connection = dataSource.getConnection()) {
-            PreparedStatement ps = connection.prepareStatement(String.format("SELECT MIN(%s),MAX(%s) FROM %s LIMIT 1", primaryKey, primaryKey, dumperConfiguration.getTableName()));
-            ResultSet rs = ps.executeQuery();
+            Object[] minAndMax = getMinAndMax(connection, dumperConfiguration.getTableName(), leadingColumn);
+            if (null == minAndMax[0]) {
+                return Collections.singletonList(syncConfiguration);
+            }
+            List<Object> boundaries = getBoundaries(connection, dumperConfiguration.getTableName(), leadingColumn, minAndMax[0], syncConfiguration.getConcurrency());
+            return isIntegerColumn(tableMetaData, leadingColumn) && isLongValue(minAndMax[0]) && isLongValue(minAndMax[1])
+                    ? splitByIntegerPrimaryKey(syncConfiguration, leadingColumn, ((Number) minAndMax[0]).longValue(), ((Number) minAndMax[1]).longValue(), boundaries)
+                    : splitByLeadingColumnBoundaries(syncConfiguration, leadingColumn, boundaries);
+        } catch (SQLException e) {
+            throw new PrepareFailedException(String.format("Split task for table %s by primary key %s error", dumperConfiguration.getTableName(), primaryKeys), e);
+        }
+    }
+    
+    private boolean isLongValue(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    private Object[] getMinAndMax(final Connection connection, final String tableName, final String column) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT MIN(%s),MAX(%s) FROM %s", column, column, tableName));
+             ResultSet rs = ps.executeQuery()) {
             rs.next();
-            int min = rs.getInt(1);
-            int max = rs.getInt(2);
-            int step = (max - min) / concurrency;
-            for (int i = 0; i < concurrency; i++) {
-                RdbmsConfiguration splitDumperConfig = RdbmsConfiguration.clone(dumperConfiguration);
-                if (i < concurrency - 1) {
-                    splitDumperConfig.setWhereCondition(String.format("WHERE %s BETWEEN %d AND %d", primaryKey, min, min + step));
-                    min = min + step + 1;
-                } else {
-                    splitDumperConfig.setWhereCondition(String.format("WHERE %s BETWEEN %d AND %d", primaryKey, min, max));
+            return new Object[]{rs.getObject(1), rs.getObject(2)};
+        }
+    }
+    
+    private List<Object> getBoundaries(final Connection connection, final String tableName, final String column, final Object min, final int concurrency) throws SQLException {
+        long rowCount = getRowCount(connection, tableName);
+        List<Object> result = new ArrayList<>(concurrency);
+        Object lastBoundary = min;
+        for (int i = 1; i < concurrency; i++) {
+            long offset = rowCount * i / concurrency;
+            if (0 == offset) {
+                continue;
+            }
+            try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT %s FROM %s ORDER BY %s LIMIT 1 OFFSET %d", column, tableName, column, offset));
+                 ResultSet rs = ps.executeQuery()) {
+                if (rs.next() && !lastBoundary.equals(rs.getObject(1))) {
+                    lastBoundary = rs.getObject(1);
+                    result.add(lastBoundary);
                 }
-                splitDumperConfig.setSpiltNum(i);
-                result.add(new SyncConfiguration(concurrency, syncConfiguration.getTableNameMap(),
-                    splitDumperConfig, RdbmsConfiguration.clone(syncConfiguration.getImporterConfiguration())));
             }
-        } catch (SQLException e) {
-            throw new PrepareFailedException(String.format("Split task for table %s by primary key %s error", dumperConfiguration.getTableName(), primaryKey), e);
+        }
+        return result;
+    }
+    
+    private long getRowCount(final Connection connection, final String tableName) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT COUNT(*) FROM %s", tableName));
+             ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+    
+    private Collection<SyncConfiguration> splitByIntegerPrimaryKey(final SyncConfiguration syncConfiguration, final String primaryKey, final long min, final long max, final List<Object> boundaries) {
+        RdbmsConfiguration dumperConfiguration = syncConfiguration.getDumperConfiguration();
+        Collection<SyncConfiguration> result = new LinkedList<>();
+        long splitBegin = min;
+        for (int i = 0; i <= boundaries.size(); i++) {
+            RdbmsConfiguration splitDumperConfig = RdbmsConfiguration.clone(dumperConfiguration);
+            long splitEnd = i < boundaries.size() ? ((Number) boundaries.get(i)).longValue() - 1 : max;
+            splitDumperConfig.setWhereCondition(String.format("WHERE %s BETWEEN %d AND %d", primaryKey, splitBegin, splitEnd));
+            splitDumperConfig.setPrimaryKey(primaryKey);
+            splitDumperConfig.setPosition(new PrimaryKeyPosition(splitBegin, splitEnd));
+            splitDumperConfig.setSpiltNum(i);
+            result.add(new SyncConfiguration(syncConfiguration.getConcurrency(), syncConfiguration.getTableNameMap(),
+                splitDumperConfig, RdbmsConfiguration.clone(syncConfiguration.getImporterConfiguration())));
+            splitBegin = splitEnd + 1;
+        }
+        return result;
+    }
+    
+    private Collection<SyncConfiguration> splitByLeadingColumnBoundaries(final SyncConfiguration syncConfiguration, final String leadingColumn, final List<Object> boundaries) {
+        Collection<SyncConfiguration> result = new LinkedList<>();
+        for (int i = 0; i <= boundaries.size(); i++) {
+            Collection<String> conditions = new LinkedList<>();
+            List<Object> parameters = new ArrayList<>(2);
+            if (i > 0) {
+                conditions.add(String.format("%s >= ?", leadingColumn));
+                parameters.add(boundaries.get(i - 1));
+            }
+            if (i < boundaries.size()) {
+                conditions.add(String.format("%s < ?", leadingColumn));
+                parameters.add(boundaries.get(i));
+            }
+            RdbmsConfiguration splitDumperConfig = RdbmsConfiguration.clone(syncConfiguration.getDumperConfiguration());
+            if (!conditions.isEmpty()) {
+                splitDumperConfig.setWhereCondition("WHERE " + String.join(" AND ", conditions));
+                splitDumperConfig.setWhereParameters(parameters);
+            }
+            splitDumperConfig.setSpiltNum(i);
+            result.add(new SyncConfiguration(syncConfiguration.getConcurrency(), syncConfiguration.getTableNameMap(),
+                splitDumperConfig, RdbmsConfiguration.clone(syncConfiguration.getImporterConfiguration())));
         }
         return result;
     }
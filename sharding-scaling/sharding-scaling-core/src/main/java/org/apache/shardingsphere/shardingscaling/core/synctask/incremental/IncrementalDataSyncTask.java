@@ -28,8 +28,9 @@ import org.apache.shardingsphere.shardingscaling.core.execute.engine.ExecuteCall
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.AbstractShardingScalingExecutor;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.channel.DistributionChannel;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPosition;
-import org.apache.shardingsphere.shardingscaling.core.execute.executor.dumper.Dumper;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.PositionStore;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.dumper.DumperFactory;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.dumper.LogDumper;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.importer.Importer;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.importer.ImporterFactory;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.underlying.common.database.metadata.DataSourceM
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -48,17 +50,23 @@ import java.util.concurrent.Future;
 @Slf4j
 public final class IncrementalDataSyncTask extends AbstractShardingScalingExecutor implements SyncTask {
     
+    private static final long PERSIST_POSITION_INTERVAL_MILLISECONDS = 1000L;
+    
     private final SyncConfiguration syncConfiguration;
     
     private final DataSourceManager dataSourceManager;
     
     private final String syncTaskId;
     
-    private LogPosition logPosition;
+    private final String positionKey;
+    
+    private volatile LogPosition logPosition;
     
-    private Dumper dumper;
+    private volatile LogDumper dumper;
     
-    private long delayMillisecond;
+    private volatile long delayMillisecond;
+    
+    private volatile long lastPersistTimeMillis;
     
     public IncrementalDataSyncTask(final SyncConfiguration syncConfiguration, final LogPosition logPosition) {
         this.syncConfiguration = syncConfiguration;
@@ -66,10 +74,13 @@ public final class IncrementalDataSyncTask extends AbstractShardingScalingExecut
         this.logPosition = logPosition;
         DataSourceMetaData dataSourceMetaData = syncConfiguration.getDumperConfiguration().getDataSourceConfiguration().getDataSourceMetaData();
         syncTaskId = String.format("incremental-%s", null != dataSourceMetaData.getCatalog() ? dataSourceMetaData.getCatalog() : dataSourceMetaData.getSchema());
+        DataSourceMetaData targetDataSourceMetaData = syncConfiguration.getImporterConfiguration().getDataSourceConfiguration().getDataSourceMetaData();
+        positionKey = String.format("%s-%s", syncTaskId, null != targetDataSourceMetaData.getCatalog() ? targetDataSourceMetaData.getCatalog() : targetDataSourceMetaData.getSchema());
     }
     
     @Override
     public void start() {
+        restoreStartPosition();
         syncConfiguration.getDumperConfiguration().setTableNameMap(syncConfiguration.getTableNameMap());
         dumper = DumperFactory.newInstanceLogDumper(syncConfiguration.getDumperConfiguration(), logPosition);
         Collection<Importer> importers = instanceImporters();
@@ -93,6 +104,22 @@ public final class IncrementalDataSyncTask extends AbstractShardingScalingExecut
     public void start(final ReportCallback callback) {
     }
     
+    private void restoreStartPosition() {
+        PositionStore positionStore = ScalingContext.getInstance().getPositionStore();
+        String jobName = syncConfiguration.getDumperConfiguration().getJobName();
+        if (null == positionStore || null == jobName) {
+            return;
+        }
+        Optional<LogPosition> startPosition = positionStore.get(jobName, positionKey);
+        if (startPosition.isPresent()) {
+            log.info("Task {} resumes from start position {}", syncTaskId, startPosition.get());
+            logPosition = startPosition.get();
+        } else {
+            positionStore.persist(jobName, positionKey, logPosition);
+        }
+        lastPersistTimeMillis = System.currentTimeMillis();
+    }
+    
     private List<Importer> instanceImporters() {
         List<Importer> result = new ArrayList<>(syncConfiguration.getConcurrency());
         for (int i = 0; i < syncConfiguration.getConcurrency(); i++) {
@@ -106,6 +133,14 @@ public final class IncrementalDataSyncTask extends AbstractShardingScalingExecut
             Record lastHandledRecord = records.get(records.size() - 1);
             logPosition = lastHandledRecord.getLogPosition();
             delayMillisecond = System.currentTimeMillis() - lastHandledRecord.getCommitTime();
+            if (null != syncConfiguration.getDumperConfiguration().getMetrics() && lastHandledRecord.getCommitTime() > 0) {
+                syncConfiguration.getDumperConfiguration().getMetrics().updateEventLag(delayMillisecond);
+            }
+            LogDumper logDumper = dumper;
+            if (null != logDumper) {
+                logDumper.ackPosition(logPosition);
+            }
+            persistPosition(logPosition, false);
         });
         dumper.setChannel(channel);
         for (Importer each : importers) {
@@ -113,6 +148,19 @@ public final class IncrementalDataSyncTask extends AbstractShardingScalingExecut
         }
     }
     
+    private void persistPosition(final LogPosition ackedPosition, final boolean force) {
+        PositionStore positionStore = ScalingContext.getInstance().getPositionStore();
+        String jobName = syncConfiguration.getDumperConfiguration().getJobName();
+        if (null == positionStore || null == jobName || null == ackedPosition) {
+            return;
+        }
+        long currentTimeMillis = System.currentTimeMillis();
+        if (force || currentTimeMillis - lastPersistTimeMillis >= PERSIST_POSITION_INTERVAL_MILLISECONDS) {
+            positionStore.persist(jobName, positionKey, ackedPosition);
+            lastPersistTimeMillis = currentTimeMillis;
+        }
+    }
+    
     private void checkResult(final Future future) {
         try {
             future.get();
@@ -127,6 +175,7 @@ public final class IncrementalDataSyncTask extends AbstractShardingScalingExecut
         if (null != dumper) {
             dumper.stop();
             dumper = null;
+            persistPosition(logPosition, true);
         }
     }
     
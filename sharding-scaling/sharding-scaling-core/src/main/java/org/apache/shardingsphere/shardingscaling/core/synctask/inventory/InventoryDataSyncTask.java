@@ -29,6 +29,9 @@ import org.apache.shardingsphere.shardingscaling.core.execute.engine.ExecuteCall
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.channel.MemoryChannel;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.dumper.Dumper;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.dumper.DumperFactory;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPosition;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.PositionStore;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.importer.Importer;
@@ -38,6 +41,7 @@ import org.apache.shardingsphere.underlying.common.database.metadata.DataSourceM
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
@@ -51,17 +55,23 @@ import java.util.concurrent.atomic.AtomicLong;
 @Slf4j
 public final class InventoryDataSyncTask implements SyncTask {
     
+    private static final long PERSIST_POSITION_INTERVAL_MILLISECONDS = 1000L;
+    
     private final SyncConfiguration syncConfiguration;
     
     private final DataSourceManager dataSourceManager;
     
     private final String syncTaskId;
     
+    private final String positionKey;
+    
     private long estimatedRows;
     
     private AtomicLong syncedRows = new AtomicLong();
     
-    private Dumper dumper;
+    private volatile Dumper dumper;
+    
+    private long lastPersistTimeMillis;
     
     public InventoryDataSyncTask(final SyncConfiguration syncConfiguration) {
         this(syncConfiguration, new DataSourceManager());
@@ -71,6 +81,7 @@ public final class InventoryDataSyncTask implements SyncTask {
         this.syncConfiguration = syncConfiguration;
         this.dataSourceManager = dataSourceManager;
         syncTaskId = generateSyncTaskId(syncConfiguration.getDumperConfiguration());
+        positionKey = generatePositionKey(syncConfiguration);
     }
     
     private String generateSyncTaskId(final RdbmsConfiguration dumperConfiguration) {
@@ -79,9 +90,28 @@ public final class InventoryDataSyncTask implements SyncTask {
         return null == dumperConfiguration.getWhereCondition() ? result : result + "#" + dumperConfiguration.getSpiltNum();
     }
     
+    private String generatePositionKey(final SyncConfiguration syncConfiguration) {
+        RdbmsConfiguration dumperConfiguration = syncConfiguration.getDumperConfiguration();
+        if (!(dumperConfiguration.getPosition() instanceof PrimaryKeyPosition)) {
+            return null;
+        }
+        DataSourceMetaData dataSourceMetaData = dumperConfiguration.getDataSourceConfiguration().getDataSourceMetaData();
+        DataSourceMetaData targetDataSourceMetaData = syncConfiguration.getImporterConfiguration().getDataSourceConfiguration().getDataSourceMetaData();
+        String targetTableName = syncConfiguration.getTableNameMap().getOrDefault(dumperConfiguration.getTableName(), dumperConfiguration.getTableName());
+        PrimaryKeyPosition splitRange = (PrimaryKeyPosition) dumperConfiguration.getPosition();
+        return String.format("inventory-%s-%s-%d-%d-%s-%s", Optional.ofNullable(dataSourceMetaData.getCatalog()).orElse(dataSourceMetaData.getSchema()),
+                dumperConfiguration.getTableName(), splitRange.getBeginValue(), splitRange.getEndValue(),
+                Optional.ofNullable(targetDataSourceMetaData.getCatalog()).orElse(targetDataSourceMetaData.getSchema()), targetTableName);
+    }
+    
     @Override
     public void start(final ReportCallback callback) {
         getEstimatedRows();
+        if (!restorePosition()) {
+            syncedRows.set(estimatedRows);
+            log.info("Task {} is skipped, all rows are dumped before restarted", syncTaskId);
+            return;
+        }
         instanceDumper();
         Importer importer = ImporterFactory.newInstance(syncConfiguration.getImporterConfiguration(), dataSourceManager);
         instanceChannel(importer);
@@ -101,19 +131,50 @@ public final class InventoryDataSyncTask implements SyncTask {
     }
     
     private void getEstimatedRows() {
-        DataSource dataSource = dataSourceManager.getDataSource(syncConfiguration.getDumperConfiguration().getDataSourceConfiguration());
-        try (Connection connection = dataSource.getConnection()) {
-            ResultSet resultSet = connection.prepareStatement(String.format("SELECT COUNT(*) FROM %s %s",
-                    syncConfiguration.getDumperConfiguration().getTableName(),
-                    syncConfiguration.getDumperConfiguration().getWhereCondition()))
-                    .executeQuery();
+        RdbmsConfiguration dumperConfiguration = syncConfiguration.getDumperConfiguration();
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfiguration.getDataSourceConfiguration());
+        String sql = String.format("SELECT COUNT(*) FROM %s %s", dumperConfiguration.getTableName(), dumperConfiguration.getWhereCondition());
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < dumperConfiguration.getWhereParameters().size(); i++) {
+                preparedStatement.setObject(i + 1, dumperConfiguration.getWhereParameters().get(i));
+            }
+            ResultSet resultSet = preparedStatement.executeQuery();
             resultSet.next();
-            estimatedRows = resultSet.getInt(1);
+            estimatedRows = resultSet.getLong(1);
         } catch (SQLException e) {
             throw new SyncTaskExecuteException("get estimated rows error.", e);
         }
     }
     
+    private boolean restorePosition() {
+        PositionStore positionStore = ScalingContext.getInstance().getPositionStore();
+        String jobName = syncConfiguration.getDumperConfiguration().getJobName();
+        if (null == positionStore || null == jobName || null == positionKey) {
+            return true;
+        }
+        Optional<LogPosition> position = positionStore.get(jobName, positionKey);
+        if (!position.isPresent()) {
+            return true;
+        }
+        if (!isInSplitRange(position.get(), (PrimaryKeyPosition) syncConfiguration.getDumperConfiguration().getPosition())) {
+            log.warn("Task {} ignores position {} out of split range {}", syncTaskId, position.get(), syncConfiguration.getDumperConfiguration().getPosition());
+            return true;
+        }
+        log.info("Task {} resumes from position {}", syncTaskId, position.get());
+        syncConfiguration.getDumperConfiguration().setPosition(position.get());
+        return !((PrimaryKeyPosition) position.get()).isFinished();
+    }
+    
+    private boolean isInSplitRange(final LogPosition position, final PrimaryKeyPosition splitRange) {
+        if (!(position instanceof PrimaryKeyPosition)) {
+            return false;
+        }
+        PrimaryKeyPosition primaryKeyPosition = (PrimaryKeyPosition) position;
+        return primaryKeyPosition.getEndValue() == splitRange.getEndValue()
+                && primaryKeyPosition.getBeginValue() >= splitRange.getBeginValue() && primaryKeyPosition.getBeginValue() <= splitRange.getEndValue() + 1;
+    }
+    
     private void instanceDumper() {
         syncConfiguration.getDumperConfiguration().setTableNameMap(syncConfiguration.getTableNameMap());
         dumper = DumperFactory.newInstanceJdbcDumper(syncConfiguration.getDumperConfiguration(), dataSourceManager);
@@ -128,11 +189,25 @@ public final class InventoryDataSyncTask implements SyncTask {
                 }
             }
             syncedRows.addAndGet(count);
+            persistPosition(records.get(records.size() - 1));
         });
         dumper.setChannel(channel);
         importer.setChannel(channel);
     }
     
+    private void persistPosition(final Record lastRecord) {
+        PositionStore positionStore = ScalingContext.getInstance().getPositionStore();
+        String jobName = syncConfiguration.getDumperConfiguration().getJobName();
+        if (null == positionStore || null == jobName || null == positionKey || null == dumper || !(lastRecord.getLogPosition() instanceof PrimaryKeyPosition)) {
+            return;
+        }
+        long currentTimeMillis = System.currentTimeMillis();
+        if (((PrimaryKeyPosition) lastRecord.getLogPosition()).isFinished() || currentTimeMillis - lastPersistTimeMillis >= PERSIST_POSITION_INTERVAL_MILLISECONDS) {
+            positionStore.persist(jobName, positionKey, lastRecord.getLogPosition());
+            lastPersistTimeMillis = currentTimeMillis;
+        }
+    }
+    
     private void checkResult(final Future future) {
         try {
             future.get();
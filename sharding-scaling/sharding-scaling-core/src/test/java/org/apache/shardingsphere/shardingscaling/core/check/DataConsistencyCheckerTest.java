@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.check;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.shardingscaling.core.config.DataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.JDBCDataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.RdbmsConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataConsistencyCheckerTest {
+    
+    private static final String SOURCE_URL = "jdbc:h2:mem:check_source_db;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private static final String TARGET_URL = "jdbc:h2:mem:check_target_db;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    
+    private DataSourceManager dataSourceManager;
+    
+    private SyncConfiguration syncConfiguration;
+    
+    @Before
+    public void setUp() {
+        dataSourceManager = new DataSourceManager();
+        RdbmsConfiguration dumperConfiguration = new RdbmsConfiguration();
+        dumperConfiguration.setDataSourceConfiguration(createDataSourceConfiguration(SOURCE_URL));
+        RdbmsConfiguration importerConfiguration = new RdbmsConfiguration();
+        importerConfiguration.setDataSourceConfiguration(createDataSourceConfiguration(TARGET_URL));
+        syncConfiguration = new SyncConfiguration(3, Collections.singletonMap("t_order", "t_order"), dumperConfiguration, importerConfiguration);
+        initTable(syncConfiguration.getDumperConfiguration().getDataSourceConfiguration());
+        initTable(syncConfiguration.getImporterConfiguration().getDataSourceConfiguration());
+    }
+    
+    @After
+    public void tearDown() {
+        dataSourceManager.close();
+    }
+    
+    @Test
+    public void assertCheckConsistentTable() {
+        DataConsistencyCheckResult actual = check();
+        assertTrue(actual.isValid());
+        assertThat(actual.getSourceRecordCount(), is(5L));
+        assertThat(actual.getTargetRecordCount(), is(5L));
+        assertThat(actual.getChunkCount(), is(3));
+        assertThat(actual.getMismatchedChunkCount(), is(0));
+        assertTrue(actual.getMismatchedKeys().isEmpty());
+    }
+    
+    @Test
+    public void assertCheckInconsistentTable() {
+        execute(syncConfiguration.getImporterConfiguration().getDataSourceConfiguration(), "UPDATE t_order SET user_id = 'changed' WHERE id = 2");
+        execute(syncConfiguration.getImporterConfiguration().getDataSourceConfiguration(), "DELETE FROM t_order WHERE id = 5");
+        DataConsistencyCheckResult actual = check();
+        assertFalse(actual.isValid());
+        assertThat(actual.getSourceRecordCount(), is(5L));
+        assertThat(actual.getTargetRecordCount(), is(4L));
+        assertThat(actual.getMismatchedChunkCount(), is(2));
+        assertThat(actual.getMismatchedKeys(), is(Arrays.asList("2", "5")));
+    }
+    
+    private DataConsistencyCheckResult check() {
+        DataConsistencyCheckReport report = new DataConsistencyCheckReport(1);
+        new DataConsistencyChecker(Collections.singletonList(syncConfiguration), report, dataSourceManager, 2, 0).start();
+        return report.getResults().get("t_order");
+    }
+    
+    private DataSourceConfiguration createDataSourceConfiguration(final String url) {
+        return new JDBCDataSourceConfiguration(url, "root", "password");
+    }
+    
+    private void initTable(final DataSourceConfiguration dataSourceConfiguration) {
+        execute(dataSourceConfiguration, "DROP TABLE IF EXISTS t_order");
+        execute(dataSourceConfiguration, "CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))");
+        execute(dataSourceConfiguration, "INSERT INTO t_order (id, user_id) VALUES (1, 'a'), (2, 'b'), (3, 'c'), (4, 'd'), (5, 'e')");
+    }
+    
+    @SneakyThrows
+    private void execute(final DataSourceConfiguration dataSourceConfiguration, final String sql) {
+        DataSource dataSource = dataSourceManager.getDataSource(dataSourceConfiguration);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
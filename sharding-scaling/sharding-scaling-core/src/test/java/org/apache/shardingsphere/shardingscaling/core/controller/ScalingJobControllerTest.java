@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.controller;
+
+import org.apache.shardingsphere.shardingscaling.core.ShardingScalingJob;
+import org.apache.shardingsphere.shardingscaling.core.check.DataConsistencyCheckReport;
+import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.exception.ScalingJobNotFoundException;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.shardingscaling.core.util.ReflectionUtil;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ScalingJobControllerTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private final ScalingJobController scalingJobController = new ScalingJobController();
+    
+    private ShardingScalingJob shardingScalingJob;
+    
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws NoSuchFieldException, IllegalAccessException {
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setPositionStorePath(temporaryFolder.getRoot().getAbsolutePath());
+        ScalingContext.getInstance().init(serverConfiguration);
+        shardingScalingJob = new ShardingScalingJob("test_job");
+        ReflectionUtil.getFieldValueFromClass(scalingJobController, "scalingJobMap", Map.class).put(shardingScalingJob.getJobId(), shardingScalingJob);
+        ScalingContext.getInstance().getPositionStore().persist("test_job", "inventory-test_db-t_order-1-999-test_db-t_order", new PrimaryKeyPosition(1000L, 999L));
+    }
+    
+    @Test
+    public void assertStopKeepsPositions() {
+        scalingJobController.stop(shardingScalingJob.getJobId());
+        assertThat(shardingScalingJob.getStatus(), is("STOPPED"));
+        assertTrue(ScalingContext.getInstance().getPositionStore().get("test_job", "inventory-test_db-t_order-1-999-test_db-t_order").isPresent());
+    }
+    
+    @Test
+    public void assertResetDeletesPositions() {
+        scalingJobController.reset(shardingScalingJob.getJobId());
+        assertThat(shardingScalingJob.getStatus(), is("STOPPED"));
+        assertFalse(ScalingContext.getInstance().getPositionStore().get("test_job", "inventory-test_db-t_order-1-999-test_db-t_order").isPresent());
+    }
+    
+    @Test(expected = ScalingJobNotFoundException.class)
+    public void assertResetNotExistJob() {
+        scalingJobController.reset(Integer.MAX_VALUE);
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertCheckWithRunningCheck() throws NoSuchFieldException, IllegalAccessException {
+        DataConsistencyCheckReport runningReport = new DataConsistencyCheckReport(shardingScalingJob.getJobId());
+        ReflectionUtil.getFieldValueFromClass(scalingJobController, "dataConsistencyCheckReports", Map.class).put(shardingScalingJob.getJobId(), runningReport);
+        assertThat(scalingJobController.check(shardingScalingJob.getJobId()), sameInstance(runningReport));
+    }
+    
+    @Test(expected = ScalingJobNotFoundException.class)
+    public void assertCheckNotExistJob() {
+        scalingJobController.check(Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.channel;
+
+import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.NopLogPosition;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Column;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.PlaceholderRecord;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DistributionChannelTest {
+    
+    private final List<Record> acknowledgedRecords = new ArrayList<>();
+    
+    @BeforeClass
+    public static void init() {
+        ScalingContext.getInstance().init(new ServerConfiguration());
+    }
+    
+    @Test
+    public void assertPushRecordsOfSameRowToSameChannel() throws InterruptedException {
+        DistributionChannel channel = new DistributionChannel(4, acknowledgedRecords::addAll);
+        DataRecord insertRecord = createDataRecord("INSERT", 1);
+        DataRecord updateRecord = createDataRecord("UPDATE", 1);
+        DataRecord deleteRecord = createDataRecord("DELETE", 1);
+        channel.pushRecord(insertRecord);
+        channel.pushRecord(updateRecord);
+        channel.pushRecord(deleteRecord);
+        List<Record> actual = fetchRecordsInNewThread(channel, 4);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), sameInstance(insertRecord));
+        assertThat(actual.get(1), sameInstance(updateRecord));
+        assertThat(actual.get(2), sameInstance(deleteRecord));
+    }
+    
+    @Test
+    public void assertAckInPushedOrder() throws InterruptedException {
+        DistributionChannel channel = new DistributionChannel(2, acknowledgedRecords::addAll);
+        DataRecord firstRecord = createDataRecordOfChannel(1, 2);
+        DataRecord secondRecord = createDataRecordOfChannel(0, 2);
+        PlaceholderRecord placeholderRecord = new PlaceholderRecord(new NopLogPosition());
+        channel.pushRecord(firstRecord);
+        channel.pushRecord(placeholderRecord);
+        channel.pushRecord(secondRecord);
+        List<Record> firstFetchedRecords = fetchAndAckRecordsInNewThread(channel, secondRecord);
+        assertThat(firstFetchedRecords.size(), is(1));
+        assertTrue(acknowledgedRecords.isEmpty());
+        assertThat(channel.getLowWatermark(), nullValue());
+        fetchAndAckRecordsInNewThread(channel, firstRecord);
+        assertThat(acknowledgedRecords.size(), is(3));
+        assertThat(acknowledgedRecords.get(0), sameInstance(firstRecord));
+        assertThat(acknowledgedRecords.get(1), sameInstance(placeholderRecord));
+        assertThat(acknowledgedRecords.get(2), sameInstance(secondRecord));
+        assertThat(channel.getLowWatermark(), sameInstance(secondRecord.getLogPosition()));
+    }
+    
+    private DataRecord createDataRecordOfChannel(final int channelIndex, final int channelNumber) {
+        int id = 1;
+        while (Math.floorMod(createDataRecord("INSERT", id).hashCode(), channelNumber) != channelIndex) {
+            id++;
+        }
+        return createDataRecord("INSERT", id);
+    }
+    
+    private List<Record> fetchRecordsInNewThread(final DistributionChannel channel, final int batchSize) throws InterruptedException {
+        List<Record> result = new ArrayList<>();
+        Thread thread = new Thread(() -> result.addAll(channel.fetchRecords(batchSize, 0)));
+        thread.start();
+        thread.join();
+        return result;
+    }
+    
+    private List<Record> fetchAndAckRecordsInNewThread(final DistributionChannel channel, final DataRecord expectedRecord) throws InterruptedException {
+        List<Record> result = new ArrayList<>();
+        Thread thread = new Thread(() -> {
+            result.addAll(channel.fetchRecords(1, 0));
+            channel.ack();
+        });
+        thread.start();
+        thread.join();
+        assertThat(result.get(0), sameInstance(expectedRecord));
+        return result;
+    }
+    
+    private DataRecord createDataRecord(final String type, final int id) {
+        DataRecord result = new DataRecord(new NopLogPosition(), 1);
+        result.setType(type);
+        result.setTableName("t_order");
+        result.addColumn(new Column("id", id, false, true));
+        return result;
+    }
+}
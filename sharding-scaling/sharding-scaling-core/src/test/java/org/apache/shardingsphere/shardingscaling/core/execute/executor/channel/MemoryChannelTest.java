@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.channel;
+
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.NopLogPosition;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MemoryChannelTest {
+    
+    private final List<Record> acknowledgedRecords = new ArrayList<>();
+    
+    @Test
+    public void assertFetchRecordsWhenBatchFilled() throws InterruptedException {
+        MemoryChannel channel = new MemoryChannel(16, 1000L, acknowledgedRecords::addAll);
+        Record record1 = new DataRecord(new NopLogPosition(), 0);
+        Record record2 = new DataRecord(new NopLogPosition(), 0);
+        channel.pushRecord(record1);
+        channel.pushRecord(record2);
+        long startTime = System.nanoTime();
+        List<Record> actual = channel.fetchRecords(2, 10);
+        assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(5L));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), sameInstance(record1));
+        assertThat(actual.get(1), sameInstance(record2));
+    }
+    
+    @Test
+    public void assertFetchRecordsWhenTimeout() throws InterruptedException {
+        MemoryChannel channel = new MemoryChannel(16, 1000L, acknowledgedRecords::addAll);
+        channel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        assertThat(channel.fetchRecords(2, 0).size(), is(1));
+        assertTrue(channel.fetchRecords(2, 0).isEmpty());
+    }
+    
+    @Test
+    public void assertFetchRecordsWithoutWaitingForFullBatch() throws InterruptedException {
+        MemoryChannel channel = new MemoryChannel(16, 1000L, acknowledgedRecords::addAll);
+        channel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        long startTime = System.nanoTime();
+        List<Record> actual = channel.fetchRecords(10, 10);
+        assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(1L));
+        assertThat(actual.size(), is(1));
+    }
+    
+    @Test
+    public void assertFetchRecordsWakenByProducer() throws InterruptedException {
+        MemoryChannel channel = new MemoryChannel(16, 1000L, acknowledgedRecords::addAll);
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(50L);
+                channel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+            } catch (final InterruptedException ignored) {
+            }
+        });
+        producer.start();
+        long startTime = System.nanoTime();
+        List<Record> actual = channel.fetchRecords(1, 10);
+        assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(5L));
+        assertThat(actual.size(), is(1));
+        producer.join();
+    }
+    
+    @Test
+    public void assertAck() throws InterruptedException {
+        MemoryChannel channel = new MemoryChannel(2, 1000L, acknowledgedRecords::addAll);
+        Record record1 = new DataRecord(new NopLogPosition(), 0);
+        Record record2 = new DataRecord(new NopLogPosition(), 0);
+        channel.pushRecord(record1);
+        channel.pushRecord(record2);
+        channel.fetchRecords(2, 0);
+        channel.ack();
+        assertThat(acknowledgedRecords.size(), is(2));
+        assertThat(acknowledgedRecords.get(0), sameInstance(record1));
+        assertThat(acknowledgedRecords.get(1), sameInstance(record2));
+        channel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        channel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        assertThat(channel.fetchRecords(2, 0).size(), is(2));
+    }
+    
+    @Test
+    public void assertPushRecordWakenByAck() throws InterruptedException {
+        MemoryChannel channel = new MemoryChannel(1, 10000L, acknowledgedRecords::addAll);
+        channel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        channel.fetchRecords(1, 0);
+        Thread consumer = new Thread(() -> {
+            try {
+                Thread.sleep(50L);
+            } catch (final InterruptedException ignored) {
+            }
+            channel.ack();
+        });
+        consumer.start();
+        channel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        consumer.join();
+        assertThat(acknowledgedRecords.size(), is(1));
+    }
+    
+    @Test
+    public void assertPushRecordWakenByClose() throws InterruptedException {
+        MemoryChannel channel = new MemoryChannel(1, 10000L, acknowledgedRecords::addAll);
+        channel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        Thread closer = new Thread(() -> {
+            try {
+                Thread.sleep(50L);
+            } catch (final InterruptedException ignored) {
+            }
+            channel.close();
+        });
+        closer.start();
+        long startTime = System.nanoTime();
+        channel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(5L));
+        closer.join();
+        assertTrue(channel.fetchRecords(1, 0).isEmpty());
+    }
+    
+    @Test(expected = RuntimeException.class)
+    public void assertPushRecordWhenFull() throws InterruptedException {
+        MemoryChannel channel = new MemoryChannel(1, 10L, acknowledgedRecords::addAll);
+        channel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+        channel.pushRecord(new DataRecord(new NopLogPosition(), 0));
+    }
+}
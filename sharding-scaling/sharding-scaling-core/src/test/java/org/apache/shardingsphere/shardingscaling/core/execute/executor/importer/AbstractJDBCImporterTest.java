@@ -21,7 +21,9 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.shardingscaling.core.config.DataSourceConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.config.RdbmsConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
+import org.apache.shardingsphere.shardingscaling.core.exception.SyncTaskExecuteException;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.channel.Channel;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics.ScalingJobMetrics;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.NopLogPosition;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
@@ -30,15 +32,27 @@ import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Re
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Savepoint;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import javax.sql.DataSource;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.calls;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,6 +63,8 @@ public final class AbstractJDBCImporterTest {
     
     private static final String INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?)";
     
+    private static final String MULTIPLE_INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?),(?,?,?)";
+    
     private static final String DELETE_SQL = "DELETE FROM test_table WHERE id = ?";
     
     private static final String UPDATE_SQL = "UPDATE test_table SET user = ?,status = ? WHERE id = ?";
@@ -74,11 +90,14 @@ public final class AbstractJDBCImporterTest {
     @Mock
     private PreparedStatement preparedStatement;
     
+    private RdbmsConfiguration rdbmsConfiguration;
+    
     private AbstractJDBCImporter jdbcImporter;
     
     @Before
     public void setUp() throws Exception {
-        jdbcImporter = new AbstractJDBCImporter(getRdbmsConfiguration(), dataSourceManager) {
+        rdbmsConfiguration = getRdbmsConfiguration();
+        jdbcImporter = new AbstractJDBCImporter(rdbmsConfiguration, dataSourceManager) {
             
             @Override
             protected AbstractSqlBuilder createSqlBuilder() {
@@ -94,7 +113,7 @@ public final class AbstractJDBCImporterTest {
     @SneakyThrows
     public void assertWriteInsertDataRecord() {
         DataRecord insertRecord = getDataRecord("INSERT");
-        when(sqlBuilder.buildInsertSQL(insertRecord)).thenReturn(INSERT_SQL);
+        when(sqlBuilder.buildInsertSQL(insertRecord, 1)).thenReturn(INSERT_SQL);
         when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
         when(channel.fetchRecords(100, 3)).thenReturn(mockRecords(insertRecord));
         jdbcImporter.run();
@@ -112,7 +131,9 @@ public final class AbstractJDBCImporterTest {
         when(channel.fetchRecords(100, 3)).thenReturn(mockRecords(deleteRecord));
         jdbcImporter.run();
         verify(preparedStatement).setObject(1, 1);
-        verify(preparedStatement).execute();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement).close();
     }
     
     @Test
@@ -125,12 +146,89 @@ public final class AbstractJDBCImporterTest {
         verify(preparedStatement).setObject(1, 10);
         verify(preparedStatement).setObject(2, "UPDATE");
         verify(preparedStatement).setObject(3, 1);
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertWriteMultipleInsertDataRecords() throws SQLException {
+        DataRecord insertRecord1 = getDataRecord("INSERT");
+        DataRecord insertRecord2 = getDataRecord("INSERT");
+        when(sqlBuilder.buildInsertSQL(insertRecord1, 2)).thenReturn(MULTIPLE_INSERT_SQL);
+        when(connection.prepareStatement(MULTIPLE_INSERT_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(100, 3)).thenReturn(mockRecords(insertRecord1, insertRecord2));
+        jdbcImporter.run();
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(4, 1);
+        verify(preparedStatement).setObject(6, "INSERT");
         verify(preparedStatement).execute();
+        verify(connection).commit();
+    }
+    
+    @Test
+    public void assertWriteMultipleInsertDataRecordsWithConflict() throws SQLException {
+        DataRecord insertRecord1 = getDataRecord("INSERT");
+        final DataRecord insertRecord2 = getDataRecord("INSERT");
+        ScalingJobMetrics metrics = new ScalingJobMetrics();
+        rdbmsConfiguration.setMetrics(metrics);
+        Savepoint savepoint = mock(Savepoint.class);
+        PreparedStatement singlePreparedStatement = mock(PreparedStatement.class);
+        when(connection.setSavepoint()).thenReturn(savepoint);
+        when(sqlBuilder.buildInsertSQL(insertRecord1, 2)).thenReturn(MULTIPLE_INSERT_SQL);
+        when(sqlBuilder.buildInsertSQL(any(DataRecord.class), eq(1))).thenReturn(INSERT_SQL);
+        when(connection.prepareStatement(MULTIPLE_INSERT_SQL)).thenReturn(preparedStatement);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(singlePreparedStatement);
+        when(preparedStatement.execute()).thenThrow(new SQLException("duplicate key", "23505"));
+        when(singlePreparedStatement.execute()).thenReturn(false).thenThrow(new SQLIntegrityConstraintViolationException("Duplicate entry", "23000", 1062));
+        when(channel.fetchRecords(100, 3)).thenReturn(mockRecords(insertRecord1, insertRecord2));
+        jdbcImporter.run();
+        InOrder inOrder = inOrder(connection, preparedStatement, singlePreparedStatement);
+        inOrder.verify(preparedStatement).execute();
+        inOrder.verify(connection).rollback(savepoint);
+        inOrder.verify(singlePreparedStatement).execute();
+        inOrder.verify(connection).releaseSavepoint(savepoint);
+        inOrder.verify(singlePreparedStatement).execute();
+        inOrder.verify(connection).rollback(savepoint);
+        inOrder.verify(connection).commit();
+        verify(connection, times(3)).setSavepoint();
+        assertThat(metrics.getConflictedRecords().getCount(), is(1L));
+    }
+    
+    @Test(expected = SyncTaskExecuteException.class)
+    public void assertWriteInsertDataRecordWithNotNullViolation() throws SQLException {
+        DataRecord insertRecord = getDataRecord("INSERT");
+        when(connection.setSavepoint()).thenReturn(mock(Savepoint.class));
+        when(sqlBuilder.buildInsertSQL(insertRecord, 1)).thenReturn(INSERT_SQL);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.execute()).thenThrow(new SQLIntegrityConstraintViolationException("null value in column violates not-null constraint", "23502"));
+        when(channel.fetchRecords(100, 3)).thenReturn(mockRecords(insertRecord));
+        jdbcImporter.run();
+    }
+    
+    @Test
+    public void assertWriteMixedDataRecordsInOrder() throws SQLException {
+        DataRecord deleteRecord1 = getDataRecord("DELETE");
+        DataRecord deleteRecord2 = getDataRecord("DELETE");
+        DataRecord insertRecord = getDataRecord("INSERT");
+        DataRecord deleteRecord3 = getDataRecord("DELETE");
+        when(sqlBuilder.buildDeleteSQL(deleteRecord1)).thenReturn(DELETE_SQL);
+        when(sqlBuilder.buildInsertSQL(insertRecord, 1)).thenReturn(INSERT_SQL);
+        PreparedStatement insertPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(DELETE_SQL)).thenReturn(preparedStatement);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(insertPreparedStatement);
+        when(channel.fetchRecords(100, 3)).thenReturn(mockRecords(deleteRecord1, deleteRecord2, insertRecord, deleteRecord3));
+        jdbcImporter.run();
+        InOrder inOrder = inOrder(preparedStatement, insertPreparedStatement);
+        inOrder.verify(preparedStatement, calls(2)).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
+        inOrder.verify(insertPreparedStatement).execute();
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
+        verify(connection).prepareStatement(DELETE_SQL);
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new NopLogPosition()));
         return result;
     }
@@ -21,9 +21,12 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.NopLogPosition;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Column;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.RecordUtil;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.stream.Collectors;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -54,6 +57,51 @@ public class AbstractSqlBuilderTest {
         assertThat(actual, is("INSERT INTO `t1`(`id`,`c1`,`c2`,`c3`) VALUES(?,?,?,?)"));
     }
     
+    @Test
+    public void assertBuildMultipleRowsInsertSql() {
+        String actual = sqlBuilder.buildInsertSQL(mockDataRecord("t1"), 3);
+        assertThat(actual, is("INSERT INTO `t1`(`id`,`c1`,`c2`,`c3`) VALUES(?,?,?,?),(?,?,?,?),(?,?,?,?)"));
+    }
+    
+    @Test
+    public void assertBuildInsertSqlWithDifferentColumns() {
+        sqlBuilder.buildInsertSQL(mockDataRecord("t1"));
+        DataRecord dataRecord = new DataRecord(new NopLogPosition(), 2);
+        dataRecord.setTableName("t1");
+        dataRecord.addColumn(new Column("id", "", false, true));
+        dataRecord.addColumn(new Column("c1", "", true, false));
+        assertThat(sqlBuilder.buildInsertSQL(dataRecord), is("INSERT INTO `t1`(`id`,`c1`) VALUES(?,?)"));
+    }
+    
+    @Test
+    public void assertBuildInsertSqlWithDifferentPrimaryKeys() {
+        AbstractSqlBuilder conflictSqlBuilder = new AbstractSqlBuilder() {
+            
+            @Override
+            protected String getLeftIdentifierQuoteString() {
+                return "`";
+            }
+            
+            @Override
+            protected String getRightIdentifierQuoteString() {
+                return "`";
+            }
+            
+            @Override
+            protected String buildConflictSQL(final DataRecord dataRecord) {
+                return RecordUtil.extractPrimaryColumns(dataRecord).stream().map(each -> quote(each.getName())).collect(Collectors.joining(",", " ON CONFLICT (", ") DO NOTHING"));
+            }
+        };
+        assertThat(conflictSqlBuilder.buildInsertSQL(mockDataRecord("t1")), is("INSERT INTO `t1`(`id`,`c1`,`c2`,`c3`) VALUES(?,?,?,?) ON CONFLICT (`id`) DO NOTHING"));
+        DataRecord dataRecord = new DataRecord(new NopLogPosition(), 4);
+        dataRecord.setTableName("t1");
+        dataRecord.addColumn(new Column("id", "", false, true));
+        dataRecord.addColumn(new Column("c1", "", true, true));
+        dataRecord.addColumn(new Column("c2", "", true, false));
+        dataRecord.addColumn(new Column("c3", "", true, false));
+        assertThat(conflictSqlBuilder.buildInsertSQL(dataRecord), is("INSERT INTO `t1`(`id`,`c1`,`c2`,`c3`) VALUES(?,?,?,?) ON CONFLICT (`id`,`c1`) DO NOTHING"));
+    }
+    
     @Test
     public void assertBuildUpdateSql() {
         String actual = sqlBuilder.buildUpdateSQL(mockDataRecord("t2"));
@@ -66,6 +114,16 @@ public class AbstractSqlBuilderTest {
         assertThat(actual, is("DELETE FROM `t3` WHERE `id` = ?"));
     }
     
+    @Test
+    public void assertBuildDeleteSqlWithCompositePrimaryKey() {
+        DataRecord dataRecord = new DataRecord(new NopLogPosition(), 3);
+        dataRecord.setTableName("t4");
+        dataRecord.addColumn(new Column("id", "", false, true));
+        dataRecord.addColumn(new Column("user_id", "", false, true));
+        dataRecord.addColumn(new Column("c1", "", true, false));
+        assertThat(sqlBuilder.buildDeleteSQL(dataRecord), is("DELETE FROM `t4` WHERE `id` = ? AND `user_id` = ?"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new NopLogPosition(), 4);
         result.setTableName(tableName);
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LatencyHistogramTest {
+    
+    @Test
+    public void assertUpdate() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.update(0L);
+        histogram.update(3L);
+        histogram.update(5L);
+        histogram.update(70000L);
+        long[] cumulativeCounts = histogram.getCumulativeCounts();
+        assertThat(cumulativeCounts.length, is(histogram.getBucketBounds().length + 1));
+        assertThat(cumulativeCounts[0], is(1L));
+        assertThat(cumulativeCounts[1], is(3L));
+        assertThat(cumulativeCounts[cumulativeCounts.length - 2], is(3L));
+        assertThat(cumulativeCounts[cumulativeCounts.length - 1], is(4L));
+        assertThat(histogram.getCount(), is(4L));
+        assertThat(histogram.getSum(), is(70008L));
+        assertThat(histogram.getMean(), is(17502D));
+    }
+    
+    @Test
+    public void assertGetPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getPercentile(0.99), is(0L));
+        for (int i = 0; i < 99; i++) {
+            histogram.update(8L);
+        }
+        histogram.update(3000L);
+        assertThat(histogram.getPercentile(0.5), is(10L));
+        assertThat(histogram.getPercentile(0.99), is(10L));
+        assertThat(histogram.getPercentile(1), is(3000L));
+    }
+}
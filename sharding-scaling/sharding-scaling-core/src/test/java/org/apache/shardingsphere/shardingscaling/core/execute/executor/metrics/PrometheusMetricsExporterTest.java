@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertTrue;
+
+public final class PrometheusMetricsExporterTest {
+    
+    @Test
+    public void assertExport() {
+        ScalingJobMetrics metrics = new ScalingJobMetrics();
+        metrics.getDumpedRecords().mark(10L);
+        metrics.getImportedRecords().mark(4L);
+        metrics.getConflictedRecords().mark(2L);
+        metrics.updateEventLag(30L);
+        metrics.getApplyLatency().update(2L);
+        String actual = PrometheusMetricsExporter.export(Collections.singletonMap(1, metrics));
+        assertTrue(actual.contains("# TYPE sharding_scaling_dumped_records_total counter\n"));
+        assertTrue(actual.contains("sharding_scaling_dumped_records_total{job_id=\"1\"} 10\n"));
+        assertTrue(actual.contains("sharding_scaling_imported_records_total{job_id=\"1\"} 4\n"));
+        assertTrue(actual.contains("sharding_scaling_conflicted_records_total{job_id=\"1\"} 2\n"));
+        assertTrue(actual.contains("sharding_scaling_channel_queue_depth{job_id=\"1\"} 6\n"));
+        assertTrue(actual.contains("sharding_scaling_event_lag_milliseconds_current{job_id=\"1\"} 30\n"));
+        assertTrue(actual.contains("sharding_scaling_event_lag_milliseconds_bucket{job_id=\"1\",le=\"25\"} 0\n"));
+        assertTrue(actual.contains("sharding_scaling_event_lag_milliseconds_bucket{job_id=\"1\",le=\"50\"} 1\n"));
+        assertTrue(actual.contains("sharding_scaling_apply_latency_milliseconds_bucket{job_id=\"1\",le=\"+Inf\"} 1\n"));
+        assertTrue(actual.contains("sharding_scaling_apply_latency_milliseconds_count{job_id=\"1\"} 1\n"));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ThroughputMeterTest {
+    
+    @Test
+    public void assertMark() {
+        ThroughputMeter meter = new ThroughputMeter();
+        meter.mark(10L);
+        meter.mark(0L);
+        meter.mark(-1L);
+        assertThat(meter.getCount(), is(10L));
+    }
+    
+    @Test
+    public void assertGetRatePerSecondWithConcurrentMarks() throws InterruptedException {
+        ThroughputMeter meter = new ThroughputMeter();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    meter.mark(1L);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5L, TimeUnit.SECONDS));
+        TimeUnit.MILLISECONDS.sleep(1100L);
+        assertThat(meter.getCount(), is(40000L));
+        assertThat(meter.getRatePerSecond(), is(4000D));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.position;
+
+import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FilePositionStoreTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    private PositionStore positionStore;
+    
+    @Before
+    public void setUp() {
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setPositionStorePath(temporaryFolder.getRoot().getAbsolutePath());
+        positionStore = PositionStoreFactory.newInstance(serverConfiguration);
+    }
+    
+    @Test
+    public void assertGetAbsentPosition() {
+        assertFalse(positionStore.get("test_job", "inventory-test_db-t_order-1-999").isPresent());
+    }
+    
+    @Test
+    public void assertPersistAndGetPosition() {
+        positionStore.persist("test_job", "inventory-test_db-t_order-1-999", new PrimaryKeyPosition(1L, 999L));
+        positionStore.persist("test_job", "inventory-test_db-t_order-1-999", new PrimaryKeyPosition(500L, 999L));
+        assertThat(positionStore.get("test_job", "inventory-test_db-t_order-1-999").get(), is(new PrimaryKeyPosition(500L, 999L)));
+        assertFalse(positionStore.get("test_job", "inventory-test_db-t_order-1000-1999").isPresent());
+        assertFalse(positionStore.get("other_job", "inventory-test_db-t_order-1-999").isPresent());
+    }
+    
+    @Test
+    public void assertDeletePositionsOfJob() {
+        positionStore.persist("test_job", "inventory-test_db-t_order-1-999", new PrimaryKeyPosition(1L, 999L));
+        positionStore.persist("other_job", "inventory-test_db-t_order-1-999", new PrimaryKeyPosition(1L, 999L));
+        positionStore.delete("test_job");
+        positionStore.delete("absent_job");
+        assertFalse(positionStore.get("test_job", "inventory-test_db-t_order-1-999").isPresent());
+        assertTrue(positionStore.get("other_job", "inventory-test_db-t_order-1-999").isPresent());
+    }
+    
+    @Test
+    public void assertPrimaryKeyPositionFinished() {
+        assertFalse(new PrimaryKeyPosition(999L, 999L).isFinished());
+        assertTrue(new PrimaryKeyPosition(1000L, 999L).isFinished());
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertNewInstanceWithUnsupportedType() {
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setPositionStoreType("UNSUPPORTED");
+        PositionStoreFactory.newInstance(serverConfiguration);
+    }
+}
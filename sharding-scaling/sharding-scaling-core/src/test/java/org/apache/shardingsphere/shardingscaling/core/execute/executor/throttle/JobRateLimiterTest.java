@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.core.execute.executor.throttle;
+
+import org.apache.shardingsphere.shardingscaling.core.config.DataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.JDBCDataSourceConfiguration;
+import org.apache.shardingsphere.shardingscaling.core.config.RateLimitConfiguration;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class JobRateLimiterTest {
+    
+    private final DataSourceConfiguration dataSourceConfiguration = new JDBCDataSourceConfiguration("jdbc:h2:mem:test_db;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", "root", "password");
+    
+    private JobRateLimiter jobRateLimiter;
+    
+    @After
+    public void tearDown() {
+        jobRateLimiter.close();
+    }
+    
+    @Test
+    public void assertAcquireUnlimited() {
+        jobRateLimiter = new JobRateLimiter(new RateLimitConfiguration());
+        assertFalse(jobRateLimiter.isLimited());
+        assertTrue(measureAcquireMilliseconds(true, 10000, 10000) < 500L);
+    }
+    
+    @Test
+    public void assertAcquireLimitedByJob() {
+        RateLimitConfiguration rateLimitConfiguration = new RateLimitConfiguration();
+        rateLimitConfiguration.setMaxRowsPerSecond(10L);
+        jobRateLimiter = new JobRateLimiter(rateLimitConfiguration);
+        assertTrue(jobRateLimiter.isLimited());
+        assertTrue(measureAcquireMilliseconds(true, 5, 0) >= 400L);
+        assertTrue(measureAcquireMilliseconds(false, 5, 0) < 400L);
+    }
+    
+    @Test
+    public void assertAcquireLimitedByDataSourceBytes() {
+        RateLimitConfiguration rateLimitConfiguration = new RateLimitConfiguration();
+        rateLimitConfiguration.setDataSourceMaxBytesPerSecond(1000L);
+        jobRateLimiter = new JobRateLimiter(rateLimitConfiguration);
+        assertTrue(measureAcquireMilliseconds(false, 1, 500) >= 400L);
+    }
+    
+    @Test
+    public void assertUpdateAtRuntime() {
+        RateLimitConfiguration rateLimitConfiguration = new RateLimitConfiguration();
+        rateLimitConfiguration.setDataSourceMaxRowsPerSecond(1L);
+        jobRateLimiter = new JobRateLimiter(rateLimitConfiguration);
+        jobRateLimiter.acquire(dataSourceConfiguration, false, 1, 0);
+        jobRateLimiter.update(new RateLimitConfiguration());
+        assertFalse(jobRateLimiter.isLimited());
+        assertTrue(measureAcquireMilliseconds(false, 1000, 0) < 500L);
+    }
+    
+    private long measureAcquireMilliseconds(final boolean isJobScoped, final int rows, final long bytes) {
+        long startTime = System.nanoTime();
+        jobRateLimiter.acquire(dataSourceConfiguration, isJobScoped, rows, bytes);
+        jobRateLimiter.acquire(dataSourceConfiguration, isJobScoped, rows, bytes);
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+}
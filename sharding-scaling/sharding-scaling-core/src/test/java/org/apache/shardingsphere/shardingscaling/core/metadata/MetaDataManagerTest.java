@@ -38,6 +38,8 @@ import javax.sql.DataSource;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -110,6 +112,15 @@ public final class MetaDataManagerTest {
         assertPrimaryKeys(metaDataManager.getTableMetaData(TEST_TABLE).getPrimaryKeyColumns());
     }
     
+    @Test
+    public void assertRemoveTableMetaData() throws SQLException {
+        MetaDataManager metaDataManager = new MetaDataManager(dataSource);
+        metaDataManager.getTableMetaData(TEST_TABLE);
+        metaDataManager.removeTableMetaData(TEST_TABLE);
+        metaDataManager.getTableMetaData(TEST_TABLE);
+        verify(databaseMetaData, times(2)).getColumns("", null, TEST_TABLE, "%");
+    }
+    
     private void assertPrimaryKeys(final List<String> actual) {
         assertThat(actual.size(), is(1));
         assertThat(actual.get(0), is("id"));
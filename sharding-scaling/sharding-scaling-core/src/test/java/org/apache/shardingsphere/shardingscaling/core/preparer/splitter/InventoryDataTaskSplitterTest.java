@@ -23,20 +23,28 @@ import org.apache.shardingsphere.shardingscaling.core.config.JDBCDataSourceConfi
 import org.apache.shardingsphere.shardingscaling.core.config.RdbmsConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.shardingscaling.core.synctask.SyncTask;
+import org.apache.shardingsphere.shardingscaling.core.util.ReflectionUtil;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 public class InventoryDataTaskSplitterTest {
@@ -57,6 +65,7 @@ public class InventoryDataTaskSplitterTest {
     public void setUp() {
         RdbmsConfiguration dumperConfig = mockDumperConfig();
         RdbmsConfiguration importerConfig = new RdbmsConfiguration();
+        importerConfig.setDataSourceConfiguration(new JDBCDataSourceConfiguration(dataSourceUrl, userName, password));
         Map<String, String> tableMap = new HashMap<>();
         tableMap.put("t_order", "t_order");
         syncConfiguration = new SyncConfiguration(3, tableMap,
@@ -73,25 +82,67 @@ public class InventoryDataTaskSplitterTest {
     @Test
     public void assertSplitInventoryDataWithIntPrimary() {
         initIntPrimaryEnvironment(syncConfiguration.getDumperConfiguration());
-        Collection<SyncTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager);
-        assertNotNull(actual);
+        List<SyncTask> actual = new ArrayList<>(inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager));
         assertThat(actual.size(), is(3));
+        assertThat(getDumperConfiguration(actual.get(0)).getPosition(), is(new PrimaryKeyPosition(1L, 3L)));
+        assertThat(getDumperConfiguration(actual.get(1)).getPosition(), is(new PrimaryKeyPosition(4L, 6L)));
+        assertThat(getDumperConfiguration(actual.get(2)).getPosition(), is(new PrimaryKeyPosition(7L, 9L)));
+        assertThat(getDumperConfiguration(actual.get(2)).getWhereCondition(), is("WHERE id BETWEEN 7 AND 9"));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithSkewedIntPrimary() {
+        initSkewedIntPrimaryEnvironment(syncConfiguration.getDumperConfiguration());
+        List<SyncTask> actual = new ArrayList<>(inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager));
+        assertThat(actual.size(), is(3));
+        assertThat(getDumperConfiguration(actual.get(0)).getPosition(), is(new PrimaryKeyPosition(1L, 3L)));
+        assertThat(getDumperConfiguration(actual.get(1)).getPosition(), is(new PrimaryKeyPosition(4L, 6L)));
+        assertThat(getDumperConfiguration(actual.get(2)).getPosition(), is(new PrimaryKeyPosition(7L, 10000000000L)));
+        assertThat(getDumperConfiguration(actual.get(2)).getWhereCondition(), is("WHERE id BETWEEN 7 AND 10000000000"));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithLessRowsThanConcurrency() {
+        initTwoRowsIntPrimaryEnvironment(syncConfiguration.getDumperConfiguration());
+        List<SyncTask> actual = new ArrayList<>(inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager));
+        assertThat(actual.size(), is(2));
+        assertThat(getDumperConfiguration(actual.get(0)).getPosition(), is(new PrimaryKeyPosition(1L, 998L)));
+        assertThat(getDumperConfiguration(actual.get(1)).getPosition(), is(new PrimaryKeyPosition(999L, 999L)));
     }
     
     @Test
     public void assertSplitInventoryDataWithCharPrimary() {
         initCharPrimaryEnvironment(syncConfiguration.getDumperConfiguration());
-        Collection<SyncTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager);
-        assertNotNull(actual);
-        assertThat(actual.size(), is(1));
+        List<SyncTask> actual = new ArrayList<>(inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager));
+        assertThat(actual.size(), is(3));
+        assertThat(getDumperConfiguration(actual.get(0)).getWhereCondition(), is("WHERE id < ?"));
+        assertThat(getDumperConfiguration(actual.get(0)).getWhereParameters(), is(Collections.<Object>singletonList("3")));
+        assertThat(getDumperConfiguration(actual.get(1)).getWhereCondition(), is("WHERE id >= ? AND id < ?"));
+        assertThat(getDumperConfiguration(actual.get(1)).getWhereParameters(), is(Arrays.<Object>asList("3", "5")));
+        assertThat(getDumperConfiguration(actual.get(2)).getWhereCondition(), is("WHERE id >= ?"));
+        assertThat(getDumperConfiguration(actual.get(2)).getWhereParameters(), is(Collections.<Object>singletonList("5")));
+        assertNull(getDumperConfiguration(actual.get(2)).getPosition());
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithDecimalPrimary() {
+        initDecimalPrimaryEnvironment(syncConfiguration.getDumperConfiguration());
+        List<SyncTask> actual = new ArrayList<>(inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager));
+        assertThat(actual.size(), is(3));
+        assertThat(getDumperConfiguration(actual.get(0)).getWhereParameters(), is(Collections.<Object>singletonList(new BigDecimal("3"))));
+        assertThat(getDumperConfiguration(actual.get(1)).getWhereParameters(), is(Arrays.<Object>asList(new BigDecimal("3"), new BigDecimal("18446744073709551614"))));
+        assertThat(getDumperConfiguration(actual.get(2)).getWhereParameters(), is(Collections.<Object>singletonList(new BigDecimal("18446744073709551614"))));
     }
     
     @Test
     public void assertSplitInventoryDataWithUnionPrimary() {
         initUnionPrimaryEnvironment(syncConfiguration.getDumperConfiguration());
-        Collection<SyncTask> actual = inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager);
-        assertNotNull(actual);
-        assertThat(actual.size(), is(1));
+        List<SyncTask> actual = new ArrayList<>(inventoryDataTaskSplitter.splitInventoryData(syncConfiguration, dataSourceManager));
+        assertThat(actual.size(), is(2));
+        assertThat(getDumperConfiguration(actual.get(0)).getPosition(), is(new PrimaryKeyPosition(1L, 998L)));
+        assertThat(getDumperConfiguration(actual.get(0)).getPrimaryKey(), is("id"));
+        assertThat(getDumperConfiguration(actual.get(0)).getWhereCondition(), is("WHERE id BETWEEN 1 AND 998"));
+        assertThat(getDumperConfiguration(actual.get(1)).getPosition(), is(new PrimaryKeyPosition(999L, 999L)));
     }
     
     @Test
@@ -104,6 +155,28 @@ public class InventoryDataTaskSplitterTest {
     
     @SneakyThrows
     private void initIntPrimaryEnvironment(final RdbmsConfiguration dumperConfig) {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfiguration());
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id INT PRIMARY KEY, user_id VARCHAR(12))");
+            statement.execute("INSERT INTO t_order (id, user_id) VALUES (1, 'x'), (2, 'x'), (3, 'x'), (4, 'x'), (5, 'x'), (6, 'x'), (7, 'x'), (8, 'x'), (9, 'x')");
+        }
+    }
+    
+    @SneakyThrows
+    private void initSkewedIntPrimaryEnvironment(final RdbmsConfiguration dumperConfig) {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfiguration());
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id BIGINT PRIMARY KEY, user_id VARCHAR(12))");
+            statement.execute("INSERT INTO t_order (id, user_id) VALUES (1, 'x'), (2, 'x'), (3, 'x'), (4, 'x'), (5, 'x'), (6, 'x'), (7, 'x'), (8, 'x'), (10000000000, 'x')");
+        }
+    }
+    
+    @SneakyThrows
+    private void initTwoRowsIntPrimaryEnvironment(final RdbmsConfiguration dumperConfig) {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfiguration());
         try (Connection connection = dataSource.getConnection();
             Statement statement = connection.createStatement()) {
@@ -120,7 +193,18 @@ public class InventoryDataTaskSplitterTest {
             Statement statement = connection.createStatement()) {
             statement.execute("DROP TABLE IF EXISTS t_order");
             statement.execute("CREATE TABLE t_order (id CHAR(3) PRIMARY KEY, user_id VARCHAR(12))");
-            statement.execute("INSERT INTO t_order (id, user_id) VALUES ('1', 'xxx'), ('999', 'yyy')");
+            statement.execute("INSERT INTO t_order (id, user_id) VALUES ('1', 'xxx'), ('2', 'xxx'), ('3', 'xxx'), ('4', 'xxx'), ('5', 'xxx'), ('999', 'yyy')");
+        }
+    }
+    
+    @SneakyThrows
+    private void initDecimalPrimaryEnvironment(final RdbmsConfiguration dumperConfig) {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfiguration());
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id DECIMAL(20, 0) PRIMARY KEY, user_id VARCHAR(12))");
+            statement.execute("INSERT INTO t_order (id, user_id) VALUES (1, 'x'), (2, 'x'), (3, 'x'), (4, 'x'), (18446744073709551614, 'x'), (18446744073709551615, 'x')");
         }
     }
     
@@ -131,7 +215,7 @@ public class InventoryDataTaskSplitterTest {
             Statement statement = connection.createStatement()) {
             statement.execute("DROP TABLE IF EXISTS t_order");
             statement.execute("CREATE TABLE t_order (id INT, user_id VARCHAR(12), PRIMARY KEY (id, user_id))");
-            statement.execute("INSERT INTO t_order (id, user_id) VALUES (1, 'xxx'), (999, 'yyy')");
+            statement.execute("INSERT INTO t_order (id, user_id) VALUES (1, 'xxx'), (1, 'yyy'), (1, 'zzz'), (999, 'yyy'), (999, 'zzz')");
         }
     }
     
@@ -146,6 +230,11 @@ public class InventoryDataTaskSplitterTest {
         }
     }
     
+    @SneakyThrows
+    private RdbmsConfiguration getDumperConfiguration(final SyncTask syncTask) {
+        return ReflectionUtil.getFieldValueFromClass(syncTask, "syncConfiguration", SyncConfiguration.class).getDumperConfiguration();
+    }
+    
     private RdbmsConfiguration mockDumperConfig() {
         DataSourceConfiguration dataSourceConfiguration = new JDBCDataSourceConfiguration(dataSourceUrl, userName, password);
         RdbmsConfiguration result = new RdbmsConfiguration();
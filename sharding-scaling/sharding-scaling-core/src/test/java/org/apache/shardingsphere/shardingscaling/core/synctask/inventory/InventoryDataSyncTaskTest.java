@@ -26,17 +26,24 @@ import org.apache.shardingsphere.shardingscaling.core.config.ServerConfiguration
 import org.apache.shardingsphere.shardingscaling.core.config.SyncConfiguration;
 import org.apache.shardingsphere.shardingscaling.core.datasource.DataSourceManager;
 import org.apache.shardingsphere.shardingscaling.core.exception.SyncTaskExecuteException;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.metrics.ScalingJobMetrics;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPosition;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.PrimaryKeyPosition;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.Statement;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class InventoryDataSyncTaskTest {
     
@@ -46,6 +53,11 @@ public final class InventoryDataSyncTaskTest {
     
     private static String password = "password";
     
+    private static final String POSITION_KEY = "inventory-test_db-t_order-1-999-test_db-t_order";
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
     private SyncConfiguration syncConfiguration;
     
     private DataSourceManager dataSourceManager;
@@ -54,7 +66,9 @@ public final class InventoryDataSyncTaskTest {
     public void setUp() {
         RdbmsConfiguration dumperConfig = mockDumperConfig();
         RdbmsConfiguration importerConfig = mockImporterConfig();
-        ScalingContext.getInstance().init(new ServerConfiguration());
+        ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setPositionStorePath(temporaryFolder.getRoot().getAbsolutePath());
+        ScalingContext.getInstance().init(serverConfiguration);
         syncConfiguration = new SyncConfiguration(3, Collections.EMPTY_MAP, dumperConfig, importerConfig);
         dataSourceManager = new DataSourceManager();
     }
@@ -79,6 +93,95 @@ public final class InventoryDataSyncTaskTest {
         assertThat(((InventoryDataSyncTaskProgress) inventoryDataSyncTask.getProgress()).getEstimatedRows(), is(2L));
     }
     
+    @Test
+    public void assertStartByPrimaryKeyChunksAndPersistFinishedPosition() {
+        initTableData(syncConfiguration.getDumperConfiguration());
+        setPrimaryKeyPosition(new PrimaryKeyPosition(1L, 999L));
+        InventoryDataSyncTask inventoryDataSyncTask = new InventoryDataSyncTask(syncConfiguration, dataSourceManager);
+        inventoryDataSyncTask.start(event -> { });
+        assertThat(((InventoryDataSyncTaskProgress) inventoryDataSyncTask.getProgress()).getSyncedRows(), is(2L));
+        Optional<LogPosition> position = ScalingContext.getInstance().getPositionStore().get("test_job", POSITION_KEY);
+        assertTrue(position.isPresent());
+        assertThat(position.get(), is(new PrimaryKeyPosition(1000L, 999L)));
+    }
+    
+    @Test
+    public void assertStartSkippedWithFinishedPosition() {
+        initTableData(syncConfiguration.getDumperConfiguration());
+        setPrimaryKeyPosition(new PrimaryKeyPosition(1L, 999L));
+        ScalingContext.getInstance().getPositionStore().persist("test_job", POSITION_KEY, new PrimaryKeyPosition(1000L, 999L));
+        InventoryDataSyncTask inventoryDataSyncTask = new InventoryDataSyncTask(syncConfiguration, dataSourceManager);
+        inventoryDataSyncTask.start(event -> { });
+        assertThat(((InventoryDataSyncTaskProgress) inventoryDataSyncTask.getProgress()).getSyncedRows(), is(2L));
+    }
+    
+    @Test
+    public void assertStartResumedFromPersistedPosition() {
+        initTableData(syncConfiguration.getDumperConfiguration());
+        setPrimaryKeyPosition(new PrimaryKeyPosition(1L, 999L));
+        ScalingContext.getInstance().getPositionStore().persist("test_job", POSITION_KEY, new PrimaryKeyPosition(2L, 999L));
+        InventoryDataSyncTask inventoryDataSyncTask = new InventoryDataSyncTask(syncConfiguration, dataSourceManager);
+        inventoryDataSyncTask.start(event -> { });
+        assertThat(((InventoryDataSyncTaskProgress) inventoryDataSyncTask.getProgress()).getSyncedRows(), is(1L));
+    }
+    
+    @Test
+    public void assertStartFromSplitBeginWithPositionOutOfSplitRange() {
+        initTableData(syncConfiguration.getDumperConfiguration());
+        setPrimaryKeyPosition(new PrimaryKeyPosition(1L, 999L));
+        ScalingContext.getInstance().getPositionStore().persist("test_job", POSITION_KEY, new PrimaryKeyPosition(2L, 1999L));
+        InventoryDataSyncTask inventoryDataSyncTask = new InventoryDataSyncTask(syncConfiguration, dataSourceManager);
+        inventoryDataSyncTask.start(event -> { });
+        assertThat(((InventoryDataSyncTaskProgress) inventoryDataSyncTask.getProgress()).getSyncedRows(), is(2L));
+    }
+    
+    @Test
+    public void assertRestartSkipsFinishedSplit() {
+        initTableData(syncConfiguration.getDumperConfiguration());
+        RdbmsConfiguration importerConfig = mockImporterConfig("jdbc:h2:mem:test_db_target;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL");
+        syncConfiguration = new SyncConfiguration(3, Collections.EMPTY_MAP, syncConfiguration.getDumperConfiguration(), importerConfig);
+        ScalingJobMetrics metrics = new ScalingJobMetrics();
+        syncConfiguration.getDumperConfiguration().setMetrics(metrics);
+        setPrimaryKeyPosition(new PrimaryKeyPosition(1L, 999L));
+        new InventoryDataSyncTask(syncConfiguration, dataSourceManager).start(event -> { });
+        assertThat(metrics.getDumpedRecords().getCount(), is(2L));
+        assertTrue(ScalingContext.getInstance().getPositionStore().get("test_job", "inventory-test_db-t_order-1-999-test_db_target-t_order").isPresent());
+        executeUpdate(syncConfiguration.getDumperConfiguration(), "INSERT INTO t_order (id, user_id) VALUES (500, 'zzz')");
+        setPrimaryKeyPosition(new PrimaryKeyPosition(1L, 999L));
+        InventoryDataSyncTask restartedTask = new InventoryDataSyncTask(syncConfiguration, dataSourceManager);
+        restartedTask.start(event -> { });
+        assertThat(((InventoryDataSyncTaskProgress) restartedTask.getProgress()).getSyncedRows(), is(3L));
+        assertThat(metrics.getDumpedRecords().getCount(), is(2L));
+    }
+    
+    @Test
+    public void assertStartByLeadingColumnChunksOfUnionPrimaryKey() {
+        executeUpdate(syncConfiguration.getDumperConfiguration(), "DROP TABLE IF EXISTS t_order");
+        executeUpdate(syncConfiguration.getDumperConfiguration(), "CREATE TABLE t_order (id INT, user_id INT, PRIMARY KEY (id, user_id))");
+        executeUpdate(syncConfiguration.getDumperConfiguration(), "INSERT INTO t_order (id, user_id) SELECT 1, X FROM SYSTEM_RANGE(1, 1500)");
+        executeUpdate(syncConfiguration.getDumperConfiguration(), "INSERT INTO t_order (id, user_id) SELECT 2, X FROM SYSTEM_RANGE(1, 600)");
+        ScalingJobMetrics metrics = new ScalingJobMetrics();
+        syncConfiguration.getDumperConfiguration().setMetrics(metrics);
+        setPrimaryKeyPosition(new PrimaryKeyPosition(1L, 2L));
+        new InventoryDataSyncTask(syncConfiguration, dataSourceManager).start(event -> { });
+        assertThat(metrics.getDumpedRecords().getCount(), is(2100L));
+    }
+    
+    private void setPrimaryKeyPosition(final PrimaryKeyPosition position) {
+        syncConfiguration.getDumperConfiguration().setWhereCondition(String.format("WHERE id BETWEEN %d AND %d", position.getBeginValue(), position.getEndValue()));
+        syncConfiguration.getDumperConfiguration().setPrimaryKey("id");
+        syncConfiguration.getDumperConfiguration().setPosition(position);
+    }
+    
+    @SneakyThrows
+    private void executeUpdate(final RdbmsConfiguration rdbmsConfig, final String sql) {
+        DataSource dataSource = dataSourceManager.getDataSource(rdbmsConfig.getDataSourceConfiguration());
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+    
     @SneakyThrows
     private void initTableData(final RdbmsConfiguration dumperConfig) {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfiguration());
@@ -93,13 +196,18 @@ public final class InventoryDataSyncTaskTest {
     private RdbmsConfiguration mockDumperConfig() {
         DataSourceConfiguration dataSourceConfiguration = new JDBCDataSourceConfiguration(dataSourceUrl, userName, password);
         RdbmsConfiguration result = new RdbmsConfiguration();
+        result.setJobName("test_job");
         result.setDataSourceConfiguration(dataSourceConfiguration);
         result.setTableName("t_order");
         return result;
     }
     
     private RdbmsConfiguration mockImporterConfig() {
-        DataSourceConfiguration dataSourceConfiguration = new JDBCDataSourceConfiguration(dataSourceUrl, userName, password);
+        return mockImporterConfig(dataSourceUrl);
+    }
+    
+    private RdbmsConfiguration mockImporterConfig(final String url) {
+        DataSourceConfiguration dataSourceConfiguration = new JDBCDataSourceConfiguration(url, userName, password);
         RdbmsConfiguration result = new RdbmsConfiguration();
         result.setDataSourceConfiguration(dataSourceConfiguration);
         return result;
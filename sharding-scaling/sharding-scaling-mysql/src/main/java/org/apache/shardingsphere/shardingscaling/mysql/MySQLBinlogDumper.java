@@ -44,7 +44,10 @@ import org.apache.shardingsphere.sql.parser.binder.metadata.table.TableMetaData;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * MySQL binlog dumper.
@@ -52,12 +55,16 @@ import java.util.Random;
 @Slf4j
 public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor implements LogDumper {
     
+    private static final long POLL_TIMEOUT_MILLISECONDS = 100L;
+    
     private final BinlogPosition binlogPosition;
     
     private final RdbmsConfiguration rdbmsConfiguration;
     
     private final MetaDataManager metaDataManager;
     
+    private final Map<String, Long> tableIds = new HashMap<>();
+    
     @Setter
     private Channel channel;
     
@@ -82,14 +89,10 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
         final JdbcUri uri = new JdbcUri(jdbcDataSourceConfiguration.getJdbcUrl());
         MySQLClient client = new MySQLClient(new Random().nextInt(), uri.getHostname(), uri.getPort(), jdbcDataSourceConfiguration.getUsername(), jdbcDataSourceConfiguration.getPassword());
         client.connect();
-        client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
+        client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition(), rowsEvent -> !filter(uri.getDatabase(), rowsEvent.getSchemaName(), rowsEvent.getTableName()));
         while (isRunning()) {
-            AbstractBinlogEvent event = client.poll();
+            AbstractBinlogEvent event = client.poll(POLL_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
             if (null == event) {
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException ignored) {
-                }
                 continue;
             }
             if (event instanceof WriteRowsEvent) {
@@ -102,6 +105,7 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
                 createPlaceholderRecord(channel, event);
             }
         }
+        client.close();
         pushRecord(channel, new FinishedRecord(new NopLogPosition()));
     }
     
@@ -110,7 +114,7 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
             createPlaceholderRecord(channel, event);
             return;
         }
-        TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
+        TableMetaData tableMetaData = getTableMetaData(event);
         for (Serializable[] each : event.getAfterRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType("INSERT");
@@ -126,7 +130,7 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
             createPlaceholderRecord(channel, event);
             return;
         }
-        TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
+        TableMetaData tableMetaData = getTableMetaData(event);
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
             Serializable[] beforeValues = event.getBeforeRows().get(i);
             Serializable[] afterValues = event.getAfterRows().get(i);
@@ -146,7 +150,7 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
             createPlaceholderRecord(channel, event);
             return;
         }
-        TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
+        TableMetaData tableMetaData = getTableMetaData(event);
         for (Serializable[] each : event.getBeforeRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType("DELETE");
@@ -157,6 +161,18 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
         }
     }
     
+    @Override
+    public void ackPosition(final LogPosition logPosition) {
+    }
+    
+    private TableMetaData getTableMetaData(final AbstractRowsEvent rowsEvent) {
+        Long previousTableId = tableIds.put(rowsEvent.getTableName(), rowsEvent.getTableId());
+        if (null != previousTableId && previousTableId != rowsEvent.getTableId()) {
+            metaDataManager.removeTableMetaData(rowsEvent.getTableName());
+        }
+        return metaDataManager.getTableMetaData(rowsEvent.getTableName());
+    }
+    
     private DataRecord createDataRecord(final AbstractRowsEvent rowsEvent, final int columnCount) {
         DataRecord result = new DataRecord(new BinlogPosition(rowsEvent.getFileName(), rowsEvent.getPosition(), rowsEvent.getServerId()), columnCount);
         result.setTableName(rdbmsConfiguration.getTableNameMap().get(rowsEvent.getTableName()));
@@ -171,6 +187,9 @@ public final class MySQLBinlogDumper extends AbstractShardingScalingExecutor imp
     }
     
     private void pushRecord(final Channel channel, final Record record) {
+        if (null != rdbmsConfiguration.getMetrics() && record instanceof DataRecord) {
+            rdbmsConfiguration.getMetrics().getDumpedRecords().mark(1);
+        }
         try {
             channel.pushRecord(record);
         } catch (InterruptedException ignored) {
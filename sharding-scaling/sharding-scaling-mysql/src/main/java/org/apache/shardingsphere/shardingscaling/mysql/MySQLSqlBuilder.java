@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.mysql;
+
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.importer.AbstractSqlBuilder;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Column;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
+
+/**
+ * MySQL SQL builder.
+ *
+ * <p>
+ * Insert SQL is upsert with {@code ON DUPLICATE KEY UPDATE}.
+ * </p>
+ */
+public final class MySQLSqlBuilder extends AbstractSqlBuilder {
+    
+    @Override
+    public String getLeftIdentifierQuoteString() {
+        return "`";
+    }
+    
+    @Override
+    public String getRightIdentifierQuoteString() {
+        return "`";
+    }
+    
+    @Override
+    protected String buildConflictSQL(final DataRecord dataRecord) {
+        StringBuilder updatedColumnString = new StringBuilder();
+        for (Column each : dataRecord.getColumns()) {
+            if (!each.isPrimaryKey()) {
+                updatedColumnString.append(quote(each.getName())).append(" = VALUES(").append(quote(each.getName())).append("),");
+            }
+        }
+        if (0 == updatedColumnString.length()) {
+            String firstColumnName = quote(dataRecord.getColumn(0).getName());
+            return String.format(" ON DUPLICATE KEY UPDATE %s = %s", firstColumnName, firstColumnName);
+        }
+        updatedColumnString.setLength(updatedColumnString.length() - 1);
+        return " ON DUPLICATE KEY UPDATE " + updatedColumnString.toString();
+    }
+}
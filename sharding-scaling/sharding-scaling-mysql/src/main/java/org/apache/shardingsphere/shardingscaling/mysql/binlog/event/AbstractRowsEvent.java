@@ -17,17 +17,54 @@
 
 package org.apache.shardingsphere.shardingscaling.mysql.binlog.event;
 
+import org.apache.shardingsphere.database.protocol.mysql.packet.binlog.row.MySQLBinlogRowsEventPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import io.netty.buffer.Unpooled;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 /**
  * Abstract rows event.
+ *
+ * <p>
+ * Rows are kept as raw bytes when event is received and decoded by {@link #decodeRows()} later,
+ * so that decoding could run out of I/O thread and be skipped for tables which do not need to be synchronized.
+ * </p>
  */
 @Getter
 @Setter
-public class AbstractRowsEvent extends AbstractBinlogEvent {
+public abstract class AbstractRowsEvent extends AbstractBinlogEvent {
+    
+    private long tableId;
     
     private String schemaName;
     
     private String tableName;
+    
+    @Getter(AccessLevel.NONE)
+    private MySQLBinlogTableMapEventPacket tableMapEventPacket;
+    
+    @Getter(AccessLevel.NONE)
+    private MySQLBinlogRowsEventPacket rowsEventPacket;
+    
+    @Getter(AccessLevel.NONE)
+    private byte[] rowsData;
+    
+    /**
+     * Decode rows from raw rows data.
+     */
+    public final void decodeRows() {
+        if (null == rowsData) {
+            return;
+        }
+        rowsEventPacket.readRows(tableMapEventPacket, new MySQLPacketPayload(Unpooled.wrappedBuffer(rowsData)));
+        setRows(rowsEventPacket);
+        tableMapEventPacket = null;
+        rowsEventPacket = null;
+        rowsData = null;
+    }
+    
+    protected abstract void setRows(MySQLBinlogRowsEventPacket rowsEventPacket);
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingscaling.mysql.binlog.event;
 
+import org.apache.shardingsphere.database.protocol.mysql.packet.binlog.row.MySQLBinlogRowsEventPacket;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -36,4 +37,10 @@ public final class UpdateRowsEvent extends AbstractRowsEvent {
     private List<Serializable[]> afterRows;
     
     private BitSet changedBitmap;
+    
+    @Override
+    protected void setRows(final MySQLBinlogRowsEventPacket rowsEventPacket) {
+        setBeforeRows(rowsEventPacket.getRows());
+        setAfterRows(rowsEventPacket.getRows2());
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingscaling.mysql.binlog.event;
 
+import org.apache.shardingsphere.database.protocol.mysql.packet.binlog.row.MySQLBinlogRowsEventPacket;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -31,4 +32,9 @@ import java.util.List;
 public final class WriteRowsEvent extends AbstractRowsEvent {
     
     private List<Serializable[]> afterRows;
+    
+    @Override
+    protected void setRows(final MySQLBinlogRowsEventPacket rowsEventPacket) {
+        setAfterRows(rowsEventPacket.getRows());
+    }
 }
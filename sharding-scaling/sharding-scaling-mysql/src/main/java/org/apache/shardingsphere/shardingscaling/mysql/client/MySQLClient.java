@@ -28,7 +28,9 @@ import org.apache.shardingsphere.shardingscaling.mysql.client.netty.MySQLNegotia
 import org.apache.shardingsphere.shardingscaling.mysql.client.netty.MySQLBinlogEventPacketDecoder;
 import org.apache.shardingsphere.shardingscaling.mysql.client.netty.MySQLCommandPacketDecoder;
 import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.shardingscaling.mysql.binlog.event.AbstractRowsEvent;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
@@ -46,7 +48,13 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.net.InetSocketAddress;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
  * MySQL Connector.
@@ -55,6 +63,8 @@ import java.util.concurrent.ExecutionException;
 @Slf4j
 public final class MySQLClient {
     
+    private static final int DECODE_THREAD_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    
     private final int serverId;
     
     private final String host;
@@ -71,7 +81,11 @@ public final class MySQLClient {
     
     private Promise<Object> responseCallback;
     
-    private ArrayBlockingQueue<AbstractBinlogEvent> blockingEventQueue = new ArrayBlockingQueue(10000);
+    private ArrayBlockingQueue<Future<AbstractBinlogEvent>> blockingEventQueue = new ArrayBlockingQueue<>(10000);
+    
+    private ExecutorService decodeExecutor;
+    
+    private Predicate<AbstractRowsEvent> rowsEventFilter;
     
     private ServerInfo serverInfo;
     
@@ -143,6 +157,19 @@ public final class MySQLClient {
      * @param binlogPosition binlog position
      */
     public synchronized void subscribe(final String binlogFileName, final long binlogPosition) {
+        subscribe(binlogFileName, binlogPosition, rowsEvent -> true);
+    }
+    
+    /**
+     * Start dump binlog, rows of rows event are decoded in parallel only if accepted by rows event filter.
+     *
+     * @param binlogFileName binlog file name
+     * @param binlogPosition binlog position
+     * @param rowsEventFilter filter to decide which rows event need to decode rows
+     */
+    public synchronized void subscribe(final String binlogFileName, final long binlogPosition, final Predicate<AbstractRowsEvent> rowsEventFilter) {
+        this.rowsEventFilter = rowsEventFilter;
+        decodeExecutor = Executors.newFixedThreadPool(DECODE_THREAD_COUNT, new ThreadFactoryBuilder().setDaemon(true).setNameFormat("MySQL-binlog-decoder-%d").build());
         initDumpConnectSession();
         registerSlave();
         dumpBinlog(binlogFileName, binlogPosition, queryChecksumLength());
@@ -188,12 +215,39 @@ public final class MySQLClient {
     }
 
     /**
-     * Poll binlog event.
+     * Poll binlog event, wait up to timeout if no event available.
+     *
+     * <p>
+     * Events are returned in the order they are received, even if rows of later events are decoded earlier.
+     * </p>
      *
-     * @return binlog event
+     * @param timeout timeout
+     * @param unit time unit of timeout
+     * @return binlog event, null if timeout
      */
-    public synchronized AbstractBinlogEvent poll() {
-        return blockingEventQueue.poll();
+    public AbstractBinlogEvent poll(final long timeout, final TimeUnit unit) {
+        try {
+            Future<AbstractBinlogEvent> result = blockingEventQueue.poll(timeout, unit);
+            return null == result ? null : result.get();
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (final ExecutionException ex) {
+            throw new RuntimeException("Decode binlog rows failed", ex.getCause());
+        }
+    }
+    
+    /**
+     * Close connection and stop decoding binlog.
+     */
+    public synchronized void close() {
+        if (null != channel) {
+            channel.close();
+        }
+        eventLoopGroup.shutdownGracefully();
+        if (null != decodeExecutor) {
+            decodeExecutor.shutdownNow();
+        }
     }
     
     private <T> T waitExpectedResponse(final Class<T> type) {
@@ -236,11 +290,18 @@ public final class MySQLClient {
         
         @Override
         public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
-            if (msg instanceof AbstractBinlogEvent) {
-                blockingEventQueue.put((AbstractBinlogEvent) msg);
+            if (msg instanceof AbstractRowsEvent && rowsEventFilter.test((AbstractRowsEvent) msg)) {
+                blockingEventQueue.put(decodeExecutor.submit(() -> decodeRows((AbstractRowsEvent) msg)));
+            } else if (msg instanceof AbstractBinlogEvent) {
+                blockingEventQueue.put(CompletableFuture.completedFuture((AbstractBinlogEvent) msg));
             }
         }
         
+        private AbstractBinlogEvent decodeRows(final AbstractRowsEvent rowsEvent) {
+            rowsEvent.decodeRows();
+            return rowsEvent;
+        }
+        
         @Override
         public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) throws Exception {
             log.error("protocol resolution error", cause);
@@ -39,6 +39,7 @@ import java.util.List;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -111,6 +112,9 @@ public final class MySQLBinlogEventPacketDecoderTest {
         binlogEventPacketDecoder.decode(null, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
         assertThat(decodedEvents.get(0), instanceOf(WriteRowsEvent.class));
+        WriteRowsEvent actual = (WriteRowsEvent) decodedEvents.get(0);
+        actual.decodeRows();
+        assertTrue(actual.getAfterRows().isEmpty());
     }
     
     @Test
@@ -123,6 +127,10 @@ public final class MySQLBinlogEventPacketDecoderTest {
         binlogEventPacketDecoder.decode(null, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
         assertThat(decodedEvents.get(0), instanceOf(UpdateRowsEvent.class));
+        UpdateRowsEvent actual = (UpdateRowsEvent) decodedEvents.get(0);
+        actual.decodeRows();
+        assertTrue(actual.getBeforeRows().isEmpty());
+        assertTrue(actual.getAfterRows().isEmpty());
     }
     
     @Test
@@ -135,5 +143,8 @@ public final class MySQLBinlogEventPacketDecoderTest {
         binlogEventPacketDecoder.decode(null, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
         assertThat(decodedEvents.get(0), instanceOf(DeleteRowsEvent.class));
+        DeleteRowsEvent actual = (DeleteRowsEvent) decodedEvents.get(0);
+        actual.decodeRows();
+        assertTrue(actual.getBeforeRows().isEmpty());
     }
 }
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.shardingscaling.postgresql;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingscaling.core.config.ScalingContext;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPositionManager;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.decode.PgOutputDecodingPlugin;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.util.PSQLException;
 
@@ -30,6 +32,12 @@ import java.sql.SQLException;
 
 /**
  * PostgreSQL log position manager.
+ * 
+ * <p>
+ * Slot is created with test_decoding plugin by default.
+ * Slot of pgoutput plugin is opt-in by postgreSQLDecodingPlugin of server configuration on PostgreSQL 10 and later,
+ * it needs publication for all tables, which requires superuser, and tables without replica identity reject UPDATE and DELETE after it is created.
+ * </p>
  */
 @RequiredArgsConstructor
 public final class PostgreSQLLogPositionManager implements LogPositionManager<WalPosition> {
@@ -38,12 +46,20 @@ public final class PostgreSQLLogPositionManager implements LogPositionManager<Wa
     
     public static final String DECODE_PLUGIN = "test_decoding";
     
+    public static final String PUBLICATION_NAME = "sharding_scaling";
+    
     public static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     private final DataSource dataSource;
     
+    private final String decodePlugin;
+    
     private WalPosition currentPosition;
     
+    public PostgreSQLLogPositionManager(final DataSource dataSource) {
+        this(dataSource, null == ScalingContext.getInstance().getServerConfiguration() ? DECODE_PLUGIN : ScalingContext.getInstance().getServerConfiguration().getPostgreSQLDecodingPlugin());
+    }
+    
     @Override
     public WalPosition getCurrentPosition() {
         if (null == currentPosition) {
@@ -63,8 +79,17 @@ public final class PostgreSQLLogPositionManager implements LogPositionManager<Wa
     }
     
     private void createIfNotExists(final Connection connection) throws SQLException {
+        String slotDecodePlugin = DECODE_PLUGIN;
+        if (PgOutputDecodingPlugin.NAME.equalsIgnoreCase(decodePlugin) && 10 <= connection.getMetaData().getDatabaseMajorVersion()) {
+            slotDecodePlugin = PgOutputDecodingPlugin.NAME;
+            executeIgnoreDuplicate(connection, String.format("CREATE PUBLICATION %s FOR ALL TABLES", PUBLICATION_NAME));
+        }
+        executeIgnoreDuplicate(connection, String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, slotDecodePlugin));
+    }
+    
+    private void executeIgnoreDuplicate(final Connection connection, final String sql) throws SQLException {
         try {
-            PreparedStatement ps = connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, DECODE_PLUGIN));
+            PreparedStatement ps = connection.prepareStatement(sql);
             ps.execute();
         } catch (PSQLException ex) {
             if (!DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
@@ -22,8 +22,14 @@ import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Da
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.RecordUtil;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.importer.AbstractSqlBuilder;
 
+import java.util.List;
+
 /**
  * PostgreSQL SQL builder.
+ *
+ * <p>
+ * Insert SQL is upsert by primary key with {@code ON CONFLICT ... DO UPDATE}.
+ * </p>
  */
 public final class PostgreSQLSqlBuilder extends AbstractSqlBuilder {
     
@@ -38,17 +44,27 @@ public final class PostgreSQLSqlBuilder extends AbstractSqlBuilder {
     }
     
     @Override
-    public String buildInsertSQL(final DataRecord dataRecord) {
-        return super.buildInsertSQL(dataRecord) + buildConflictSQL(dataRecord);
-    }
-    
-    private String buildConflictSQL(final DataRecord dataRecord) {
+    protected String buildConflictSQL(final DataRecord dataRecord) {
+        List<Column> primaryColumns = RecordUtil.extractPrimaryColumns(dataRecord);
+        if (primaryColumns.isEmpty()) {
+            return "";
+        }
         StringBuilder result = new StringBuilder(" ON CONFLICT (");
-        for (Column each : RecordUtil.extractPrimaryColumns(dataRecord)) {
-            result.append(each.getName()).append(",");
+        for (Column each : primaryColumns) {
+            result.append(quote(each.getName())).append(",");
         }
         result.setLength(result.length() - 1);
-        result.append(") DO NOTHING");
-        return result.toString();
+        result.append(")");
+        StringBuilder updatedColumnString = new StringBuilder();
+        for (Column each : dataRecord.getColumns()) {
+            if (!each.isPrimaryKey()) {
+                updatedColumnString.append(quote(each.getName())).append(" = EXCLUDED.").append(quote(each.getName())).append(",");
+            }
+        }
+        if (0 == updatedColumnString.length()) {
+            return result.append(" DO NOTHING").toString();
+        }
+        updatedColumnString.setLength(updatedColumnString.length() - 1);
+        return result.append(" DO UPDATE SET ").append(updatedColumnString).toString();
     }
 }
@@ -26,18 +26,24 @@ import org.apache.shardingsphere.shardingscaling.core.execute.executor.AbstractS
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.channel.Channel;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.LogPosition;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.dumper.LogDumper;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
 import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Record;
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.LogicalReplication;
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.WalEventConverter;
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.decode.TestDecodingPlugin;
 import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.AbstractWalEvent;
 import org.postgresql.PGConnection;
 import org.postgresql.jdbc.PgConnection;
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
 
 import java.nio.ByteBuffer;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 
 /**
@@ -58,6 +64,8 @@ public final class PostgreSQLWalDumper extends AbstractShardingScalingExecutor i
     @Setter
     private Channel channel;
     
+    private volatile LogSequenceNumber ackedLogSequenceNumber;
+    
     public PostgreSQLWalDumper(final RdbmsConfiguration rdbmsConfiguration, final LogPosition logPosition) {
         walPosition = (WalPosition) logPosition;
         if (!JDBCDataSourceConfiguration.class.equals(rdbmsConfiguration.getDataSourceConfiguration().getClass())) {
@@ -77,18 +85,17 @@ public final class PostgreSQLWalDumper extends AbstractShardingScalingExecutor i
     public void dump(final Channel channel) {
         try {
             PGConnection pgConnection = logicalReplication.createPgConnection((JDBCDataSourceConfiguration) rdbmsConfiguration.getDataSourceConfiguration());
-            decodingPlugin = new TestDecodingPlugin(((Connection) pgConnection).unwrap(PgConnection.class).getTimestampUtils());
-            PGReplicationStream stream = logicalReplication.createReplicationStream(pgConnection,
-                    PostgreSQLLogPositionManager.SLOT_NAME, walPosition.getLogSequenceNumber());
+            PGReplicationStream stream = createReplicationStream(pgConnection);
             while (isRunning()) {
+                updateStatus(stream);
                 ByteBuffer msg = stream.readPending();
-                if (msg == null) {
+                if (null == msg) {
                     try {
                         Thread.sleep(10L);
-                        continue;
                     } catch (InterruptedException ignored) {
                     
                     }
+                    continue;
                 }
                 AbstractWalEvent event = decodingPlugin.decode(msg, stream.getLastReceiveLSN());
                 pushRecord(channel, walEventConverter.convert(event));
@@ -98,7 +105,49 @@ public final class PostgreSQLWalDumper extends AbstractShardingScalingExecutor i
         }
     }
     
+    private PGReplicationStream createReplicationStream(final PGConnection pgConnection) throws SQLException {
+        Connection connection = (Connection) pgConnection;
+        TimestampUtils timestampUtils = connection.unwrap(PgConnection.class).getTimestampUtils();
+        if (isPgOutputSlot(connection)) {
+            decodingPlugin = new PgOutputDecodingPlugin(timestampUtils);
+            return logicalReplication.createPgOutputReplicationStream(pgConnection,
+                    PostgreSQLLogPositionManager.SLOT_NAME, PostgreSQLLogPositionManager.PUBLICATION_NAME, walPosition.getLogSequenceNumber());
+        }
+        decodingPlugin = new TestDecodingPlugin(timestampUtils);
+        return logicalReplication.createReplicationStream(pgConnection, PostgreSQLLogPositionManager.SLOT_NAME, walPosition.getLogSequenceNumber());
+    }
+    
+    private boolean isPgOutputSlot(final Connection connection) throws SQLException {
+        if (10 > connection.getMetaData().getDatabaseMajorVersion()) {
+            return false;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name = ?")) {
+            preparedStatement.setString(1, PostgreSQLLogPositionManager.SLOT_NAME);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() && PgOutputDecodingPlugin.NAME.equals(resultSet.getString(1));
+            }
+        }
+    }
+    
+    private void updateStatus(final PGReplicationStream stream) {
+        LogSequenceNumber logSequenceNumber = ackedLogSequenceNumber;
+        if (null != logSequenceNumber) {
+            stream.setAppliedLSN(logSequenceNumber);
+            stream.setFlushedLSN(logSequenceNumber);
+        }
+    }
+    
+    @Override
+    public void ackPosition(final LogPosition logPosition) {
+        if (logPosition instanceof WalPosition) {
+            ackedLogSequenceNumber = ((WalPosition) logPosition).getLogSequenceNumber();
+        }
+    }
+    
     private void pushRecord(final Channel channel, final Record record) {
+        if (null != rdbmsConfiguration.getMetrics() && record instanceof DataRecord) {
+            rdbmsConfiguration.getMetrics().getDumpedRecords().mark(1);
+        }
         try {
             channel.pushRecord(record);
         } catch (InterruptedException ignored) {
@@ -26,12 +26,15 @@ import org.postgresql.replication.PGReplicationStream;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 /**
  * PostgreSQL logical replication.
  */
 public final class LogicalReplication {
     
+    private static final int STATUS_INTERVAL_SECONDS = 10;
+    
     /**
      *  Create PostgreSQL connection.
      *
@@ -60,6 +63,30 @@ public final class LogicalReplication {
                 .withSlotName(slotName)
                 .withSlotOption("include-xids", true)
                 .withSlotOption("skip-empty-xacts", true)
+                .withStatusInterval(STATUS_INTERVAL_SECONDS, TimeUnit.SECONDS)
+                .start();
+    }
+    
+    /**
+     * Create PostgreSQL replication stream of pgoutput plugin.
+     *
+     * @param pgConnection PostgreSQL connection
+     * @param slotName slot name
+     * @param publicationName publication name
+     * @param startPosition start position
+     * @return replication stream
+     * @throws SQLException sql exception
+     */
+    public PGReplicationStream createPgOutputReplicationStream(final PGConnection pgConnection, final String slotName,
+                                                               final String publicationName, final LogSequenceNumber startPosition) throws SQLException {
+        return pgConnection.getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withStartPosition(startPosition)
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", "1")
+                .withSlotOption("publication_names", publicationName)
+                .withStatusInterval(STATUS_INTERVAL_SECONDS, TimeUnit.SECONDS)
                 .start();
     }
     
@@ -88,7 +88,9 @@ public final class WalEventConverter {
     }
     
     private PlaceholderRecord createPlaceholderRecord(final AbstractWalEvent event) {
-        return new PlaceholderRecord(new WalPosition(event.getLogSequenceNumber()));
+        PlaceholderRecord result = new PlaceholderRecord(new WalPosition(event.getLogSequenceNumber()));
+        result.setCommitTime(event.getCommitTime());
+        return result;
     }
     
     private DataRecord handleWriteRowsEvent(final WriteRowEvent writeRowEvent) {
@@ -101,7 +103,11 @@ public final class WalEventConverter {
     private DataRecord handleUpdateRowsEvent(final UpdateRowEvent updateRowEvent) {
         DataRecord record = createDataRecord(updateRowEvent, updateRowEvent.getAfterRow().size());
         record.setType("UPDATE");
-        putColumnsIntoDataRecord(record, metaDataManager.getTableMetaData(updateRowEvent.getTableName()), updateRowEvent.getAfterRow());
+        TableMetaData tableMetaData = metaDataManager.getTableMetaData(updateRowEvent.getTableName());
+        for (int i = 0; i < updateRowEvent.getAfterRow().size(); i++) {
+            boolean updated = !updateRowEvent.getUnchangedBitmap().get(i);
+            record.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), updateRowEvent.getAfterRow().get(i), updated, tableMetaData.isPrimaryKey(i)));
+        }
         return record;
     }
     
@@ -119,6 +125,7 @@ public final class WalEventConverter {
     private DataRecord createDataRecord(final AbstractRowEvent rowsEvent, final int columnCount) {
         DataRecord result = new DataRecord(new WalPosition(rowsEvent.getLogSequenceNumber()), columnCount);
         result.setTableName(rdbmsConfiguration.getTableNameMap().get(rowsEvent.getTableName()));
+        result.setCommitTime(rowsEvent.getCommitTime());
         return result;
     }
     
@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.postgresql.wal.decode;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingscaling.core.exception.SyncTaskExecuteException;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.WriteRowEvent;
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin for binary pgoutput logical replication protocol.
+ *
+ * <p>
+ * Relation messages are cached by relation id, row messages reference them to get table and column definitions.
+ * Column values are decoded by type oid of relation column, without parsing column type name from text.
+ * Special numeric values NaN and infinity, which BigDecimal can not represent, are decoded to double.
+ * Dates and timestamps of infinity are decoded to infinity values of PostgreSQL JDBC driver.
+ * Commit time of begin message is carried onto events of the transaction.
+ * </p>
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/protocol-logicalrep-message-formats.html">Logical Replication Message Formats</a>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    public static final String NAME = "pgoutput";
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int OID_OID = 26;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int TIMESTAMPTZ_OID = 1184;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private static final long POSTGRES_EPOCH_MILLISECONDS = 946684800000L;
+    
+    private final TimestampUtils timestampUtils;
+    
+    private final Map<Integer, PgOutputRelation> relations = new HashMap<>();
+    
+    private long commitTime;
+    
+    @Override
+    public AbstractWalEvent decode(final ByteBuffer data, final LogSequenceNumber logSequenceNumber) {
+        AbstractWalEvent result;
+        char messageType = (char) data.get();
+        switch (messageType) {
+            case 'B':
+                readBegin(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'R':
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = readWriteRowEvent(data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(data);
+                break;
+            case 'D':
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        result.setCommitTime(commitTime);
+        return result;
+    }
+    
+    private void readBegin(final ByteBuffer data) {
+        data.getLong();
+        commitTime = POSTGRES_EPOCH_MILLISECONDS + data.getLong() / 1000L;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        short columnCount = data.getShort();
+        List<PgOutputColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            boolean key = 1 == (data.get() & 1);
+            String name = readString(data);
+            int typeOid = data.getInt();
+            data.getInt();
+            columns.add(new PgOutputColumn(name, typeOid, key));
+        }
+        relations.put(relationId, new PgOutputRelation(schemaName, tableName, columns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        WriteRowEvent result = new WriteRowEvent();
+        data.get();
+        result.setAfterRow(readTupleData(data, relation, null));
+        initRowEvent(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        UpdateRowEvent result = new UpdateRowEvent();
+        char tupleType = (char) data.get();
+        if ('K' == tupleType || 'O' == tupleType) {
+            skipTupleData(data);
+            data.get();
+        }
+        BitSet unchangedBitmap = new BitSet();
+        result.setAfterRow(readTupleData(data, relation, unchangedBitmap));
+        result.setUnchangedBitmap(unchangedBitmap);
+        initRowEvent(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        DeleteRowEvent result = new DeleteRowEvent();
+        data.get();
+        List<Object> values = readTupleData(data, relation, null);
+        List<Object> primaryKeys = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            if (relation.getColumns().get(i).isKey()) {
+                primaryKeys.add(values.get(i));
+            }
+        }
+        result.setPrimaryKeys(primaryKeys);
+        initRowEvent(result, relation);
+        return result;
+    }
+    
+    private PgOutputRelation getRelation(final int relationId) {
+        PgOutputRelation result = relations.get(relationId);
+        if (null == result) {
+            throw new SyncTaskExecuteException(String.format("Can not find relation %d, relation message must be received before row message", relationId));
+        }
+        return result;
+    }
+    
+    private void initRowEvent(final AbstractRowEvent rowEvent, final PgOutputRelation relation) {
+        rowEvent.setSchemaName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final PgOutputRelation relation, final BitSet unchangedBitmap) {
+        short columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char valueType = (char) data.get();
+            switch (valueType) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 'u':
+                    result.add(null);
+                    if (null != unchangedBitmap) {
+                        unchangedBitmap.set(i);
+                    }
+                    break;
+                case 't':
+                    result.add(readColumnData(data, data.getInt(), relation.getColumns().get(i).getTypeOid()));
+                    break;
+                default:
+                    throw new SyncTaskExecuteException(String.format("Unsupported tuple data type %s", valueType));
+            }
+        }
+        return result;
+    }
+    
+    private void skipTupleData(final ByteBuffer data) {
+        short columnCount = data.getShort();
+        for (int i = 0; i < columnCount; i++) {
+            if ('t' == (char) data.get()) {
+                int length = data.getInt();
+                data.position(data.position() + length);
+            }
+        }
+    }
+    
+    private Object readColumnData(final ByteBuffer data, final int length, final int typeOid) {
+        switch (typeOid) {
+            case BOOL_OID:
+                return 't' == (char) data.get();
+            case INT2_OID:
+                return (short) readLong(data, length);
+            case INT4_OID:
+                return (int) readLong(data, length);
+            case INT8_OID:
+            case OID_OID:
+                return readLong(data, length);
+            case FLOAT4_OID:
+                return Float.parseFloat(readText(data, length));
+            case FLOAT8_OID:
+                return Double.parseDouble(readText(data, length));
+            case NUMERIC_OID:
+                return readNumeric(readText(data, length));
+            case BYTEA_OID:
+                return decodeHex(data, length);
+            case DATE_OID:
+                try {
+                    return timestampUtils.toDate(null, readText(data, length));
+                } catch (SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, readText(data, length));
+                } catch (SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIMESTAMP_OID:
+            case TIMESTAMPTZ_OID:
+                try {
+                    return timestampUtils.toTimestamp(null, readText(data, length));
+                } catch (SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            default:
+                return readText(data, length);
+        }
+    }
+    
+    private Object readNumeric(final String text) {
+        switch (text) {
+            case "NaN":
+                return Double.NaN;
+            case "Infinity":
+                return Double.POSITIVE_INFINITY;
+            case "-Infinity":
+                return Double.NEGATIVE_INFINITY;
+            default:
+                return new BigDecimal(text);
+        }
+    }
+    
+    private long readLong(final ByteBuffer data, final int length) {
+        long result = 0;
+        boolean negative = false;
+        for (int i = 0; i < length; i++) {
+            byte each = data.get();
+            if ('-' == each) {
+                negative = true;
+            } else {
+                result = result * 10 + (each - '0');
+            }
+        }
+        return negative ? -result : result;
+    }
+    
+    private String readText(final ByteBuffer data, final int length) {
+        String result = new String(data.array(), data.arrayOffset() + data.position(), length, StandardCharsets.UTF_8);
+        data.position(data.position() + length);
+        return result;
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int start = data.position();
+        int end = start;
+        while (0 != data.get(end)) {
+            end++;
+        }
+        String result = new String(data.array(), data.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+        data.position(end + 1);
+        return result;
+    }
+    
+    private byte[] decodeHex(final ByteBuffer data, final int length) {
+        data.position(data.position() + 2);
+        byte[] result = new byte[(length - 2) >>> 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) ((decodeHexChar(data.get()) << 4) + decodeHexChar(data.get()));
+        }
+        return result;
+    }
+    
+    private int decodeHexChar(final byte hexChar) {
+        int result = Character.digit((char) hexChar, 16);
+        if (-1 == result) {
+            throw new IllegalArgumentException(String.format("Illegal hex char '%s'", (char) hexChar));
+        }
+        return result;
+    }
+}
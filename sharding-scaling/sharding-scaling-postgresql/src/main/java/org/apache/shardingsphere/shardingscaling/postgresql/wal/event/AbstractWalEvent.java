@@ -29,4 +29,6 @@ import org.postgresql.replication.LogSequenceNumber;
 public class AbstractWalEvent {
     
     private LogSequenceNumber logSequenceNumber;
+    
+    private long commitTime;
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingscaling.postgresql.wal.event;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -30,4 +31,6 @@ import java.util.List;
 public final class UpdateRowEvent extends AbstractRowEvent {
     
     private List<Object> afterRow;
+    
+    private BitSet unchangedBitmap = new BitSet();
 }
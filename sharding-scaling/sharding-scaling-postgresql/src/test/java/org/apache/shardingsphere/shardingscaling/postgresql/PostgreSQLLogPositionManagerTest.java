@@ -34,6 +34,7 @@ import java.sql.ResultSet;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -83,6 +84,21 @@ public final class PostgreSQLLogPositionManagerTest {
         assertThat(actual.getLogSequenceNumber(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
     }
     
+    @Test
+    @SneakyThrows
+    public void assertGetCurrentPositionOnPostgreSQL10WithPgOutput() {
+        PreparedStatement createPublicationPs = mock(PreparedStatement.class);
+        when(connection.prepareStatement("CREATE PUBLICATION sharding_scaling FOR ALL TABLES")).thenReturn(createPublicationPs);
+        PreparedStatement createSlotPs = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT * FROM pg_create_logical_replication_slot('sharding_scaling', 'pgoutput')")).thenReturn(createSlotPs);
+        PostgreSQLLogPositionManager postgreSQLLogManager = new PostgreSQLLogPositionManager(dataSource, "pgoutput");
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        WalPosition actual = postgreSQLLogManager.getCurrentPosition();
+        assertThat(actual.getLogSequenceNumber(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(createPublicationPs).execute();
+        verify(createSlotPs).execute();
+    }
+    
     @Test(expected = RuntimeException.class)
     @SneakyThrows
     public void assertGetCurrentPositionThrowException() {
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.postgresql;
+
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.position.NopLogPosition;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.Column;
+import org.apache.shardingsphere.shardingscaling.core.execute.executor.record.DataRecord;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLSqlBuilderTest {
+    
+    private final PostgreSQLSqlBuilder sqlBuilder = new PostgreSQLSqlBuilder();
+    
+    @Test
+    public void assertBuildInsertSQL() {
+        DataRecord dataRecord = new DataRecord(new NopLogPosition(), 3);
+        dataRecord.setTableName("t_order");
+        dataRecord.addColumn(new Column("id", 1, false, true));
+        dataRecord.addColumn(new Column("user_id", 10, true, false));
+        dataRecord.addColumn(new Column("status", "ok", true, false));
+        assertThat(sqlBuilder.buildInsertSQL(dataRecord, 2), is("INSERT INTO \"t_order\"(\"id\",\"user_id\",\"status\") VALUES(?,?,?),(?,?,?)"
+                + " ON CONFLICT (\"id\") DO UPDATE SET \"user_id\" = EXCLUDED.\"user_id\",\"status\" = EXCLUDED.\"status\""));
+
+    }
+    
+    @Test
+    public void assertBuildInsertSQLWithPrimaryKeyColumnsOnly() {
+        DataRecord dataRecord = new DataRecord(new NopLogPosition(), 1);
+        dataRecord.setTableName("t_order_item");
+        dataRecord.addColumn(new Column("id", 1, false, true));
+        assertThat(sqlBuilder.buildInsertSQL(dataRecord), is("INSERT INTO \"t_order_item\"(\"id\") VALUES(?) ON CONFLICT (\"id\") DO NOTHING"));
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingscaling.postgresql.wal.decode;
+
+import org.apache.shardingsphere.shardingscaling.core.exception.SyncTaskExecuteException;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.shardingscaling.postgresql.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private static final int RELATION_ID = 16385;
+    
+    private final LogSequenceNumber lsn = LogSequenceNumber.valueOf("0/14EFDB8");
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @Before
+    public void setUp() throws IOException {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        AbstractWalEvent actual = decodingPlugin.decode(createRelationMessage(), lsn);
+        assertThat(actual, instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() throws IOException {
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(createRowMessage('I', 'N', "-10", "1.50", "t_order", "\\xff00ab"), lsn);
+        assertThat(actual.getLogSequenceNumber(), is(lsn));
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(-10L));
+        assertThat(actual.getAfterRow().get(1), is(new BigDecimal("1.50")));
+        assertThat(actual.getAfterRow().get(2), is("t_order"));
+        assertThat(actual.getAfterRow().get(3), is(new byte[] {(byte) 0xff, (byte) 0, (byte) 0xab}));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEventWithSpecialNumeric() throws IOException {
+        assertThat(((WriteRowEvent) decodingPlugin.decode(createRowMessage('I', 'N', "1", "NaN", "t_order", "\\x"), lsn)).getAfterRow().get(1), is(Double.NaN));
+        assertThat(((WriteRowEvent) decodingPlugin.decode(createRowMessage('I', 'N', "1", "Infinity", "t_order", "\\x"), lsn)).getAfterRow().get(1), is(Double.POSITIVE_INFINITY));
+        assertThat(((WriteRowEvent) decodingPlugin.decode(createRowMessage('I', 'N', "1", "-Infinity", "t_order", "\\x"), lsn)).getAfterRow().get(1), is(Double.NEGATIVE_INFINITY));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastedValue() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('U');
+        out.writeInt(RELATION_ID);
+        out.writeByte('N');
+        out.writeShort(4);
+        writeTextValue(out, "1");
+        out.writeByte('n');
+        writeTextValue(out, "updated");
+        out.writeByte('u');
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(ByteBuffer.wrap(bytes.toByteArray()), lsn);
+        assertThat(actual.getAfterRow().get(0), is(1L));
+        assertThat(actual.getAfterRow().get(1), nullValue());
+        assertThat(actual.getAfterRow().get(2), is("updated"));
+        assertFalse(actual.getUnchangedBitmap().get(1));
+        assertTrue(actual.getUnchangedBitmap().get(3));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithOldTuple() throws IOException {
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(createRowMessage('U', 'O', "1", "2", "old", "\\x", 'N', "1", "3", "new", "\\x"), lsn);
+        assertThat(actual.getAfterRow().get(1), is(new BigDecimal("3")));
+        assertThat(actual.getAfterRow().get(2), is("new"));
+        assertThat(actual.getAfterRow().get(3), is(new byte[0]));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('D');
+        out.writeInt(RELATION_ID);
+        out.writeByte('K');
+        out.writeShort(4);
+        writeTextValue(out, "100");
+        out.writeByte('n');
+        out.writeByte('n');
+        out.writeByte('n');
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(ByteBuffer.wrap(bytes.toByteArray()), lsn);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys(), is(Arrays.<Object>asList(100L)));
+    }
+    
+    @Test
+    public void assertDecodeTransactionMessages() {
+        ByteBuffer begin = ByteBuffer.allocate(21).put((byte) 'B').putLong(1L).putLong(2L).putInt(3);
+        begin.flip();
+        assertThat(decodingPlugin.decode(begin, lsn), instanceOf(PlaceholderEvent.class));
+        ByteBuffer commit = ByteBuffer.allocate(26).put((byte) 'C').put((byte) 0).putLong(1L).putLong(2L).putLong(3L);
+        commit.flip();
+        assertThat(decodingPlugin.decode(commit, lsn), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    public void assertDecodeRowEventWithCommitTimeOfBegin() throws IOException {
+        ByteBuffer begin = ByteBuffer.allocate(21).put((byte) 'B').putLong(1L).putLong(1000000L).putInt(3);
+        begin.flip();
+        assertThat(decodingPlugin.decode(begin, lsn).getCommitTime(), is(946684801000L));
+        assertThat(decodingPlugin.decode(createRowMessage('I', 'N', "1", "1", "t_order", "\\x"), lsn).getCommitTime(), is(946684801000L));
+    }
+    
+    @Test(expected = SyncTaskExecuteException.class)
+    public void assertDecodeRowEventWithoutRelation() throws IOException {
+        new PgOutputDecodingPlugin(null).decode(createRowMessage('I', 'N', "1", "1", "t_order", "\\x"), lsn);
+    }
+    
+    private ByteBuffer createRelationMessage() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte('R');
+        out.writeInt(RELATION_ID);
+        writeString(out, "public");
+        writeString(out, "t_order");
+        out.writeByte('d');
+        out.writeShort(4);
+        writeColumn(out, true, "id", 20);
+        writeColumn(out, false, "price", 1700);
+        writeColumn(out, false, "remark", 1043);
+        writeColumn(out, false, "data", 17);
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+    
+    private void writeColumn(final DataOutputStream out, final boolean key, final String name, final int typeOid) throws IOException {
+        out.writeByte(key ? 1 : 0);
+        writeString(out, name);
+        out.writeInt(typeOid);
+        out.writeInt(-1);
+    }
+    
+    private ByteBuffer createRowMessage(final char messageType, final Object... tuples) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(messageType);
+        out.writeInt(RELATION_ID);
+        for (int i = 0; i < tuples.length; i += 5) {
+            out.writeByte((Character) tuples[i]);
+            out.writeShort(4);
+            for (int j = 1; j <= 4; j++) {
+                writeTextValue(out, (String) tuples[i + j]);
+            }
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+    
+    private void writeTextValue(final DataOutputStream out, final String value) throws IOException {
+        byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        out.writeByte('t');
+        out.writeInt(data.length);
+        out.write(data);
+    }
+    
+    private void writeString(final DataOutputStream out, final String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.UTF_8));
+        out.writeByte(0);
+    }
+}
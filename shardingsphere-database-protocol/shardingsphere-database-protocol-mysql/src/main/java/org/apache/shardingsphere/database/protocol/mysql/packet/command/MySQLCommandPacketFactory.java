@@ -25,6 +25,7 @@ import org.apache.shardingsphere.database.protocol.mysql.packet.command.admin.pi
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.admin.quit.MySQLComQuitPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.fetch.MySQLComStmtFetchPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.prepare.MySQLComStmtPreparePacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
@@ -61,6 +62,8 @@ public final class MySQLCommandPacketFactory {
                 return new MySQLComStmtPreparePacket(payload);
             case COM_STMT_EXECUTE:
                 return new MySQLComStmtExecutePacket(payload);
+            case COM_STMT_FETCH:
+                return new MySQLComStmtFetchPacket(payload);
             case COM_STMT_RESET:
                 return new MySQLComStmtResetPacket(payload);
             case COM_STMT_CLOSE:
@@ -48,6 +48,9 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     
     private static final int NULL_BITMAP_OFFSET = 0;
     
+    private static final int CURSOR_TYPE_READ_ONLY = 0x01;
+    
+    @Getter
     private final int statementId;
     
     private final MySQLBinaryStatement binaryStatement;
@@ -108,6 +111,15 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
         return result;
     }
     
+    /**
+     * Judge whether read only cursor is required or not.
+     *
+     * @return read only cursor is required or not
+     */
+    public boolean isReadOnlyCursor() {
+        return 0 != (flags & CURSOR_TYPE_READ_ONLY);
+    }
+    
     @Override
     public void doWrite(final MySQLPacketPayload payload) {
         payload.writeInt4(statementId);
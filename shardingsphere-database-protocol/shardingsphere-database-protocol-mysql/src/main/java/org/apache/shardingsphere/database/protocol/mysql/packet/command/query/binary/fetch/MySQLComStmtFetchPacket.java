@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.fetch;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * COM_STMT_FETCH command packet for MySQL.
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/com-stmt-fetch.html">COM_STMT_FETCH</a>
+ */
+@Getter
+@ToString
+public final class MySQLComStmtFetchPacket extends MySQLCommandPacket {
+    
+    private final int statementId;
+    
+    private final int numRows;
+    
+    public MySQLComStmtFetchPacket(final MySQLPacketPayload payload) {
+        super(MySQLCommandPacketType.COM_STMT_FETCH);
+        statementId = payload.readInt4();
+        numRows = payload.readInt4();
+    }
+    
+    @Override
+    public void doWrite(final MySQLPacketPayload payload) {
+        payload.writeInt4(statementId);
+        payload.writeInt4(numRows);
+    }
+}
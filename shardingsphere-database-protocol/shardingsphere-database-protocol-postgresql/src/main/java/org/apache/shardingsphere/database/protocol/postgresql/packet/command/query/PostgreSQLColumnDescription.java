@@ -38,12 +38,17 @@ public final class PostgreSQLColumnDescription {
     
     private final int typeModifier = -1;
     
-    private final int dataFormat = 0;
+    private final int dataFormat;
     
     public PostgreSQLColumnDescription(final String columnName, final int columnIndex, final int columnType, final int columnLength) {
+        this(columnName, columnIndex, columnType, columnLength, 0);
+    }
+    
+    public PostgreSQLColumnDescription(final String columnName, final int columnIndex, final int columnType, final int columnLength, final int dataFormat) {
         this.columnName = columnName;
         this.columnIndex = columnIndex;
         this.typeOID = PostgreSQLColumnType.valueOfJDBCType(columnType).getValue();
         this.columnLength = columnLength;
+        this.dataFormat = dataFormat;
     }
 }
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.protocol.postgresql.constant.PostgreSQLColumnType;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
@@ -26,14 +25,21 @@ import org.apache.shardingsphere.database.protocol.postgresql.packet.command.que
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.database.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Binary result set row packet for PostgreSQL.
+ * 
+ * <p>
+ * Value of column is written in binary format if result format code of column is 1, otherwise in text format encoded with UTF-8.
+ * </p>
  */
-@RequiredArgsConstructor
 public final class PostgreSQLBinaryResultSetRowPacket implements PostgreSQLPacket {
     
+    private static final int BINARY_FORMAT_CODE = 1;
+    
     @Getter
     private final char messageType = PostgreSQLCommandPacketType.DATA_ROW.getValue();
     
@@ -42,6 +48,18 @@ public final class PostgreSQLBinaryResultSetRowPacket implements PostgreSQLPacke
     
     private final List<PostgreSQLColumnType> columnTypes;
     
+    private final List<Integer> resultFormatCodes;
+    
+    public PostgreSQLBinaryResultSetRowPacket(final List<Object> data, final List<PostgreSQLColumnType> columnTypes) {
+        this(data, columnTypes, Collections.nCopies(columnTypes.size(), BINARY_FORMAT_CODE));
+    }
+    
+    public PostgreSQLBinaryResultSetRowPacket(final List<Object> data, final List<PostgreSQLColumnType> columnTypes, final List<Integer> resultFormatCodes) {
+        this.data = data;
+        this.columnTypes = columnTypes;
+        this.resultFormatCodes = resultFormatCodes;
+    }
+    
     @Override
     public void write(final PostgreSQLPacketPayload payload) {
         payload.writeInt2(data.size());
@@ -50,10 +68,26 @@ public final class PostgreSQLBinaryResultSetRowPacket implements PostgreSQLPacke
     
     private void writeValues(final PostgreSQLPacketPayload payload) {
         for (int i = 0; i < columnTypes.size(); i++) {
-            PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes.get(i));
             Object value = data.get(i);
-            payload.writeInt4(binaryProtocolValue.getColumnLength(value));
-            binaryProtocolValue.write(payload, value);
+            if (null == value) {
+                payload.writeInt4(0xFFFFFFFF);
+            } else if (BINARY_FORMAT_CODE == resultFormatCodes.get(i)) {
+                writeBinaryValue(payload, columnTypes.get(i), value);
+            } else {
+                writeTextValue(payload, value);
+            }
         }
     }
+    
+    private void writeBinaryValue(final PostgreSQLPacketPayload payload, final PostgreSQLColumnType columnType, final Object value) {
+        PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnType);
+        payload.writeInt4(binaryProtocolValue.getColumnLength(value));
+        binaryProtocolValue.write(payload, value);
+    }
+    
+    private void writeTextValue(final PostgreSQLPacketPayload payload, final Object value) {
+        byte[] columnData = value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.UTF_8);
+        payload.writeInt4(columnData.length);
+        payload.writeBytes(columnData);
+    }
 }
@@ -40,17 +40,19 @@ import java.util.List;
 @ToString
 public final class PostgreSQLComBindPacket extends PostgreSQLCommandPacket {
     
+    private final String portal;
+    
     private final String statementId;
     
     private final String sql;
     
     private final List<Object> parameters;
     
-    private final boolean binaryRowData;
+    private final List<Integer> resultFormatCodes;
     
     public PostgreSQLComBindPacket(final PostgreSQLPacketPayload payload, final int connectionId) throws SQLException {
         payload.readInt4();
-        payload.readStringNul();
+        portal = payload.readStringNul();
         statementId = payload.readStringNul();
         int parameterFormatsLength = payload.readInt2();
         for (int i = 0; i < parameterFormatsLength; i++) {
@@ -59,11 +61,7 @@ public final class PostgreSQLComBindPacket extends PostgreSQLCommandPacket {
         PostgreSQLBinaryStatement binaryStatement = BinaryStatementRegistry.getInstance().get(connectionId).getBinaryStatement(statementId);
         sql = null == binaryStatement ? null : binaryStatement.getSql();
         parameters = null == sql ? Collections.emptyList() : getParameters(payload, binaryStatement.getParameterTypes());
-        int resultFormatsLength = payload.readInt2();
-        binaryRowData = resultFormatsLength > 0;
-        for (int i = 0; i < resultFormatsLength; i++) {
-            payload.readInt2();
-        }
+        resultFormatCodes = getResultFormatCodes(payload);
     }
     
     private List<Object> getParameters(final PostgreSQLPacketPayload payload, final List<PostgreSQLBinaryStatementParameterType> parameterTypes) throws SQLException {
@@ -77,6 +75,32 @@ public final class PostgreSQLComBindPacket extends PostgreSQLCommandPacket {
         return result;
     }
     
+    private List<Integer> getResultFormatCodes(final PostgreSQLPacketPayload payload) {
+        int resultFormatsLength = payload.readInt2();
+        List<Integer> result = new ArrayList<>(resultFormatsLength);
+        for (int i = 0; i < resultFormatsLength; i++) {
+            result.add(payload.readInt2());
+        }
+        return result;
+    }
+    
+    /**
+     * Get result format code of column.
+     * 
+     * <p>
+     * No format code means all columns use text format, and single format code applies to all columns.
+     * </p>
+     *
+     * @param columnIndex column index, starts from 0
+     * @return result format code, 0 for text and 1 for binary
+     */
+    public int getResultFormatCode(final int columnIndex) {
+        if (resultFormatCodes.isEmpty()) {
+            return 0;
+        }
+        return 1 == resultFormatCodes.size() ? resultFormatCodes.get(0) : resultFormatCodes.get(columnIndex);
+    }
+    
     @Override
     public void write(final PostgreSQLPacketPayload payload) {
     }
@@ -84,6 +84,16 @@ public final class PostgreSQLBinaryProtocolValueFactory {
         BINARY_PROTOCOL_VALUES.put(PostgreSQLColumnType.POSTGRESQL_TYPE_TIMESTAMP, binaryProtocolValue);
     }
     
+    /**
+     * Judge whether binary protocol value of column type is supported.
+     *
+     * @param columnType column type
+     * @return binary protocol value is supported or not
+     */
+    public static boolean isBinaryProtocolValueSupported(final PostgreSQLColumnType columnType) {
+        return BINARY_PROTOCOL_VALUES.containsKey(columnType);
+    }
+    
     /**
      * Get binary protocol value.
      *
@@ -19,25 +19,34 @@ package org.apache.shardingsphere.database.protocol.postgresql.packet.command.qu
 
 import org.apache.shardingsphere.database.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
-import java.sql.Timestamp;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Binary protocol value for date for PostgreSQL.
+ * 
+ * <p>
+ * Date is encoded as days since 2000-01-01.
+ * </p>
  */
 public final class PostgreSQLDateBinaryProtocolValue implements PostgreSQLBinaryProtocolValue {
     
+    private static final LocalDate POSTGRESQL_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+    
     @Override
     public int getColumnLength(final Object value) {
-        return 8;
+        return 4;
     }
     
     @Override
     public Object read(final PostgreSQLPacketPayload payload) {
-        return payload.readInt8();
+        return Date.valueOf(POSTGRESQL_EPOCH_DATE.plusDays(payload.readInt4()));
     }
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        payload.writeInt8(((Timestamp) value).getTime());
+        LocalDate localDate = value instanceof Date ? ((Date) value).toLocalDate() : new Date(((java.util.Date) value).getTime()).toLocalDate();
+        payload.writeInt4((int) ChronoUnit.DAYS.between(POSTGRESQL_EPOCH_DATE, localDate));
     }
 }
@@ -20,12 +20,20 @@ package org.apache.shardingsphere.database.protocol.postgresql.packet.command.qu
 import org.apache.shardingsphere.database.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Binary protocol value for time for PostgreSQL.
+ * 
+ * <p>
+ * Timestamp is encoded as microseconds since 2000-01-01 00:00:00.
+ * </p>
  */
 public final class PostgreSQLTimeBinaryProtocolValue implements PostgreSQLBinaryProtocolValue {
     
+    private static final LocalDateTime POSTGRESQL_EPOCH_DATE_TIME = LocalDateTime.of(2000, 1, 1, 0, 0);
+    
     @Override
     public int getColumnLength(final Object value) {
         return 8;
@@ -33,11 +41,12 @@ public final class PostgreSQLTimeBinaryProtocolValue implements PostgreSQLBinary
     
     @Override
     public Object read(final PostgreSQLPacketPayload payload) {
-        return payload.readInt8();
+        return Timestamp.valueOf(POSTGRESQL_EPOCH_DATE_TIME.plus(payload.readInt8(), ChronoUnit.MICROS));
     }
     
     @Override
     public void write(final PostgreSQLPacketPayload payload, final Object value) {
-        payload.writeInt8(((Timestamp) value).getTime());
+        LocalDateTime localDateTime = value instanceof Timestamp ? ((Timestamp) value).toLocalDateTime() : new Timestamp(((java.util.Date) value).getTime()).toLocalDateTime();
+        payload.writeInt8(ChronoUnit.MICROS.between(POSTGRESQL_EPOCH_DATE_TIME, localDateTime));
     }
 }
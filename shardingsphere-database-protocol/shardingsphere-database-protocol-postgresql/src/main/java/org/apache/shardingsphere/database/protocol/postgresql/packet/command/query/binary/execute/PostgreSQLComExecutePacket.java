@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.execute;
 
+import lombok.Getter;
+import lombok.ToString;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.database.protocol.postgresql.payload.PostgreSQLPacketPayload;
@@ -24,12 +26,18 @@ import org.apache.shardingsphere.database.protocol.postgresql.payload.PostgreSQL
 /**
  * Command execute packet for PostgreSQL.
  */
+@Getter
+@ToString
 public final class PostgreSQLComExecutePacket extends PostgreSQLCommandPacket {
     
+    private final String portal;
+    
+    private final int maxRows;
+    
     public PostgreSQLComExecutePacket(final PostgreSQLPacketPayload payload) {
         payload.readInt4();
-        payload.readStringNul();
-        payload.readInt4();
+        portal = payload.readStringNul();
+        maxRows = payload.readInt4();
     }
     
     @Override
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.binary.bind;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.database.protocol.postgresql.constant.PostgreSQLColumnType;
+import org.apache.shardingsphere.database.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+
+import java.sql.Date;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLBinaryResultSetRowPacketTest {
+    
+    @Test
+    public void assertWriteWithAllBinaryFormat() {
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(Unpooled.buffer());
+        new PostgreSQLBinaryResultSetRowPacket(Arrays.asList(1, 2L), Arrays.asList(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4, PostgreSQLColumnType.POSTGRESQL_TYPE_INT8)).write(payload);
+        assertThat(payload.readInt2(), is(2));
+        assertThat(payload.readInt4(), is(4));
+        assertThat(payload.readInt4(), is(1));
+        assertThat(payload.readInt4(), is(8));
+        assertThat(payload.readInt8(), is(2L));
+    }
+    
+    @Test
+    public void assertWriteWithMixedFormatAndNull() {
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(Unpooled.buffer());
+        new PostgreSQLBinaryResultSetRowPacket(Arrays.asList(10, "foo", null, Date.valueOf("2000-01-02")),
+                Arrays.asList(PostgreSQLColumnType.POSTGRESQL_TYPE_INT4, PostgreSQLColumnType.POSTGRESQL_TYPE_VARCHAR,
+                        PostgreSQLColumnType.POSTGRESQL_TYPE_INT4, PostgreSQLColumnType.POSTGRESQL_TYPE_DATE),
+                Arrays.asList(0, 1, 1, 1)).write(payload);
+        assertThat(payload.readInt2(), is(4));
+        assertThat(payload.readInt4(), is(2));
+        assertThat(payload.getByteBuf().readShort(), is((short) 0x3130));
+        assertThat(payload.readInt4(), is(3));
+        assertThat(payload.getByteBuf().readMedium(), is(0x666f6f));
+        assertThat(payload.readInt4(), is(-1));
+        assertThat(payload.readInt4(), is(4));
+        assertThat(payload.readInt4(), is(1));
+    }
+    
+    @Test
+    public void assertWriteTextValueWithUTF8() {
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(Unpooled.buffer());
+        new PostgreSQLBinaryResultSetRowPacket(Collections.singletonList("é"),
+                Collections.singletonList(PostgreSQLColumnType.POSTGRESQL_TYPE_VARCHAR), Collections.singletonList(0)).write(payload);
+        assertThat(payload.readInt2(), is(1));
+        assertThat(payload.readInt4(), is(2));
+        assertThat(payload.getByteBuf().readShort(), is((short) 0xc3a9));
+    }
+}
@@ -23,12 +23,15 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Ordered SPI registry.
  */
 public final class OrderedSPIRegistry {
     
+    private static final Map<Class<?>, Collection<?>> CACHED_SERVICES = new ConcurrentHashMap<>();
+    
     /**
      * Get registered services.
      *
@@ -39,11 +42,7 @@ public final class OrderedSPIRegistry {
      * @return registered services
      */
     public static <K, V extends OrderedSPI> Map<K, V> getRegisteredServices(final Collection<K> types, final Class<V> orderedSPIClass) {
-        Map<K, V> result = new LinkedHashMap<>();
-        for (V each : getRegisteredServices(orderedSPIClass)) {
-            types.stream().filter(type -> isSameTypeClass(each, type.getClass())).forEach(type -> result.put(type, each));
-        }
-        return result;
+        return mapTypes(types, getRegisteredServices(orderedSPIClass));
     }
     
     private static <T extends OrderedSPI> Collection<T> getRegisteredServices(final Class<T> orderedSPIClass) {
@@ -54,6 +53,33 @@ public final class OrderedSPIRegistry {
         return result.values();
     }
     
+    /**
+     * Get registered services from cache.
+     * 
+     * <p>
+     * Service instances are created only once for each ordered SPI class and shared by all callers,
+     * so the services must be stateless.
+     * </p>
+     *
+     * @param orderedSPIClass class of ordered SPI
+     * @param types types
+     * @param <K> type of key
+     * @param <V> type of ordered SPI class
+     * @return registered services
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V extends OrderedSPI> Map<K, V> getRegisteredServicesFromCache(final Collection<K> types, final Class<V> orderedSPIClass) {
+        return mapTypes(types, (Collection<V>) CACHED_SERVICES.computeIfAbsent(orderedSPIClass, key -> getRegisteredServices(orderedSPIClass)));
+    }
+    
+    private static <K, V extends OrderedSPI> Map<K, V> mapTypes(final Collection<K> types, final Collection<V> services) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (V each : services) {
+            types.stream().filter(type -> isSameTypeClass(each, type.getClass())).forEach(type -> result.put(type, each));
+        }
+        return result;
+    }
+    
     private static boolean isSameTypeClass(final OrderedSPI orderedSPI, final Class typeClass) {
         // FIXME orderedSPI.getType() == ((Class) type).getSuperclass(), should decouple extend between orchestration rule and sharding rule
         return orderedSPI.getTypeClass() == typeClass || orderedSPI.getTypeClass() == typeClass.getSuperclass();
@@ -82,6 +82,60 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      * 
      */
     QUERY_WITH_CIPHER_COLUMN("query.with.cipher.column", String.valueOf(Boolean.TRUE), boolean.class),
+    
+    /**
+     * Rows of each batch to decrypt in parallel when query with cipher column in proxy.
+     *
+     * <p>
+     * Rows are fetched in batches and decrypted in parallel while previous batch is consumed, rows are still returned in order.
+     * JDBC always decrypts inline, because its result set getters need typed values of current row.
+     * Default: 0, means decrypt inline without batch.
+     * </p>
+     */
+    DECRYPT_BATCH_SIZE("decrypt.batch.size", String.valueOf(0), int.class),
+    
+    /**
+     * Parallelism of decrypting batch rows in proxy.
+     *
+     * <p>
+     * Default: CPU cores.
+     * </p>
+     */
+    DECRYPT_PARALLELISM("decrypt.parallelism", String.valueOf(Runtime.getRuntime().availableProcessors()), int.class),
+    
+    /**
+     * Max rows of insert values for each rewritten SQL of same route unit.
+     *
+     * <p>
+     * Multi-values insert statement is split into several SQL for same route unit if rows exceed.
+     * SQL are executed in order on same connection if max.connections.size.per.query is 1, otherwise they may be spread over several connections.
+     * Split SQL are not atomic for same route unit in auto commit mode, rows of SQL which succeed stay inserted if a later SQL fails,
+     * execute the insert statement in a transaction if all rows of it should be inserted or none.
+     * Insert statement with on duplicate key update is not split.
+     * Default: 0, means unlimited.
+     * </p>
+     */
+    MAX_INSERT_VALUES_SIZE_PER_STATEMENT("max.insert.values.size.per.statement", String.valueOf(0), int.class),
+    
+    /**
+     * Max characters of insert values text for each rewritten SQL of same route unit.
+     *
+     * <p>
+     * Split SQL have the same atomicity as with max.insert.values.size.per.statement, they are not atomic in auto commit mode.
+     * Default: 0, means unlimited.
+     * </p>
+     */
+    MAX_INSERT_VALUES_LENGTH_PER_STATEMENT("max.insert.values.length.per.statement", String.valueOf(0), int.class),
+    
+    /**
+     * Estimate count of distinct values by HyperLogLog when merging count distinct of several data nodes or not.
+     *
+     * <p>
+     * Memory of each group is fixed to 4KB, and standard error is about 1.6%.
+     * Default: false, means count exactly.
+     * </p>
+     */
+    APPROXIMATE_DISTINCT_COUNT_ENABLED("approximate.distinct.count.enabled", String.valueOf(Boolean.FALSE), boolean.class),
 
     /**
      * Allow or not execute range query with inline sharding strategy.
@@ -101,6 +155,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
     
+    /**
+     * Idle timeout milliseconds of Sharding-Proxy's server side cursors.
+     *
+     * <p>
+     * Cursors opened by MySQL {@code COM_STMT_EXECUTE} with cursor flag or PostgreSQL portals are released if not fetched within the timeout.
+     * Default: 60000
+     * </p>
+     */
+    PROXY_CURSOR_IDLE_TIMEOUT_MILLISECONDS("proxy.cursor.idle.timeout.milliseconds", String.valueOf(60000), long.class),
+    
     /**
      * Transaction type of proxy.
      *
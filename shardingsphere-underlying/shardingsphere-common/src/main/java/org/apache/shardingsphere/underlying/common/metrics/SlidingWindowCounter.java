@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding window counter, which counts events in per second buckets of recent seconds.
+ *
+ * <p>
+ * Each bucket packs its second, relative to creation of the counter, into high 32 bits and count of events into low 32 bits,
+ * so that moving a bucket to a new second and counting into it are one atomic update.
+ * </p>
+ */
+public final class SlidingWindowCounter {
+    
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+    
+    private final int windowSeconds;
+    
+    private final AtomicLongArray buckets;
+    
+    private final long startSecond = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+    
+    public SlidingWindowCounter(final int windowSeconds) {
+        this.windowSeconds = windowSeconds;
+        buckets = new AtomicLongArray(windowSeconds + 1);
+    }
+    
+    /**
+     * Add events into bucket of current second.
+     *
+     * @param events count of events
+     */
+    public void add(final long events) {
+        if (events <= 0) {
+            return;
+        }
+        long second = currentSecond();
+        int index = (int) (second % buckets.length());
+        long delta = Math.min(events, COUNT_MASK);
+        long bucket;
+        long updated;
+        do {
+            bucket = buckets.get(index);
+            updated = bucket >>> 32 == second ? (bucket & ~COUNT_MASK) | Math.min(COUNT_MASK, (bucket & COUNT_MASK) + delta) : second << 32 | delta;
+        } while (!buckets.compareAndSet(index, bucket, updated));
+    }
+    
+    /**
+     * Get events per second of recent complete seconds in window.
+     *
+     * @return events per second
+     */
+    public double getRatePerSecond() {
+        long currentSecond = currentSecond();
+        long result = 0L;
+        for (int i = 0; i < buckets.length(); i++) {
+            long bucket = buckets.get(i);
+            long bucketSecond = bucket >>> 32;
+            if (bucketSecond < currentSecond && bucketSecond >= currentSecond - windowSeconds) {
+                result += bucket & COUNT_MASK;
+            }
+        }
+        return (double) result / windowSeconds;
+    }
+    
+    private long currentSecond() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime()) - startSecond;
+    }
+}
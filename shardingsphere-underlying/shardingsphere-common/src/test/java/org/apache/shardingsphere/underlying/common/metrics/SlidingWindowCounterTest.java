@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.common.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SlidingWindowCounterTest {
+    
+    @Test
+    public void assertGetRatePerSecondWithinCurrentSecond() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(10);
+        counter.add(10L);
+        counter.add(0L);
+        counter.add(-1L);
+        assertThat(counter.getRatePerSecond(), is(0D));
+    }
+    
+    @Test
+    public void assertGetRatePerSecondWithConcurrentAdds() throws InterruptedException {
+        SlidingWindowCounter counter = new SlidingWindowCounter(10);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    counter.add(1L);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5L, TimeUnit.SECONDS));
+        TimeUnit.MILLISECONDS.sleep(1100L);
+        assertThat(counter.getRatePerSecond(), is(4000D));
+    }
+}
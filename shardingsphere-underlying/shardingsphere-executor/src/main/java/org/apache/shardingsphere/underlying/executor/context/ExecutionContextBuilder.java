@@ -28,7 +28,8 @@ import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.Map.Entry;
 
 /**
@@ -54,9 +55,21 @@ public final class ExecutionContextBuilder {
     }
     
     private static Collection<ExecutionUnit> build(final RouteSQLRewriteResult sqlRewriteResult) {
-        Collection<ExecutionUnit> result = new LinkedHashSet<>();
-        for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteResult.getSqlRewriteUnits().entrySet()) {
-            result.add(new ExecutionUnit(entry.getKey().getDataSourceMapper().getActualName(), new SQLUnit(entry.getValue().getSql(), entry.getValue().getParameters())));
+        Collection<ExecutionUnit> result = new LinkedList<>();
+        Collection<ExecutionUnit> routeExecutionUnits = new HashSet<>();
+        for (Entry<RouteUnit, Collection<SQLRewriteUnit>> entry : sqlRewriteResult.getSqlRewriteUnits().entrySet()) {
+            String dataSourceName = entry.getKey().getDataSourceMapper().getActualName();
+            if (1 == entry.getValue().size()) {
+                SQLRewriteUnit sqlRewriteUnit = entry.getValue().iterator().next();
+                ExecutionUnit executionUnit = new ExecutionUnit(dataSourceName, new SQLUnit(sqlRewriteUnit.getSql(), sqlRewriteUnit.getParameters()));
+                if (routeExecutionUnits.add(executionUnit)) {
+                    result.add(executionUnit);
+                }
+                continue;
+            }
+            for (SQLRewriteUnit each : entry.getValue()) {
+                result.add(new ExecutionUnit(dataSourceName, new SQLUnit(each.getSql(), each.getParameters())));
+            }
         }
         return result;
     }
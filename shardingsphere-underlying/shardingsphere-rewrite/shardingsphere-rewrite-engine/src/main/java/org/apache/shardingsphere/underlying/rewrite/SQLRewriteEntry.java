@@ -22,7 +22,9 @@ import org.apache.shardingsphere.spi.order.OrderedSPIRegistry;
 import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
 import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.underlying.common.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.underlying.common.rule.BaseRule;
+import org.apache.shardingsphere.underlying.rewrite.cache.SQLRewriteResultCache;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.underlying.rewrite.engine.GenericSQLRewriteEngine;
@@ -54,7 +56,7 @@ public final class SQLRewriteEntry {
         this.schemaMetaData = schemaMetaData;
         this.properties = properties;
         decorators = new LinkedHashMap<>();
-        OrderedSPIRegistry.getRegisteredServices(rules, SQLRewriteContextDecorator.class).forEach(decorators::put);
+        OrderedSPIRegistry.getRegisteredServicesFromCache(rules, SQLRewriteContextDecorator.class).forEach(decorators::put);
     }
     
     /**
@@ -68,7 +70,32 @@ public final class SQLRewriteEntry {
     public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final RouteContext routeContext) {
         SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, parameters, routeContext.getSqlStatementContext(), routeContext);
         return routeContext.getRouteResult().getRouteUnits().isEmpty()
-                ? new GenericSQLRewriteEngine().rewrite(sqlRewriteContext) : new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext.getRouteResult());
+                ? new GenericSQLRewriteEngine().rewrite(sqlRewriteContext) : createRouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext.getRouteResult());
+    }
+    
+    /**
+     * Rewrite with cache.
+     * 
+     * <p>
+     * Rewritten SQL is cached only if parameters present, because SQL tokens depend on SQL and route unit only, 
+     * while literal values such as generated keys may differ for each execution without parameters.
+     * Parameters are always rewritten by parameter rewriters.
+     * </p>
+     *
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param routeContext route context
+     * @param cache SQL rewrite result cache
+     * @return route unit and SQL rewrite result map
+     */
+    public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final RouteContext routeContext, final SQLRewriteResultCache cache) {
+        if (parameters.isEmpty()) {
+            return rewrite(sql, parameters, routeContext);
+        }
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(schemaMetaData, routeContext.getSqlStatementContext(), sql, parameters);
+        decorate(decorators, sqlRewriteContext, routeContext);
+        return routeContext.getRouteResult().getRouteUnits().isEmpty()
+                ? new GenericSQLRewriteEngine().rewrite(sqlRewriteContext, cache) : createRouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext.getRouteResult(), cache);
     }
     
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, final SQLStatementContext sqlStatementContext, final RouteContext routeContext) {
@@ -78,6 +105,11 @@ public final class SQLRewriteEntry {
         return result;
     }
     
+    private RouteSQLRewriteEngine createRouteSQLRewriteEngine() {
+        return new RouteSQLRewriteEngine(properties.<Integer>getValue(ConfigurationPropertyKey.MAX_INSERT_VALUES_SIZE_PER_STATEMENT), 
+                properties.<Integer>getValue(ConfigurationPropertyKey.MAX_INSERT_VALUES_LENGTH_PER_STATEMENT));
+    }
+    
     @SuppressWarnings("unchecked")
     private void decorate(final Map<BaseRule, SQLRewriteContextDecorator> decorators, final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         decorators.forEach((key, value) -> value.decorate(key, properties, sqlRewriteContext, routeContext));
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.common.rule.DataNode;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL rewrite result cache.
+ * 
+ * <p>
+ * Rewritten SQL is cached by logic SQL, route unit, single routing or not and original data nodes of insert values.
+ * Single routing is part of key because some SQL tokens, such as pagination and derived projections, are generated for multiple routing only.
+ * Route unit is null if SQL is rewritten without route.
+ * </p>
+ */
+public final class SQLRewriteResultCache {
+    
+    private final Cache<CacheKey, String> cache = CacheBuilder.newBuilder().softValues().initialCapacity(2000).maximumSize(65535).build();
+    
+    /**
+     * Put rewritten SQL into cache.
+     * 
+     * @param sql logic SQL
+     * @param routeUnit route unit
+     * @param isSingleRouting is single routing or not
+     * @param originalDataNodes original data nodes
+     * @param rewrittenSQL rewritten SQL
+     */
+    public void put(final String sql, final RouteUnit routeUnit, final boolean isSingleRouting, final Collection<Collection<DataNode>> originalDataNodes, final String rewrittenSQL) {
+        cache.put(new CacheKey(sql, routeUnit, isSingleRouting, new ArrayList<>(originalDataNodes)), rewrittenSQL);
+    }
+    
+    /**
+     * Get rewritten SQL.
+     * 
+     * @param sql logic SQL
+     * @param routeUnit route unit
+     * @param isSingleRouting is single routing or not
+     * @param originalDataNodes original data nodes
+     * @return rewritten SQL
+     */
+    public Optional<String> getRewrittenSQL(final String sql, final RouteUnit routeUnit, final boolean isSingleRouting, final Collection<Collection<DataNode>> originalDataNodes) {
+        return Optional.ofNullable(cache.getIfPresent(new CacheKey(sql, routeUnit, isSingleRouting, toList(originalDataNodes))));
+    }
+    
+    private List<Collection<DataNode>> toList(final Collection<Collection<DataNode>> originalDataNodes) {
+        return originalDataNodes instanceof List ? (List<Collection<DataNode>>) originalDataNodes : new ArrayList<>(originalDataNodes);
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public synchronized void clear() {
+        cache.invalidateAll();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class CacheKey {
+        
+        private final String sql;
+        
+        private final RouteUnit routeUnit;
+        
+        private final boolean singleRouting;
+        
+        private final List<Collection<DataNode>> originalDataNodes;
+    }
+}
@@ -28,14 +28,21 @@ import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.Stand
 import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.SQLTokenGenerator;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.SQLTokenGenerators;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.builder.DefaultTokenGeneratorBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.builder.SQLTokenGeneratorBuilder;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 
 /**
  * SQL rewrite context.
+ * 
+ * <p>
+ * SQL token generators are built only when SQL tokens are generated,
+ * so that no generator is instantiated if rewritten SQL is taken from cache.
+ * </p>
  */
 @Getter
 public final class SQLRewriteContext {
@@ -50,17 +57,17 @@ public final class SQLRewriteContext {
     
     private final ParameterBuilder parameterBuilder;
     
-    private final List<SQLToken> sqlTokens = new LinkedList<>();
+    private final List<SQLToken> sqlTokens = new ArrayList<>();
     
     @Getter(AccessLevel.NONE)
-    private final SQLTokenGenerators sqlTokenGenerators = new SQLTokenGenerators();
+    private final Collection<SQLTokenGeneratorBuilder> sqlTokenGeneratorBuilders = new LinkedList<>();
     
     public SQLRewriteContext(final SchemaMetaData schemaMetaData, final SQLStatementContext sqlStatementContext, final String sql, final List<Object> parameters) {
         this.schemaMetaData = schemaMetaData;
         this.sqlStatementContext = sqlStatementContext;
         this.sql = sql;
         this.parameters = parameters;
-        addSQLTokenGenerators(new DefaultTokenGeneratorBuilder().getSQLTokenGenerators());
+        sqlTokenGeneratorBuilders.add(new DefaultTokenGeneratorBuilder());
         parameterBuilder = sqlStatementContext instanceof InsertStatementContext
                 ? new GroupedParameterBuilder(((InsertStatementContext) sqlStatementContext).getGroupedParameters()) : new StandardParameterBuilder(parameters);
     }
@@ -71,13 +78,26 @@ public final class SQLRewriteContext {
      * @param sqlTokenGenerators SQL token generators
      */
     public void addSQLTokenGenerators(final Collection<SQLTokenGenerator> sqlTokenGenerators) {
-        this.sqlTokenGenerators.addAll(sqlTokenGenerators);
+        sqlTokenGeneratorBuilders.add(() -> sqlTokenGenerators);
+    }
+    
+    /**
+     * Add SQL token generator builder, generators of which are built only when SQL tokens are generated.
+     * 
+     * @param sqlTokenGeneratorBuilder SQL token generator builder
+     */
+    public void addSQLTokenGeneratorBuilder(final SQLTokenGeneratorBuilder sqlTokenGeneratorBuilder) {
+        sqlTokenGeneratorBuilders.add(sqlTokenGeneratorBuilder);
     }
     
     /**
      * Generate SQL tokens.
      */
     public void generateSQLTokens() {
+        SQLTokenGenerators sqlTokenGenerators = new SQLTokenGenerators();
+        for (SQLTokenGeneratorBuilder each : sqlTokenGeneratorBuilders) {
+            sqlTokenGenerators.addAll(each.getSQLTokenGenerators());
+        }
         sqlTokens.addAll(sqlTokenGenerators.generateSQLTokens(sqlStatementContext, parameters, schemaMetaData));
     }
 }
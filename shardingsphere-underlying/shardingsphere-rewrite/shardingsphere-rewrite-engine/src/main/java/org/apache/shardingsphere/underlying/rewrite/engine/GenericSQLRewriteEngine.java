@@ -17,11 +17,15 @@
 
 package org.apache.shardingsphere.underlying.rewrite.engine;
 
+import org.apache.shardingsphere.underlying.rewrite.cache.SQLRewriteResultCache;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.engine.result.GenericSQLRewriteResult;
 import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.underlying.rewrite.sql.impl.DefaultSQLBuilder;
 
+import java.util.Collections;
+import java.util.Optional;
+
 /**
  * Generic SQL rewrite engine.
  */
@@ -36,4 +40,26 @@ public final class GenericSQLRewriteEngine {
     public GenericSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext) {
         return new GenericSQLRewriteResult(new SQLRewriteUnit(new DefaultSQLBuilder(sqlRewriteContext).toSQL(), sqlRewriteContext.getParameterBuilder().getParameters()));
     }
+    
+    /**
+     * Rewrite SQL and parameters with cache.
+     * 
+     * <p>
+     * SQL tokens are generated only if rewritten SQL is absent in cache.
+     * </p>
+     *
+     * @param sqlRewriteContext SQL rewrite context without generated SQL tokens
+     * @param cache SQL rewrite result cache
+     * @return SQL rewrite result
+     */
+    public GenericSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final SQLRewriteResultCache cache) {
+        Optional<String> cachedSQL = cache.getRewrittenSQL(sqlRewriteContext.getSql(), null, false, Collections.emptyList());
+        if (cachedSQL.isPresent()) {
+            return new GenericSQLRewriteResult(new SQLRewriteUnit(cachedSQL.get(), sqlRewriteContext.getParameterBuilder().getParameters()));
+        }
+        sqlRewriteContext.generateSQLTokens();
+        GenericSQLRewriteResult result = rewrite(sqlRewriteContext);
+        cache.put(sqlRewriteContext.getSql(), null, false, Collections.emptyList(), result.getSqlRewriteUnit().getSql());
+        return result;
+    }
 }
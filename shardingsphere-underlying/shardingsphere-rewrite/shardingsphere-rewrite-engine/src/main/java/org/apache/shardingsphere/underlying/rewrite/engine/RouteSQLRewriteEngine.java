@@ -17,28 +17,54 @@
 
 package org.apache.shardingsphere.underlying.rewrite.engine;
 
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.underlying.common.rule.DataNode;
+import org.apache.shardingsphere.underlying.rewrite.cache.SQLRewriteResultCache;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.StandardParameterBuilder;
-import org.apache.shardingsphere.underlying.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.impl.RouteSQLTemplate;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SplittableInsertValues;
 import org.apache.shardingsphere.underlying.route.context.RouteResult;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
 
 /**
  * Route SQL rewrite engine.
+ *
+ * <p>
+ * Insert values of same route unit may be split into several SQL by max rows or max characters of insert values.
+ * Split SQL are executed as separated statements, they are atomic only if executed in a transaction.
+ * </p>
  */
 public final class RouteSQLRewriteEngine {
     
+    private final int maxInsertValuesSize;
+    
+    private final int maxInsertValuesLength;
+    
+    public RouteSQLRewriteEngine() {
+        this(0, 0);
+    }
+    
+    public RouteSQLRewriteEngine(final int maxInsertValuesSize, final int maxInsertValuesLength) {
+        this.maxInsertValuesSize = maxInsertValuesSize;
+        this.maxInsertValuesLength = maxInsertValuesLength;
+    }
+    
     /**
      * Rewrite SQL and parameters.
      *
@@ -47,13 +73,123 @@ public final class RouteSQLRewriteEngine {
      * @return SQL rewrite result
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteResult routeResult) {
-        Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeResult.getRouteUnits().size(), 1);
+        Map<RouteUnit, Collection<SQLRewriteUnit>> result = new LinkedHashMap<>(routeResult.getRouteUnits().size(), 1);
+        RouteSQLTemplate sqlTemplate = new RouteSQLTemplate(sqlRewriteContext);
+        Optional<SplittableInsertValues> splittableInsertValues = findSplittableInsertValues(sqlRewriteContext, routeResult);
         for (RouteUnit each : routeResult.getRouteUnits()) {
-            result.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeResult, each)));
+            Collection<SQLRewriteUnit> sqlRewriteUnits = splittableInsertValues.isPresent()
+                    ? split(sqlRewriteContext.getParameterBuilder(), routeResult, each, sqlTemplate, splittableInsertValues.get().getInsertValueTexts()) : Collections.emptyList();
+            result.put(each, sqlRewriteUnits.isEmpty()
+                    ? Collections.singletonList(new SQLRewriteUnit(sqlTemplate.toSQL(each), getParameters(sqlRewriteContext.getParameterBuilder(), routeResult, each))) : sqlRewriteUnits);
         }
         return new RouteSQLRewriteResult(result);
     }
     
+    /**
+     * Rewrite SQL and parameters with cache.
+     * 
+     * <p>
+     * SQL tokens are generated only if rewritten SQL of any route unit is absent in cache.
+     * Cache is bypassed for insert statement if insert values may be split.
+     * </p>
+     *
+     * @param sqlRewriteContext SQL rewrite context without generated SQL tokens
+     * @param routeResult route result
+     * @param cache SQL rewrite result cache
+     * @return SQL rewrite result
+     */
+    public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteResult routeResult, final SQLRewriteResultCache cache) {
+        if (isSplitEnabled() && !routeResult.getOriginalDataNodes().isEmpty()) {
+            sqlRewriteContext.generateSQLTokens();
+            return rewrite(sqlRewriteContext, routeResult);
+        }
+        Map<RouteUnit, Collection<SQLRewriteUnit>> result = new LinkedHashMap<>(routeResult.getRouteUnits().size(), 1);
+        RouteSQLTemplate sqlTemplate = null;
+        for (RouteUnit each : routeResult.getRouteUnits()) {
+            Optional<String> cachedSQL = cache.getRewrittenSQL(sqlRewriteContext.getSql(), each, routeResult.isSingleRouting(), routeResult.getOriginalDataNodes());
+            String sql;
+            if (cachedSQL.isPresent()) {
+                sql = cachedSQL.get();
+            } else {
+                if (null == sqlTemplate) {
+                    sqlRewriteContext.generateSQLTokens();
+                    sqlTemplate = new RouteSQLTemplate(sqlRewriteContext);
+                }
+                sql = sqlTemplate.toSQL(each);
+                cache.put(sqlRewriteContext.getSql(), each, routeResult.isSingleRouting(), routeResult.getOriginalDataNodes(), sql);
+            }
+            result.put(each, Collections.singletonList(new SQLRewriteUnit(sql, getParameters(sqlRewriteContext.getParameterBuilder(), routeResult, each))));
+        }
+        return new RouteSQLRewriteResult(result);
+    }
+    
+    private boolean isSplitEnabled() {
+        return maxInsertValuesSize > 0 || maxInsertValuesLength > 0;
+    }
+    
+    private Optional<SplittableInsertValues> findSplittableInsertValues(final SQLRewriteContext sqlRewriteContext, final RouteResult routeResult) {
+        if (!isSplitEnabled() || routeResult.getOriginalDataNodes().isEmpty() || !(sqlRewriteContext.getSqlStatementContext() instanceof InsertStatementContext)
+                || ((InsertStatementContext) sqlRewriteContext.getSqlStatementContext()).getSqlStatement().getOnDuplicateKeyColumns().isPresent()) {
+            return Optional.empty();
+        }
+        for (SQLToken each : sqlRewriteContext.getSqlTokens()) {
+            if (each instanceof SplittableInsertValues && ((SplittableInsertValues) each).getInsertValueTexts().size() == routeResult.getOriginalDataNodes().size()) {
+                return Optional.of((SplittableInsertValues) each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private Collection<SQLRewriteUnit> split(final ParameterBuilder parameterBuilder, final RouteResult routeResult, 
+                                             final RouteUnit routeUnit, final RouteSQLTemplate sqlTemplate, final List<String> insertValueTexts) {
+        List<List<Integer>> insertValueGroups = getInsertValueGroups(routeResult, routeUnit, insertValueTexts);
+        if (insertValueGroups.size() < 2) {
+            return Collections.emptyList();
+        }
+        boolean isGroupedParameters = parameterBuilder instanceof GroupedParameterBuilder && !parameterBuilder.getParameters().isEmpty();
+        Collection<SQLRewriteUnit> result = new LinkedList<>();
+        for (List<Integer> each : insertValueGroups) {
+            StringJoiner insertValuesText = new StringJoiner(", ");
+            List<Object> parameters = new LinkedList<>();
+            for (int index : each) {
+                insertValuesText.add(insertValueTexts.get(index));
+                if (isGroupedParameters) {
+                    parameters.addAll(((GroupedParameterBuilder) parameterBuilder).getParameters(index));
+                }
+            }
+            result.add(new SQLRewriteUnit(sqlTemplate.toSQL(routeUnit, insertValuesText.toString()), parameters));
+        }
+        return result;
+    }
+    
+    private List<List<Integer>> getInsertValueGroups(final RouteResult routeResult, final RouteUnit routeUnit, final List<String> insertValueTexts) {
+        List<List<Integer>> result = new LinkedList<>();
+        List<Integer> currentGroup = new ArrayList<>();
+        int currentLength = 0;
+        int index = 0;
+        for (Collection<DataNode> each : routeResult.getOriginalDataNodes()) {
+            if (isInSameDataNode(each, routeUnit)) {
+                int length = insertValueTexts.get(index).length();
+                if (!currentGroup.isEmpty() && isGroupFull(currentGroup.size(), currentLength + length)) {
+                    result.add(currentGroup);
+                    currentGroup = new ArrayList<>();
+                    currentLength = 0;
+                }
+                currentGroup.add(index);
+                currentLength += length;
+            }
+            index++;
+        }
+        if (!currentGroup.isEmpty()) {
+            result.add(currentGroup);
+        }
+        return result;
+    }
+    
+    private boolean isGroupFull(final int size, final int length) {
+        return (maxInsertValuesSize > 0 && size >= maxInsertValuesSize) || (maxInsertValuesLength > 0 && length > maxInsertValuesLength);
+    }
+    
     private List<Object> getParameters(final ParameterBuilder parameterBuilder, final RouteResult routeResult, final RouteUnit routeUnit) {
         if (parameterBuilder instanceof StandardParameterBuilder || routeResult.getOriginalDataNodes().isEmpty() || parameterBuilder.getParameters().isEmpty()) {
             return parameterBuilder.getParameters();
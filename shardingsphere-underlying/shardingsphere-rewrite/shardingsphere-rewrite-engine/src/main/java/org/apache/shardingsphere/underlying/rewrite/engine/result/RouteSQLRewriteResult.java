@@ -21,14 +21,19 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
  * Route SQL rewrite result.
+ * 
+ * <p>
+ * Route unit may have several SQL rewrite units if insert values are split.
+ * </p>
  */
 @RequiredArgsConstructor
 @Getter
 public final class RouteSQLRewriteResult implements SQLRewriteResult {
     
-    private final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits;
+    private final Map<RouteUnit, Collection<SQLRewriteUnit>> sqlRewriteUnits;
 }
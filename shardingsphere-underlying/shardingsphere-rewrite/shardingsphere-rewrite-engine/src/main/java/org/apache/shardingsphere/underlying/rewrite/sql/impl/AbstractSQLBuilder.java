@@ -25,6 +25,7 @@ import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.Substitutable;
 
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
@@ -40,29 +41,28 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
         if (context.getSqlTokens().isEmpty()) {
             return context.getSql();
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql().substring(0, context.getSqlTokens().get(0).getStartIndex()));
-        for (SQLToken each : context.getSqlTokens()) {
-            result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+        List<SQLToken> sqlTokens = getSortedSQLTokens(context);
+        String sql = context.getSql();
+        StringBuilder result = new StringBuilder(sql.length());
+        result.append(sql, 0, sqlTokens.get(0).getStartIndex());
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            result.append(getSQLTokenText(sqlTokens.get(i)));
+            appendConjunctionText(result, sql, sqlTokens, i);
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
+    static List<SQLToken> getSortedSQLTokens(final SQLRewriteContext context) {
+        Collections.sort(context.getSqlTokens());
+        return context.getSqlTokens();
     }
     
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
+    static void appendConjunctionText(final StringBuilder builder, final String sql, final List<SQLToken> sortedSQLTokens, final int sqlTokenIndex) {
+        SQLToken sqlToken = sortedSQLTokens.get(sqlTokenIndex);
+        int startIndex = Math.min(sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex(), sql.length());
+        int stopIndex = sortedSQLTokens.size() - 1 == sqlTokenIndex ? sql.length() : sortedSQLTokens.get(sqlTokenIndex + 1).getStartIndex();
+        builder.append(sql, startIndex, stopIndex);
     }
 }
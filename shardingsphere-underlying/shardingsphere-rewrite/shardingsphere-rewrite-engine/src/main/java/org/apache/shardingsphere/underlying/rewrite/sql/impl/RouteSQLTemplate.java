@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.sql.impl;
+
+import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SplittableInsertValues;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL template with route.
+ * 
+ * <p>
+ * SQL text and tokens which are not route unit aware are composed once, only route unit aware tokens are rendered for each route unit.
+ * </p>
+ */
+public final class RouteSQLTemplate {
+    
+    private final List<Object> segments = new ArrayList<>();
+    
+    private int fixedLength;
+    
+    public RouteSQLTemplate(final SQLRewriteContext context) {
+        if (context.getSqlTokens().isEmpty()) {
+            addSegment(context.getSql());
+            return;
+        }
+        List<SQLToken> sqlTokens = AbstractSQLBuilder.getSortedSQLTokens(context);
+        String sql = context.getSql();
+        StringBuilder fixedText = new StringBuilder(sql.length());
+        fixedText.append(sql, 0, sqlTokens.get(0).getStartIndex());
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            SQLToken sqlToken = sqlTokens.get(i);
+            if (sqlToken instanceof RouteUnitAware) {
+                addSegment(fixedText.toString());
+                fixedText.setLength(0);
+                segments.add(sqlToken);
+            } else {
+                fixedText.append(sqlToken.toString());
+            }
+            AbstractSQLBuilder.appendConjunctionText(fixedText, sql, sqlTokens, i);
+        }
+        addSegment(fixedText.toString());
+    }
+    
+    private void addSegment(final String text) {
+        if (!text.isEmpty()) {
+            segments.add(text);
+            fixedLength += text.length();
+        }
+    }
+    
+    /**
+     * Convert to SQL for route unit.
+     *
+     * @param routeUnit route unit
+     * @return SQL
+     */
+    public String toSQL(final RouteUnit routeUnit) {
+        if (1 == segments.size() && segments.get(0) instanceof String) {
+            return (String) segments.get(0);
+        }
+        StringBuilder result = new StringBuilder(fixedLength + fixedLength / 4);
+        for (Object each : segments) {
+            result.append(each instanceof RouteUnitAware ? ((RouteUnitAware) each).toString(routeUnit) : (String) each);
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Convert to SQL for route unit with part of insert values.
+     *
+     * @param routeUnit route unit
+     * @param insertValuesText text of insert values to replace splittable insert values token
+     * @return SQL
+     */
+    public String toSQL(final RouteUnit routeUnit, final String insertValuesText) {
+        StringBuilder result = new StringBuilder(fixedLength + insertValuesText.length());
+        for (Object each : segments) {
+            if (each instanceof SplittableInsertValues) {
+                result.append(insertValuesText);
+            } else {
+                result.append(each instanceof RouteUnitAware ? ((RouteUnitAware) each).toString(routeUnit) : (String) each);
+            }
+        }
+        return result.toString();
+    }
+}
@@ -25,36 +25,31 @@ import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.aware.Sc
 import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * SQL token generators.
  */
 public final class SQLTokenGenerators {
     
-    private final Collection<SQLTokenGenerator> sqlTokenGenerators = new LinkedList<>();
+    private final Map<Class<?>, SQLTokenGenerator> sqlTokenGenerators = new LinkedHashMap<>();
     
     /**
      * Add all SQL token generators.
      * 
+     * <p>
+     * SQL token generator is ignored if another generator of same class has been added.
+     * </p>
+     * 
      * @param sqlTokenGenerators SQL token generators
      */
     public void addAll(final Collection<SQLTokenGenerator> sqlTokenGenerators) {
         for (SQLTokenGenerator each : sqlTokenGenerators) {
-            if (!containsClass(each)) {
-                this.sqlTokenGenerators.add(each);
-            }
-        }
-    }
-    
-    private boolean containsClass(final SQLTokenGenerator sqlTokenGenerator) {
-        for (SQLTokenGenerator each : sqlTokenGenerators) {
-            if (each.getClass() == sqlTokenGenerator.getClass()) {
-                return true;
-            }
+            this.sqlTokenGenerators.putIfAbsent(each.getClass(), each);
         }
-        return false;
     }
     
     /**
@@ -68,7 +63,7 @@ public final class SQLTokenGenerators {
     @SuppressWarnings("unchecked")
     public List<SQLToken> generateSQLTokens(final SQLStatementContext sqlStatementContext, final List<Object> parameters, final SchemaMetaData schemaMetaData) {
         List<SQLToken> result = new LinkedList<>();
-        for (SQLTokenGenerator each : sqlTokenGenerators) {
+        for (SQLTokenGenerator each : sqlTokenGenerators.values()) {
             setUpSQLTokenGenerator(each, parameters, schemaMetaData, result);
             if (!each.isGenerateSQLToken(sqlStatementContext)) {
                 continue;
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.cache;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.underlying.common.rule.DataNode;
+import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.underlying.rewrite.engine.RouteSQLRewriteEngine;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class SQLRewriteResultCacheTest {
+    
+    private static final String SQL = "SELECT id FROM t_order WHERE id = ?";
+    
+    private final RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    
+    @Test
+    public void assertGetRewrittenSQL() {
+        SQLRewriteResultCache cache = new SQLRewriteResultCache();
+        List<Collection<DataNode>> originalDataNodes = Collections.singletonList(Collections.singletonList(new DataNode("ds.t_order_0")));
+        cache.put(SQL, routeUnit, true, originalDataNodes, "SELECT id FROM t_order_0 WHERE id = ?");
+        assertThat(cache.getRewrittenSQL(SQL, routeUnit, true, originalDataNodes).get(), is("SELECT id FROM t_order_0 WHERE id = ?"));
+        assertFalse(cache.getRewrittenSQL(SQL, routeUnit, false, originalDataNodes).isPresent());
+        assertFalse(cache.getRewrittenSQL(SQL, routeUnit, true, Collections.emptyList()).isPresent());
+        assertFalse(cache.getRewrittenSQL(SQL, null, true, originalDataNodes).isPresent());
+        cache.clear();
+        assertFalse(cache.getRewrittenSQL(SQL, routeUnit, true, originalDataNodes).isPresent());
+    }
+    
+    @Test
+    public void assertRewriteWithCache() {
+        SQLRewriteResultCache cache = new SQLRewriteResultCache();
+        RouteResult routeResult = new RouteResult();
+        routeResult.getRouteUnits().add(routeUnit);
+        SQLRewriteContext context = createSQLRewriteContext();
+        context.getSqlTokens().add(new TableTokenFixture(15, 21));
+        assertThat(getSQL(new RouteSQLRewriteEngine().rewrite(context, routeResult, cache)), is("SELECT id FROM t_order_0 WHERE id = ?"));
+        assertThat(getSQL(new RouteSQLRewriteEngine().rewrite(createSQLRewriteContext(), routeResult, cache)), is("SELECT id FROM t_order_0 WHERE id = ?"));
+    }
+    
+    private SQLRewriteContext createSQLRewriteContext() {
+        return new SQLRewriteContext(mock(SchemaMetaData.class), mock(SQLStatementContext.class), SQL, Collections.singletonList(1));
+    }
+    
+    private String getSQL(final RouteSQLRewriteResult rewriteResult) {
+        return rewriteResult.getSqlRewriteUnits().get(routeUnit).iterator().next().getSql();
+    }
+    
+    private static final class TableTokenFixture extends SQLToken implements Substitutable, RouteUnitAware {
+        
+        private final int stopIndex;
+        
+        TableTokenFixture(final int startIndex, final int stopIndex) {
+            super(startIndex);
+            this.stopIndex = stopIndex;
+        }
+        
+        @Override
+        public int getStopIndex() {
+            return stopIndex;
+        }
+        
+        @Override
+        public String toString(final RouteUnit routeUnit) {
+            return routeUnit.getTableMappers().iterator().next().getActualName();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.context;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.OptionalSQLTokenGenerator;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.SQLTokenGenerator;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.builder.SQLTokenGeneratorBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SQLRewriteContextTest {
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertGenerateSQLTokensWithSQLTokenGeneratorBuilder() {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class);
+        SQLToken sqlToken = mock(SQLToken.class);
+        OptionalSQLTokenGenerator sqlTokenGenerator = mock(OptionalSQLTokenGenerator.class);
+        when(sqlTokenGenerator.isGenerateSQLToken(sqlStatementContext)).thenReturn(true);
+        when(sqlTokenGenerator.generateSQLToken(sqlStatementContext)).thenReturn(sqlToken);
+        SQLTokenGeneratorBuilder sqlTokenGeneratorBuilder = mock(SQLTokenGeneratorBuilder.class);
+        when(sqlTokenGeneratorBuilder.getSQLTokenGenerators()).thenReturn(Collections.<SQLTokenGenerator>singletonList(sqlTokenGenerator));
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(mock(SchemaMetaData.class), sqlStatementContext, "SELECT * FROM t_order", Collections.emptyList());
+        sqlRewriteContext.addSQLTokenGeneratorBuilder(sqlTokenGeneratorBuilder);
+        verify(sqlTokenGeneratorBuilder, never()).getSQLTokenGenerators();
+        sqlRewriteContext.generateSQLTokens();
+        verify(sqlTokenGeneratorBuilder, times(1)).getSQLTokenGenerators();
+        assertThat(sqlRewriteContext.getSqlTokens().size(), is(1));
+        assertThat(sqlRewriteContext.getSqlTokens().get(0), is(sqlToken));
+    }
+}
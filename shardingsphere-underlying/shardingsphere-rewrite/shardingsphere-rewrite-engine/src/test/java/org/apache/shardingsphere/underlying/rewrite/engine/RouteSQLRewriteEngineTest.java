@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.engine;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.underlying.common.rule.DataNode;
+import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.underlying.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SplittableInsertValues;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
+import org.apache.shardingsphere.underlying.route.context.RouteResult;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class RouteSQLRewriteEngineTest {
+    
+    private static final String SQL = "INSERT INTO t_order (id) VALUES (?), (?), (?), (?)";
+    
+    private static final List<String> ACTUAL_TABLES = Arrays.asList("t_order_0", "t_order_1", "t_order_0", "t_order_0");
+    
+    private final RouteUnit routeUnit0 = new RouteUnit(new RouteMapper("ds", "ds"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    
+    private final RouteUnit routeUnit1 = new RouteUnit(new RouteMapper("ds", "ds"), Collections.singletonList(new RouteMapper("t_order", "t_order_1")));
+    
+    private final RouteResult routeResult = new RouteResult();
+    
+    private SQLRewriteContext sqlRewriteContext;
+    
+    @Before
+    public void setUp() {
+        routeResult.getRouteUnits().add(routeUnit0);
+        routeResult.getRouteUnits().add(routeUnit1);
+        for (String each : ACTUAL_TABLES) {
+            routeResult.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds", each)));
+        }
+        InsertStatementContext insertStatementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(insertStatementContext.getGroupedParameters()).thenReturn(Arrays.asList(
+                Collections.singletonList(1), Collections.singletonList(2), Collections.singletonList(3), Collections.singletonList(4)));
+        when(insertStatementContext.getSqlStatement().getOnDuplicateKeyColumns()).thenReturn(Optional.empty());
+        sqlRewriteContext = new SQLRewriteContext(mock(SchemaMetaData.class), insertStatementContext, SQL, Arrays.asList(1, 2, 3, 4));
+        sqlRewriteContext.getSqlTokens().add(new TableTokenFixture(12, 18));
+        sqlRewriteContext.getSqlTokens().add(new InsertValuesTokenFixture(32, 49));
+    }
+    
+    @Test
+    public void assertRewriteWithoutSplit() {
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeResult);
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit0).size(), is(1));
+        assertSQLRewriteUnit(actual.getSqlRewriteUnits().get(routeUnit0).iterator().next(), "INSERT INTO t_order_0 (id) VALUES (?), (?), (?)", Arrays.asList(1, 3, 4));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit1).size(), is(1));
+        assertSQLRewriteUnit(actual.getSqlRewriteUnits().get(routeUnit1).iterator().next(), "INSERT INTO t_order_1 (id) VALUES (?)", Collections.singletonList(2));
+    }
+    
+    @Test
+    public void assertRewriteWithMaxInsertValuesSize() {
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(2, 0).rewrite(sqlRewriteContext, routeResult);
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit0).size(), is(2));
+        Iterator<SQLRewriteUnit> sqlRewriteUnits = actual.getSqlRewriteUnits().get(routeUnit0).iterator();
+        assertSQLRewriteUnit(sqlRewriteUnits.next(), "INSERT INTO t_order_0 (id) VALUES (?), (?)", Arrays.asList(1, 3));
+        assertSQLRewriteUnit(sqlRewriteUnits.next(), "INSERT INTO t_order_0 (id) VALUES (?)", Collections.singletonList(4));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit1).size(), is(1));
+        assertSQLRewriteUnit(actual.getSqlRewriteUnits().get(routeUnit1).iterator().next(), "INSERT INTO t_order_1 (id) VALUES (?)", Collections.singletonList(2));
+    }
+    
+    @Test
+    public void assertRewriteWithMaxInsertValuesLength() {
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(0, 3).rewrite(sqlRewriteContext, routeResult);
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit0).size(), is(3));
+        Iterator<SQLRewriteUnit> sqlRewriteUnits = actual.getSqlRewriteUnits().get(routeUnit0).iterator();
+        assertSQLRewriteUnit(sqlRewriteUnits.next(), "INSERT INTO t_order_0 (id) VALUES (?)", Collections.singletonList(1));
+        assertSQLRewriteUnit(sqlRewriteUnits.next(), "INSERT INTO t_order_0 (id) VALUES (?)", Collections.singletonList(3));
+        assertSQLRewriteUnit(sqlRewriteUnits.next(), "INSERT INTO t_order_0 (id) VALUES (?)", Collections.singletonList(4));
+    }
+    
+    private void assertSQLRewriteUnit(final SQLRewriteUnit actual, final String expectedSQL, final List<Object> expectedParameters) {
+        assertThat(actual.getSql(), is(expectedSQL));
+        assertThat(actual.getParameters(), is(expectedParameters));
+    }
+    
+    private static final class TableTokenFixture extends SQLToken implements Substitutable, RouteUnitAware {
+        
+        private final int stopIndex;
+        
+        TableTokenFixture(final int startIndex, final int stopIndex) {
+            super(startIndex);
+            this.stopIndex = stopIndex;
+        }
+        
+        @Override
+        public int getStopIndex() {
+            return stopIndex;
+        }
+        
+        @Override
+        public String toString(final RouteUnit routeUnit) {
+            return routeUnit.getTableMappers().iterator().next().getActualName();
+        }
+    }
+    
+    private static final class InsertValuesTokenFixture extends SQLToken implements Substitutable, SplittableInsertValues {
+        
+        private final int stopIndex;
+        
+        InsertValuesTokenFixture(final int startIndex, final int stopIndex) {
+            super(startIndex);
+            this.stopIndex = stopIndex;
+        }
+        
+        @Override
+        public int getStopIndex() {
+            return stopIndex;
+        }
+        
+        @Override
+        public String toString(final RouteUnit routeUnit) {
+            StringJoiner result = new StringJoiner(", ");
+            for (String each : ACTUAL_TABLES) {
+                if (each.equals(routeUnit.getTableMappers().iterator().next().getActualName())) {
+                    result.add("(?)");
+                }
+            }
+            return result.toString();
+        }
+        
+        @Override
+        public List<String> getInsertValueTexts() {
+            return Collections.nCopies(ACTUAL_TABLES.size(), "(?)");
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.impl;
+
+import org.apache.shardingsphere.sql.parser.binder.metadata.schema.SchemaMetaData;
+import org.apache.shardingsphere.sql.parser.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.underlying.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.impl.RouteSQLTemplate;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.RouteUnitAware;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.underlying.route.context.RouteMapper;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class RouteSQLTemplateTest {
+    
+    private final RouteUnit routeUnit0 = new RouteUnit(new RouteMapper("ds", "ds"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    
+    private final RouteUnit routeUnit1 = new RouteUnit(new RouteMapper("ds", "ds"), Collections.singletonList(new RouteMapper("t_order", "t_order_1")));
+    
+    @Test
+    public void assertToSQLWithoutTokens() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(SchemaMetaData.class), mock(SQLStatementContext.class), "SELECT * FROM t_config", Collections.emptyList());
+        assertThat(new RouteSQLTemplate(context).toSQL(routeUnit0), is("SELECT * FROM t_config"));
+    }
+    
+    @Test
+    public void assertToSQLWithTokens() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(SchemaMetaData.class), mock(SQLStatementContext.class), "SELECT id FROM t_order WHERE id = ?", Collections.emptyList());
+        context.getSqlTokens().add(new TableTokenFixture(15, 21));
+        context.getSqlTokens().add(new TextTokenFixture(7, 8, "id, status"));
+        RouteSQLTemplate sqlTemplate = new RouteSQLTemplate(context);
+        assertThat(sqlTemplate.toSQL(routeUnit0), is("SELECT id, status FROM t_order_0 WHERE id = ?"));
+        assertThat(sqlTemplate.toSQL(routeUnit1), is("SELECT id, status FROM t_order_1 WHERE id = ?"));
+        assertThat(new RouteSQLBuilder(context, routeUnit1).toSQL(), is("SELECT id, status FROM t_order_1 WHERE id = ?"));
+    }
+    
+    private static final class TextTokenFixture extends SQLToken implements Substitutable {
+        
+        private final int stopIndex;
+        
+        private final String text;
+        
+        TextTokenFixture(final int startIndex, final int stopIndex, final String text) {
+            super(startIndex);
+            this.stopIndex = stopIndex;
+            this.text = text;
+        }
+        
+        @Override
+        public int getStopIndex() {
+            return stopIndex;
+        }
+        
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+    
+    private static final class TableTokenFixture extends SQLToken implements Substitutable, RouteUnitAware {
+        
+        private final int stopIndex;
+        
+        TableTokenFixture(final int startIndex, final int stopIndex) {
+            super(startIndex);
+            this.stopIndex = stopIndex;
+        }
+        
+        @Override
+        public int getStopIndex() {
+            return stopIndex;
+        }
+        
+        @Override
+        public String toString(final RouteUnit routeUnit) {
+            return routeUnit.getTableMappers().iterator().next().getActualName();
+        }
+    }
+}